@@ -0,0 +1,228 @@
+package cap01;
+
+/**
+ * Bancada.java
+ * <p>
+ * Bancada de desempenho da forja de medalhões e da academia.
+ * <p>
+ * Cada medição roda a operação em rodadas de aquecimento (para o JIT
+ * compilar o caminho quente) e depois em rodadas medidas. O resultado
+ * sai em operações por segundo (média ± desvio entre as rodadas) e em
+ * bytes alocados por operação, lidos do contador de alocação da thread.
+ * <p>
+ * Os valores devolvidos pelas operações vão para um sumidouro, para que
+ * o JIT não elimine o trabalho medido como código morto.
+ * <p>
+ * Uso (a partir da raiz do projeto, com src e benchmarks/src compilados):
+ *   java -cp out cap01.Bancada
+ *   java -cp out cap01.Bancada --filtro=academia --tamanhos=1000,1000000
+ *   java -Xmx6g -cp out cap01.Bancada --filtro=academia --tamanhos=10000000
+ * <p>
+ * Opções: --filtro=texto (só medições cujo nome contém o texto),
+ * --aquecimento=N e --rodadas=N (rodadas de cada fase), --duracao=ms
+ * (duração de cada rodada) e --tamanhos=N,N,... (aprendizes cadastrados
+ * nas medições da academia).
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.lang.management.ManagementFactory;
+
+final class Bancada {
+
+    /**
+     * Operação medida; o valor devolvido é consumido pelo sumidouro
+     */
+    @FunctionalInterface
+    interface Operacao {
+        Object executar() throws Exception;
+    }
+
+    // ===== CONFIGURAÇÃO PADRÃO =====
+    private static final int RODADAS_AQUECIMENTO = 3;
+    private static final int RODADAS_MEDIDAS = 5;
+    private static final long DURACAO_RODADA_MS = 1000;
+    private static final long[] TAMANHOS_PADRAO = {1_000, 10_000, 100_000, 1_000_000};
+
+    // Um lote de chamadas dura pelo menos isto, para diluir o custo de ler o relógio
+    private static final long DURACAO_MINIMA_LOTE_NS = 100_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Saida saida;
+    private final String filtro;
+    private final int rodadasAquecimento;
+    private final int rodadasMedidas;
+    private final long duracaoRodadaNs;
+
+    // Sumidouro: guardar o último resultado em um campo impede que o JIT descarte a chamada
+    private static volatile Object sumidouro;
+
+    Bancada(Saida saida, String filtro, int rodadasAquecimento, int rodadasMedidas, long duracaoRodadaMs) {
+        this.saida = saida;
+        this.filtro = filtro;
+        this.rodadasAquecimento = rodadasAquecimento;
+        this.rodadasMedidas = rodadasMedidas;
+        this.duracaoRodadaNs = duracaoRodadaMs * 1_000_000;
+    }
+
+    // ===== MÉTODO PRINCIPAL =====
+
+    public static void main(String[] args) throws Exception {
+        String filtro = "";
+        int aquecimento = RODADAS_AQUECIMENTO;
+        int rodadas = RODADAS_MEDIDAS;
+        long duracao = DURACAO_RODADA_MS;
+        long[] tamanhos = TAMANHOS_PADRAO;
+
+        for (String arg : args) {
+            if (arg.startsWith("--filtro=")) {
+                filtro = arg.substring("--filtro=".length());
+            } else if (arg.startsWith("--aquecimento=")) {
+                aquecimento = Integer.parseInt(arg.substring("--aquecimento=".length()));
+            } else if (arg.startsWith("--rodadas=")) {
+                rodadas = Integer.parseInt(arg.substring("--rodadas=".length()));
+            } else if (arg.startsWith("--duracao=")) {
+                duracao = Long.parseLong(arg.substring("--duracao=".length()));
+            } else if (arg.startsWith("--tamanhos=")) {
+                String[] partes = arg.substring("--tamanhos=".length()).split(",");
+                tamanhos = new long[partes.length];
+                for (int i = 0; i < partes.length; i++) {
+                    tamanhos[i] = Long.parseLong(partes[i].trim());
+                }
+            } else {
+                System.err.println("❌ Opção desconhecida: " + arg);
+                System.exit(1);
+            }
+        }
+        if (rodadas < 1 || aquecimento < 0 || duracao < 1) {
+            System.err.println("❌ Use ao menos 1 rodada medida e duração a partir de 1 ms");
+            System.exit(1);
+        }
+
+        Bancada bancada = new Bancada(new Saida.Console(), filtro, aquecimento, rodadas, duracao);
+        bancada.exibirCabecalho();
+        BancadaMedalhao.registrar(bancada);
+        BancadaAcademia.registrar(bancada, tamanhos);
+        BancadaAcademia.registrarColunar(bancada, tamanhos);
+        BancadaAcademia.registrarPrefixos(bancada, tamanhos);
+    }
+
+    // ===== MEDIÇÃO =====
+
+    /**
+     * @return true se a medição com este nome passa pelo filtro
+     */
+    boolean selecionada(String nome) {
+        return nome.contains(filtro);
+    }
+
+    /**
+     * Mede uma operação e exibe uma linha com o resultado
+     *
+     * @param nome nome da medição
+     * @param operacao operação medida
+     */
+    void medir(String nome, Operacao operacao) throws Exception {
+        if (!selecionada(nome)) {
+            return;
+        }
+
+        // Aquecimento: também calibra quantas chamadas cabem em um lote
+        long lote = calibrarLote(operacao);
+        for (int i = 0; i < rodadasAquecimento; i++) {
+            rodada(operacao, lote);
+        }
+
+        double[] vazoes = new double[rodadasMedidas];
+        long operacoes = 0;
+        long alocadoAntes = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rodadasMedidas; i++) {
+            long[] resultado = rodada(operacao, lote);
+            operacoes += resultado[0];
+            vazoes[i] = resultado[0] * 1_000_000_000.0 / resultado[1];
+        }
+        long alocado = threads.getCurrentThreadAllocatedBytes() - alocadoAntes;
+
+        exibirLinha(nome, vazoes, (double) alocado / operacoes);
+    }
+
+    /**
+     * Exibe uma linha com um resultado que não é vazão (memória, por exemplo)
+     *
+     * @param nome nome da medição
+     * @param resultado texto exibido no lugar das colunas de vazão
+     */
+    void anotar(String nome, String resultado) {
+        if (!selecionada(nome)) {
+            return;
+        }
+        saida.println(String.format("%-52s %s", nome, resultado));
+        saida.flush();
+    }
+
+    /**
+     * Dobra o lote até que ele dure ao menos DURACAO_MINIMA_LOTE_NS
+     */
+    private static long calibrarLote(Operacao operacao) throws Exception {
+        long lote = 1;
+        while (true) {
+            long inicio = System.nanoTime();
+            for (long i = 0; i < lote; i++) {
+                sumidouro = operacao.executar();
+            }
+            if (System.nanoTime() - inicio >= DURACAO_MINIMA_LOTE_NS || lote >= 1L << 30) {
+                return lote;
+            }
+            lote *= 2;
+        }
+    }
+
+    /**
+     * Executa lotes até a rodada completar a sua duração
+     *
+     * @return {operações executadas, nanossegundos gastos}
+     */
+    private long[] rodada(Operacao operacao, long lote) throws Exception {
+        long operacoes = 0;
+        long inicio = System.nanoTime();
+        long decorrido;
+        do {
+            for (long i = 0; i < lote; i++) {
+                sumidouro = operacao.executar();
+            }
+            operacoes += lote;
+            decorrido = System.nanoTime() - inicio;
+        } while (decorrido < duracaoRodadaNs);
+        return new long[]{operacoes, decorrido};
+    }
+
+    // ===== RELATÓRIO =====
+
+    private void exibirCabecalho() {
+        saida.println("🏋️ BANCADA DE DESEMPENHO - " + rodadasAquecimento + " rodada(s) de aquecimento, "
+                + rodadasMedidas + " medida(s) de " + duracaoRodadaNs / 1_000_000 + " ms");
+        saida.println(String.format("%-52s %16s %10s %12s", "Medição", "ops/s", "± %", "bytes/op"));
+        saida.println("─".repeat(93));
+        saida.flush();
+    }
+
+    private void exibirLinha(String nome, double[] vazoes, double bytesPorOperacao) {
+        double media = 0;
+        for (double vazao : vazoes) {
+            media += vazao;
+        }
+        media /= vazoes.length;
+
+        double variancia = 0;
+        for (double vazao : vazoes) {
+            variancia += (vazao - media) * (vazao - media);
+        }
+        double desvio = vazoes.length > 1 ? Math.sqrt(variancia / (vazoes.length - 1)) : 0;
+
+        saida.println(String.format("%-52s %16.1f %9.1f%% %12.1f",
+                nome, media, media > 0 ? 100 * desvio / media : 0, bytesPorOperacao));
+        saida.flush();
+    }
+}
@@ -0,0 +1,236 @@
+package cap01;
+
+/**
+ * BancadaAcademia.java
+ * <p>
+ * Medições da academia de ExemploCompletoTerminado com o cadastro
+ * populado em vários tamanhos (10³ a 10⁷ aprendizes): busca por nome,
+ * relatório estatístico, primeira página da listagem, placar (topo 10) e
+ * sugestões de nomes pelo começo, com a saída descartada, no cadastro de
+ * objetos e no cadastro fora do heap (sufixo .foradoheap). Também compara
+ * os aprendizes como objetos com o ArmazemColunar (memória e varredura) e
+ * mede a memória do IndicePrefixos sozinho.
+ * <p>
+ * Dez milhões de aprendizes ocupam alguns GB de heap; rode esse tamanho
+ * com -Xmx ajustado (veja o uso em Bancada).
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+final class BancadaAcademia {
+
+    private static final String[] NOMES = {"Geralt", "Ciri", "Yennefer", "Lambert", "Eskel", "Triss", "Jaskier"};
+    private static final String[] ESCOLAS = {"Kaer Morhen", "Grifo", "Gato", "Víbora", "Urso", "Nova"};
+
+    // Aprendiz único, cadastrado no meio da lista: a busca percorre todos e encontra só ele
+    private static final String NOME_BUSCADO = "Vesemir o Ancião";
+
+    // Coletas seguidas em memoriaUsada, no máximo
+    private static final int MAXIMO_COLETAS = 10;
+
+    // Anotada no lugar de um resultado negativo: algo de antes foi liberado durante a medição
+    private static final String MEDICAO_DESCARTADA = "descartada: o heap encolheu durante a medição";
+
+    private BancadaAcademia() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    /**
+     * Registra as medições da academia para cada tamanho de cadastro
+     */
+    static void registrar(Bancada bancada, long[] tamanhos) throws Exception {
+        ExemploCompletoTerminado.definirSaida(new Saida.Descarte());
+        try {
+            registrar(bancada, tamanhos, "", new RegistroAprendizes());
+            registrar(bancada, tamanhos, ".foradoheap", new RegistroColunar(true));
+        } finally {
+            ExemploCompletoTerminado.limparAprendizes();
+            ExemploCompletoTerminado.definirCadastro(new RegistroAprendizes());
+            ExemploCompletoTerminado.definirSaida(new Saida.Console());
+        }
+    }
+
+    private static void registrar(Bancada bancada, long[] tamanhos, String sufixo, CadastroAprendizes cadastro)
+            throws Exception {
+        ExemploCompletoTerminado.definirCadastro(cadastro);
+        for (long tamanho : tamanhos) {
+            String busca = "academia.buscarAprendizPorNome" + sufixo + "[" + tamanho + "]";
+            String relatorio = "academia.exibirRelatorioEstatistico" + sufixo + "[" + tamanho + "]";
+            String pagina = "academia.listarPrimeiraPagina" + sufixo + "[" + tamanho + "]";
+            String placar = "academia.exibirPlacar" + sufixo + "[" + tamanho + "]";
+            String sugestoes = "academia.sugerirNomes" + sufixo + "[" + tamanho + "]";
+            if (!bancada.selecionada(busca) && !bancada.selecionada(relatorio) && !bancada.selecionada(pagina)
+                    && !bancada.selecionada(placar) && !bancada.selecionada(sugestoes)) {
+                continue; // Não vale a pena popular o cadastro à toa
+            }
+
+            popular(tamanho);
+            bancada.medir(busca, () -> {
+                ExemploCompletoTerminado.buscarAprendizPorNome("vesemir");
+                return NOME_BUSCADO;
+            });
+            bancada.medir(relatorio, () -> {
+                ExemploCompletoTerminado.exibirRelatorioEstatistico();
+                return NOME_BUSCADO;
+            });
+            bancada.medir(pagina, () -> {
+                // Mostra a primeira página e volta ao menu
+                ExemploCompletoTerminado.listarTodosAprendizes(LeitorEntrada.deTexto("s\n"));
+                return NOME_BUSCADO;
+            });
+            bancada.medir(placar, () -> {
+                // Topo padrão, sem consulta de posição
+                ExemploCompletoTerminado.exibirPlacar(LeitorEntrada.deTexto("\n\n"));
+                return NOME_BUSCADO;
+            });
+            bancada.medir(sugestoes, () -> {
+                // Prefixo comum a um sétimo do cadastro: o custo não deve crescer com ele
+                ExemploCompletoTerminado.sugerirNomes("geralt 1");
+                return NOME_BUSCADO;
+            });
+        }
+        ExemploCompletoTerminado.limparAprendizes();
+    }
+
+    /**
+     * Compara os aprendizes como objetos com o ArmazemColunar: memória por
+     * aprendiz e varredura completa (soma de níveis e idades)
+     */
+    static void registrarColunar(Bancada bancada, long[] tamanhos) throws Exception {
+        ExemploCompletoTerminado.limparAprendizes(); // O cadastro estático não pode encolher no meio da medição
+        for (long tamanho : tamanhos) {
+            String memoria = "academia.memoria[" + tamanho + "]";
+            String objetos = "academia.varreduraObjetos[" + tamanho + "]";
+            String colunar = "academia.varreduraColunar[" + tamanho + "]";
+            if (!bancada.selecionada(memoria) && !bancada.selecionada(objetos) && !bancada.selecionada(colunar)) {
+                continue;
+            }
+            registrarColunar(bancada, tamanho, memoria, objetos, colunar);
+        }
+    }
+
+    // Um tamanho por chamada: os aprendizes e armazéns do tamanho anterior já
+    // não são alcançáveis quando a memória deste é medida
+    private static void registrarColunar(Bancada bancada, long tamanho, String memoria, String objetos,
+                                         String colunar) throws Exception {
+        long antes = memoriaUsada();
+        ExemploCompletoTerminado[] aprendizes = new ExemploCompletoTerminado[(int) tamanho];
+        for (int i = 0; i < aprendizes.length; i++) {
+            aprendizes[i] = gerar(i, tamanho);
+        }
+        long bytesObjetos = memoriaUsada() - antes;
+
+        antes = memoriaUsada();
+        ArmazemColunar armazem = new ArmazemColunar();
+        for (int i = 0; i < tamanho; i++) {
+            ExemploCompletoTerminado aprendiz = aprendizes[i];
+            armazem.adicionar(aprendiz.getNomeAprendiz(), aprendiz.getNivelHabilidade(),
+                    aprendiz.getEscolaOrigem(), aprendiz.getIdade());
+        }
+        long bytesColunar = memoriaUsada() - antes;
+
+        // Mesmas colunas fora do heap: só os ByteBuffers ficam no heap
+        antes = memoriaUsada();
+        ArmazemColunar foraDoHeap = new ArmazemColunar(true);
+        for (int i = 0; i < tamanho; i++) {
+            foraDoHeap.adicionar(aprendizes[i]);
+        }
+        long bytesHeapForaDoHeap = memoriaUsada() - antes;
+
+        if (bytesObjetos < 0 || bytesColunar < 0 || bytesHeapForaDoHeap < 0) {
+            bancada.anotar(memoria, MEDICAO_DESCARTADA);
+        } else {
+            bancada.anotar(memoria, String.format(
+                    "%.1f bytes/aprendiz em objetos, %.1f em colunas, %.2f de heap + %.1f fora do heap",
+                    (double) bytesObjetos / tamanho, (double) bytesColunar / tamanho,
+                    (double) bytesHeapForaDoHeap / tamanho, (double) foraDoHeap.bytesOcupados() / tamanho));
+        }
+        bancada.medir(objetos, () -> {
+            long soma = 0;
+            for (ExemploCompletoTerminado aprendiz : aprendizes) {
+                soma += aprendiz.getNivelHabilidade() + aprendiz.getIdade();
+            }
+            return soma;
+        });
+        bancada.medir(colunar, () -> armazem.somaNiveis() + armazem.somaIdades());
+    }
+
+    /**
+     * Memória do IndicePrefixos com os nomes do cadastro, sem os aprendizes,
+     * e o tempo de completar um prefixo
+     */
+    static void registrarPrefixos(Bancada bancada, long[] tamanhos) throws Exception {
+        ExemploCompletoTerminado.limparAprendizes(); // O cadastro estático não pode encolher no meio da medição
+        for (long tamanho : tamanhos) {
+            String memoria = "academia.memoriaPrefixos[" + tamanho + "]";
+            String completar = "academia.completarPrefixo[" + tamanho + "]";
+            if (!bancada.selecionada(memoria) && !bancada.selecionada(completar)) {
+                continue;
+            }
+            registrarPrefixos(bancada, tamanho, memoria, completar);
+        }
+    }
+
+    // Um tamanho por chamada, como em registrarColunar: o índice anterior já
+    // não é alcançável quando a memória deste é medida
+    private static void registrarPrefixos(Bancada bancada, long tamanho, String memoria, String completar)
+            throws Exception {
+        long antes = memoriaUsada();
+        IndicePrefixos prefixos = new IndicePrefixos();
+        for (int i = 0; i < tamanho; i++) {
+            prefixos.inserir(i, gerar(i, tamanho).getNomeAprendiz());
+        }
+        long bytesHeap = memoriaUsada() - antes;
+
+        if (bytesHeap < 0) {
+            bancada.anotar(memoria, MEDICAO_DESCARTADA);
+        } else {
+            bancada.anotar(memoria, String.format(
+                    "%.1f bytes/nome no heap (%.1f em vetores), %.2f nós/nome",
+                    (double) bytesHeap / tamanho, (double) prefixos.bytesOcupados() / tamanho,
+                    (double) prefixos.quantidadeNos() / tamanho));
+        }
+        bancada.medir(completar, () -> prefixos.completar("geralt 1", 10).length);
+    }
+
+    /**
+     * @return bytes ocupados no heap depois de coletas sucessivas, até o
+     * heap parar de encolher (o que o Cleaner libera só sai na coleta seguinte)
+     */
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        long usada = Long.MAX_VALUE;
+        for (int i = 0; i < MAXIMO_COLETAS; i++) {
+            System.gc();
+            long atual = runtime.totalMemory() - runtime.freeMemory();
+            if (atual >= usada) {
+                break;
+            }
+            usada = atual;
+        }
+        return usada;
+    }
+
+    /**
+     * Aprendiz de número i em um cadastro do tamanho pedido
+     * A escola é uma String nova, como chegaria da entrada do usuário
+     */
+    private static ExemploCompletoTerminado gerar(int i, long tamanho) {
+        String nome = i == tamanho / 2 ? NOME_BUSCADO : NOMES[i % NOMES.length] + " " + i;
+        return new ExemploCompletoTerminado(nome, i % ExemploCompletoTerminado.NIVEL_MAXIMO + 1,
+                new String(ESCOLAS[i % ESCOLAS.length]), ExemploCompletoTerminado.IDADE_MINIMA + i % 40);
+    }
+
+    /**
+     * Recria o cadastro com a quantidade pedida de aprendizes
+     */
+    private static void popular(long tamanho) {
+        ExemploCompletoTerminado.limparAprendizes();
+        System.gc(); // Libera o cadastro anterior antes de criar o próximo
+
+        for (int i = 0; i < tamanho; i++) {
+            ExemploCompletoTerminado.cadastrarAprendiz(gerar(i, tamanho));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package cap01;
+
+/**
+ * BancadaMedalhao.java
+ * <p>
+ * Medições dos caminhos quentes da forja de medalhões: pontuação,
+ * classificação, utilitários de texto, validação do nome e de registros
+ * inteiros (um a um e em sequência), desenho da frente (em uma saída que
+ * descarta tudo) e salvamento em arquivo (em um diretório temporário
+ * apagado ao final).
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class BancadaMedalhao {
+
+    // Entradas variadas, percorridas em rodízio para não medir sempre o mesmo caso
+    private static final String[] ESCOLAS = {"lobo", "grifo", "gato", "víbora", "urso", "manticora"};
+    private static final String[] SINAIS = {"igni", "quen", "aard", "axii", "yrden"};
+    private static final String[] CORES = {"prata", "ouro", "bronze", "rubi", "esmeralda", "ametista"};
+    private static final String[] NOMES = {"Geralt de Rivia", "Ciri", "Yennefer de Vengerberg", "Lambert", "Eskel"};
+    // Escolhas como chegam do teclado: caixa, acentos e espaços variados
+    private static final String[] DIGITADAS = {"Lobo", " VÍBORA ", "vibora", "Manticora", "gato", "xamã"};
+    private static final String LEMA = "O caminho do bruxo é feito de código e coragem";
+
+    // Registros da validação em sequência; um em cada oito é inválido
+    private static final int QUANTIDADE_REGISTROS = 1024;
+
+    private static int indice;
+
+    private BancadaMedalhao() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    private static int proximo() {
+        return indice = (indice + 1) & 0x3FF;
+    }
+
+    /**
+     * Registra as medições da forja na bancada
+     */
+    static void registrar(Bancada bancada) throws Exception {
+        Saida descarte = new Saida.Descarte();
+        MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao =
+                MedalhaoPersonalizadoTerminado.calcularPontuacao("lobo", "igni", 25, "ouro", LEMA, true);
+
+        bancada.medir("medalhao.calcularPontuacao", () -> {
+            int i = proximo();
+            return MedalhaoPersonalizadoTerminado.calcularPontuacao(ESCOLAS[i % ESCOLAS.length],
+                    SINAIS[i % SINAIS.length], i % 100 + 1, CORES[i % CORES.length], LEMA, (i & 1) == 0);
+        });
+        bancada.medir("medalhao.getRelatorioDetalhado", pontuacao::getRelatorioDetalhado);
+        bancada.medir("medalhao.getClassificacao", pontuacao::getClassificacao);
+
+        bancada.medir("medalhao.centralizarTexto", () ->
+                MedalhaoPersonalizadoTerminado.centralizarTexto(NOMES[proximo() % NOMES.length], 30));
+        bancada.medir("medalhao.quebrarTexto", () ->
+                MedalhaoPersonalizadoTerminado.quebrarTexto(LEMA, 30));
+        bancada.medir("medalhao.capitalizar", () ->
+                MedalhaoPersonalizadoTerminado.capitalizar(ESCOLAS[proximo() % ESCOLAS.length]));
+        bancada.medir("medalhao.validarNome", () ->
+                MedalhaoPersonalizadoTerminado.verificarNome(NOMES[proximo() % NOMES.length]));
+
+        Vocabulario vocabulario = Vocabulario.atual();
+        bancada.medir("medalhao.resolverVocabulario", () ->
+                vocabulario.resolver(Vocabulario.Categoria.ESCOLA, DIGITADAS[proximo() % DIGITADAS.length]));
+
+        List<String[]> registros = registros();
+        List<ValidadorMedalhao.Erro> erros = new ArrayList<>();
+        bancada.medir("medalhao.validarRegistro", () -> {
+            erros.clear();
+            return ValidadorMedalhao.validar(registros.get(proximo()), erros);
+        });
+        bancada.medir("medalhao.validarTodos[" + QUANTIDADE_REGISTROS + " registros]", () ->
+                ValidadorMedalhao.validarTodos(registros, pedido -> { }, (posicao, errosRegistro) -> { }));
+
+        bancada.medir("medalhao.exibirFrenteMedalhao (descarte)", () -> {
+            int i = proximo();
+            String escola = ESCOLAS[i % ESCOLAS.length];
+            String sinal = SINAIS[i % SINAIS.length];
+            MedalhaoPersonalizadoTerminado.exibirFrenteMedalhao(descarte, NOMES[i % NOMES.length],
+                    MedalhaoPersonalizadoTerminado.determinarSimboloEscola(escola),
+                    MedalhaoPersonalizadoTerminado.determinarCorSinal(sinal), CORES[i % CORES.length],
+                    "═", "⚔️", escola, sinal, MedalhaoPersonalizadoTerminado.calcularNivelDedicacao(i % 100 + 1));
+            return escola;
+        });
+
+        if (bancada.selecionada("medalhao.salvarMedalhaoArquivo")) {
+            Path temporario = Files.createTempDirectory("bancada-medalhoes");
+            try {
+                bancada.medir("medalhao.salvarMedalhaoArquivo (diretório temporário)", () -> {
+                    int i = proximo();
+                    MedalhaoPersonalizadoTerminado.salvarMedalhaoArquivo(descarte, temporario,
+                            NOMES[i % NOMES.length] + " " + i, ESCOLAS[i % ESCOLAS.length],
+                            SINAIS[i % SINAIS.length], i % 100 + 1, CORES[i % CORES.length], LEMA, pontuacao);
+                    return temporario;
+                });
+            } finally {
+                apagar(temporario);
+            }
+        }
+    }
+
+    /**
+     * Registros como chegam de um CSV, com maiúsculas e espaços a normalizar
+     */
+    private static List<String[]> registros() {
+        List<String[]> registros = new ArrayList<>(QUANTIDADE_REGISTROS);
+        for (int i = 0; i < QUANTIDADE_REGISTROS; i++) {
+            String escola = i % 8 == 7 ? "kaer morhen" : ESCOLAS[i % ESCOLAS.length].toUpperCase();
+            registros.add(new String[]{
+                    NOMES[i % NOMES.length], " " + escola, SINAIS[i % SINAIS.length], String.valueOf(i % 100 + 1),
+                    CORES[i % CORES.length], "", (i & 1) == 0 ? LEMA : "", (i & 2) == 0 ? "s" : "n",
+                    String.valueOf(i % 6 + 1)
+            });
+        }
+        return registros;
+    }
+
+    private static void apagar(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.forEach(arquivo -> {
+                try {
+                    Files.delete(arquivo);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        Files.delete(diretorio);
+    }
+}
@@ -0,0 +1,594 @@
+package cap01;
+
+/**
+ * ArmazemColunar.java
+ * <p>
+ * Armazenamento compacto de aprendizes em colunas (struct-of-arrays).
+ * <p>
+ * Em vez de um objeto ExemploCompletoTerminado por aprendiz (cabeçalho,
+ * duas referências para String, dois ints, e cada String com o seu próprio
+ * array), cada campo vira uma coluna de largura fixa indexada pelo id:
+ * - nível e idade: short (2 bytes cada)
+ * - escola de origem: código de 2 bytes em um dicionário, então mil
+ *   aprendizes da "Kaer Morhen" guardam uma única String
+ * - nome: bytes UTF-8 em uma arena, precedidos do tamanho (2 bytes), e a
+ *   posição de cada nome na arena em uma coluna de int
+ * <p>
+ * Um aprendiz típico ocupa uns 26 bytes, contra uns 124 como objeto (medido
+ * em academia.memoria na bancada).
+ * As colunas são divididas em blocos de tamanho fixo: crescer nunca copia
+ * o que já existe, e uma varredura de um campo lê memória contígua.
+ * <p>
+ * Os blocos podem ficar no heap ou fora dele (ByteBuffer direto). Fora do
+ * heap, o coletor de lixo só enxerga alguns objetos por bloco de 65 536
+ * aprendizes: o heap fica pequeno e as pausas não crescem com a academia.
+ * A memória fora do heap é limitada por -XX:MaxDirectMemorySize (por
+ * padrão, o mesmo valor de -Xmx).
+ * <p>
+ * O Cursor é um flyweight com os mesmos getters de ExemploCompletoTerminado:
+ * um único objeto percorre ou aponta qualquer aprendiz, e o nome só vira
+ * String quando pedido.
+ * <p>
+ * Mudanças são serializadas (métodos synchronized); leituras e varreduras
+ * não travam e enxergam os aprendizes publicados até o momento.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+final class ArmazemColunar {
+
+    // ===== LAYOUT DOS BLOCOS =====
+    private static final int BITS_BLOCO = 16;
+    private static final int TAMANHO_BLOCO = 1 << BITS_BLOCO;   // aprendizes por bloco
+    private static final int MASCARA_BLOCO = TAMANHO_BLOCO - 1;
+
+    // Início de cada coluna dentro do bloco (em bytes)
+    private static final int COLUNA_NIVEIS = 0;
+    private static final int COLUNA_IDADES = COLUNA_NIVEIS + TAMANHO_BLOCO * Short.BYTES;
+    private static final int COLUNA_ESCOLAS = COLUNA_IDADES + TAMANHO_BLOCO * Short.BYTES;
+    private static final int COLUNA_NOMES = COLUNA_ESCOLAS + TAMANHO_BLOCO * Character.BYTES;
+    private static final int BYTES_BLOCO = COLUNA_NOMES + TAMANHO_BLOCO * Integer.BYTES;
+
+    private static final int BITS_BLOCO_ARENA = 20;
+    private static final int TAMANHO_BLOCO_ARENA = 1 << BITS_BLOCO_ARENA; // 1 MB de nomes por bloco
+    private static final int TAMANHO_PREFIXO_NOME = 2;
+    private static final int TAMANHO_MAXIMO_NOME = 0xFFFF;
+
+    private static final int MAXIMO_ESCOLAS = 0xFFFF + 1;
+
+    // Acesso aos campos pelos VarHandles em vez de getShort/putShort: os métodos
+    // do ByteBuffer têm uma implementação no heap e outra fora dele, e um armazém
+    // de cada tipo na mesma JVM impede o JIT de otimizar as varreduras
+    private static final VarHandle SHORT = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.nativeOrder());
+    private static final VarHandle CHAR = MethodHandles.byteBufferViewVarHandle(char[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final boolean foraDoHeap;
+
+    // Blocos de colunas; volatile porque limpar() troca o diretório inteiro
+    private volatile ByteBuffer[] blocos = new ByteBuffer[0];
+
+    // Arena de nomes: [tamanho em 2 bytes][bytes UTF-8], nunca atravessa blocos
+    // volatile: uma renomeação pode apontar para um bloco novo sem publicar um aprendiz
+    private volatile ByteBuffer[] arena = new ByteBuffer[0];
+    private int fimArena; // Posição global do próximo nome
+
+    // Dicionário das escolas de origem (código -> nome, e o caminho inverso)
+    private volatile String[] nomesEscolas = new String[16];
+    private int quantidadeEscolas;
+    private final Map<String, Integer> codigosEscolas = new HashMap<>();
+
+    // Quantidade de aprendizes visíveis para as leituras
+    private volatile int tamanho;
+
+    /**
+     * Armazém com os blocos no heap
+     */
+    ArmazemColunar() {
+        this(false);
+    }
+
+    /**
+     * @param foraDoHeap true para alocar os blocos com ByteBuffer.allocateDirect
+     */
+    ArmazemColunar(boolean foraDoHeap) {
+        this.foraDoHeap = foraDoHeap;
+    }
+
+    /**
+     * Flyweight de leitura e escrita: aponta um aprendiz de cada vez
+     * Os getters têm os mesmos nomes dos de ExemploCompletoTerminado
+     */
+    final class Cursor {
+        private int id = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Avança para o próximo aprendiz
+         *
+         * @return false quando não há mais aprendizes
+         */
+        boolean proximo() {
+            if (id + 1 >= tamanho) {
+                return false;
+            }
+            id++;
+            return true;
+        }
+
+        /**
+         * Aponta o aprendiz com este id
+         */
+        Cursor posicionar(int id) {
+            verificarId(id);
+            this.id = id;
+            return this;
+        }
+
+        int id() {
+            return id;
+        }
+
+        public String getNomeAprendiz() {
+            return nome(id);
+        }
+
+        public int getNivelHabilidade() {
+            return (short) SHORT.get(bloco(id), COLUNA_NIVEIS + (id & MASCARA_BLOCO) * Short.BYTES);
+        }
+
+        public String getEscolaOrigem() {
+            return nomesEscolas[(char) CHAR.get(bloco(id), COLUNA_ESCOLAS + (id & MASCARA_BLOCO) * Character.BYTES)];
+        }
+
+        public int getIdade() {
+            return (short) SHORT.get(bloco(id), COLUNA_IDADES + (id & MASCARA_BLOCO) * Short.BYTES);
+        }
+
+        public void setNomeAprendiz(String nome) {
+            definirNome(id, nome);
+        }
+
+        public void setNivelHabilidade(int nivel) {
+            definirNivel(id, nivel);
+        }
+
+        public void setEscolaOrigem(String escola) {
+            definirEscola(id, escola);
+        }
+
+        public void setIdade(int idade) {
+            definirIdade(id, idade);
+        }
+
+        /**
+         * @see ExemploCompletoTerminado#treinar(int)
+         */
+        public int treinar(int pontos) {
+            return ArmazemColunar.this.treinar(id, pontos);
+        }
+
+        /**
+         * @return cópia do aprendiz como objeto, para o código que precisa de um
+         */
+        ExemploCompletoTerminado materializar() {
+            return new ExemploCompletoTerminado(getNomeAprendiz(), getNivelHabilidade(),
+                    getEscolaOrigem(), getIdade());
+        }
+    }
+
+    // ===== LEITURA =====
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    boolean foraDoHeap() {
+        return foraDoHeap;
+    }
+
+    /**
+     * @return cursor posicionado antes do primeiro aprendiz
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * @return cursor apontando o aprendiz com este id
+     */
+    Cursor aprendiz(int id) {
+        return new Cursor().posicionar(id);
+    }
+
+    private ByteBuffer bloco(int id) {
+        return blocos[id >>> BITS_BLOCO];
+    }
+
+    private int posicaoNome(int id) {
+        return (int) INT.get(bloco(id), COLUNA_NOMES + (id & MASCARA_BLOCO) * Integer.BYTES);
+    }
+
+    private String nome(int id) {
+        int posicao = posicaoNome(id);
+        ByteBuffer bloco = arena[posicao >>> BITS_BLOCO_ARENA];
+        int inicio = posicao & (TAMANHO_BLOCO_ARENA - 1);
+        byte[] bytes = new byte[Short.toUnsignedInt((short) SHORT.get(bloco, inicio))];
+        bloco.get(inicio + TAMANHO_PREFIXO_NOME, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void verificarId(int id) {
+        if (id < 0 || id >= tamanho) {
+            throw new IndexOutOfBoundsException("Aprendiz " + id + " fora do armazém de " + tamanho);
+        }
+    }
+
+    // ===== VARREDURAS (uma coluna por vez, memória contígua) =====
+    // Cada trecho da coluna é copiado em lote para um short[] e somado ali:
+    // a cópia é um memcpy e o laço sobre o array o JIT vetoriza, no heap ou fora dele
+
+    private static final int TRECHO_VARREDURA = 4096;
+
+    long somaNiveis() {
+        return somarColuna(COLUNA_NIVEIS);
+    }
+
+    long somaIdades() {
+        return somarColuna(COLUNA_IDADES);
+    }
+
+    private long somarColuna(int coluna) {
+        int quantidade = tamanho;
+        ByteBuffer[] diretorio = blocos;
+        short[] trecho = new short[TRECHO_VARREDURA];
+        long soma = 0;
+        for (int inicio = 0; inicio < quantidade; inicio += TRECHO_VARREDURA) {
+            int lidos = copiarTrecho(diretorio, coluna, inicio, Math.min(TRECHO_VARREDURA, quantidade - inicio), trecho);
+            for (int i = 0; i < lidos; i++) {
+                soma += trecho[i];
+            }
+        }
+        return soma;
+    }
+
+    /**
+     * @return id do primeiro aprendiz com o maior nível, ou -1 se ninguém
+     *         passou do nível 0 (mesmo critério do relatório estatístico)
+     */
+    int idMaisExperiente() {
+        int quantidade = tamanho;
+        ByteBuffer[] diretorio = blocos;
+        short[] trecho = new short[TRECHO_VARREDURA];
+        int maior = 0;
+        int id = -1;
+        for (int inicio = 0; inicio < quantidade; inicio += TRECHO_VARREDURA) {
+            int lidos = copiarTrecho(diretorio, COLUNA_NIVEIS, inicio, Math.min(TRECHO_VARREDURA, quantidade - inicio), trecho);
+            for (int i = 0; i < lidos; i++) {
+                if (trecho[i] > maior) {
+                    maior = trecho[i];
+                    id = inicio + i;
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Ids dos aprendizes que entram no topo do placar com este nível de
+     * corte: todos acima dele e os primeiros no próprio corte
+     *
+     * @param corte nível de corte
+     * @param vagasNoCorte quantos aprendizes no nível de corte ainda cabem
+     * @return ids em ordem crescente
+     */
+    int[] idsDoTopo(int corte, int vagasNoCorte) {
+        int quantidade = tamanho;
+        ByteBuffer[] diretorio = blocos;
+        short[] trecho = new short[TRECHO_VARREDURA];
+        int[] encontrados = new int[16];
+        int totalEncontrados = 0;
+        int vagas = vagasNoCorte;
+        for (int inicio = 0; inicio < quantidade; inicio += TRECHO_VARREDURA) {
+            int lidos = copiarTrecho(diretorio, COLUNA_NIVEIS, inicio, Math.min(TRECHO_VARREDURA, quantidade - inicio), trecho);
+            for (int i = 0; i < lidos; i++) {
+                // Mesmas faixas do PlacarNiveis
+                int nivel = Math.max(0, Math.min(trecho[i], ExemploCompletoTerminado.NIVEL_MAXIMO));
+                if (nivel > corte || (nivel == corte && vagas > 0)) {
+                    if (nivel == corte) {
+                        vagas--;
+                    }
+                    if (totalEncontrados == encontrados.length) {
+                        encontrados = Arrays.copyOf(encontrados, totalEncontrados * 2);
+                    }
+                    encontrados[totalEncontrados++] = inicio + i;
+                }
+            }
+        }
+        return Arrays.copyOf(encontrados, totalEncontrados);
+    }
+
+    /**
+     * Copia uma coluna de shorts a partir do aprendiz inicio
+     * Os trechos têm tamanho divisor do bloco, então nunca atravessam blocos
+     *
+     * @return quantidade copiada
+     */
+    private static int copiarTrecho(ByteBuffer[] diretorio, int coluna, int inicio, int quantidade, short[] destino) {
+        ByteBuffer bloco = diretorio[inicio >>> BITS_BLOCO];
+        int posicao = coluna + (inicio & MASCARA_BLOCO) * Short.BYTES;
+        bloco.slice(posicao, quantidade * Short.BYTES).order(ByteOrder.nativeOrder())
+                .asShortBuffer().get(0, destino, 0, quantidade);
+        return quantidade;
+    }
+
+    /**
+     * Busca os aprendizes cujo nome contém o texto, sem distinção de
+     * maiúsculas (caractere a caractere, com Character.toLowerCase)
+     * <p>
+     * Percorre a arena copiando e decodificando cada nome em buffers
+     * reaproveitados: nenhuma String é criada por aprendiz
+     *
+     * @return ids encontrados, em ordem crescente
+     */
+    int[] buscarPorNome(String texto) {
+        char[] busca = texto.toCharArray();
+        for (int i = 0; i < busca.length; i++) {
+            busca[i] = Character.toLowerCase(busca[i]);
+        }
+
+        int quantidade = tamanho;
+        int[] encontrados = new int[16];
+        int totalEncontrados = 0;
+        byte[] utf8 = new byte[64];
+        char[] nome = new char[64];
+        for (int id = 0; id < quantidade; id++) {
+            int posicao = posicaoNome(id);
+            ByteBuffer bloco = arena[posicao >>> BITS_BLOCO_ARENA];
+            int inicio = posicao & (TAMANHO_BLOCO_ARENA - 1);
+            int bytes = Short.toUnsignedInt((short) SHORT.get(bloco, inicio));
+            if (nome.length < bytes) {
+                utf8 = new byte[bytes];
+                nome = new char[bytes]; // UTF-8 nunca tem mais caracteres do que bytes
+            }
+            bloco.get(inicio + TAMANHO_PREFIXO_NOME, utf8, 0, bytes); // Uma cópia em lote por nome
+            int caracteres = decodificarMinusculo(utf8, bytes, nome);
+            if (contem(nome, caracteres, busca)) {
+                if (totalEncontrados == encontrados.length) {
+                    encontrados = Arrays.copyOf(encontrados, totalEncontrados * 2);
+                }
+                encontrados[totalEncontrados++] = id;
+            }
+        }
+        return Arrays.copyOf(encontrados, totalEncontrados);
+    }
+
+    /**
+     * Decodifica UTF-8 já convertendo para minúsculas
+     *
+     * @return quantidade de caracteres escritos em destino
+     */
+    private static int decodificarMinusculo(byte[] origem, int bytes, char[] destino) {
+        int caracteres = 0;
+        int posicao = 0;
+        while (posicao < bytes) {
+            int b = origem[posicao++];
+            if (b >= 0) {
+                // ASCII, o caso comum: sem passar por Character.toChars
+                destino[caracteres++] = (char) (b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b);
+                continue;
+            }
+            int codigo;
+            if ((b & 0xE0) == 0xC0) {
+                codigo = ((b & 0x1F) << 6) | (origem[posicao++] & 0x3F);
+            } else if ((b & 0xF0) == 0xE0) {
+                codigo = ((b & 0x0F) << 12) | ((origem[posicao++] & 0x3F) << 6) | (origem[posicao++] & 0x3F);
+            } else {
+                codigo = ((b & 0x07) << 18) | ((origem[posicao++] & 0x3F) << 12)
+                        | ((origem[posicao++] & 0x3F) << 6) | (origem[posicao++] & 0x3F);
+            }
+            caracteres += Character.toChars(Character.toLowerCase(codigo), destino, caracteres);
+        }
+        return caracteres;
+    }
+
+    private static boolean contem(char[] texto, int tamanhoTexto, char[] busca) {
+        int ultimoInicio = tamanhoTexto - busca.length;
+        for (int inicio = 0; inicio <= ultimoInicio; inicio++) {
+            int i = 0;
+            while (i < busca.length && texto[inicio + i] == busca[i]) {
+                i++;
+            }
+            if (i == busca.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return bytes ocupados pelas colunas, pela arena e pelo dicionário
+     */
+    long bytesOcupados() {
+        long bytes = (long) blocos.length * BYTES_BLOCO;
+        bytes += (long) arena.length * TAMANHO_BLOCO_ARENA;
+        String[] dicionario = nomesEscolas;
+        for (int codigo = 0; codigo < dicionario.length && dicionario[codigo] != null; codigo++) {
+            bytes += dicionario[codigo].length() * 2L;
+        }
+        return bytes;
+    }
+
+    // ===== ESCRITA =====
+
+    /**
+     * Acrescenta um aprendiz
+     *
+     * @return id do novo aprendiz
+     */
+    synchronized int adicionar(String nome, int nivel, String escola, int idade) {
+        int id = tamanho;
+        if ((id & MASCARA_BLOCO) == 0) {
+            novoBloco();
+        }
+        ByteBuffer bloco = bloco(id);
+        int posicao = id & MASCARA_BLOCO;
+        SHORT.set(bloco, COLUNA_NIVEIS + posicao * Short.BYTES, paraShort(nivel, "Nível"));
+        SHORT.set(bloco, COLUNA_IDADES + posicao * Short.BYTES, paraShort(idade, "Idade"));
+        CHAR.set(bloco, COLUNA_ESCOLAS + posicao * Character.BYTES, codigoEscola(escola));
+        INT.set(bloco, COLUNA_NOMES + posicao * Integer.BYTES, gravarNome(nome));
+
+        // Só agora o aprendiz fica visível para as leituras
+        tamanho = id + 1;
+        return id;
+    }
+
+    synchronized int adicionar(ExemploCompletoTerminado aprendiz) {
+        return adicionar(aprendiz.getNomeAprendiz(), aprendiz.getNivelHabilidade(),
+                aprendiz.getEscolaOrigem(), aprendiz.getIdade());
+    }
+
+    /**
+     * Troca o nome; o nome anterior fica na arena (a arena só cresce)
+     */
+    synchronized void definirNome(int id, String nome) {
+        verificarId(id);
+        INT.set(bloco(id), COLUNA_NOMES + (id & MASCARA_BLOCO) * Integer.BYTES, gravarNome(nome));
+    }
+
+    /**
+     * Mesmas regras de ExemploCompletoTerminado.setNivelHabilidade
+     */
+    synchronized void definirNivel(int id, int nivel) {
+        verificarId(id);
+        if (nivel >= 1 && nivel <= ExemploCompletoTerminado.NIVEL_MAXIMO) {
+            SHORT.set(bloco(id), COLUNA_NIVEIS + (id & MASCARA_BLOCO) * Short.BYTES, (short) nivel);
+        }
+    }
+
+    /**
+     * Mesmas regras de ExemploCompletoTerminado.treinar
+     *
+     * @return nível antes do treino
+     */
+    synchronized int treinar(int id, int pontos) {
+        verificarId(id);
+        ByteBuffer bloco = bloco(id);
+        int posicao = COLUNA_NIVEIS + (id & MASCARA_BLOCO) * Short.BYTES;
+        int nivelAnterior = (short) SHORT.get(bloco, posicao);
+        int novoNivel = Math.min(nivelAnterior + pontos, ExemploCompletoTerminado.NIVEL_MAXIMO);
+        if (novoNivel >= 1) {
+            SHORT.set(bloco, posicao, (short) novoNivel);
+        }
+        return nivelAnterior;
+    }
+
+    /**
+     * Mesmas regras de ExemploCompletoTerminado.setIdade
+     */
+    synchronized void definirIdade(int id, int idade) {
+        verificarId(id);
+        if (idade >= ExemploCompletoTerminado.IDADE_MINIMA && idade <= ExemploCompletoTerminado.IDADE_MAXIMA) {
+            SHORT.set(bloco(id), COLUNA_IDADES + (id & MASCARA_BLOCO) * Short.BYTES, paraShort(idade, "Idade"));
+        }
+    }
+
+    synchronized void definirEscola(int id, String escola) {
+        verificarId(id);
+        CHAR.set(bloco(id), COLUNA_ESCOLAS + (id & MASCARA_BLOCO) * Character.BYTES, codigoEscola(escola));
+    }
+
+    /**
+     * Esvazia o armazém; os blocos fora do heap são liberados pelo coletor
+     * quando os ByteBuffers deixam de ser alcançáveis
+     */
+    synchronized void limpar() {
+        tamanho = 0;
+        blocos = new ByteBuffer[0];
+        arena = new ByteBuffer[0];
+        fimArena = 0;
+        nomesEscolas = new String[16];
+        quantidadeEscolas = 0;
+        codigosEscolas.clear();
+    }
+
+    private ByteBuffer alocar(int bytes) {
+        ByteBuffer buffer = foraDoHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+        return buffer.order(ByteOrder.nativeOrder());
+    }
+
+    private void novoBloco() {
+        ByteBuffer[] maior = Arrays.copyOf(blocos, blocos.length + 1);
+        maior[maior.length - 1] = alocar(BYTES_BLOCO);
+        blocos = maior;
+    }
+
+    private char codigoEscola(String escola) {
+        Integer codigo = codigosEscolas.get(escola);
+        if (codigo == null) {
+            if (quantidadeEscolas == MAXIMO_ESCOLAS) {
+                throw new IllegalStateException("Dicionário de escolas cheio (" + MAXIMO_ESCOLAS + " escolas)");
+            }
+            codigo = quantidadeEscolas++;
+            String[] dicionario = nomesEscolas;
+            if (codigo == dicionario.length) {
+                dicionario = Arrays.copyOf(dicionario, dicionario.length * 2);
+            }
+            dicionario[codigo] = escola;
+            nomesEscolas = dicionario; // Publica a nova escola antes de alguém usar o código
+            codigosEscolas.put(escola, codigo);
+        }
+        return (char) codigo.intValue();
+    }
+
+    /**
+     * Grava o nome no fim da arena
+     *
+     * @return posição global do nome na arena
+     */
+    private int gravarNome(String nome) {
+        byte[] bytes = (nome == null ? "" : nome).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > TAMANHO_MAXIMO_NOME) {
+            throw new IllegalArgumentException("Nome com mais de " + TAMANHO_MAXIMO_NOME + " bytes");
+        }
+        int necessario = TAMANHO_PREFIXO_NOME + bytes.length;
+        int inicio = fimArena & (TAMANHO_BLOCO_ARENA - 1);
+        if (fimArena >>> BITS_BLOCO_ARENA >= arena.length || inicio + necessario > TAMANHO_BLOCO_ARENA) {
+            // Não cabe no bloco atual: o nome começa no próximo
+            if (arena.length >= Integer.MAX_VALUE >>> BITS_BLOCO_ARENA) {
+                throw new IllegalStateException("Arena de nomes cheia");
+            }
+            ByteBuffer[] maior = Arrays.copyOf(arena, arena.length + 1);
+            maior[maior.length - 1] = alocar(TAMANHO_BLOCO_ARENA);
+            arena = maior;
+            fimArena = (maior.length - 1) << BITS_BLOCO_ARENA;
+            inicio = 0;
+        }
+        ByteBuffer bloco = arena[fimArena >>> BITS_BLOCO_ARENA];
+        SHORT.set(bloco, inicio, (short) bytes.length);
+        bloco.put(inicio + TAMANHO_PREFIXO_NOME, bytes);
+
+        int posicao = fimArena;
+        fimArena += necessario;
+        return posicao;
+    }
+
+    private static short paraShort(int valor, String campo) {
+        if (valor < Short.MIN_VALUE || valor > Short.MAX_VALUE) {
+            throw new IllegalArgumentException(campo + " fora da faixa do armazém colunar: " + valor);
+        }
+        return (short) valor;
+    }
+}
@@ -0,0 +1,795 @@
+package cap01;
+
+/**
+ * ArquivoMedalhoes.java
+ * <p>
+ * Arquivo de medalhões somente de acréscimo, dividido em segmentos.
+ * <p>
+ * Em vez de um arquivo de texto por medalhão, cada medalhão vira um
+ * registro binário compacto acrescentado ao fim do segmento ativo
+ * (segmento_000001.med, segmento_000002.med, ...). Quando o segmento
+ * chega ao tamanho máximo (64 MB por padrão), um novo é aberto.
+ * <p>
+ * Cada segmento tem um índice ao lado (segmento_000001.idx) com uma
+ * entrada de tamanho fixo por registro: momento da criação, hash do nome
+ * e posição do registro no segmento. Ao abrir o arquivo, os índices são
+ * carregados em vetores primitivos, o que permite buscar por nome e por
+ * período sem ler os segmentos inteiros.
+ * <p>
+ * Formato de um registro (inteiros em big-endian):
+ *   int tamanho do corpo | int CRC32 do corpo |
+ *   long criado em (ms desde a época) | byte escola | byte sinal | byte cor |
+ *   byte horas | 6 bytes com os componentes da pontuação |
+ *   short + UTF-8 do nome | short + UTF-8 do lema
+ * <p>
+ * Se o programa parar no meio de uma gravação, a abertura seguinte
+ * relê o que ficou fora do índice e descarta o registro incompleto.
+ * <p>
+ * Uso:
+ *   java cap01.ArquivoMedalhoes medalhoes listar
+ *   java cap01.ArquivoMedalhoes medalhoes mostrar "Geralt" [yyyyMMdd_HHmmss]
+ *   java cap01.ArquivoMedalhoes medalhoes periodo yyyyMMdd_HHmmss yyyyMMdd_HHmmss
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+final class ArquivoMedalhoes implements Closeable {
+
+    // ===== FORMATO DOS ARQUIVOS =====
+
+    // Cabeçalho de cada segmento: "MDLH" + versão do formato
+    static final int MAGICO = 0x4D444C48;
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO_SEGMENTO = 8;
+
+    // Tamanho do corpo + CRC32 do corpo
+    static final int TAMANHO_CABECALHO_REGISTRO = 8;
+
+    // Posições dos campos dentro do corpo (também lidas por LeitorArquivoMedalhoes)
+    static final int POSICAO_MOMENTO = 0;
+    static final int POSICAO_ESCOLA = 8;
+    static final int POSICAO_SINAL = 9;
+    static final int POSICAO_COR = 10;
+    static final int POSICAO_HORAS = 11;
+    static final int POSICAO_COMPONENTES = 12; // escola, sinal, horas, cor, combinação, personalização
+    static final int POSICAO_NOME = 18;        // short tamanho + UTF-8; o lema vem logo depois
+
+    // Parte fixa do corpo: tudo até o nome, mais os dois tamanhos de texto
+    static final int TAMANHO_FIXO_CORPO = POSICAO_NOME + 2 + 2;
+
+    // Entrada do índice: momento, hash do nome e posição no segmento
+    private static final int TAMANHO_ENTRADA_INDICE = 16;
+
+    private static final String PREFIXO_SEGMENTO = "segmento_";
+    private static final String EXTENSAO_DADOS = ".med";
+    private static final String EXTENSAO_INDICE = ".idx";
+
+    // Tamanho máximo padrão de um segmento (64 MB)
+    static final long TAMANHO_SEGMENTO_PADRAO = 64L << 20;
+
+    // Buffers de escrita: os registros só vão ao disco em blocos
+    private static final int TAMANHO_BUFFER_DADOS = 1 << 18;
+    private static final int TAMANHO_BUFFER_INDICE = 1 << 16;
+
+    private static final DateTimeFormatter FORMATO_MOMENTO = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    /**
+     * Medalhão lido de volta do arquivo
+     */
+    record RegistroMedalhao(long criadoEm, String nome, String escola, String sinal, int horas,
+                            String cor, String lema, MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao) {
+
+        /**
+         * @return momento da criação no fuso horário local
+         */
+        LocalDateTime momento() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(criadoEm), ZoneId.systemDefault());
+        }
+
+        /**
+         * Reconstrói o texto legível, idêntico ao do arquivo .txt que
+         * salvarMedalhaoArquivo teria gravado no momento da criação
+         *
+         * @return conteúdo completo do medalhão em texto
+         */
+        String emTexto() {
+            LocalDateTime momento = momento();
+            return MedalhaoPersonalizadoTerminado.gerarTextoMedalhao(nome, escola, sinal, horas, cor, lema,
+                    pontuacao, momento, MedalhaoPersonalizadoTerminado.nomeArquivoMedalhao(nome, momento));
+        }
+    }
+
+    // ===== ESTADO =====
+
+    private final Path diretorio;
+    private final long tamanhoMaximoSegmento;
+
+    // Canais de leitura de cada segmento; o último também é o de escrita
+    private final List<FileChannel> segmentos = new ArrayList<>();
+    private FileChannel indiceAtivo;
+    private long tamanhoAtivo;   // Tamanho lógico do segmento ativo, incluindo o buffer
+    private long gravadoAtivo;   // Quanto do segmento ativo já está no disco
+    private final ByteBuffer bufferDados = ByteBuffer.allocate(TAMANHO_BUFFER_DADOS);
+    private final ByteBuffer bufferIndice = ByteBuffer.allocate(TAMANHO_BUFFER_INDICE);
+    private final CRC32 crc = new CRC32();
+    private long ultimoMomento;
+
+    // ===== ÍNDICE EM MEMÓRIA (um elemento por registro, na ordem de gravação) =====
+    private int quantidade;
+    private long[] momentos = new long[1024];
+    private int[] hashesNome = new int[1024];
+    private int[] numerosSegmento = new int[1024];
+    private int[] posicoes = new int[1024];
+
+    // Encadeamento por hash do nome: cabecas[hash & mascara] -> último registro, proximos[i] -> anterior
+    private int[] cabecas = new int[1024];
+    private int[] proximos = new int[1024];
+
+    private ArquivoMedalhoes(Path diretorio, long tamanhoMaximoSegmento) {
+        this.diretorio = diretorio;
+        this.tamanhoMaximoSegmento = tamanhoMaximoSegmento;
+        Arrays.fill(cabecas, -1);
+    }
+
+    /**
+     * Abre (ou cria) o arquivo de medalhões em um diretório
+     *
+     * @param diretorio diretório dos segmentos
+     * @return arquivo pronto para acrescentar e consultar registros
+     */
+    static ArquivoMedalhoes abrir(Path diretorio) throws IOException {
+        return abrir(diretorio, TAMANHO_SEGMENTO_PADRAO);
+    }
+
+    /**
+     * @param tamanhoMaximoSegmento tamanho a partir do qual um novo segmento é aberto
+     */
+    static ArquivoMedalhoes abrir(Path diretorio, long tamanhoMaximoSegmento) throws IOException {
+        if (tamanhoMaximoSegmento <= TAMANHO_CABECALHO_SEGMENTO || tamanhoMaximoSegmento > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamanho de segmento inválido: " + tamanhoMaximoSegmento);
+        }
+        Files.createDirectories(diretorio);
+        ArquivoMedalhoes arquivo = new ArquivoMedalhoes(diretorio, tamanhoMaximoSegmento);
+        try {
+            arquivo.carregar();
+        } catch (IOException | RuntimeException e) {
+            arquivo.close();
+            throw e;
+        }
+        return arquivo;
+    }
+
+    // ===== ABERTURA E RECUPERAÇÃO =====
+
+    /**
+     * @param diretorio diretório do arquivo de medalhões
+     * @return segmentos de dados em ordem de criação
+     */
+    static List<Path> listarSegmentos(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIXO_SEGMENTO))
+                    .filter(p -> p.getFileName().toString().endsWith(EXTENSAO_DADOS))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void carregar() throws IOException {
+        List<Path> existentes = listarSegmentos(diretorio);
+        for (int i = 0; i < existentes.size(); i++) {
+            boolean ultimo = i == existentes.size() - 1;
+            carregarSegmento(existentes.get(i), ultimo);
+        }
+        if (existentes.isEmpty()) {
+            abrirNovoSegmento();
+        }
+    }
+
+    /**
+     * Carrega o índice de um segmento e recupera os registros que ficaram fora dele
+     */
+    private void carregarSegmento(Path caminho, boolean ultimo) throws IOException {
+        FileChannel dados = FileChannel.open(caminho, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segmentos.add(dados);
+        int numeroSegmento = segmentos.size() - 1;
+
+        long tamanho = dados.size();
+        if (tamanho < TAMANHO_CABECALHO_SEGMENTO && ultimo) {
+            // Segmento criado mas interrompido antes do cabeçalho
+            dados.truncate(0);
+            escreverCabecalho(dados);
+            tamanho = TAMANHO_CABECALHO_SEGMENTO;
+        } else {
+            verificarCabecalho(dados, caminho);
+        }
+
+        FileChannel indice = FileChannel.open(caminhoIndice(caminho), StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+
+        // 1) Entradas do índice que apontam para dentro do segmento
+        long entradasNoIndice = indice.size() / TAMANHO_ENTRADA_INDICE;
+        long fimConfirmado = TAMANHO_CABECALHO_SEGMENTO;
+        long entradasValidas = 0;
+        ByteBuffer leitura = ByteBuffer.allocate(TAMANHO_ENTRADA_INDICE * 4096);
+        long posicaoIndice = 0;
+        int anterior = -1;
+        boolean consistente = true;
+        while (consistente && posicaoIndice < entradasNoIndice * TAMANHO_ENTRADA_INDICE) {
+            leitura.clear();
+            long restante = entradasNoIndice * TAMANHO_ENTRADA_INDICE - posicaoIndice;
+            leitura.limit((int) Math.min(leitura.capacity(), restante));
+            lerCompleto(indice, leitura, posicaoIndice);
+            leitura.flip();
+            while (leitura.hasRemaining()) {
+                long momento = leitura.getLong();
+                int hashNome = leitura.getInt();
+                int posicao = leitura.getInt();
+                if (posicao <= anterior || posicao < TAMANHO_CABECALHO_SEGMENTO || posicao >= tamanho) {
+                    consistente = false;
+                    break;
+                }
+                adicionarAoIndice(momento, hashNome, numeroSegmento, posicao);
+                anterior = posicao;
+                entradasValidas++;
+            }
+            posicaoIndice += TAMANHO_ENTRADA_INDICE * 4096L;
+        }
+
+        // O último registro indexado pode ter ficado incompleto
+        if (entradasValidas > 0) {
+            long fim = fimDoRegistro(dados, anterior, tamanho);
+            if (fim < 0) {
+                quantidade--;
+                desencadear(quantidade);
+                entradasValidas--;
+                fim = anterior;
+            }
+            fimConfirmado = fim;
+        }
+        indice.truncate(entradasValidas * TAMANHO_ENTRADA_INDICE);
+
+        // 2) Registros gravados depois da última entrada do índice
+        long posicao = fimConfirmado;
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_REGISTRO);
+        ByteBuffer entrada = ByteBuffer.allocate(TAMANHO_ENTRADA_INDICE);
+        int recuperados = 0;
+        while (posicao + TAMANHO_CABECALHO_REGISTRO <= tamanho) {
+            cabecalho.clear();
+            lerCompleto(dados, cabecalho, posicao);
+            int tamanhoCorpo = cabecalho.getInt(0);
+            int crcEsperado = cabecalho.getInt(4);
+            if (tamanhoCorpo < TAMANHO_FIXO_CORPO || posicao + TAMANHO_CABECALHO_REGISTRO + tamanhoCorpo > tamanho) {
+                break;
+            }
+            ByteBuffer corpo = ByteBuffer.allocate(tamanhoCorpo);
+            lerCompleto(dados, corpo, posicao + TAMANHO_CABECALHO_REGISTRO);
+            crc.reset();
+            crc.update(corpo.array());
+            if ((int) crc.getValue() != crcEsperado) {
+                break;
+            }
+
+            long momento = corpo.getLong(POSICAO_MOMENTO);
+            String nome = lerTexto(corpo, POSICAO_NOME);
+            int hashNome = hashNome(nome);
+            adicionarAoIndice(momento, hashNome, numeroSegmento, (int) posicao);
+            entrada.clear();
+            entrada.putLong(momento).putInt(hashNome).putInt((int) posicao).flip();
+            escreverCompleto(indice, entrada, indice.size());
+            recuperados++;
+            posicao += TAMANHO_CABECALHO_REGISTRO + tamanhoCorpo;
+        }
+
+        if (posicao < tamanho) {
+            System.err.println("⚠️ " + caminho.getFileName() + ": registro incompleto descartado ("
+                    + (tamanho - posicao) + " bytes)");
+            dados.truncate(posicao);
+        }
+        if (recuperados > 0) {
+            System.err.println("🔧 " + caminho.getFileName() + ": " + recuperados + " registro(s) reindexado(s)");
+        }
+
+        if (ultimo) {
+            indiceAtivo = indice;
+            tamanhoAtivo = posicao;
+            gravadoAtivo = posicao;
+        } else {
+            indice.close();
+        }
+    }
+
+    /**
+     * @return posição logo após o registro, ou -1 se ele não coube inteiro no segmento
+     */
+    private static long fimDoRegistro(FileChannel dados, long posicao, long tamanho) throws IOException {
+        if (posicao + TAMANHO_CABECALHO_REGISTRO > tamanho) {
+            return -1;
+        }
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_REGISTRO);
+        lerCompleto(dados, cabecalho, posicao);
+        long fim = posicao + TAMANHO_CABECALHO_REGISTRO + cabecalho.getInt(0);
+        return fim <= tamanho ? fim : -1;
+    }
+
+    private static void verificarCabecalho(FileChannel dados, Path caminho) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_SEGMENTO);
+        if (dados.size() < TAMANHO_CABECALHO_SEGMENTO) {
+            throw new IOException("Segmento truncado: " + caminho);
+        }
+        lerCompleto(dados, cabecalho, 0);
+        if (cabecalho.getInt(0) != MAGICO) {
+            throw new IOException("Não é um segmento de medalhões: " + caminho);
+        }
+        if (cabecalho.getInt(4) != VERSAO) {
+            throw new IOException("Versão de segmento não suportada (" + cabecalho.getInt(4) + "): " + caminho);
+        }
+    }
+
+    private static void escreverCabecalho(FileChannel dados) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_SEGMENTO);
+        cabecalho.putInt(MAGICO).putInt(VERSAO).flip();
+        escreverCompleto(dados, cabecalho, 0);
+    }
+
+    private void abrirNovoSegmento() throws IOException {
+        if (indiceAtivo != null) {
+            indiceAtivo.close();
+        }
+        Path caminho = diretorio.resolve(String.format("%s%06d%s",
+                PREFIXO_SEGMENTO, segmentos.size() + 1, EXTENSAO_DADOS));
+        FileChannel dados = FileChannel.open(caminho, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE_NEW);
+        segmentos.add(dados);
+        escreverCabecalho(dados);
+        indiceAtivo = FileChannel.open(caminhoIndice(caminho), StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        tamanhoAtivo = TAMANHO_CABECALHO_SEGMENTO;
+        gravadoAtivo = TAMANHO_CABECALHO_SEGMENTO;
+    }
+
+    private static Path caminhoIndice(Path segmento) {
+        String nome = segmento.getFileName().toString();
+        return segmento.resolveSibling(nome.substring(0, nome.length() - EXTENSAO_DADOS.length()) + EXTENSAO_INDICE);
+    }
+
+    // ===== GRAVAÇÃO =====
+
+    /**
+     * Acrescenta um medalhão ao fim do segmento ativo
+     * O registro fica em buffer até o próximo descarregar (ou close)
+     *
+     * @param nome nome do usuário
+     * @param escola escola escolhida
+     * @param sinal sinal favorito
+     * @param horas horas de estudo
+     * @param cor cor do medalhão
+     * @param lema lema personalizado
+     * @param pontuacao sistema de pontuação completo
+     * @return número do registro, usado por ler(int) e nomeSegmento(int)
+     */
+    synchronized int anexar(String nome, String escola, String sinal, int horas, String cor, String lema,
+                            MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao) throws IOException {
+        byte[] bytesNome = nome.getBytes(StandardCharsets.UTF_8);
+        byte[] bytesLema = lema.getBytes(StandardCharsets.UTF_8);
+        if (bytesNome.length > 0xFFFF || bytesLema.length > 0xFFFF) {
+            throw new IllegalArgumentException("Nome ou lema longo demais para o arquivo de medalhões");
+        }
+        int tamanhoCorpo = TAMANHO_FIXO_CORPO + bytesNome.length + bytesLema.length;
+        int tamanhoRegistro = TAMANHO_CABECALHO_REGISTRO + tamanhoCorpo;
+
+        if (tamanhoAtivo + tamanhoRegistro > tamanhoMaximoSegmento && tamanhoAtivo > TAMANHO_CABECALHO_SEGMENTO) {
+            descarregar();
+            abrirNovoSegmento();
+        }
+        if (bufferDados.remaining() < tamanhoRegistro || bufferIndice.remaining() < TAMANHO_ENTRADA_INDICE) {
+            descarregar();
+        }
+
+        // O índice por período depende de momentos em ordem crescente
+        long momento = Math.max(System.currentTimeMillis(), ultimoMomento);
+        int posicao = (int) tamanhoAtivo;
+
+        int inicioCorpo = bufferDados.position() + TAMANHO_CABECALHO_REGISTRO;
+        bufferDados.putInt(tamanhoCorpo).putInt(0); // CRC preenchido depois do corpo
+        bufferDados.putLong(momento)
+                .put((byte) NucleoPontuacao.codigoEscola(escola))
+                .put((byte) NucleoPontuacao.codigoSinal(sinal))
+                .put((byte) NucleoPontuacao.codigoCor(cor))
+                .put((byte) horas)
+                .put((byte) pontuacao.getPontosEscola())
+                .put((byte) pontuacao.getPontosSinal())
+                .put((byte) pontuacao.getPontosHoras())
+                .put((byte) pontuacao.getPontosCor())
+                .put((byte) pontuacao.getBonusCombinacao())
+                .put((byte) pontuacao.getBonusPersonalizacao())
+                .putShort((short) bytesNome.length).put(bytesNome)
+                .putShort((short) bytesLema.length).put(bytesLema);
+        crc.reset();
+        crc.update(bufferDados.array(), inicioCorpo, tamanhoCorpo);
+        bufferDados.putInt(inicioCorpo - 4, (int) crc.getValue());
+
+        int hashNome = hashNome(nome);
+        bufferIndice.putLong(momento).putInt(hashNome).putInt(posicao);
+
+        tamanhoAtivo += tamanhoRegistro;
+        adicionarAoIndice(momento, hashNome, segmentos.size() - 1, posicao);
+        return quantidade - 1;
+    }
+
+    /**
+     * Envia ao disco os registros em buffer
+     * Os dados vão antes do índice: um índice nunca aponta para dados não gravados
+     */
+    synchronized void descarregar() throws IOException {
+        if (bufferDados.position() > 0) {
+            bufferDados.flip();
+            escreverCompleto(segmentoAtivo(), bufferDados, gravadoAtivo);
+            bufferDados.clear();
+            gravadoAtivo = tamanhoAtivo;
+        }
+        if (bufferIndice.position() > 0) {
+            bufferIndice.flip();
+            escreverCompleto(indiceAtivo, bufferIndice, indiceAtivo.size());
+            bufferIndice.clear();
+        }
+    }
+
+    private FileChannel segmentoAtivo() {
+        return segmentos.get(segmentos.size() - 1);
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * @return quantidade de registros no arquivo
+     */
+    synchronized int quantidade() {
+        return quantidade;
+    }
+
+    /**
+     * @param registro número do registro
+     * @return nome do arquivo de segmento que guarda o registro
+     */
+    synchronized String nomeSegmento(int registro) {
+        return String.format("%s%06d%s", PREFIXO_SEGMENTO, numerosSegmento[registro] + 1, EXTENSAO_DADOS);
+    }
+
+    /**
+     * Lê um registro pelo número
+     *
+     * @param registro número do registro, de 0 a quantidade() - 1
+     * @return medalhão gravado
+     */
+    synchronized RegistroMedalhao ler(int registro) throws IOException {
+        if (registro < 0 || registro >= quantidade) {
+            throw new IndexOutOfBoundsException("Registro inexistente: " + registro);
+        }
+        FileChannel segmento = segmentos.get(numerosSegmento[registro]);
+        if (segmento == segmentoAtivo() && posicoes[registro] >= gravadoAtivo) {
+            descarregar();
+        }
+
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_REGISTRO);
+        lerCompleto(segmento, cabecalho, posicoes[registro]);
+        ByteBuffer corpo = ByteBuffer.allocate(cabecalho.getInt(0));
+        lerCompleto(segmento, corpo, posicoes[registro] + TAMANHO_CABECALHO_REGISTRO);
+        return decodificar(corpo);
+    }
+
+    /**
+     * Busca todos os medalhões de um aprendiz (sem distinção de maiúsculas)
+     *
+     * @param nome nome do aprendiz
+     * @return registros na ordem de gravação
+     */
+    synchronized List<RegistroMedalhao> buscarPorNome(String nome) throws IOException {
+        int hash = hashNome(nome);
+        List<Integer> candidatos = new ArrayList<>();
+        for (int i = cabecas[hash & (cabecas.length - 1)]; i >= 0; i = proximos[i]) {
+            if (hashesNome[i] == hash) {
+                candidatos.add(i);
+            }
+        }
+
+        // O encadeamento vai do mais novo para o mais antigo
+        List<RegistroMedalhao> encontrados = new ArrayList<>();
+        for (int i = candidatos.size() - 1; i >= 0; i--) {
+            RegistroMedalhao registro = ler(candidatos.get(i));
+            if (registro.nome().equalsIgnoreCase(nome)) {
+                encontrados.add(registro);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Busca os medalhões criados em um intervalo de tempo (inclusive nas pontas)
+     *
+     * @param inicio momento inicial, em ms desde a época
+     * @param fim momento final, em ms desde a época
+     * @return registros na ordem de gravação
+     */
+    synchronized List<RegistroMedalhao> buscarPorPeriodo(long inicio, long fim) throws IOException {
+        List<RegistroMedalhao> encontrados = new ArrayList<>();
+        for (int i = primeiroAPartirDe(inicio); i < quantidade && momentos[i] <= fim; i++) {
+            encontrados.add(ler(i));
+        }
+        return encontrados;
+    }
+
+    /**
+     * Busca binária pelo primeiro registro criado a partir de um momento
+     */
+    private int primeiroAPartirDe(long momento) {
+        int baixo = 0;
+        int alto = quantidade;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (momentos[meio] < momento) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private static RegistroMedalhao decodificar(ByteBuffer corpo) {
+        long momento = corpo.getLong(POSICAO_MOMENTO);
+        MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao = new MedalhaoPersonalizadoTerminado.SistemaPontuacao();
+        pontuacao.setPontosEscola(corpo.get(POSICAO_COMPONENTES));
+        pontuacao.setPontosSinal(corpo.get(POSICAO_COMPONENTES + 1));
+        pontuacao.setPontosHoras(corpo.get(POSICAO_COMPONENTES + 2));
+        pontuacao.setPontosCor(corpo.get(POSICAO_COMPONENTES + 3));
+        pontuacao.setBonusCombinacao(corpo.get(POSICAO_COMPONENTES + 4));
+        pontuacao.setBonusPersonalizacao(corpo.get(POSICAO_COMPONENTES + 5));
+
+        String nome = lerTexto(corpo, POSICAO_NOME);
+        int posicaoLema = POSICAO_NOME + 2 + Short.toUnsignedInt(corpo.getShort(POSICAO_NOME));
+        String lema = lerTexto(corpo, posicaoLema);
+
+        return new RegistroMedalhao(momento, nome,
+                NucleoPontuacao.nomeEscola(corpo.get(POSICAO_ESCOLA)),
+                NucleoPontuacao.nomeSinal(corpo.get(POSICAO_SINAL)),
+                Byte.toUnsignedInt(corpo.get(POSICAO_HORAS)),
+                NucleoPontuacao.nomeCor(corpo.get(POSICAO_COR)),
+                lema, pontuacao);
+    }
+
+    /**
+     * Lê um texto gravado como short (tamanho) + bytes UTF-8
+     */
+    private static String lerTexto(ByteBuffer corpo, int posicao) {
+        int tamanho = Short.toUnsignedInt(corpo.getShort(posicao));
+        return new String(corpo.array(), corpo.arrayOffset() + posicao + 2, tamanho, StandardCharsets.UTF_8);
+    }
+
+    static int hashNome(String nome) {
+        return nome.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    // ===== MANUTENÇÃO DO ÍNDICE EM MEMÓRIA =====
+
+    private void adicionarAoIndice(long momento, int hashNome, int numeroSegmento, int posicao) {
+        if (quantidade == momentos.length) {
+            int novoTamanho = momentos.length * 2;
+            momentos = Arrays.copyOf(momentos, novoTamanho);
+            hashesNome = Arrays.copyOf(hashesNome, novoTamanho);
+            numerosSegmento = Arrays.copyOf(numerosSegmento, novoTamanho);
+            posicoes = Arrays.copyOf(posicoes, novoTamanho);
+            proximos = Arrays.copyOf(proximos, novoTamanho);
+        }
+        int registro = quantidade++;
+        momentos[registro] = momento;
+        hashesNome[registro] = hashNome;
+        numerosSegmento[registro] = numeroSegmento;
+        posicoes[registro] = posicao;
+        ultimoMomento = Math.max(ultimoMomento, momento);
+
+        if (quantidade > cabecas.length) {
+            reencadear(cabecas.length * 2);
+        } else {
+            encadear(registro);
+        }
+    }
+
+    private void encadear(int registro) {
+        int balde = hashesNome[registro] & (cabecas.length - 1);
+        proximos[registro] = cabecas[balde];
+        cabecas[balde] = registro;
+    }
+
+    /**
+     * Remove o último registro do encadeamento (usado na recuperação)
+     */
+    private void desencadear(int registro) {
+        int balde = hashesNome[registro] & (cabecas.length - 1);
+        cabecas[balde] = proximos[registro];
+    }
+
+    private void reencadear(int novoTamanho) {
+        cabecas = new int[novoTamanho];
+        Arrays.fill(cabecas, -1);
+        for (int i = 0; i < quantidade; i++) {
+            encadear(i);
+        }
+    }
+
+    // ===== E/S DE BAIXO NÍVEL =====
+
+    private static void lerCompleto(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new IOException("Fim inesperado do arquivo na posição " + posicao);
+            }
+            posicao += lidos;
+        }
+    }
+
+    private static void escreverCompleto(FileChannel canal, ByteBuffer origem, long posicao) throws IOException {
+        while (origem.hasRemaining()) {
+            posicao += canal.write(origem, posicao);
+        }
+    }
+
+    /**
+     * Descarrega os buffers e fecha todos os segmentos
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        IOException erro = null;
+        try {
+            if (!segmentos.isEmpty() && indiceAtivo != null) {
+                descarregar();
+            }
+        } catch (IOException e) {
+            erro = e;
+        }
+        List<Closeable> canais = new ArrayList<>(segmentos);
+        canais.add(indiceAtivo);
+        for (Closeable canal : canais) {
+            try {
+                if (canal != null) {
+                    canal.close();
+                }
+            } catch (IOException e) {
+                if (erro == null) {
+                    erro = e;
+                }
+            }
+        }
+        segmentos.clear();
+        indiceAtivo = null;
+        if (erro != null) {
+            throw erro;
+        }
+    }
+
+    // ===== LINHA DE COMANDO =====
+
+    /**
+     * Consulta um arquivo de medalhões e reconstrói os textos sob demanda
+     *
+     * @param args diretório, comando (listar | mostrar nome [yyyyMMdd_HHmmss] |
+     *             periodo inicio fim) e opcionalmente --saida=buffer|console|descarte
+     */
+    public static void main(String[] args) {
+        List<String> posicionais = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--saida=")) {
+                posicionais.add(arg);
+            }
+        }
+        if (posicionais.size() < 2) {
+            exibirUso();
+            System.exit(1);
+        }
+
+        Saida saida = Saida.escolher(args, Saida.porNome("buffer"));
+        Path diretorio = Path.of(posicionais.get(0));
+        if (!Files.isDirectory(diretorio)) {
+            System.err.println("❌ Diretório não encontrado: " + diretorio);
+            System.exit(1);
+        }
+
+        try (ArquivoMedalhoes arquivo = abrir(diretorio)) {
+            switch (posicionais.get(1)) {
+                case "listar" -> {
+                    for (int i = 0; i < arquivo.quantidade(); i++) {
+                        exibirLinha(saida, arquivo.ler(i));
+                    }
+                    saida.println("📦 " + arquivo.quantidade() + " medalhão(ões) arquivado(s)");
+                }
+                case "mostrar" -> {
+                    if (posicionais.size() < 3) {
+                        exibirUso();
+                        System.exit(1);
+                    }
+                    List<RegistroMedalhao> encontrados = arquivo.buscarPorNome(posicionais.get(2));
+                    if (posicionais.size() > 3) {
+                        String momento = posicionais.get(3);
+                        encontrados = encontrados.stream()
+                                .filter(r -> r.momento().format(FORMATO_MOMENTO).equals(momento))
+                                .toList();
+                    }
+                    if (encontrados.isEmpty()) {
+                        System.err.println("❌ Nenhum medalhão encontrado para: " + String.join(" ",
+                                posicionais.subList(2, posicionais.size())));
+                        saida.flush();
+                        System.exit(1);
+                    }
+                    for (RegistroMedalhao registro : encontrados) {
+                        saida.anexar(registro.emTexto());
+                    }
+                }
+                case "periodo" -> {
+                    if (posicionais.size() < 4) {
+                        exibirUso();
+                        System.exit(1);
+                    }
+                    long inicio = lerMomento(posicionais.get(2));
+                    long fim = lerMomento(posicionais.get(3)) + 999; // Inclui o segundo final inteiro
+                    List<RegistroMedalhao> encontrados = arquivo.buscarPorPeriodo(inicio, fim);
+                    for (RegistroMedalhao registro : encontrados) {
+                        exibirLinha(saida, registro);
+                    }
+                    saida.println("📦 " + encontrados.size() + " medalhão(ões) no período");
+                }
+                default -> {
+                    exibirUso();
+                    System.exit(1);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Erro ao ler o arquivo de medalhões: " + e.getMessage());
+            System.exit(1);
+        } catch (DateTimeParseException e) {
+            System.err.println("❌ Momento inválido: " + e.getParsedString() + " (use yyyyMMdd_HHmmss)");
+            System.exit(1);
+        } finally {
+            saida.flush();
+        }
+    }
+
+    private static long lerMomento(String texto) {
+        return LocalDateTime.parse(texto, FORMATO_MOMENTO).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void exibirLinha(Saida saida, RegistroMedalhao registro) {
+        saida.println("   " + registro.momento().format(FORMATO_MOMENTO)
+                + " | " + registro.nome()
+                + " | " + MedalhaoPersonalizadoTerminado.capitalizar(registro.escola())
+                + " | " + registro.pontuacao().calcularTotal() + " pts"
+                + " | " + registro.pontuacao().getClassificacao());
+    }
+
+    private static void exibirUso() {
+        System.err.println("Uso: java cap01.ArquivoMedalhoes <diretório> listar");
+        System.err.println("     java cap01.ArquivoMedalhoes <diretório> mostrar <nome> [yyyyMMdd_HHmmss]");
+        System.err.println("     java cap01.ArquivoMedalhoes <diretório> periodo <yyyyMMdd_HHmmss> <yyyyMMdd_HHmmss>");
+    }
+}
@@ -0,0 +1,129 @@
+package cap01;
+
+/**
+ * CadastroAprendizes.java
+ * <p>
+ * O cadastro de aprendizes da academia, visto pelo menu principal: uma
+ * lista só de acréscimos mais a busca por nome e os números do relatório
+ * estatístico.
+ * <p>
+ * Há duas formas de guardar os aprendizes:
+ * - objetos: RegistroAprendizes, um objeto por aprendiz no heap, com
+ *   índice de nomes e estatísticas mantidas a cada mudança (padrão)
+ * - colunar / foradoheap: RegistroColunar, campos de largura fixa e uma
+ *   arena de nomes em blocos, no heap ou fora dele; para academias
+ *   grandes demais para caber como objetos
+ * <p>
+ * Escolha com o argumento --armazenamento=objetos|colunar|foradoheap ou
+ * com a propriedade de sistema -Darmazenamento=...
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.List;
+
+interface CadastroAprendizes extends List<ExemploCompletoTerminado> {
+
+    /**
+     * Busca os aprendizes cujo nome contém o texto (sem distinção de maiúsculas)
+     *
+     * @param texto texto buscado
+     * @return aprendizes encontrados, na ordem de cadastro
+     */
+    List<ExemploCompletoTerminado> buscarPorNome(String texto);
+
+    /**
+     * Completa um nome pelo começo, sem distinção de maiúsculas nem de
+     * acentos, com um IndicePrefixos mantido a cada cadastro e renomeação
+     *
+     * @param prefixo começo do nome
+     * @param quantidade quantos aprendizes devolver, no máximo
+     * @return aprendizes em ordem alfabética dos nomes
+     */
+    List<ExemploCompletoTerminado> completarNome(String prefixo, int quantidade);
+
+    /**
+     * @return soma das idades de todos os aprendizes
+     */
+    long somaIdades();
+
+    /**
+     * @return soma dos níveis de todos os aprendizes
+     */
+    long somaNiveis();
+
+    /**
+     * @return maior nível do cadastro, ou 0 se ninguém passou do nível 0
+     */
+    int maiorNivel();
+
+    /**
+     * @return primeiro aprendiz cadastrado com o maior nível, ou null se
+     *         ninguém passou do nível 0
+     */
+    ExemploCompletoTerminado aprendizMaisExperiente();
+
+    /**
+     * @return quantos aprendizes há em cada nível, mantido a cada cadastro e treino
+     */
+    PlacarNiveis placar();
+
+    /**
+     * Primeiros do placar, sem ordenar o cadastro inteiro
+     *
+     * @param quantidade quantos aprendizes devolver
+     * @return do maior nível para o menor; empatados por ordem de cadastro
+     */
+    List<ExemploCompletoTerminado> melhores(int quantidade);
+
+    /**
+     * Passa a registrar no diário cada cadastro, limpeza e alteração de
+     * aprendiz (veja PersistenciaAcademia)
+     *
+     * @param diario diário que recebe os registros, ou null para parar
+     */
+    void definirDiario(DiarioAcademia diario);
+
+    // ===== ESCOLHA NA INICIALIZAÇÃO =====
+
+    /**
+     * Escolhe o armazenamento pelo argumento --armazenamento=... ou pela
+     * propriedade -Darmazenamento=...
+     *
+     * @param args argumentos da linha de comando
+     * @param padrao cadastro usado quando nada foi escolhido
+     * @return cadastro escolhido
+     */
+    static CadastroAprendizes escolher(String[] args, CadastroAprendizes padrao) {
+        String nome = System.getProperty("armazenamento");
+        for (String arg : args) {
+            if (arg.startsWith("--armazenamento=")) {
+                nome = arg.substring("--armazenamento=".length());
+            }
+        }
+        if (nome == null) {
+            return padrao;
+        }
+
+        CadastroAprendizes escolhido = porNome(nome);
+        if (escolhido == null) {
+            System.err.println("⚠️ Armazenamento desconhecido: " + nome + " (use objetos, colunar ou foradoheap)");
+            return padrao;
+        }
+        return escolhido;
+    }
+
+    /**
+     * @param nome objetos, colunar ou foradoheap
+     * @return novo cadastro vazio correspondente, ou null se o nome for desconhecido
+     */
+    static CadastroAprendizes porNome(String nome) {
+        return switch (nome.toLowerCase()) {
+            case "objetos" -> new RegistroAprendizes();
+            case "colunar" -> new RegistroColunar(false);
+            case "foradoheap" -> new RegistroColunar(true);
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package cap01;
+
+/**
+ * CargaAcademia.java
+ * <p>
+ * Põe a academia sob carga repetindo um RoteiroSessao gravado do console,
+ * sem terminal e sem esperar ninguém digitar, e mostra a latência de cada
+ * tipo de comando (adicionar, listar, buscar, treinar, relatório...) e a
+ * vazão total. Rodar antes e depois de uma mudança mostra se algum
+ * comando ficou mais lento.
+ * <p>
+ * Cada sessão é uma SessaoAcademia roteirizada com a saída descartada,
+ * então o que se mede é o trabalho dos comandos, não o do terminal. Os
+ * comandos são repetidos um a um, cada um só com as respostas gravadas
+ * para ele: um comando que passe a perguntar mais numa academia maior (a
+ * lista com páginas, por exemplo) não consome as respostas do seguinte, e
+ * é contado como fora do roteiro no fim.
+ * <p>
+ * Com --variantes=N são N sessões: o roteiro gravado e N-1 variantes dele
+ * (veja RoteiroSessao), todas no mesmo cadastro, divididas entre
+ * --paralelas=N threads. As variantes são geradas antes do relógio
+ * começar; a academia começa com o mesmo aprendiz de demonstração do
+ * console, então os números de aprendiz do roteiro apontam para os mesmos
+ * aprendizes.
+ * <p>
+ * A latência inclui o aquecimento da JVM: para comparar medições, use
+ * as mesmas opções e variantes o bastante para o aquecimento se diluir.
+ * <p>
+ * Uso:
+ *   java cap01.ExemploCompletoTerminado --gravar=sessao.roteiro   (grava)
+ *   java cap01.CargaAcademia --roteiro=sessao.roteiro
+ *   java cap01.CargaAcademia --roteiro=sessao.roteiro --variantes=5000 --paralelas=8
+ *   java cap01.CargaAcademia --roteiro=sessao.roteiro --variantes=5000 --armazenamento=colunar
+ * <p>
+ * Opções: --roteiro=arquivo (obrigatória), --variantes=N (sessões; padrão
+ * 1, só o roteiro), --paralelas=N (threads; padrão 1), --semente=N (sorteio
+ * das variantes), --armazenamento=objetos|colunar|foradoheap (veja
+ * CadastroAprendizes) e --dados=diretório / --instantaneo=segundos (veja
+ * PersistenciaAcademia: a latência passa a incluir a gravação no diário).
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CargaAcademia {
+
+    // ===== CONFIGURAÇÃO PADRÃO =====
+    private static final int VARIANTES_PADRAO = 1;
+    private static final int PARALELAS_PADRAO = 1;
+    private static final long SEMENTE_PADRAO = 42;
+
+    private CargaAcademia() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    // ===== MÉTODO PRINCIPAL =====
+
+    public static void main(String[] args) {
+        String arquivo = null;
+        int variantes = VARIANTES_PADRAO;
+        int paralelas = PARALELAS_PADRAO;
+        long semente = SEMENTE_PADRAO;
+
+        for (String arg : args) {
+            try {
+                if (arg.startsWith("--roteiro=")) {
+                    arquivo = arg.substring("--roteiro=".length());
+                } else if (arg.startsWith("--variantes=")) {
+                    variantes = Integer.parseInt(arg.substring("--variantes=".length()));
+                } else if (arg.startsWith("--paralelas=")) {
+                    paralelas = Integer.parseInt(arg.substring("--paralelas=".length()));
+                } else if (arg.startsWith("--semente=")) {
+                    semente = Long.parseLong(arg.substring("--semente=".length()));
+                } else if (!arg.startsWith("--armazenamento=") && !arg.startsWith("--dados=")
+                        && !arg.startsWith("--instantaneo=")) {
+                    System.err.println("❌ Opção desconhecida: " + arg);
+                    System.exit(1);
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("❌ Número inválido: " + arg);
+                System.exit(1);
+            }
+        }
+        if (arquivo == null) {
+            System.err.println("❌ Informe o roteiro: --roteiro=arquivo (grave um com "
+                    + "java cap01.ExemploCompletoTerminado --gravar=arquivo)");
+            System.exit(1);
+        }
+        if (variantes < 1 || paralelas < 1) {
+            System.err.println("❌ Use pelo menos 1 variante e 1 sessão em paralelo");
+            System.exit(1);
+        }
+
+        RoteiroSessao roteiro;
+        try {
+            roteiro = RoteiroSessao.ler(Path.of(arquivo));
+        } catch (IOException e) {
+            System.err.println("❌ Não foi possível ler o roteiro: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (roteiro.quantidadeComandos() == 0) {
+            System.err.println("❌ O roteiro não tem comandos: " + arquivo);
+            System.exit(1);
+        }
+
+        CadastroAprendizes cadastro = CadastroAprendizes.escolher(args, null);
+        if (cadastro != null) {
+            ExemploCompletoTerminado.definirCadastro(cadastro);
+        }
+        ExemploCompletoTerminado.abrirPersistencia(args);
+        try {
+            executar(roteiro, variantes, paralelas, semente);
+        } finally {
+            ExemploCompletoTerminado.fecharPersistencia();
+        }
+    }
+
+    // ===== EXECUÇÃO =====
+
+    private static void executar(RoteiroSessao roteiro, int variantes, int paralelas, long semente) {
+        Saida console = new Saida.Console();
+
+        // Mesmo aprendiz de demonstração do modo console (uma academia salva já o tem)
+        if (ExemploCompletoTerminado.quantidadeAprendizes() == 0) {
+            ExemploCompletoTerminado.cadastrarAprendiz(new ExemploCompletoTerminado("Geralt", 99, "Kaer Morhen", 95));
+        }
+
+        // Todas as variantes ficam prontas antes de medir
+        List<RoteiroSessao> roteiros = new ArrayList<>(variantes);
+        for (int numero = 0; numero < variantes; numero++) {
+            roteiros.add(roteiro.variante(numero, semente));
+        }
+
+        console.println("🚀 Repetindo " + variantes + " sessão(ões) de " + roteiro.quantidadeComandos()
+                + " comando(s), " + paralelas + " em paralelo");
+        console.flush();
+
+        LatenciaComandos latencias = new LatenciaComandos();
+        List<Future<Integer>> sessoes = new ArrayList<>(variantes);
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(paralelas)) {
+            for (RoteiroSessao variante : roteiros) {
+                sessoes.add(executor.submit(() -> SessaoAcademia.roteirizada(
+                        variante, new Saida.Descarte(), latencias).repetirRoteiro()));
+            }
+        }
+        long nanos = System.nanoTime() - inicio;
+
+        int falhas = 0;
+        long foraDoRoteiro = 0;
+        for (Future<Integer> sessao : sessoes) {
+            try {
+                foraDoRoteiro += sessao.get();
+            } catch (ExecutionException e) {
+                if (falhas++ == 0) {
+                    System.err.println("❌ Sessão interrompida por um erro: " + e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        double segundos = nanos / 1e9;
+        long comandos = latencias.total();
+        console.println("\n📈 LATÊNCIA POR COMANDO");
+        latencias.exibir(console);
+        console.println(String.format("%n⏱️ %d comandos em %.3f s: %.0f comandos/s · %.1f sessões/s",
+                comandos, segundos, comandos / segundos, variantes / segundos));
+        console.println("👥 Aprendizes no fim: " + ExemploCompletoTerminado.quantidadeAprendizes()
+                + " · comandos fora do roteiro: " + foraDoRoteiro
+                + (falhas == 0 ? "" : " · ❌ sessões com erro: " + falhas));
+        console.flush();
+    }
+}
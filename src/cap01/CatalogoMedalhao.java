@@ -0,0 +1,188 @@
+package cap01;
+
+/**
+ * CatalogoMedalhao.java
+ * <p>
+ * Catálogo único do domínio do medalhão: tudo o que se sabe de cada
+ * escola, sinal, cor, borda e símbolo pessoal (desenho, elemento,
+ * descrição do menu e pontos) fica aqui, em vetores paralelos indexados
+ * pelo mesmo código do Vocabulario e do NucleoPontuacao.
+ * <p>
+ * Os prompts montam os menus, a pontuação consulta os pontos e o desenho
+ * do medalhão busca o símbolo, o elemento e o caractere da borda nestes
+ * vetores, então forjar um medalhão percorre uma tabela pequena e
+ * contígua em vez de uma escada de comparações por atributo.
+ * <p>
+ * Em escolas, sinais, cores e bordas, a última posição é o valor usado
+ * para um código desconhecido (ESCOLA_DESCONHECIDA etc.), como nas
+ * tabelas de pontuação.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+final class CatalogoMedalhao {
+
+    // ===== ESCOLAS (mesma ordem de ESCOLAS_VALIDAS) =====
+    private static final String[] SIMBOLOS_ESCOLAS = {"🐺", "🦅", "🐱", "🐍", "🐻", "🦁", "⚔️"};
+    private static final String[] DESCRICOES_ESCOLAS = {
+            "Versátil e adaptável",
+            "Nobre e preciso",
+            "Ágil e furtivo",
+            "Místico e venenoso",
+            "Forte e resistente",
+            "Raro e poderoso",
+            "Escola desconhecida"
+    };
+    // Algumas escolas são mais raras/difíceis: Manticora 35, Lobo 30, Grifo e Víbora 25, Gato e Urso 20
+    private static final int[] PONTOS_ESCOLAS = {30, 25, 20, 25, 20, 35, 15};
+
+    // ===== SINAIS (mesma ordem de SINAIS_VALIDOS) =====
+    private static final String[] ICONES_SINAIS = {"🔥", "🛡️", "💨", "🌀", "⭕", "✨"};
+    private static final String[] NOMES_ELEMENTOS = {"FOGO", "PROTEÇÃO", "FORÇA", "MENTE", "ARMADILHA", "MAGIA"};
+    private static final String[] DESCRICOES_SINAIS = {
+            "Fogo devastador",
+            "Escudo protetor",
+            "Onda de choque",
+            "Controle mental",
+            "Armadilha mágica",
+            "Sinal desconhecido"
+    };
+    // Dificuldade de domínio: Axii 40, Yrden 35, Igni 30, Quen e Aard 25
+    private static final int[] PONTOS_SINAIS = {30, 25, 25, 40, 35, 20};
+
+    // Ícone e elemento juntos ("🔥 FOGO"), montados uma vez
+    private static final String[] ELEMENTOS_SINAIS = new String[ICONES_SINAIS.length];
+
+    static {
+        for (int sinal = 0; sinal < ELEMENTOS_SINAIS.length; sinal++) {
+            ELEMENTOS_SINAIS[sinal] = ICONES_SINAIS[sinal] + " " + NOMES_ELEMENTOS[sinal];
+        }
+    }
+
+    // ===== CORES (mesma ordem de CORES_VALIDAS) =====
+    private static final String[] ICONES_CORES = {"🥈", "🥇", "🥉", "💎", "💚", "💜", "🎨"};
+    private static final String[] DESCRICOES_CORES = {
+            "Clássica e elegante",
+            "Luxuosa e brilhante",
+            "Rústica e durável",
+            "Vermelha e poderosa",
+            "Verde e mística",
+            "Roxa e enigmática",
+            "Cor desconhecida"
+    };
+    // Pedras preciosas 15, ouro 12, prata 10, bronze 8
+    private static final int[] PONTOS_CORES = {10, 12, 8, 15, 15, 15, 5};
+
+    // ===== BORDAS (mesma ordem de BORDAS_VALIDAS) =====
+    static final int BORDA_DESCONHECIDA = 5;
+    private static final String[] CARACTERES_BORDAS = {"═", "║", "▓", "✦", "♦", "─"};
+    private static final String[] AMOSTRAS_BORDAS = {"═══", "║││", "▓▓▓", "✦✦✦", "♦♦♦", "───"};
+    private static final String[] DESCRICOES_BORDAS = {
+            "Clean e minimalista",
+            "Elegante e forte",
+            "Rica em detalhes",
+            "Símbolos mágicos",
+            "Feita para reis",
+            "Borda desconhecida"
+    };
+
+    // ===== SÍMBOLOS PESSOAIS (mesma ordem de SIMBOLOS_VALIDOS; o menu numera a partir de 1) =====
+    private static final String[] SIMBOLOS_PESSOAIS = {"⚔️", "🛡️", "📚", "🔥", "⚡", "🌟"};
+    private static final String[] DESCRICOES_SIMBOLOS = {
+            "Determinação e coragem",
+            "Proteção e defesa",
+            "Conhecimento e sabedoria",
+            "Paixão e energia",
+            "Velocidade e poder",
+            "Aspiração e brilho"
+    };
+
+    private CatalogoMedalhao() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    // ===== CONSULTAS =====
+    // Os códigos vêm do NucleoPontuacao (codigoEscola etc.) e de codigoBorda, sempre dentro da tabela
+
+    static String simboloEscola(int escola) {
+        return SIMBOLOS_ESCOLAS[escola];
+    }
+
+    static String descricaoEscola(int escola) {
+        return DESCRICOES_ESCOLAS[escola];
+    }
+
+    static int pontosEscola(int escola) {
+        return PONTOS_ESCOLAS[escola];
+    }
+
+    static String iconeSinal(int sinal) {
+        return ICONES_SINAIS[sinal];
+    }
+
+    /**
+     * @return ícone e elemento do sinal, como aparecem no medalhão ("🔥 FOGO")
+     */
+    static String elementoSinal(int sinal) {
+        return ELEMENTOS_SINAIS[sinal];
+    }
+
+    static String descricaoSinal(int sinal) {
+        return DESCRICOES_SINAIS[sinal];
+    }
+
+    static int pontosSinal(int sinal) {
+        return PONTOS_SINAIS[sinal];
+    }
+
+    static String iconeCor(int cor) {
+        return ICONES_CORES[cor];
+    }
+
+    static String descricaoCor(int cor) {
+        return DESCRICOES_CORES[cor];
+    }
+
+    static int pontosCor(int cor) {
+        return PONTOS_CORES[cor];
+    }
+
+    /**
+     * @param borda nome da borda, com qualquer caixa ou acentuação
+     * @return código da borda, ou BORDA_DESCONHECIDA
+     */
+    static int codigoBorda(String borda) {
+        int codigo = Vocabulario.atual().resolver(Vocabulario.Categoria.BORDA, borda);
+        return codigo == Vocabulario.NENHUM ? BORDA_DESCONHECIDA : codigo;
+    }
+
+    /**
+     * @return caractere repetido nas linhas da borda
+     */
+    static String caractereBorda(int borda) {
+        return CARACTERES_BORDAS[borda];
+    }
+
+    /**
+     * @return amostra de três caracteres exibida no menu de bordas
+     */
+    static String amostraBorda(int borda) {
+        return AMOSTRAS_BORDAS[borda];
+    }
+
+    static String descricaoBorda(int borda) {
+        return DESCRICOES_BORDAS[borda];
+    }
+
+    /**
+     * @param simbolo código do símbolo (o número do menu menos 1)
+     * @return emoji do símbolo, ou null se o código não existir
+     */
+    static String simboloPessoal(int simbolo) {
+        return simbolo >= 0 && simbolo < SIMBOLOS_PESSOAIS.length ? SIMBOLOS_PESSOAIS[simbolo] : null;
+    }
+
+    static String descricaoSimbolo(int simbolo) {
+        return DESCRICOES_SIMBOLOS[simbolo];
+    }
+}
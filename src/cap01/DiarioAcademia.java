@@ -0,0 +1,728 @@
+package cap01;
+
+/**
+ * DiarioAcademia.java
+ * <p>
+ * Diário (write-ahead log) das alterações do cadastro de aprendizes.
+ * <p>
+ * Cada cadastro, treino e setter vira um registro binário pequeno
+ * acrescentado ao diário, dividido em segmentos (diario_000001.log,
+ * diario_000002.log, ...). Os registros guardam o valor que o campo ficou,
+ * não a diferença: reaplicar um registro duas vezes dá o mesmo resultado,
+ * o que permite tirar o instantâneo da academia sem parar os operadores
+ * (veja PersistenciaAcademia).
+ * <p>
+ * Gravação em grupo (group commit): os registros são acumulados em
+ * memória e uma única thread grava e sincroniza (fsync) o lote inteiro.
+ * Quem precisa da garantia de durabilidade chama confirmar(), que espera
+ * o lote do seu último registro chegar ao disco; com muitos operadores,
+ * um só fsync confirma as alterações de todos. Sem ninguém esperando, o
+ * lote é gravado a cada poucos milissegundos.
+ * <p>
+ * Formato de um registro (inteiros em big-endian, como em ArquivoMedalhoes):
+ *   int tamanho do corpo | int CRC32 do corpo |
+ *   byte tipo | int id do aprendiz | dados do tipo
+ * Dados: cadastro (int nível, int idade, short + UTF-8 da escola,
+ * short + UTF-8 do nome), nome e escola (short + UTF-8), nível e idade
+ * (int), limpeza (nada).
+ * <p>
+ * Se o programa parar no meio de uma gravação, a abertura seguinte
+ * descarta o registro incompleto do fim do último segmento.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+final class DiarioAcademia implements Closeable {
+
+    // ===== FORMATO DOS ARQUIVOS =====
+
+    // Cabeçalho de cada segmento: "DIAR" + versão do formato
+    static final int MAGICO = 0x44494152;
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO_SEGMENTO = 8;
+
+    // Tamanho do corpo + CRC32 do corpo
+    static final int TAMANHO_CABECALHO_REGISTRO = 8;
+
+    // Tipo (1 byte) + id do aprendiz (4 bytes)
+    private static final int TAMANHO_MINIMO_CORPO = 5;
+
+    // Tipos de registro
+    private static final byte CADASTRO = 1;
+    private static final byte NOME = 2;
+    private static final byte NIVEL = 3;
+    private static final byte ESCOLA = 4;
+    private static final byte IDADE = 5;
+    private static final byte LIMPEZA = 6;
+
+    private static final String PREFIXO_SEGMENTO = "diario_";
+    private static final String EXTENSAO = ".log";
+
+    // Tamanho a partir do qual um novo segmento é aberto (64 MB)
+    static final long TAMANHO_SEGMENTO_PADRAO = 64L << 20;
+
+    // Cada um dos dois buffers: um recebe registros enquanto o outro é gravado
+    private static final int TAMANHO_BUFFER = 1 << 20;
+
+    // Maior espera de um registro no buffer quando ninguém pediu confirmação
+    private static final long JANELA_GRAVACAO_MS = 10;
+
+    // Maior nome ou escola que cabe num registro (tamanho em 2 bytes), em bytes UTF-8
+    private static final int TAMANHO_MAXIMO_TEXTO = 0xFFFF;
+
+    // ===== ESTADO =====
+
+    private final Path diretorio;
+    private final long tamanhoMaximoSegmento;
+    private final Thread gravador;
+
+    // Trava do diário: ReentrantLock em vez de monitor, porque quem acrescenta
+    // registros espera por espaço e confirmação, e um monitor prenderia a
+    // thread portadora das sessões em threads virtuais durante a espera
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Condition haTrabalho = trava.newCondition();  // A gravadora tem o que fazer
+    private final Condition espacoLivre = trava.newCondition(); // Os buffers foram trocados
+    private final Condition gravado = trava.newCondition();     // duravel avançou, ou houve erro
+
+    // Guardados pela trava do diário
+    private ByteBuffer atual = ByteBuffer.allocate(TAMANHO_BUFFER);
+    private ByteBuffer emGravacao = ByteBuffer.allocate(TAMANHO_BUFFER);
+    private final CRC32 crc = new CRC32();
+    private int inicioRegistro;        // Posição em atual do registro em construção
+    private long anexado;              // Bytes de registros acrescentados desde a abertura
+    private long duravel;              // Quanto de anexado já foi sincronizado com o disco
+    private long anexadoNaRotacao;     // Valor de anexado na última rotação
+    private int aguardando;            // Threads esperando em confirmar()
+    private boolean rotacaoPedida;
+    private int numeroSegmento;        // Segmento que recebe os próximos lotes
+    private boolean fechado;
+    private IOException erro;
+
+    // Só a thread gravadora usa (depois da abertura)
+    private FileChannel canal;
+    private long tamanhoSegmento;
+
+    // Resultado da reaplicação feita na abertura
+    private long registrosReaplicados;
+
+    private DiarioAcademia(Path diretorio, long tamanhoMaximoSegmento) {
+        this.diretorio = diretorio;
+        this.tamanhoMaximoSegmento = tamanhoMaximoSegmento;
+        this.gravador = Thread.ofPlatform().daemon().name("diario-gravador").unstarted(this::gravarContinuamente);
+    }
+
+    /**
+     * Reaplica o diário a partir de um segmento e o deixa pronto para novos registros
+     *
+     * @param diretorio diretório dos segmentos
+     * @param segmentoInicial primeiro segmento a reaplicar (o do instantâneo carregado, ou 1)
+     * @param destino cadastro que recebe as alterações; ainda sem diário
+     * @return diário aberto, com a thread gravadora em execução
+     */
+    static DiarioAcademia abrir(Path diretorio, int segmentoInicial, CadastroAprendizes destino) throws IOException {
+        return abrir(diretorio, segmentoInicial, destino, TAMANHO_SEGMENTO_PADRAO);
+    }
+
+    /**
+     * @param tamanhoMaximoSegmento tamanho a partir do qual um novo segmento é aberto
+     */
+    static DiarioAcademia abrir(Path diretorio, int segmentoInicial, CadastroAprendizes destino,
+                                long tamanhoMaximoSegmento) throws IOException {
+        Files.createDirectories(diretorio);
+        DiarioAcademia diario = new DiarioAcademia(diretorio, tamanhoMaximoSegmento);
+        try {
+            diario.reaplicar(segmentoInicial, destino);
+        } catch (IOException | RuntimeException e) {
+            if (diario.canal != null) {
+                diario.canal.close();
+            }
+            throw e;
+        }
+        diario.gravador.start();
+        return diario;
+    }
+
+    // ===== ABERTURA E REAPLICAÇÃO =====
+
+    /**
+     * @return números dos segmentos existentes, em ordem crescente
+     */
+    static int[] listarSegmentos(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .map(p -> p.getFileName().toString())
+                    .filter(nome -> nome.matches(PREFIXO_SEGMENTO + "\\d+\\" + EXTENSAO))
+                    .mapToInt(nome -> Integer.parseInt(
+                            nome.substring(PREFIXO_SEGMENTO.length(), nome.length() - EXTENSAO.length())))
+                    .sorted()
+                    .toArray();
+        }
+    }
+
+    private Path caminhoSegmento(int numero) {
+        return diretorio.resolve(String.format("%s%06d%s", PREFIXO_SEGMENTO, numero, EXTENSAO));
+    }
+
+    private void reaplicar(int segmentoInicial, CadastroAprendizes destino) throws IOException {
+        int[] existentes = listarSegmentos(diretorio);
+        int ultimoReaplicado = 0;
+        for (int i = 0; i < existentes.length; i++) {
+            int numero = existentes[i];
+            if (numero < segmentoInicial) {
+                continue; // Já está no instantâneo
+            }
+            if (ultimoReaplicado > 0 && numero != ultimoReaplicado + 1) {
+                throw new IOException("Falta o segmento " + (ultimoReaplicado + 1) + " do diário");
+            }
+            if (ultimoReaplicado == 0 && numero != segmentoInicial) {
+                throw new IOException("Falta o segmento " + segmentoInicial + " do diário");
+            }
+            reaplicarSegmento(numero, i == existentes.length - 1, destino);
+            ultimoReaplicado = numero;
+        }
+
+        if (ultimoReaplicado == 0) {
+            // Diário novo, ou todo ele já coberto pelo instantâneo
+            abrirNovoSegmento(Math.max(segmentoInicial, 1));
+        }
+    }
+
+    /**
+     * Reaplica os registros de um segmento; no último, descarta o registro
+     * incompleto do fim e continua a gravar nele
+     */
+    private void reaplicarSegmento(int numero, boolean ultimo, CadastroAprendizes destino) throws IOException {
+        Path caminho = caminhoSegmento(numero);
+        FileChannel dados = FileChannel.open(caminho, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean manterAberto = false;
+        try {
+            long tamanho = dados.size();
+            if (tamanho < TAMANHO_CABECALHO_SEGMENTO && ultimo) {
+                // Segmento criado mas interrompido antes do cabeçalho
+                dados.truncate(0);
+                escreverCabecalho(dados);
+                tamanho = TAMANHO_CABECALHO_SEGMENTO;
+            }
+            if (tamanho > Integer.MAX_VALUE) {
+                throw new IOException("Segmento do diário grande demais: " + caminho);
+            }
+
+            MappedByteBuffer mapa = dados.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+            verificarCabecalho(mapa, caminho);
+            int posicao = TAMANHO_CABECALHO_SEGMENTO;
+            while (posicao + TAMANHO_CABECALHO_REGISTRO <= tamanho) {
+                int tamanhoCorpo = mapa.getInt(posicao);
+                int crcEsperado = mapa.getInt(posicao + 4);
+                if (tamanhoCorpo < TAMANHO_MINIMO_CORPO
+                        || posicao + TAMANHO_CABECALHO_REGISTRO + (long) tamanhoCorpo > tamanho) {
+                    break;
+                }
+                ByteBuffer corpo = mapa.slice(posicao + TAMANHO_CABECALHO_REGISTRO, tamanhoCorpo);
+                crc.reset();
+                crc.update(corpo.duplicate());
+                if ((int) crc.getValue() != crcEsperado) {
+                    break;
+                }
+                aplicar(corpo, destino);
+                registrosReaplicados++;
+                posicao += TAMANHO_CABECALHO_REGISTRO + tamanhoCorpo;
+            }
+
+            if (posicao < tamanho) {
+                if (!ultimo) {
+                    throw new IOException("Registro corrompido no meio do diário: " + caminho.getFileName()
+                            + ", posição " + posicao);
+                }
+                System.err.println("⚠️ " + caminho.getFileName() + ": registro incompleto descartado ("
+                        + (tamanho - posicao) + " bytes)");
+                dados.truncate(posicao);
+            }
+
+            if (ultimo) {
+                canal = dados;
+                tamanhoSegmento = posicao;
+                numeroSegmento = numero;
+                manterAberto = true;
+            }
+        } finally {
+            if (!manterAberto) {
+                dados.close();
+            }
+        }
+    }
+
+    /**
+     * Aplica um registro ao cadastro
+     * Cadastros de ids já existentes (vindos de um instantâneo tirado com
+     * operadores ativos) sobrescrevem os campos pelos setters
+     */
+    private static void aplicar(ByteBuffer corpo, CadastroAprendizes destino) throws IOException {
+        byte tipo = corpo.get(0);
+        int id = corpo.getInt(1);
+        if (tipo == LIMPEZA) {
+            destino.clear();
+            return;
+        }
+        if (id < 0 || id > destino.size() || (id == destino.size() && tipo != CADASTRO)) {
+            throw new IOException("Diário inconsistente: registro do tipo " + tipo + " para o aprendiz " + id
+                    + " com " + destino.size() + " cadastrado(s)");
+        }
+
+        switch (tipo) {
+            case CADASTRO -> {
+                int nivel = corpo.getInt(5);
+                int idade = corpo.getInt(9);
+                String escola = lerTexto(corpo, 13);
+                String nome = lerTexto(corpo, 13 + 2 + Short.toUnsignedInt(corpo.getShort(13)));
+                if (id == destino.size()) {
+                    destino.add(new ExemploCompletoTerminado(nome, nivel, escola, idade));
+                } else {
+                    ExemploCompletoTerminado aprendiz = destino.get(id);
+                    aprendiz.setNomeAprendiz(nome);
+                    aprendiz.setNivelHabilidade(nivel);
+                    aprendiz.setEscolaOrigem(escola);
+                    aprendiz.setIdade(idade);
+                }
+            }
+            case NOME -> destino.get(id).setNomeAprendiz(lerTexto(corpo, 5));
+            case NIVEL -> destino.get(id).setNivelHabilidade(corpo.getInt(5));
+            case ESCOLA -> destino.get(id).setEscolaOrigem(lerTexto(corpo, 5));
+            case IDADE -> destino.get(id).setIdade(corpo.getInt(5));
+            default -> throw new IOException("Tipo de registro desconhecido no diário: " + tipo);
+        }
+    }
+
+    private static String lerTexto(ByteBuffer corpo, int posicao) {
+        byte[] bytes = new byte[Short.toUnsignedInt(corpo.getShort(posicao))];
+        corpo.get(posicao + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void verificarCabecalho(ByteBuffer segmento, Path caminho) throws IOException {
+        if (segmento.limit() < TAMANHO_CABECALHO_SEGMENTO) {
+            throw new IOException("Segmento truncado: " + caminho);
+        }
+        if (segmento.getInt(0) != MAGICO) {
+            throw new IOException("Não é um segmento do diário da academia: " + caminho);
+        }
+        if (segmento.getInt(4) != VERSAO) {
+            throw new IOException("Versão de diário não suportada (" + segmento.getInt(4) + "): " + caminho);
+        }
+    }
+
+    private static void escreverCabecalho(FileChannel dados) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_SEGMENTO);
+        cabecalho.putInt(MAGICO).putInt(VERSAO).flip();
+        escreverCompleto(dados, cabecalho, 0);
+    }
+
+    /**
+     * Fecha o segmento atual (se houver) e começa outro
+     * Na abertura, ou na thread gravadora
+     */
+    private void abrirNovoSegmento(int numero) throws IOException {
+        FileChannel novo = FileChannel.open(caminhoSegmento(numero), StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+        try {
+            escreverCabecalho(novo);
+            novo.force(true);
+        } catch (IOException e) {
+            novo.close();
+            throw e;
+        }
+        if (canal != null) {
+            canal.close();
+        }
+        canal = novo;
+        tamanhoSegmento = TAMANHO_CABECALHO_SEGMENTO;
+        trava.lock();
+        try {
+            numeroSegmento = numero;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * @return registros reaplicados na abertura
+     */
+    long registrosReaplicados() {
+        return registrosReaplicados;
+    }
+
+    // ===== REGISTROS =====
+    // Chamados pelos cadastros logo depois de cada alteração, com uma trava
+    // que impede outra alteração do mesmo aprendiz no meio: a ordem dos
+    // registros de um aprendiz é a ordem em que os valores ficaram
+
+    void cadastrado(int id, ExemploCompletoTerminado aprendiz) {
+        byte[] escola = emBytes(aprendiz.getEscolaOrigem());
+        byte[] nome = emBytes(aprendiz.getNomeAprendiz());
+        trava.lock();
+        try {
+            ByteBuffer corpo = iniciar(CADASTRO, id, 4 + 4 + 2 + escola.length + 2 + nome.length);
+            corpo.putInt(aprendiz.getNivelHabilidade()).putInt(aprendiz.getIdade());
+            corpo.putShort((short) escola.length).put(escola);
+            corpo.putShort((short) nome.length).put(nome);
+            concluir();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    void nomeAlterado(int id, String nome) {
+        anexarTexto(NOME, id, emBytes(nome));
+    }
+
+    void escolaAlterada(int id, String escola) {
+        anexarTexto(ESCOLA, id, emBytes(escola));
+    }
+
+    void nivelAlterado(int id, int nivel) {
+        anexarNumero(NIVEL, id, nivel);
+    }
+
+    void idadeAlterada(int id, int idade) {
+        anexarNumero(IDADE, id, idade);
+    }
+
+    /**
+     * O cadastro foi esvaziado
+     */
+    void cadastroLimpo() {
+        trava.lock();
+        try {
+            iniciar(LIMPEZA, -1, 0);
+            concluir();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void anexarTexto(byte tipo, int id, byte[] texto) {
+        trava.lock();
+        try {
+            iniciar(tipo, id, 2 + texto.length).putShort((short) texto.length).put(texto);
+            concluir();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void anexarNumero(byte tipo, int id, int valor) {
+        trava.lock();
+        try {
+            iniciar(tipo, id, 4).putInt(valor);
+            concluir();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private static byte[] emBytes(String texto) {
+        byte[] bytes = (texto == null ? "" : texto).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > TAMANHO_MAXIMO_TEXTO) {
+            throw new IllegalArgumentException("Texto longo demais para o diário da academia");
+        }
+        return bytes;
+    }
+
+    /**
+     * Recusa um nome ou escola que não caberia num registro
+     * Os cadastros chamam antes de mudar a memória: um aprendiz que o
+     * diário recusasse depois ficaria fora dele, e o instantâneo falharia
+     *
+     * @throws IllegalArgumentException com a mesma mensagem de um registro recusado
+     */
+    static void verificarTexto(String texto) {
+        // Até um terço do limite em chars sempre cabe: nenhum char passa de 3 bytes
+        if (texto != null && texto.length() > TAMANHO_MAXIMO_TEXTO / 3 && bytesUtf8(texto) > TAMANHO_MAXIMO_TEXTO) {
+            throw new IllegalArgumentException("Texto longo demais para o diário da academia");
+        }
+    }
+
+    // Tamanho em UTF-8 sem codificar (um surrogate sozinho vira '?', como em getBytes)
+    private static int bytesUtf8(String texto) {
+        int bytes = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < texto.length()
+                    && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Reserva espaço no buffer e escreve o cabeçalho e o começo do corpo
+     * Chamado com a trava do diário
+     *
+     * @param tamanhoDados bytes depois do tipo e do id
+     * @return buffer posicionado para os dados do tipo
+     */
+    private ByteBuffer iniciar(byte tipo, int id, int tamanhoDados) {
+        int tamanhoRegistro = TAMANHO_CABECALHO_REGISTRO + TAMANHO_MINIMO_CORPO + tamanhoDados;
+        while (true) {
+            verificarAberto();
+            if (atual.remaining() >= tamanhoRegistro) {
+                break;
+            }
+            haTrabalho.signal(); // Buffer cheio: a gravadora troca os buffers
+            espacoLivre.awaitUninterruptibly(); // O registro não pode ser perdido: espera assim mesmo
+        }
+        if (atual.position() == 0) {
+            haTrabalho.signal(); // A gravadora dorme enquanto não há nada a gravar
+        }
+        inicioRegistro = atual.position();
+        return atual.putInt(tamanhoRegistro - TAMANHO_CABECALHO_REGISTRO).putInt(0).put(tipo).putInt(id);
+    }
+
+    /**
+     * Preenche o CRC do registro em construção
+     */
+    private void concluir() {
+        int inicioCorpo = inicioRegistro + TAMANHO_CABECALHO_REGISTRO;
+        crc.reset();
+        crc.update(atual.array(), inicioCorpo, atual.position() - inicioCorpo);
+        atual.putInt(inicioRegistro + 4, (int) crc.getValue());
+        anexado += atual.position() - inicioRegistro;
+    }
+
+    private void verificarAberto() {
+        verificarErro();
+        if (fechado) {
+            throw new IllegalStateException("Diário da academia fechado");
+        }
+    }
+
+    private void verificarErro() {
+        if (erro != null) {
+            throw new UncheckedIOException("Falha ao gravar o diário da academia", erro);
+        }
+    }
+
+    // ===== DURABILIDADE =====
+
+    /**
+     * Espera todos os registros acrescentados até agora chegarem ao disco
+     * Várias threads confirmando ao mesmo tempo compartilham o mesmo fsync
+     */
+    void confirmar() {
+        trava.lock();
+        try {
+            long alvo = anexado;
+            if (duravel >= alvo) {
+                return;
+            }
+            aguardando++;
+            haTrabalho.signal();
+            try {
+                // Mesmo com o diário sendo fechado, a gravadora grava tudo antes de terminar
+                while (duravel < alvo) {
+                    verificarErro();
+                    gravado.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Confirmação do diário interrompida"));
+            } finally {
+                aguardando--;
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Passa a gravar em um segmento novo
+     * Tudo o que foi acrescentado antes da chamada fica nos segmentos anteriores
+     *
+     * @return número do segmento novo
+     */
+    int rotacionar() {
+        trava.lock();
+        try {
+            verificarAberto();
+            rotacaoPedida = true;
+            haTrabalho.signal();
+            while (rotacaoPedida) {
+                verificarErro();
+                gravado.await();
+            }
+            anexadoNaRotacao = anexado;
+            return numeroSegmento;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Rotação do diário interrompida"));
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * @return bytes acrescentados desde a última rotação
+     */
+    long anexadoDesdeRotacao() {
+        trava.lock();
+        try {
+            return anexado - anexadoNaRotacao;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Apaga os segmentos anteriores a um número (já cobertos por um instantâneo)
+     */
+    void descartarAnteriores(int numero) throws IOException {
+        for (int existente : listarSegmentos(diretorio)) {
+            if (existente < numero) {
+                Files.deleteIfExists(caminhoSegmento(existente));
+            }
+        }
+    }
+
+    /**
+     * Laço da thread gravadora: troca os buffers, grava o lote, sincroniza
+     * e avisa quem está esperando
+     */
+    private void gravarContinuamente() {
+        while (true) {
+            ByteBuffer lote;
+            long alvo;
+            boolean rotacionar;
+            trava.lock();
+            try {
+                try {
+                    while (atual.position() == 0 && !rotacaoPedida && !fechado) {
+                        haTrabalho.await();
+                    }
+                    // Janela do group commit: sem ninguém esperando, junta mais registros
+                    if (aguardando == 0 && !rotacaoPedida && !fechado && atual.position() < TAMANHO_BUFFER / 2) {
+                        haTrabalho.await(JANELA_GRAVACAO_MS, TimeUnit.MILLISECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    // Só o próprio diário interrompe esta thread: segue para gravar o que há
+                }
+                if (fechado && atual.position() == 0 && !rotacaoPedida) {
+                    return;
+                }
+                lote = atual;
+                atual = emGravacao;
+                atual.clear();
+                emGravacao = lote;
+                alvo = anexado;
+                rotacionar = rotacaoPedida;
+                espacoLivre.signalAll(); // Quem esperava espaço no buffer já pode continuar
+            } finally {
+                trava.unlock();
+            }
+
+            try {
+                lote.flip();
+                int bytes = lote.remaining();
+                escreverCompleto(canal, lote, tamanhoSegmento);
+                canal.force(false);
+                tamanhoSegmento += bytes;
+                if (rotacionar || tamanhoSegmento >= tamanhoMaximoSegmento) {
+                    abrirNovoSegmento(numeroSegmento + 1);
+                }
+            } catch (IOException e) {
+                trava.lock();
+                try {
+                    erro = e;
+                    espacoLivre.signalAll();
+                    gravado.signalAll();
+                } finally {
+                    trava.unlock();
+                }
+                return;
+            }
+
+            trava.lock();
+            try {
+                duravel = alvo;
+                if (rotacionar) {
+                    rotacaoPedida = false;
+                }
+                gravado.signalAll();
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    // ===== E/S DE BAIXO NÍVEL =====
+
+    private static void escreverCompleto(FileChannel canal, ByteBuffer origem, long posicao) throws IOException {
+        while (origem.hasRemaining()) {
+            posicao += canal.write(origem, posicao);
+        }
+    }
+
+    /**
+     * Grava e sincroniza o que falta e fecha o segmento atual
+     */
+    @Override
+    public void close() throws IOException {
+        trava.lock();
+        try {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            haTrabalho.signal();
+            espacoLivre.signalAll(); // Quem esperava espaço encontra o diário fechado
+        } finally {
+            trava.unlock();
+        }
+        boolean interrompido = false;
+        while (gravador.isAlive()) {
+            try {
+                gravador.join();
+            } catch (InterruptedException e) {
+                interrompido = true; // Fechar sem esperar perderia o último lote
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+        canal.close();
+        trava.lock();
+        try {
+            if (erro != null) {
+                throw erro;
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package cap01;
+
+/**
+ * EstatisticasAcademia.java
+ * <p>
+ * Agregados do relatório estatístico da academia, mantidos a cada mudança
+ * em vez de recalculados percorrendo todos os aprendizes.
+ * <p>
+ * Guarda o total, a soma das idades e a soma dos níveis, além de um mapa
+ * nível -> aprendizes naquele nível (um BitSet de ids). O aprendiz mais
+ * experiente é o primeiro da lista com o maior nível, exatamente como no
+ * laço original; para isso cada nível guarda também o menor id presente,
+ * que só precisa ser procurado de novo quando esse aprendiz sai do nível.
+ * Os mesmos mapas dão os primeiros do placar sem ordenar ninguém: basta
+ * descer os níveis lendo os ids de cada um em ordem; as contagens por
+ * nível ficam em um PlacarNiveis.
+ * <p>
+ * Atualizado pelo RegistroAprendizes nos cadastros e pelos setters de
+ * nível e idade de ExemploCompletoTerminado.
+ * <p>
+ * Seguro para vários operadores ao mesmo tempo:
+ * - As somas são LongAdder: atualizações de idade e nível chegam como
+ *   diferenças, que podem ser aplicadas em qualquer ordem
+ * - Cada nível tem a sua própria trava (o próprio AprendizesNoNivel)
+ * - A mudança de nível de um aprendiz é serializada por uma trava listrada
+ *   escolhida pelo id; ela sempre lê o nível atual do aprendiz, então
+ *   treinos simultâneos terminam com o aprendiz no nível certo
+ * - As consultas não travam nada além do nível consultado: sob escrita
+ *   simultânea o relatório é um retrato aproximado, nunca inconsistente
+ *   por muito tempo
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EstatisticasAcademia {
+
+    // Quantidade de travas listradas (potência de 2)
+    private static final int QUANTIDADE_TRAVAS = 64;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder somaIdades = new LongAdder();
+    private final LongAdder somaNiveis = new LongAdder();
+
+    // Nível -> aprendizes nesse nível; níveis esvaziados continuam no mapa
+    // (removê-los disputaria com quem está entrando neles)
+    private final ConcurrentSkipListMap<Integer, AprendizesNoNivel> porNivel = new ConcurrentSkipListMap<>();
+
+    private final PlacarNiveis placar = new PlacarNiveis();
+
+    private final Object[] travas = new Object[QUANTIDADE_TRAVAS];
+
+    EstatisticasAcademia() {
+        for (int i = 0; i < travas.length; i++) {
+            travas[i] = new Object();
+        }
+    }
+
+    /**
+     * Ids dos aprendizes de um nível, com o menor deles sempre à mão
+     */
+    private static final class AprendizesNoNivel {
+        private final BitSet ids = new BitSet();
+        private int menorId = Integer.MAX_VALUE;
+
+        synchronized void adicionar(int id) {
+            ids.set(id);
+            menorId = Math.min(menorId, id);
+        }
+
+        synchronized void remover(int id) {
+            ids.clear(id);
+            if (id == menorId) {
+                // Os ids menores que o removido já não estavam no nível
+                int proximo = ids.nextSetBit(id);
+                menorId = proximo < 0 ? Integer.MAX_VALUE : proximo;
+            }
+        }
+
+        /**
+         * Copia para destino, em ordem crescente, até os ids que faltam
+         *
+         * @return posição seguinte à última preenchida
+         */
+        synchronized int copiarIds(int[] destino, int preenchidos) {
+            for (int id = ids.nextSetBit(0); id >= 0 && preenchidos < destino.length; id = ids.nextSetBit(id + 1)) {
+                destino[preenchidos++] = id;
+            }
+            return preenchidos;
+        }
+
+        /**
+         * @return menor id do nível, ou Integer.MAX_VALUE se o nível está vazio
+         */
+        synchronized int menorId() {
+            return menorId;
+        }
+    }
+
+    // ===== ATUALIZAÇÕES =====
+
+    /**
+     * Chamado pelo RegistroAprendizes antes de o aprendiz ficar visível
+     */
+    void aprendizCadastrado(ExemploCompletoTerminado aprendiz, int id) {
+        synchronized (trava(id)) {
+            int nivel = aprendiz.getNivelHabilidade();
+            aprendiz.nivelContabilizado = nivel;
+            somaNiveis.add(nivel);
+            nivel(nivel).adicionar(id);
+            placar.entrou(nivel);
+        }
+        somaIdades.add(aprendiz.getIdade());
+        total.increment();
+    }
+
+    /**
+     * Move o aprendiz do nível contabilizado para o nível atual dele
+     */
+    void nivelAlterado(ExemploCompletoTerminado aprendiz, int id) {
+        synchronized (trava(id)) {
+            int anterior = aprendiz.nivelContabilizado;
+            int atual = aprendiz.getNivelHabilidade();
+            if (anterior == atual) {
+                return; // Outro treino simultâneo já contabilizou este nível
+            }
+            somaNiveis.add(atual - anterior);
+            porNivel.get(anterior).remover(id);
+            nivel(atual).adicionar(id);
+            placar.mudou(anterior, atual);
+            aprendiz.nivelContabilizado = atual;
+        }
+    }
+
+    void idadeAlterada(int idadeAnterior, int idadeNova) {
+        somaIdades.add(idadeNova - idadeAnterior);
+    }
+
+    /**
+     * Zera tudo; não deve ser usado com outros operadores ativos
+     */
+    void limpar() {
+        total.reset();
+        somaIdades.reset();
+        somaNiveis.reset();
+        porNivel.clear();
+        placar.limpar();
+    }
+
+    private AprendizesNoNivel nivel(int nivel) {
+        return porNivel.computeIfAbsent(nivel, n -> new AprendizesNoNivel());
+    }
+
+    private Object trava(int id) {
+        return travas[id & (QUANTIDADE_TRAVAS - 1)];
+    }
+
+    // ===== CONSULTAS (todas sem percorrer os aprendizes) =====
+
+    int total() {
+        return total.intValue();
+    }
+
+    PlacarNiveis placar() {
+        return placar;
+    }
+
+    long somaIdades() {
+        return somaIdades.sum();
+    }
+
+    long somaNiveis() {
+        return somaNiveis.sum();
+    }
+
+    /**
+     * @return maior nível entre os aprendizes, ou 0 se ninguém passou do nível 0
+     */
+    int maiorNivel() {
+        for (Map.Entry<Integer, AprendizesNoNivel> entrada : porNivel.descendingMap().entrySet()) {
+            if (entrada.getKey() <= 0) {
+                return 0;
+            }
+            if (entrada.getValue().menorId() != Integer.MAX_VALUE) {
+                return entrada.getKey();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return id do primeiro aprendiz cadastrado com o maior nível, ou -1
+     *         se ninguém passou do nível 0 (mesmo critério do laço original)
+     */
+    int idMaisExperiente() {
+        for (Map.Entry<Integer, AprendizesNoNivel> entrada : porNivel.descendingMap().entrySet()) {
+            if (entrada.getKey() <= 0) {
+                return -1;
+            }
+            int id = entrada.getValue().menorId();
+            if (id != Integer.MAX_VALUE) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ids dos primeiros do placar: do maior nível para o menor e, dentro
+     * do nível, por ordem de cadastro
+     *
+     * @return até quantidade ids
+     */
+    int[] idsMelhores(int quantidade) {
+        int[] ids = new int[Math.min(quantidade, total())];
+        int preenchidos = 0;
+        for (AprendizesNoNivel nivel : porNivel.descendingMap().values()) {
+            if (preenchidos == ids.length) {
+                break;
+            }
+            preenchidos = nivel.copiarIds(ids, preenchidos);
+        }
+        // Sob escrita simultânea o total pode ter se adiantado aos níveis
+        return preenchidos == ids.length ? ids : Arrays.copyOf(ids, preenchidos);
+    }
+}
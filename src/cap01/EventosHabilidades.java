@@ -0,0 +1,157 @@
+package cap01;
+
+/**
+ * EventosHabilidades.java
+ * <p>
+ * Avisa quem se interessar (ouvintes registrados) a cada habilidade
+ * desbloqueada por uma mudança de nível: treinar, setNivelHabilidade e o
+ * treino em lote.
+ * <p>
+ * Quais habilidades uma mudança desbloqueia sai de uma tabela montada uma
+ * vez: para cada nível, quantas habilidades ele já desbloqueou. Como as
+ * habilidades estão em ordem de nível, as desbloqueadas de anterior para
+ * novo são as posições de desbloqueadasAte(anterior) até
+ * desbloqueadasAte(novo) - duas leituras, qualquer que seja o salto.
+ * <p>
+ * Os eventos são entregues na thread que mudou o nível, depois de a
+ * mudança estar feita (e fora das travas do cadastro). Sem ouvintes, uma
+ * mudança de nível custa só a verificação da lista vazia. Dentro de um
+ * lote (abrirLote / fecharLote, usados pelo TreinoEmLote em cada trecho),
+ * os eventos se acumulam e cada ouvinte é chamado uma vez por lote, com
+ * todos eles, em vez de uma vez por aprendiz.
+ * <p>
+ * Ouvintes registrados depois da carga da academia salva não recebem os
+ * níveis reaplicados do diário.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+final class EventosHabilidades {
+
+    // Eventos acumulados em um lote antes de uma entrega antecipada
+    private static final int LIMITE_LOTE = 8192;
+
+    // Índice = nível (limitado a 0..NIVEL_MAXIMO); valor = habilidades desbloqueadas até ele
+    private static final int[] DESBLOQUEADAS_ATE = new int[ExemploCompletoTerminado.NIVEL_MAXIMO + 1];
+
+    static {
+        int habilidade = 0;
+        for (int nivel = 0; nivel < DESBLOQUEADAS_ATE.length; nivel++) {
+            while (habilidade < ExemploCompletoTerminado.NIVEIS_HABILIDADES.length
+                    && ExemploCompletoTerminado.NIVEIS_HABILIDADES[habilidade] <= nivel) {
+                habilidade++;
+            }
+            DESBLOQUEADAS_ATE[nivel] = habilidade;
+        }
+    }
+
+    private static final List<Ouvinte> ouvintes = new CopyOnWriteArrayList<>();
+
+    // Lote aberto pela thread atual (null fora de um lote)
+    private static final ThreadLocal<List<Desbloqueio>> loteAberto = new ThreadLocal<>();
+
+    private EventosHabilidades() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    /**
+     * Uma habilidade desbloqueada por um aprendiz
+     *
+     * @param habilidade posição em ExemploCompletoTerminado.HABILIDADES
+     */
+    record Desbloqueio(ExemploCompletoTerminado aprendiz, int habilidade, int nivelAnterior, int novoNivel) {
+
+        String nomeHabilidade() {
+            return ExemploCompletoTerminado.HABILIDADES[habilidade];
+        }
+    }
+
+    /**
+     * Recebe os desbloqueios; deve ser rápido e não pode mudar níveis
+     */
+    @FunctionalInterface
+    interface Ouvinte {
+        void desbloqueadas(List<Desbloqueio> desbloqueios);
+    }
+
+    // ===== OUVINTES =====
+
+    static void registrar(Ouvinte ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    static void remover(Ouvinte ouvinte) {
+        ouvintes.remove(ouvinte);
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * @return quantas habilidades o nível já desbloqueou (as primeiras de HABILIDADES)
+     */
+    static int desbloqueadasAte(int nivel) {
+        return DESBLOQUEADAS_ATE[Math.max(0, Math.min(nivel, ExemploCompletoTerminado.NIVEL_MAXIMO))];
+    }
+
+    // ===== PUBLICAÇÃO =====
+
+    /**
+     * Chamado depois de cada mudança de nível já feita
+     */
+    static void nivelMudou(ExemploCompletoTerminado aprendiz, int nivelAnterior, int novoNivel) {
+        if (ouvintes.isEmpty()) {
+            return;
+        }
+        int primeira = desbloqueadasAte(nivelAnterior);
+        int ultima = desbloqueadasAte(novoNivel);
+        if (ultima <= primeira) {
+            return; // Nada novo (ou o nível caiu)
+        }
+
+        List<Desbloqueio> lote = loteAberto.get();
+        List<Desbloqueio> destino = lote != null ? lote : new ArrayList<>(ultima - primeira);
+        for (int habilidade = primeira; habilidade < ultima; habilidade++) {
+            destino.add(new Desbloqueio(aprendiz, habilidade, nivelAnterior, novoNivel));
+        }
+
+        if (lote == null) {
+            entregar(destino);
+        } else if (lote.size() >= LIMITE_LOTE) {
+            entregar(lote);
+            lote.clear();
+        }
+    }
+
+    /**
+     * Passa a acumular os desbloqueios da thread atual até fecharLote
+     */
+    static void abrirLote() {
+        if (loteAberto.get() != null) {
+            throw new IllegalStateException("Já há um lote de eventos aberto nesta thread");
+        }
+        loteAberto.set(new ArrayList<>());
+    }
+
+    /**
+     * Entrega de uma vez os desbloqueios acumulados desde abrirLote
+     */
+    static void fecharLote() {
+        List<Desbloqueio> lote = loteAberto.get();
+        loteAberto.remove();
+        if (lote != null && !lote.isEmpty()) {
+            entregar(lote);
+        }
+    }
+
+    private static void entregar(List<Desbloqueio> desbloqueios) {
+        List<Desbloqueio> somenteLeitura = List.copyOf(desbloqueios);
+        for (Ouvinte ouvinte : ouvintes) {
+            ouvinte.desbloqueadas(somenteLeitura);
+        }
+    }
+}
@@ -11,9 +11,11 @@
 package cap01;
 
 // 3. IMPORTS (Importações de bibliotecas externas)
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.LocalDateTime;
-import java.util.Scanner;
-import java.util.ArrayList;
 import java.util.List;
 
 // 4. COMENTÁRIO DA CLASSE
@@ -27,18 +29,75 @@ import java.util.List;
 public class ExemploCompletoTerminado {
 
     // 6. ATRIBUTOS/CAMPOS DA CLASSE (Variáveis de instância)
-    private String nomeAprendiz;
-    private int nivelHabilidade;
-    private String escolaOrigem;
-    private int idade;
+    // volatile: o mesmo aprendiz pode ser lido e treinado por vários operadores ao mesmo tempo
+    private volatile String nomeAprendiz;
+    private volatile int nivelHabilidade;
+    private volatile String escolaOrigem;
+    private volatile int idade;
+
+    // Cadastro ao qual o aprendiz pertence e a sua posição nele (-1 fora de um cadastro)
+    // O id é gravado antes do registro: quem vê o registro vê também o id
+    private volatile RegistroAprendizes registro;
+    private volatile int idRegistro = -1;
+
+    // Nível já contabilizado nas EstatisticasAcademia (guardado pela trava listrada delas)
+    int nivelContabilizado;
+
+    // Acesso atômico a nivelHabilidade e idade (compareAndSet e getAndSet)
+    private static final VarHandle NIVEL;
+    private static final VarHandle IDADE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NIVEL = lookup.findVarHandle(ExemploCompletoTerminado.class, "nivelHabilidade", int.class);
+            IDADE = lookup.findVarHandle(ExemploCompletoTerminado.class, "idade", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     // 7. CONSTANTES (Variáveis estáticas finais)
     public static final String ESCOLA = "Java Kaer Morhen";
     public static final int IDADE_MINIMA = 16;
+    public static final int IDADE_MAXIMA = 1000; // Bruxos vivem séculos; cabe na coluna de idades do RegistroColunar
     public static final int NIVEL_MAXIMO = 100;
 
-    // Lista estática para armazenar todos os aprendizes criados
-    private static List<cap01.ExemploCompletoTerminado> todosAprendizes = new ArrayList<>();
+    // Habilidades e o nível em que cada uma é desbloqueada (em ordem de nível)
+    static final String[] HABILIDADES = {
+            "Igni (Fogo básico)",
+            "Quen (Escudo protetor)",
+            "Aard (Onda de choque)",
+            "Axii (Controle mental)",
+            "Yrden (Armadilha mágica)"
+    };
+    static final int[] NIVEIS_HABILIDADES = {1, 20, 40, 60, 80};
+
+    // Academias maiores que uma página são listadas em páginas de uma linha por aprendiz
+    private static final int TAMANHO_PAGINA = 20;
+
+    // Tamanho do topo do placar quando o operador não escolhe
+    private static final int TOPO_PADRAO = 10;
+
+    // Aprendizes encontrados mostrados na consulta de posição do placar
+    private static final int MAXIMO_POSICOES_EXIBIDAS = 10;
+
+    // Sugestões exibidas ao completar um nome na busca (texto terminado em *)
+    private static final int MAXIMO_SUGESTOES = 10;
+
+    // Linhas acumuladas antes de cada escrita da listagem em fluxo
+    private static final int BYTES_LOTE_LISTAGEM = 64 * 1024;
+
+    // Lista estática para armazenar todos os aprendizes criados (com índice de nomes para a busca)
+    // --armazenamento=colunar|foradoheap troca por um RegistroColunar, para academias muito grandes
+    private static CadastroAprendizes todosAprendizes = new RegistroAprendizes();
+
+    // Instantâneo e diário do cadastro em disco (null sem --dados=diretório)
+    private static PersistenciaAcademia persistencia;
+
+    // Destino de todo o texto exibido (console por padrão; --saida=buffer|descarte troca)
+    // Cada sessão do ServidorAcademia troca o destino só para a sua própria thread
+    private static final Saida.Roteada saida = new Saida.Roteada(new Saida.Console());
 
     // 8. CONSTRUTOR(ES)
     /**
@@ -76,81 +135,138 @@ public class ExemploCompletoTerminado {
      * Método main - onde a execução do programa começa
      */
     public static void main(String[] args) {
-        Scanner scanner = new Scanner(System.in);
+        saida.definirPadrao(Saida.escolher(args, saida.padrao()));
+        todosAprendizes = CadastroAprendizes.escolher(args, todosAprendizes);
+        abrirPersistencia(args);
+        RoteiroSessao.Gravador gravador = abrirGravacao(args); // --gravar=arquivo, para a CargaAcademia
+        LeitorEntrada entrada = LeitorEntrada.padrao();
 
         // Exibir cabeçalho do programa
         exibirCabecalho();
 
-        // Criando instância da classe com dados pré-definidos
-        ExemploCompletoTerminado aprendiz = new ExemploCompletoTerminado("Geralt", 99, "Kaer Morhen", 95);
-        todosAprendizes.add(aprendiz);
+        // Criando instância da classe com dados pré-definidos (uma academia salva já o tem)
+        ExemploCompletoTerminado aprendiz;
+        if (todosAprendizes.isEmpty()) {
+            aprendiz = new ExemploCompletoTerminado("Geralt", 99, "Kaer Morhen", 95);
+            todosAprendizes.add(aprendiz);
+        } else {
+            aprendiz = todosAprendizes.get(0);
+        }
 
-        System.out.println("🎯 Demonstração com aprendiz pré-cadastrado:");
-        System.out.println("=" + "=".repeat(50));
+        saida.println("🎯 Demonstração com aprendiz pré-cadastrado:");
+        saida.println("=" + "=".repeat(50));
 
         // Chamando métodos da instância
         aprendiz.apresentarse();
         aprendiz.demonstrarHabilidades();
 
-        // Menu principal interativo
-        boolean continuar = true;
-        while (continuar) {
-            continuar = exibirMenuPrincipal(scanner);
-        }
+        // Menu principal interativo: o console é uma sessão como as do ServidorAcademia
+        SessaoAcademia.console(entrada, gravador).executarMenu();
 
-        scanner.close();
-        System.out.println("\n🏰 Obrigado por visitar Kaer Morhen! Até a próxima jornada!");
+        entrada.close();
+        fecharGravacao(gravador);
+        fecharPersistencia();
+        exibirDespedida();
     }
 
     /**
      * Exibe o cabeçalho artístico do programa
      */
     public static void exibirCabecalho() {
-        System.out.println("╔══════════════════════════════════════════════════════════╗");
-        System.out.println("║                🏰 KAER MORHEN ACADEMY 🏰                 ║");
-        System.out.println("║              Sistema de Gestão de Aprendizes            ║");
-        System.out.println("╚══════════════════════════════════════════════════════════╝");
-        System.out.println();
+        saida.println("╔══════════════════════════════════════════════════════════╗");
+        saida.println("║                🏰 KAER MORHEN ACADEMY 🏰                 ║");
+        saida.println("║              Sistema de Gestão de Aprendizes            ║");
+        saida.println("╚══════════════════════════════════════════════════════════╝");
+        saida.println();
+    }
+
+    /**
+     * Exibe a mensagem de saída da academia
+     */
+    public static void exibirDespedida() {
+        saida.println("\n🏰 Obrigado por visitar Kaer Morhen! Até a próxima jornada!");
+        saida.flush();
+    }
+
+    /**
+     * Avisa que uma resposta não era um número e a operação foi cancelada
+     */
+    public static void exibirEntradaInvalida() {
+        saida.println("❌ Entrada inválida! Operação cancelada.");
+    }
+
+    /**
+     * Avisa que um comando falhou por um erro inesperado e foi cancelado
+     */
+    public static void exibirFalhaComando(RuntimeException e) {
+        saida.println("❌ Erro inesperado (" + e + ")! Operação cancelada.");
     }
 
     /**
      * Exibe o menu principal e processa as opções do usuário
      */
-    public static boolean exibirMenuPrincipal(Scanner scanner) {
-        System.out.println("\n" + "─".repeat(60));
-        System.out.println("🗡️ MENU PRINCIPAL - ESCOLHA SUA AÇÃO:");
-        System.out.println("─".repeat(60));
-        System.out.println("1. 🆕 Adicionar novo aprendiz");
-        System.out.println("2. 📋 Listar todos os aprendizes");
-        System.out.println("3. 🔍 Buscar aprendiz por nome");
-        System.out.println("4. ⚡ Treinar habilidades de um aprendiz");
-        System.out.println("5. 📊 Relatório estatístico da academia");
-        System.out.println("6. 🚪 Sair da academia");
-        System.out.print("\n🎯 Digite sua escolha (1-6): ");
-
-        int opcao = scanner.nextInt();
-        scanner.nextLine(); // Consumir quebra de linha
+    public static boolean exibirMenuPrincipal(LeitorEntrada entrada) {
+        exibirOpcoesMenu();
+
+        Integer opcao = entrada.lerInteiro();
+        entrada.lerLinha(); // Consumir quebra de linha
+
+        // Não é um número: cai em "Opção inválida"
+        return executarOpcao(opcao == null ? 0 : opcao, entrada);
+    }
+
+    /**
+     * Exibe as opções do menu principal e o prompt de escolha
+     */
+    public static void exibirOpcoesMenu() {
+        saida.println("\n" + "─".repeat(60));
+        saida.println("🗡️ MENU PRINCIPAL - ESCOLHA SUA AÇÃO:");
+        saida.println("─".repeat(60));
+        saida.println("1. 🆕 Adicionar novo aprendiz");
+        saida.println("2. 📋 Listar todos os aprendizes");
+        saida.println("3. 🔍 Buscar aprendiz por nome");
+        saida.println("4. ⚡ Treinar habilidades de um aprendiz");
+        saida.println("5. 📊 Relatório estatístico da academia");
+        saida.println("6. 🚪 Sair da academia");
+        saida.println("7. 🏆 Placar de níveis (topo, posição e percentis)");
+        saida.println("8. 🏋️ Treino em lote (por escola, nível e idade)");
+        saida.print("\n🎯 Digite sua escolha (1-8): ");
+    }
 
+    /**
+     * Executa uma opção do menu principal
+     *
+     * @param opcao opção escolhida
+     * @param entrada de onde vêm as respostas às perguntas da opção
+     * @return false se o usuário escolheu sair
+     */
+    public static boolean executarOpcao(int opcao, LeitorEntrada entrada) {
         switch (opcao) {
             case 1:
-                adicionarNovoAprendiz(scanner);
+                adicionarNovoAprendiz(entrada);
                 break;
             case 2:
-                listarTodosAprendizes();
+                listarTodosAprendizes(entrada);
                 break;
             case 3:
-                buscarAprendizPorNome(scanner);
+                buscarAprendizPorNome(entrada);
                 break;
             case 4:
-                treinarHabilidades(scanner);
+                treinarHabilidades(entrada);
                 break;
             case 5:
                 exibirRelatorioEstatistico();
                 break;
             case 6:
                 return false;
+            case 7:
+                exibirPlacar(entrada);
+                break;
+            case 8:
+                treinarEmLote(entrada);
+                break;
             default:
-                System.out.println("❌ Opção inválida! Tente novamente.");
+                saida.println("❌ Opção inválida! Tente novamente.");
         }
 
         return true;
@@ -159,46 +275,64 @@ public class ExemploCompletoTerminado {
     /**
      * Adiciona um novo aprendiz através de interação com o usuário
      */
-    public static void adicionarNovoAprendiz(Scanner scanner) {
-        System.out.println("\n🆕 CADASTRO DE NOVO APRENDIZ");
-        System.out.println("=" + "=".repeat(40));
-
-        System.out.print("🧙 Nome do aprendiz: ");
-        String nome = scanner.nextLine();
-
-        System.out.print("🎂 Idade do aprendiz: ");
-        int idade = scanner.nextInt();
-        scanner.nextLine(); // Consumir quebra de linha
+    public static void adicionarNovoAprendiz(LeitorEntrada entrada) {
+        saida.println("\n🆕 CADASTRO DE NOVO APRENDIZ");
+        saida.println("=" + "=".repeat(40));
+
+        saida.print("🧙 Nome do aprendiz: ");
+        String nome = entrada.lerLinha();
+
+        saida.print("🎂 Idade do aprendiz: ");
+        Integer idadeLida = entrada.lerInteiro();
+        entrada.lerLinha(); // Consumir quebra de linha
+        if (idadeLida == null) {
+            exibirEntradaInvalida();
+            return;
+        }
+        int idade = idadeLida;
 
         // Validação de idade mínima
         if (idade < IDADE_MINIMA) {
-            System.out.println("⚠️ Idade mínima para treinamento é " + IDADE_MINIMA + " anos!");
-            System.out.println("💡 Ajustando idade para o mínimo permitido...");
+            saida.println("⚠️ Idade mínima para treinamento é " + IDADE_MINIMA + " anos!");
+            saida.println("💡 Ajustando idade para o mínimo permitido...");
             idade = IDADE_MINIMA;
+        } else if (idade > IDADE_MAXIMA) {
+            idade = IDADE_MAXIMA;
+            saida.println("💡 Idade ajustada para " + IDADE_MAXIMA + " (máximo)");
         }
 
-        System.out.print("🏰 Escola de origem (ou 'Nova' para iniciantes): ");
-        String escola = scanner.nextLine();
+        saida.print("🏰 Escola de origem (ou 'Nova' para iniciantes): ");
+        String escola = entrada.lerLinha();
 
-        System.out.print("⭐ Nível inicial de habilidade (1-" + NIVEL_MAXIMO + "): ");
-        int nivel = scanner.nextInt();
-        scanner.nextLine(); // Consumir quebra de linha
+        saida.print("⭐ Nível inicial de habilidade (1-" + NIVEL_MAXIMO + "): ");
+        Integer nivelLido = entrada.lerInteiro();
+        entrada.lerLinha(); // Consumir quebra de linha
+        if (nivelLido == null) {
+            exibirEntradaInvalida();
+            return;
+        }
+        int nivel = nivelLido;
 
         // Validação de nível
         if (nivel < 1) {
             nivel = 1;
-            System.out.println("💡 Nível ajustado para 1 (mínimo)");
+            saida.println("💡 Nível ajustado para 1 (mínimo)");
         } else if (nivel > NIVEL_MAXIMO) {
             nivel = NIVEL_MAXIMO;
-            System.out.println("💡 Nível ajustado para " + NIVEL_MAXIMO + " (máximo)");
+            saida.println("💡 Nível ajustado para " + NIVEL_MAXIMO + " (máximo)");
         }
 
         // Criar novo aprendiz e adicionar à lista
         ExemploCompletoTerminado novoAprendiz = new ExemploCompletoTerminado(nome, nivel, escola, idade);
-        todosAprendizes.add(novoAprendiz);
+        try {
+            todosAprendizes.add(novoAprendiz);
+        } catch (IllegalArgumentException e) { // Nome ou escola que o cadastro não consegue guardar
+            saida.println("❌ Aprendiz não cadastrado: " + e.getMessage());
+            return;
+        }
 
-        System.out.println("\n✅ Aprendiz cadastrado com sucesso!");
-        System.out.println("🎉 " + nome + " agora faz parte da Academia Kaer Morhen!");
+        saida.println("\n✅ Aprendiz cadastrado com sucesso!");
+        saida.println("🎉 " + nome + " agora faz parte da Academia Kaer Morhen!");
 
         // Exibir dados do novo aprendiz
         novoAprendiz.apresentarse();
@@ -206,95 +340,408 @@ public class ExemploCompletoTerminado {
 
     /**
      * Lista todos os aprendizes cadastrados
+     * Até uma página, com a ficha completa de cada um; acima disso, em
+     * páginas navegáveis de uma linha por aprendiz
      */
-    public static void listarTodosAprendizes() {
-        System.out.println("\n📋 LISTA DE TODOS OS APRENDIZES");
-        System.out.println("=" + "=".repeat(50));
+    public static void listarTodosAprendizes(LeitorEntrada entrada) {
+        saida.println("\n📋 LISTA DE TODOS OS APRENDIZES");
+        saida.println("=" + "=".repeat(50));
 
         if (todosAprendizes.isEmpty()) {
-            System.out.println("🚫 Nenhum aprendiz cadastrado ainda.");
+            saida.println("🚫 Nenhum aprendiz cadastrado ainda.");
+            return;
+        }
+
+        if (todosAprendizes.size() > TAMANHO_PAGINA) {
+            navegarPaginas(entrada);
             return;
         }
 
         for (int i = 0; i < todosAprendizes.size(); i++) {
-            System.out.println("\n👤 APRENDIZ #" + (i + 1));
-            System.out.println("─".repeat(30));
+            saida.println("\n👤 APRENDIZ #" + (i + 1));
+            saida.println("─".repeat(30));
             todosAprendizes.get(i).apresentarse();
         }
 
-        System.out.println("\n📊 Total de aprendizes: " + todosAprendizes.size());
+        saida.println("\n📊 Total de aprendizes: " + todosAprendizes.size());
     }
 
     /**
-     * Busca um aprendiz específico por nome
+     * Mostra uma página por vez a partir de um cursor (a posição do primeiro
+     * aprendiz da página). O cadastro só cresce no fim, então o cursor
+     * continua válido entre as páginas, e cada página custa o mesmo com mil
+     * ou com dez milhões de aprendizes.
+     */
+    private static void navegarPaginas(LeitorEntrada entrada) {
+        int cursor = 0;
+        while (true) {
+            exibirPagina(cursor);
+
+            saida.print("\n📄 [Enter] próxima · [a] anterior · [número] ir para o aprendiz · "
+                    + "[t] daqui ao fim, em fluxo · [s] voltar ao menu: ");
+            if (!entrada.temLinha()) {
+                return;
+            }
+            String comando = entrada.lerLinha().trim().toLowerCase();
+            int total = todosAprendizes.size();
+
+            if (comando.isEmpty() || comando.equals("p")) {
+                if (cursor + TAMANHO_PAGINA >= total) {
+                    saida.println("📭 Esta é a última página.");
+                } else {
+                    cursor += TAMANHO_PAGINA;
+                }
+            } else if (comando.equals("a")) {
+                if (cursor == 0) {
+                    saida.println("📭 Esta é a primeira página.");
+                }
+                cursor = Math.max(0, cursor - TAMANHO_PAGINA);
+            } else if (comando.equals("t")) {
+                listarEmFluxo(cursor);
+                return;
+            } else if (comando.equals("s")) {
+                return;
+            } else {
+                try {
+                    int numero = Integer.parseInt(comando);
+                    if (numero < 1 || numero > total) {
+                        saida.println("❌ Escolha um aprendiz entre 1 e " + total + ".");
+                    } else {
+                        cursor = numero - 1;
+                    }
+                } catch (NumberFormatException e) {
+                    saida.println("❌ Comando inválido! Tente novamente.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Exibe os aprendizes da página que começa no cursor, um por linha
+     */
+    private static void exibirPagina(int cursor) {
+        int total = todosAprendizes.size();
+        int fim = Math.min(cursor + TAMANHO_PAGINA, total);
+
+        saida.println("\n📄 Aprendizes #" + (cursor + 1) + " a #" + fim + " de " + total
+                + " (página " + (cursor / TAMANHO_PAGINA + 1) + ")");
+        saida.println("📅 Data atual: " + LocalDateTime.now());
+        saida.println("─".repeat(60));
+
+        StringBuilder linhas = new StringBuilder();
+        for (int i = cursor; i < fim; i++) {
+            anexarLinha(linhas, i, todosAprendizes.get(i));
+        }
+        saida.anexar(linhas);
+    }
+
+    /**
+     * Lista os aprendizes do cursor até o fim, uma linha por aprendiz,
+     * sem páginas nem perguntas (com a saída redirecionada para um arquivo,
+     * é a exportação da academia). As linhas são escritas em lotes, e a
+     * data vai uma vez só, no cabeçalho.
      */
-    public static void buscarAprendizPorNome(Scanner scanner) {
-        System.out.println("\n🔍 BUSCAR APRENDIZ POR NOME");
-        System.out.println("=" + "=".repeat(40));
-
-        System.out.print("🎯 Digite o nome para buscar: ");
-        String nomeBusca = scanner.nextLine().toLowerCase();
-
-        boolean encontrado = false;
-        for (cap01.ExemploCompletoTerminado aprendiz : todosAprendizes) {
-            if (aprendiz.getNomeAprendiz().toLowerCase().contains(nomeBusca)) {
-                System.out.println("\n✅ APRENDIZ ENCONTRADO:");
-                System.out.println("─".repeat(30));
-                aprendiz.apresentarse();
-                aprendiz.demonstrarHabilidades();
-                encontrado = true;
+    private static void listarEmFluxo(int cursor) {
+        int total = todosAprendizes.size(); // Quem chegar durante a listagem fica para a próxima
+        saida.println("\n📜 Aprendizes #" + (cursor + 1) + " a #" + total + " - "
+                + "📅 Data atual: " + LocalDateTime.now());
+        saida.println("─".repeat(60));
+
+        StringBuilder lote = new StringBuilder(BYTES_LOTE_LISTAGEM + 256);
+        for (int i = cursor; i < total; i++) {
+            anexarLinha(lote, i, todosAprendizes.get(i));
+            if (lote.length() >= BYTES_LOTE_LISTAGEM) {
+                saida.anexar(lote);
+                lote.setLength(0);
             }
         }
+        saida.anexar(lote);
+
+        saida.println("\n📊 Total de aprendizes listados: " + (total - cursor));
+    }
+
+    /**
+     * Resumo de uma linha do aprendiz, para as páginas e o fluxo
+     */
+    private static void anexarLinha(StringBuilder destino, int posicao, ExemploCompletoTerminado aprendiz) {
+        destino.append('#').append(posicao + 1)
+                .append("  🧙 ").append(aprendiz.getNomeAprendiz())
+                .append(" · ⭐ ").append(aprendiz.getNivelHabilidade())
+                .append(" · 🎂 ").append(aprendiz.getIdade())
+                .append(" · 🏫 ").append(aprendiz.getEscolaOrigem())
+                .append(System.lineSeparator());
+    }
+
+    /**
+     * Busca um aprendiz específico por nome
+     */
+    public static void buscarAprendizPorNome(LeitorEntrada entrada) {
+        saida.println("\n🔍 BUSCAR APRENDIZ POR NOME");
+        saida.println("=" + "=".repeat(40));
+
+        saida.print("🎯 Digite o nome para buscar (ou o começo seguido de * para sugestões): ");
+        buscarAprendizPorNome(entrada.lerLinha());
+    }
+
+    /**
+     * Exibe todos os aprendizes cujo nome contém o texto buscado
+     * (sem distinção de maiúsculas)
+     * Um texto terminado em * lista os nomes que começam com ele
+     */
+    static void buscarAprendizPorNome(String nome) {
+        if (nome.endsWith("*")) {
+            sugerirNomes(nome.substring(0, nome.length() - 1));
+            return;
+        }
+        String nomeBusca = nome.toLowerCase();
+
+        // O índice de nomes devolve só os aprendizes que contêm o texto, na ordem da lista
+        List<cap01.ExemploCompletoTerminado> encontrados = todosAprendizes.buscarPorNome(nomeBusca);
+        for (cap01.ExemploCompletoTerminado aprendiz : encontrados) {
+            saida.println("\n✅ APRENDIZ ENCONTRADO:");
+            saida.println("─".repeat(30));
+            aprendiz.apresentarse();
+            aprendiz.demonstrarHabilidades();
+        }
+
+        if (encontrados.isEmpty()) {
+            saida.println("❌ Nenhum aprendiz encontrado com o nome: " + nomeBusca);
+        }
+    }
+
+    /**
+     * Exibe os primeiros nomes, em ordem alfabética, que começam com o
+     * prefixo (sem distinção de maiúsculas nem de acentos)
+     * Usa o índice de prefixos: não percorre o cadastro
+     */
+    static void sugerirNomes(String prefixo) {
+        // Um a mais que o exibido, só para saber se há outros
+        List<ExemploCompletoTerminado> sugestoes = todosAprendizes.completarNome(prefixo, MAXIMO_SUGESTOES + 1);
+        if (sugestoes.isEmpty()) {
+            saida.println("❌ Nenhum nome começa com: " + prefixo);
+            return;
+        }
 
-        if (!encontrado) {
-            System.out.println("❌ Nenhum aprendiz encontrado com o nome: " + nomeBusca);
+        saida.println("\n💡 NOMES QUE COMEÇAM COM \"" + prefixo + "\"");
+        saida.println("─".repeat(30));
+        int exibidas = Math.min(sugestoes.size(), MAXIMO_SUGESTOES);
+        for (int i = 0; i < exibidas; i++) {
+            ExemploCompletoTerminado aprendiz = sugestoes.get(i);
+            saida.println(String.format("%3d. %s · ⭐ %d", i + 1, aprendiz.getNomeAprendiz(),
+                    aprendiz.getNivelHabilidade()));
+        }
+        if (sugestoes.size() > exibidas) {
+            saida.println("💡 Há mais nomes: digite mais letras para refinar.");
         }
     }
 
     /**
      * Sistema de treinamento para aumentar habilidades
      */
-    public static void treinarHabilidades(Scanner scanner) {
-        System.out.println("\n⚡ SISTEMA DE TREINAMENTO");
-        System.out.println("=" + "=".repeat(40));
+    public static void treinarHabilidades(LeitorEntrada entrada) {
+        saida.println("\n⚡ SISTEMA DE TREINAMENTO");
+        saida.println("=" + "=".repeat(40));
 
         if (todosAprendizes.isEmpty()) {
-            System.out.println("🚫 Nenhum aprendiz disponível para treinamento.");
+            saida.println("🚫 Nenhum aprendiz disponível para treinamento.");
             return;
         }
 
         // Listar aprendizes disponíveis
-        System.out.println("📋 Aprendizes disponíveis:");
+        saida.println("📋 Aprendizes disponíveis:");
         for (int i = 0; i < todosAprendizes.size(); i++) {
             cap01.ExemploCompletoTerminado aprendiz = todosAprendizes.get(i);
-            System.out.println((i + 1) + ". " + aprendiz.getNomeAprendiz() +
+            saida.println((i + 1) + ". " + aprendiz.getNomeAprendiz() +
                     " (Nível " + aprendiz.getNivelHabilidade() + ")");
         }
 
-        System.out.print("\n🎯 Escolha um aprendiz (número): ");
-        int indice = scanner.nextInt() - 1;
-        scanner.nextLine(); // Consumir quebra de linha
+        saida.print("\n🎯 Escolha um aprendiz (número): ");
+        Integer numero = entrada.lerInteiro();
+        entrada.lerLinha(); // Consumir quebra de linha
+        if (numero == null) {
+            exibirEntradaInvalida();
+            return;
+        }
+        int indice = numero - 1;
 
         if (indice >= 0 && indice < todosAprendizes.size()) {
             cap01.ExemploCompletoTerminado aprendiz = todosAprendizes.get(indice);
 
-            System.out.print("💪 Quantos pontos de experiência adicionar? ");
-            int pontos = scanner.nextInt();
-            scanner.nextLine(); // Consumir quebra de linha
+            saida.print("💪 Quantos pontos de experiência adicionar? ");
+            Integer pontosLidos = entrada.lerInteiro();
+            entrada.lerLinha(); // Consumir quebra de linha
+            if (pontosLidos == null) {
+                exibirEntradaInvalida();
+                return;
+            }
+            int pontos = pontosLidos;
 
-            int nivelAnterior = aprendiz.getNivelHabilidade();
+            // Atômico: outro operador treinando o mesmo aprendiz não faz pontos se perderem
+            int nivelAnterior = aprendiz.treinar(pontos);
             int novoNivel = Math.min(nivelAnterior + pontos, NIVEL_MAXIMO); // Retorna o nível máximo permitido caso ultrapasse
 
-            aprendiz.setNivelHabilidade(novoNivel);
-
-            System.out.println("\n🎉 TREINAMENTO CONCLUÍDO!");
-            System.out.println("📈 " + aprendiz.getNomeAprendiz() +
+            saida.println("\n🎉 TREINAMENTO CONCLUÍDO!");
+            saida.println("📈 " + aprendiz.getNomeAprendiz() +
                     " evoluiu do nível " + nivelAnterior +
                     " para o nível " + novoNivel + "!");
+            for (int i = EventosHabilidades.desbloqueadasAte(nivelAnterior);
+                 i < EventosHabilidades.desbloqueadasAte(novoNivel); i++) {
+                saida.println("🔓 Nova habilidade desbloqueada: " + HABILIDADES[i]);
+            }
 
             aprendiz.demonstrarHabilidades();
         } else {
-            System.out.println("❌ Índice inválido!");
+            saida.println("❌ Índice inválido!");
+        }
+    }
+
+    /**
+     * Treina de uma vez todos os aprendizes que atendem a um critério
+     * Mostra só o resumo do treino, nunca a lista de aprendizes
+     */
+    public static void treinarEmLote(LeitorEntrada entrada) {
+        saida.println("\n🏋️ TREINO EM LOTE");
+        saida.println("=" + "=".repeat(40));
+
+        if (todosAprendizes.isEmpty()) {
+            saida.println("🚫 Nenhum aprendiz disponível para treinamento.");
+            return;
+        }
+
+        saida.print("🏫 Escola de origem (Enter para todas): ");
+        String escola = entrada.lerLinha().trim();
+        saida.print("⭐ Faixa de nível, ex.: 10-50 (Enter para todos): ");
+        int[] niveis = lerFaixa(entrada.lerLinha());
+        saida.print("🎂 Faixa de idade, ex.: 16-30 (Enter para todas): ");
+        int[] idades = lerFaixa(entrada.lerLinha());
+        if (niveis == null || idades == null) {
+            saida.println("❌ Faixa inválida! Use mínimo-máximo, como 10-50. Operação cancelada.");
+            return;
+        }
+
+        saida.print("💪 Quantos pontos de experiência adicionar? ");
+        Integer pontosLidos = entrada.lerInteiro();
+        entrada.lerLinha(); // Consumir quebra de linha
+        if (pontosLidos == null) {
+            exibirEntradaInvalida();
+            return;
+        }
+        int pontos = pontosLidos;
+
+        TreinoEmLote.Criterio criterio = new TreinoEmLote.Criterio(escola.isEmpty() ? null : escola,
+                niveis[0], niveis[1], idades[0], idades[1]);
+        long inicio = System.nanoTime();
+        TreinoEmLote.Resumo resumo = TreinoEmLote.treinar(todosAprendizes, criterio, pontos);
+        long milissegundos = (System.nanoTime() - inicio) / 1_000_000;
+
+        saida.println("\n🎉 TREINO EM LOTE CONCLUÍDO em " + milissegundos + " ms");
+        saida.println("👥 Aprendizes avaliados: " + resumo.avaliados() + " · selecionados: " + resumo.selecionados());
+        saida.println("📈 Níveis alterados: " + resumo.alterados() + " aprendiz(es), "
+                + String.format("%+d", resumo.variacaoNiveis()) + " níveis no total");
+        saida.println("🔓 Habilidades desbloqueadas:");
+        boolean algumaMudanca = false;
+        for (int i = 0; i < HABILIDADES.length; i++) {
+            if (resumo.desbloqueadas(i) > 0) {
+                saida.println("  ✅ " + HABILIDADES[i] + ": " + resumo.desbloqueadas(i));
+                algumaMudanca = true;
+            }
+            if (resumo.perdidas(i) > 0) {
+                saida.println("  ⛔ " + HABILIDADES[i] + " perdida: " + resumo.perdidas(i));
+                algumaMudanca = true;
+            }
+        }
+        if (!algumaMudanca) {
+            saida.println("  Nenhuma habilidade nova desta vez");
+        }
+    }
+
+    /**
+     * Lê uma faixa "mínimo-máximo" (ou um número só)
+     *
+     * @return {mínimo, máximo}; a faixa inteira para uma resposta vazia; null se inválida
+     */
+    private static int[] lerFaixa(String resposta) {
+        String texto = resposta.trim();
+        if (texto.isEmpty()) {
+            return new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE};
+        }
+        int separador = texto.indexOf('-', 1); // Pula o sinal de um mínimo negativo
+        try {
+            if (separador < 0) {
+                int valor = Integer.parseInt(texto);
+                return new int[]{valor, valor};
+            }
+            int minimo = Integer.parseInt(texto.substring(0, separador).trim());
+            int maximo = Integer.parseInt(texto.substring(separador + 1).trim());
+            return minimo <= maximo ? new int[]{minimo, maximo} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Exibe o topo do placar, os percentis de nível e a posição de um
+     * aprendiz buscado por nome
+     * Tudo sai do PlacarNiveis do cadastro, sem ordenar os aprendizes
+     */
+    public static void exibirPlacar(LeitorEntrada entrada) {
+        saida.println("\n🏆 PLACAR DA ACADEMIA");
+        saida.println("=" + "=".repeat(40));
+
+        if (todosAprendizes.isEmpty()) {
+            saida.println("🚫 Nenhum aprendiz no placar ainda.");
+            return;
+        }
+
+        saida.print("🔢 Quantos aprendizes no topo? (Enter para " + TOPO_PADRAO + "): ");
+        String resposta = entrada.lerLinha().trim();
+        int quantidade = TOPO_PADRAO;
+        if (!resposta.isEmpty()) {
+            try {
+                quantidade = Integer.parseInt(resposta);
+            } catch (NumberFormatException e) {
+                exibirEntradaInvalida();
+                return;
+            }
+        }
+        if (quantidade < 1) {
+            saida.println("❌ Peça pelo menos 1 aprendiz.");
+            return;
+        }
+
+        PlacarNiveis placar = todosAprendizes.placar();
+        List<ExemploCompletoTerminado> melhores = todosAprendizes.melhores(quantidade);
+        saida.println("\n🥇 TOPO " + melhores.size() + " DE " + todosAprendizes.size() + " APRENDIZES");
+        saida.println("─".repeat(40));
+        for (ExemploCompletoTerminado aprendiz : melhores) {
+            int nivel = aprendiz.getNivelHabilidade();
+            saida.println(String.format("%6dº  %s · ⭐ %d", placar.posicao(nivel), aprendiz.getNomeAprendiz(), nivel));
+        }
+
+        saida.println("\n📈 Níveis: mediana " + placar.nivelNoPercentil(0.50)
+                + " · p90 " + placar.nivelNoPercentil(0.90)
+                + " · p99 " + placar.nivelNoPercentil(0.99));
+
+        saida.print("\n🔍 Posição de qual aprendiz? (Enter para pular): ");
+        String nomeBusca = entrada.lerLinha().trim();
+        if (nomeBusca.isEmpty()) {
+            return;
+        }
+        List<ExemploCompletoTerminado> encontrados = todosAprendizes.buscarPorNome(nomeBusca);
+        if (encontrados.isEmpty()) {
+            saida.println("❌ Nenhum aprendiz encontrado com o nome: " + nomeBusca);
+            return;
+        }
+        int exibidos = Math.min(encontrados.size(), MAXIMO_POSICOES_EXIBIDAS);
+        for (int i = 0; i < exibidos; i++) {
+            ExemploCompletoTerminado aprendiz = encontrados.get(i);
+            int nivel = aprendiz.getNivelHabilidade(); // Uma leitura só para posição e percentil
+            saida.println(String.format("🎖️ %s (nível %d): %dº de %d · percentil %.1f",
+                    aprendiz.getNomeAprendiz(), nivel, placar.posicao(nivel), todosAprendizes.size(),
+                    placar.percentil(nivel)));
+        }
+        if (encontrados.size() > exibidos) {
+            saida.println("💡 E mais " + (encontrados.size() - exibidos) + " aprendiz(es) com esse nome.");
         }
     }
 
@@ -302,39 +749,145 @@ public class ExemploCompletoTerminado {
      * Exibe relatório estatístico da academia
      */
     public static void exibirRelatorioEstatistico() {
-        System.out.println("\n📊 RELATÓRIO ESTATÍSTICO DA ACADEMIA");
-        System.out.println("=" + "=".repeat(50));
+        saida.println("\n📊 RELATÓRIO ESTATÍSTICO DA ACADEMIA");
+        saida.println("=" + "=".repeat(50));
 
         if (todosAprendizes.isEmpty()) {
-            System.out.println("🚫 Nenhum dado disponível para análise.");
+            saida.println("🚫 Nenhum dado disponível para análise.");
             return;
         }
 
+        // O RegistroAprendizes mantém os agregados a cada cadastro e treino;
+        // o RegistroColunar varre as colunas sem criar objetos
         int totalAprendizes = todosAprendizes.size();
-        int somaIdes = 0;
-        int somaNiveis = 0;
-        int nivelMaiorTodos = 0;
-        String aprendizMaisExperiente = "";
-
-        for (cap01.ExemploCompletoTerminado aprendiz : todosAprendizes) {
-            somaIdes += aprendiz.getIdade();
-            somaNiveis += aprendiz.getNivelHabilidade();
-
-            if (aprendiz.getNivelHabilidade() > nivelMaiorTodos) {
-                nivelMaiorTodos = aprendiz.getNivelHabilidade();
-                aprendizMaisExperiente = aprendiz.getNomeAprendiz();
-            }
-        }
+        long somaIdes = todosAprendizes.somaIdades();
+        long somaNiveis = todosAprendizes.somaNiveis();
+        int nivelMaiorTodos = todosAprendizes.maiorNivel();
+        ExemploCompletoTerminado maisExperiente = todosAprendizes.aprendizMaisExperiente();
+        String aprendizMaisExperiente = maisExperiente == null ? "" : maisExperiente.getNomeAprendiz();
 
         double idadeMedia = (double) somaIdes / totalAprendizes;
         double nivelMedio = (double) somaNiveis / totalAprendizes;
 
-        System.out.println("👥 Total de aprendizes: " + totalAprendizes);
-        System.out.println("🎂 Idade média: " + String.format("%.1f", idadeMedia) + " anos");
-        System.out.println("⭐ Nível médio: " + String.format("%.1f", nivelMedio));
-        System.out.println("🏆 Aprendiz mais experiente: " + aprendizMaisExperiente +
+        saida.println("👥 Total de aprendizes: " + totalAprendizes);
+        saida.println("🎂 Idade média: " + String.format("%.1f", idadeMedia) + " anos");
+        saida.println("⭐ Nível médio: " + String.format("%.1f", nivelMedio));
+        saida.println("🏆 Aprendiz mais experiente: " + aprendizMaisExperiente +
                 " (Nível " + nivelMaiorTodos + ")");
-        System.out.println("🏰 Data do relatório: " + LocalDateTime.now());
+        saida.println("🏰 Data do relatório: " + LocalDateTime.now());
+    }
+
+    // Acesso ao cadastro sem o menu interativo (usado pela bancada de desempenho)
+    static void definirSaida(Saida novaSaida) {
+        saida.definirPadrao(novaSaida);
+    }
+
+    // Usados por SessaoAcademia: a thread atual passa a escrever na saída da sessão
+    static void iniciarSessao(Saida saidaSessao) {
+        saida.iniciarSessao(saidaSessao);
+    }
+
+    static void encerrarSessao() {
+        saida.encerrarSessao();
+    }
+
+    // Usado pelo ServidorAcademia (antes de atender qualquer sessão) e pela bancada
+    static void definirCadastro(CadastroAprendizes cadastro) {
+        todosAprendizes = cadastro;
+    }
+
+    /**
+     * Carrega a academia salva no diretório de --dados=... (se houver) e
+     * passa a salvar as alterações; encerra o programa se não conseguir
+     */
+    static void abrirPersistencia(String[] args) {
+        try {
+            persistencia = PersistenciaAcademia.escolher(args, todosAprendizes);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Não foi possível carregar a academia salva: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Espera as alterações feitas até agora chegarem ao disco
+     * Chamado ao fim de cada comando, antes de responder ao operador
+     */
+    static void confirmarAlteracoes() {
+        PersistenciaAcademia atual = persistencia;
+        if (atual != null) {
+            try {
+                atual.confirmar();
+            } catch (UncheckedIOException e) {
+                System.err.println("❌ Falha ao gravar as alterações da academia: " + e.getCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tira o instantâneo final e fecha o diário
+     */
+    static void fecharPersistencia() {
+        PersistenciaAcademia atual = persistencia;
+        if (atual == null) {
+            return;
+        }
+        persistencia = null;
+        try {
+            atual.close();
+        } catch (IOException | RuntimeException e) {
+            // O diário já gravado continua valendo na próxima abertura
+            System.err.println("❌ Falha ao salvar a academia: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Abre o roteiro de --gravar=... (se houver); encerra o programa se não conseguir
+     */
+    private static RoteiroSessao.Gravador abrirGravacao(String[] args) {
+        try {
+            return RoteiroSessao.escolher(args);
+        } catch (IOException e) {
+            System.err.println("❌ Não foi possível criar o roteiro: " + e.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private static void fecharGravacao(RoteiroSessao.Gravador gravador) {
+        if (gravador == null) {
+            return;
+        }
+        try {
+            gravador.close();
+        } catch (IOException e) {
+            System.err.println("❌ Falha ao fechar o roteiro: " + e.getMessage());
+        }
+    }
+
+    static int quantidadeAprendizes() {
+        return todosAprendizes.size();
+    }
+
+    static void cadastrarAprendiz(ExemploCompletoTerminado aprendiz) {
+        todosAprendizes.add(aprendiz);
+    }
+
+    static void limparAprendizes() {
+        todosAprendizes.clear();
+    }
+
+    /**
+     * Chamado pelo RegistroAprendizes ao cadastrar (ou descadastrar, com null) o aprendiz
+     */
+    void vincularRegistro(RegistroAprendizes registro, int id) {
+        if (registro == null) {
+            this.registro = null;
+            this.idRegistro = id;
+        } else {
+            this.idRegistro = id;
+            this.registro = registro;
+        }
     }
 
     // 10. MÉTODOS DE INSTÂNCIA
@@ -342,44 +895,31 @@ public class ExemploCompletoTerminado {
      * Método que apresenta o aprendiz
      */
     public void apresentarse() {
-        System.out.println("🏰 Escola: " + ESCOLA);
-        System.out.println("🧙 Nome: " + nomeAprendiz);
-        System.out.println("⭐ Nível: " + nivelHabilidade);
-        System.out.println("🎂 Idade: " + idade + " anos");
-        System.out.println("🏫 Origem: " + escolaOrigem);
-        System.out.println("📅 Data atual: " + LocalDateTime.now());
+        saida.println("🏰 Escola: " + ESCOLA);
+        saida.println("🧙 Nome: " + getNomeAprendiz());
+        saida.println("⭐ Nível: " + getNivelHabilidade());
+        saida.println("🎂 Idade: " + getIdade() + " anos");
+        saida.println("🏫 Origem: " + getEscolaOrigem());
+        saida.println("📅 Data atual: " + LocalDateTime.now());
     }
 
     /**
      * Demonstra diferentes habilidades baseadas no nível
      */
     public void demonstrarHabilidades() {
-        System.out.println("\n🗡️ Habilidades Disponíveis:");
+        saida.println("\n🗡️ Habilidades Disponíveis:");
+        int nivelHabilidade = getNivelHabilidade(); // Uma leitura só, mesmo com treinos simultâneos
 
-        if (nivelHabilidade >= 1) {
-            System.out.println("  ✅ Igni (Fogo básico)");
-        }
-        if (nivelHabilidade >= 20) {
-            System.out.println("  ✅ Quen (Escudo protetor)");
-        }
-        if (nivelHabilidade >= 40) {
-            System.out.println("  ✅ Aard (Onda de choque)");
-        }
-        if (nivelHabilidade >= 60) {
-            System.out.println("  ✅ Axii (Controle mental)");
-        }
-        if (nivelHabilidade >= 80) {
-            System.out.println("  ✅ Yrden (Armadilha mágica)");
+        int desbloqueadas = EventosHabilidades.desbloqueadasAte(nivelHabilidade);
+        for (int i = 0; i < desbloqueadas; i++) {
+            saida.println("  ✅ " + HABILIDADES[i]);
         }
 
-        // Mostrar progresso até próxima habilidade
+        // Mostrar progresso até próxima habilidade (os marcos são múltiplos de 20)
         if (nivelHabilidade < 80) {
-            int proximoMilestone = 20;
-            while (proximoMilestone <= nivelHabilidade) {
-                proximoMilestone += 20;
-            }
+            int proximoMilestone = (Math.max(nivelHabilidade, 0) / 20 + 1) * 20;
             int pontosRestantes = proximoMilestone - nivelHabilidade;
-            System.out.println("  🎯 Próxima habilidade em " + pontosRestantes + " níveis");
+            saida.println("  🎯 Próxima habilidade em " + pontosRestantes + " níveis");
         }
     }
 
@@ -387,12 +927,12 @@ public class ExemploCompletoTerminado {
      * Exemplo de interação básica com o usuário
      */
     public void interagirComUsuario() {
-        Scanner entrada = new Scanner(System.in);
+        LeitorEntrada entrada = LeitorEntrada.padrao();
 
-        System.out.print("\n🤔 Qual sinal você gostaria de aprender primeiro? ");
-        String resposta = entrada.nextLine();
+        saida.print("\n🤔 Qual sinal você gostaria de aprender primeiro? ");
+        String resposta = entrada.lerLinha();
 
-        System.out.println("💡 Excelente escolha! " + resposta +
+        saida.println("💡 Excelente escolha! " + resposta +
                 " é um sinal poderoso para iniciantes.");
 
         entrada.close();
@@ -404,7 +944,14 @@ public class ExemploCompletoTerminado {
     }
 
     public void setNomeAprendiz(String nome) {
+        RegistroAprendizes cadastro = registro;
+        if (cadastro != null) {
+            cadastro.verificarTexto(nome); // Recusa antes de mudar o que o diário não aceitaria
+        }
         this.nomeAprendiz = nome;
+        if (cadastro != null) {
+            cadastro.nomeAlterado(idRegistro); // Mantém o índice de nomes em dia
+        }
     }
 
     public int getNivelHabilidade() {
@@ -413,7 +960,40 @@ public class ExemploCompletoTerminado {
 
     public void setNivelHabilidade(int nivel) {
         if (nivel >= 1 && nivel <= NIVEL_MAXIMO) {
-            this.nivelHabilidade = nivel;
+            int nivelAnterior = (int) NIVEL.getAndSet(this, nivel);
+            nivelAlterado();
+            EventosHabilidades.nivelMudou(this, nivelAnterior, nivel);
+        }
+    }
+
+    /**
+     * Soma pontos de experiência ao nível, limitado a NIVEL_MAXIMO
+     * A leitura e a gravação do nível são uma única operação atômica
+     * (compareAndSet), então treinos simultâneos do mesmo aprendiz se somam
+     * Resultados abaixo de 1 são ignorados, como em setNivelHabilidade
+     *
+     * @param pontos pontos de experiência
+     * @return nível antes do treino
+     */
+    public int treinar(int pontos) {
+        while (true) {
+            int nivelAnterior = this.nivelHabilidade;
+            int novoNivel = Math.min(nivelAnterior + pontos, NIVEL_MAXIMO);
+            if (novoNivel < 1) {
+                return nivelAnterior;
+            }
+            if (NIVEL.compareAndSet(this, nivelAnterior, novoNivel)) {
+                nivelAlterado();
+                EventosHabilidades.nivelMudou(this, nivelAnterior, novoNivel);
+                return nivelAnterior;
+            }
+        }
+    }
+
+    private void nivelAlterado() {
+        RegistroAprendizes cadastro = registro;
+        if (cadastro != null) {
+            cadastro.nivelAlterado(idRegistro); // Mantém as estatísticas em dia
         }
     }
 
@@ -422,7 +1002,14 @@ public class ExemploCompletoTerminado {
     }
 
     public void setEscolaOrigem(String escola) {
+        RegistroAprendizes cadastro = registro;
+        if (cadastro != null) {
+            cadastro.verificarTexto(escola);
+        }
         this.escolaOrigem = escola;
+        if (cadastro != null) {
+            cadastro.escolaAlterada(idRegistro); // Mantém o diário em dia
+        }
     }
 
     public int getIdade() {
@@ -430,8 +1017,12 @@ public class ExemploCompletoTerminado {
     }
 
     public void setIdade(int idade) {
-        if (idade >= IDADE_MINIMA) {
-            this.idade = idade;
+        if (idade >= IDADE_MINIMA && idade <= IDADE_MAXIMA) {
+            int idadeAnterior = (int) IDADE.getAndSet(this, idade);
+            RegistroAprendizes cadastro = registro;
+            if (cadastro != null) {
+                cadastro.idadeAlterada(idRegistro, idadeAnterior, idade);
+            }
         }
     }
 }
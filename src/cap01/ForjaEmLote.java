@@ -0,0 +1,654 @@
+package cap01;
+
+/**
+ * ForjaEmLote.java
+ * <p>
+ * Modo não interativo da Forja de Medalhões - forja uma turma inteira
+ * de aprendizes sem nenhum prompt, ideal para rotinas noturnas.
+ * <p>
+ * Cada registro passa pelas mesmas etapas do modo interativo:
+ * - Validação (ValidadorMedalhao: as mesmas regras de validarNome, validarEscola, ...)
+ * - Cálculo da pontuação (calcularPontuacao)
+ * - Exibição do medalhão (exibirMedalhao)
+ * - Salvamento no arquivo de medalhões (ArquivoMedalhoes)
+ * <p>
+ * As etapas formam um pipeline: uma thread lê as linhas, um pool
+ * fork-join valida, pontua e desenha vários medalhões ao mesmo tempo,
+ * e uma thread escritora publica os resultados na ordem da entrada.
+ * Uma fila limitada entre as etapas mantém o uso de memória constante
+ * mesmo com milhões de linhas.
+ * <p>
+ * Os medalhões são acrescentados pela thread escritora a um único arquivo
+ * segmentado (diretório "medalhoes" por padrão, ou --arquivo=dir), na
+ * mesma ordem da entrada. Com --texto, cada medalhão volta a ganhar o seu
+ * próprio arquivo .txt, como no modo interativo.
+ * <p>
+ * Uso:
+ *   java cap01.ForjaEmLote turma.csv
+ *   java cap01.ForjaEmLote turma.jsonl --paralelismo=32
+ *   cat turma.csv | java cap01.ForjaEmLote - --formato=csv --saida=descarte
+ *   java cap01.ForjaEmLote turma.csv --arquivo=noturno
+ *   java cap01.ForjaEmLote turma.csv --apelidos=apelidos.properties
+ * <p>
+ * Campos (colunas do CSV nesta ordem, ou chaves de um objeto JSON por linha):
+ *   nome, escola, sinal, horas, cor, borda, lema, duplo, simbolo
+ * Os quatro últimos são opcionais: borda "simples", sem lema,
+ * medalhão simples e símbolo 1 (espada). Escola, sinal, cor, borda,
+ * duplo e símbolo (número ou nome) passam pelo Vocabulario: caixa e
+ * acentos não importam, e --apelidos=arquivo acrescenta outras grafias.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ForjaEmLote {
+
+    // ===== CONSTANTES DO LOTE =====
+
+    // Tamanho do buffer de leitura (64 KB)
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    // Registros em andamento por thread de trabalho (limita a fila entre as etapas)
+    private static final int REGISTROS_POR_THREAD = 4;
+
+    // Diretório padrão do arquivo de medalhões
+    private static final String ARQUIVO_PADRAO = "medalhoes";
+
+    // Espera máxima por uma vaga na fila antes de conferir se o escritor ainda vive
+    private static final long ESPERA_FILA_MS = 100;
+
+    // Exibido com uma opção desconhecida
+    private static final String USO = "Uso: java cap01.ForjaEmLote [arquivo | -] [--formato=csv|jsonl] [--paralelismo=N]"
+            + " [--saida=buffer|console|descarte] [--arquivo=dir | --texto] [--apelidos=arquivo]";
+
+    // Marcador de fim do lote na fila de resultados
+    private static final Future<Resultado> FIM_DO_LOTE = CompletableFuture.completedFuture(null);
+
+    /**
+     * Resultado de um registro: o desenho do medalhão (com o pedido e a
+     * pontuação, para o arquivamento) ou os erros de validação
+     */
+    private record Resultado(long numeroLinha, CharSequence saida, ValidadorMedalhao.PedidoMedalhao pedido,
+                             MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao, List<String> erros) {
+    }
+
+    // ===== MÉTODO PRINCIPAL =====
+
+    /**
+     * Ponto de entrada da forja em lote
+     *
+     * @param args [arquivo | -] [--formato=csv|jsonl] [--paralelismo=N] [--saida=buffer|console|descarte]
+     *             [--arquivo=dir | --texto] [--apelidos=arquivo]; sem arquivo (ou "-") lê da entrada padrão,
+     *             o paralelismo padrão é o número de processadores, a saída padrão
+     *             é a bufferizada e os medalhões vão para o arquivo "medalhoes"
+     */
+    public static void main(String[] args) {
+        String origem = null;
+        String formato = null;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        String diretorioArquivo = ARQUIVO_PADRAO;
+        boolean texto = false;
+
+        for (String arg : args) {
+            if (arg.startsWith("--formato=")) {
+                formato = arg.substring("--formato=".length()).toLowerCase();
+            } else if (arg.startsWith("--paralelismo=")) {
+                try {
+                    paralelismo = Integer.parseInt(arg.substring("--paralelismo=".length()));
+                } catch (NumberFormatException e) {
+                    paralelismo = 0;
+                }
+                if (paralelismo < 1) {
+                    System.err.println("❌ Paralelismo inválido: " + arg + " (use um número a partir de 1)");
+                    System.exit(1);
+                }
+            } else if (arg.startsWith("--arquivo=")) {
+                diretorioArquivo = arg.substring("--arquivo=".length());
+            } else if (arg.equals("--texto")) {
+                texto = true;
+            } else if (arg.startsWith("--saida=") || arg.startsWith("--apelidos=")) {
+                continue; // Lidas por Saida.escolher e carregarApelidos
+            } else if (arg.startsWith("--")) {
+                System.err.println("❌ Opção desconhecida: " + arg);
+                System.err.println(USO);
+                System.exit(1);
+            } else if (origem != null) {
+                System.err.println("❌ Mais de uma entrada: " + origem + " e " + arg);
+                System.err.println(USO);
+                System.exit(1);
+            } else {
+                origem = arg;
+            }
+        }
+        if (origem == null) {
+            origem = "-";
+        }
+
+        // Sem formato explícito, a extensão do arquivo decide (CSV é o padrão)
+        if (formato == null) {
+            formato = origem.endsWith(".jsonl") || origem.endsWith(".json") ? "jsonl" : "csv";
+        }
+        if (!formato.equals("csv") && !formato.equals("jsonl")) {
+            System.err.println("❌ Formato desconhecido: " + formato + " (use csv ou jsonl)");
+            System.exit(1);
+        }
+
+        MedalhaoPersonalizadoTerminado.carregarApelidos(args);
+
+        // Sem ninguém esperando prompts, a saída em lotes é o padrão
+        Saida destino = Saida.escolher(args, Saida.porNome("buffer"));
+
+        try (BufferedReader leitor = abrirOrigem(origem);
+             ArquivoMedalhoes arquivo = texto ? null : ArquivoMedalhoes.abrir(Path.of(diretorioArquivo))) {
+            processarLote(leitor, formato.equals("jsonl"), paralelismo, destino, arquivo);
+        } catch (IOException e) {
+            System.err.println("❌ Erro na forja em lote: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Abre o arquivo de entrada, ou a entrada padrão quando a origem é "-"
+     */
+    private static BufferedReader abrirOrigem(String origem) throws IOException {
+        if (origem.equals("-")) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        }
+        return new BufferedReader(Files.newBufferedReader(Path.of(origem), StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    // ===== PROCESSAMENTO DO LOTE =====
+
+    /**
+     * Lê os registros linha a linha e distribui o trabalho entre as threads
+     * Registros inválidos são relatados na saída de erro e ignorados
+     *
+     * @param leitor fonte das linhas
+     * @param jsonl true para um objeto JSON por linha, false para CSV
+     * @param paralelismo número de threads que validam, pontuam e desenham
+     * @param destino saída onde os medalhões são publicados
+     * @param arquivo arquivo onde os medalhões são acrescentados, ou null para
+     *                salvar cada um no seu próprio arquivo de texto
+     */
+    static void processarLote(BufferedReader leitor, boolean jsonl, int paralelismo, Saida destino,
+                              ArquivoMedalhoes arquivo) throws IOException {
+        long inicio = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        BlockingQueue<Future<Resultado>> emAndamento = new ArrayBlockingQueue<>(paralelismo * REGISTROS_POR_THREAD);
+        EscritorOrdenado escritor = new EscritorOrdenado(emAndamento, destino, arquivo);
+        Thread threadEscritora = new Thread(escritor, "forja-escritor");
+        threadEscritora.start();
+
+        try {
+            long numeroLinha = 0;
+            String linha;
+            // Se a publicação falhar, para de ler: o resto do lote não teria para onde ir
+            while (escritor.falha == null && (linha = leitor.readLine()) != null) {
+                numeroLinha++;
+                if (linha.isBlank()) {
+                    continue;
+                }
+
+                // Cabeçalho opcional na primeira linha do CSV
+                if (!jsonl && numeroLinha == 1 && ehCabecalho(linha)) {
+                    continue;
+                }
+
+                // A fila é limitada: a leitura espera quando o pool está cheio
+                long numero = numeroLinha;
+                String registro = linha;
+                boolean salvarTexto = arquivo == null;
+                enfileirar(emAndamento, pool.submit(() -> processarRegistro(numero, registro, jsonl, salvarTexto)),
+                        threadEscritora);
+            }
+        } finally {
+            try {
+                if (threadEscritora.isAlive()) {
+                    enfileirar(emAndamento, FIM_DO_LOTE, threadEscritora);
+                }
+                aguardar(threadEscritora);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        if (escritor.falha != null) {
+            throw new IOException("Falha ao publicar os medalhões: " + escritor.falha.getMessage(), escritor.falha);
+        }
+
+        exibirResumoLote(escritor.lidos, escritor.forjados, escritor.rejeitados,
+                paralelismo, System.nanoTime() - inicio);
+    }
+
+    private static boolean ehCabecalho(String linha) {
+        String[] campos = lerLinhaCsv(linha);
+        if (campos == null || campos[ValidadorMedalhao.NOME] == null) {
+            return false;
+        }
+        return campos[ValidadorMedalhao.NOME].trim().equalsIgnoreCase(ValidadorMedalhao.CAMPOS[ValidadorMedalhao.NOME]);
+    }
+
+    /**
+     * Espera uma vaga na fila, mas desiste se a thread escritora tiver parado:
+     * sem ela, ninguém mais tiraria tarefas da fila
+     */
+    private static void enfileirar(BlockingQueue<Future<Resultado>> fila, Future<Resultado> tarefa,
+                                   Thread escritora) throws IOException {
+        try {
+            while (!fila.offer(tarefa, ESPERA_FILA_MS, TimeUnit.MILLISECONDS)) {
+                if (!escritora.isAlive()) {
+                    throw new IOException("A thread escritora parou antes do fim do lote");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Forja em lote interrompida");
+        }
+    }
+
+    private static void aguardar(Thread thread) throws InterruptedIOException {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Forja em lote interrompida");
+        }
+    }
+
+    /**
+     * Etapa paralela: valida, pontua e desenha um registro (e o salva em
+     * texto, no modo --texto). O desenho vai para um buffer próprio e só
+     * é publicado - e arquivado - pelo escritor
+     *
+     * @param numeroLinha linha do registro no arquivo
+     * @param linha texto bruto do registro
+     * @param jsonl true para JSON, false para CSV
+     * @param salvarTexto true para salvar o medalhão no seu próprio arquivo de texto
+     * @return desenho do medalhão, ou os erros de validação
+     */
+    private static Resultado processarRegistro(long numeroLinha, String linha, boolean jsonl,
+                                               boolean salvarTexto) {
+        String[] campos = jsonl ? lerLinhaJson(linha) : lerLinhaCsv(linha);
+        if (campos == null) {
+            return new Resultado(numeroLinha, null, null, null, List.of("⚠️ Linha malformada!"));
+        }
+
+        List<ValidadorMedalhao.Erro> erros = new ArrayList<>();
+        ValidadorMedalhao.PedidoMedalhao pedido = ValidadorMedalhao.validar(campos, erros);
+        if (pedido == null) {
+            return new Resultado(numeroLinha, null, null, null, ValidadorMedalhao.mensagens(erros));
+        }
+
+        Saida.Memoria saida = new Saida.Memoria(4096);
+        MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao = salvarTexto
+                ? forjar(pedido, saida)
+                : desenhar(pedido, saida);
+        return new Resultado(numeroLinha, saida.conteudo(), pedido, pontuacao, null);
+    }
+
+    /**
+     * Etapa final: publica os resultados exatamente na ordem da entrada
+     * As tarefas entram na fila na ordem de leitura; o escritor espera
+     * cada uma terminar antes de passar à próxima.
+     * Um erro ao publicar (a saída fechada, por exemplo) fica em falha, e
+     * o escritor passa a só esvaziar a fila até o fim do lote, para a
+     * leitura nunca ficar presa esperando uma vaga.
+     */
+    private static final class EscritorOrdenado implements Runnable {
+        private final BlockingQueue<Future<Resultado>> fila;
+        private final Saida destino;
+        private final ArquivoMedalhoes arquivo;
+        private long lidos;
+        private long forjados;
+        private long rejeitados;
+        private volatile RuntimeException falha;
+
+        EscritorOrdenado(BlockingQueue<Future<Resultado>> fila, Saida destino, ArquivoMedalhoes arquivo) {
+            this.fila = fila;
+            this.destino = destino;
+            this.arquivo = arquivo;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Future<Resultado> tarefa;
+                while ((tarefa = fila.take()) != FIM_DO_LOTE) {
+                    if (falha != null) {
+                        tarefa.cancel(false); // Nada mais é publicado depois de uma falha
+                        continue;
+                    }
+                    try {
+                        publicar(tarefa);
+                    } catch (RuntimeException e) {
+                        falha = e;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (arquivo != null) {
+                try {
+                    arquivo.descarregar();
+                } catch (IOException e) {
+                    System.err.println("❌ Erro ao gravar o arquivo de medalhões: " + e.getMessage());
+                }
+            }
+            try {
+                destino.flush();
+            } catch (RuntimeException e) {
+                if (falha == null) {
+                    falha = e;
+                }
+            }
+        }
+
+        private void publicar(Future<Resultado> tarefa) throws InterruptedException {
+            lidos++;
+            Resultado resultado;
+            try {
+                resultado = tarefa.get();
+            } catch (ExecutionException e) {
+                rejeitados++;
+                System.err.println("❌ Erro inesperado: " + e.getCause().getMessage());
+                return;
+            }
+
+            if (resultado.saida() == null) {
+                rejeitados++;
+                relatarRejeicao(resultado.numeroLinha(), resultado.erros());
+            } else {
+                forjados++;
+                destino.anexar(resultado.saida());
+                if (arquivo != null) {
+                    arquivar(resultado);
+                }
+            }
+        }
+
+        /**
+         * Acrescenta o medalhão ao arquivo - só esta thread grava, na ordem da entrada
+         */
+        private void arquivar(Resultado resultado) {
+            ValidadorMedalhao.PedidoMedalhao pedido = resultado.pedido();
+            try {
+                int registro = arquivo.anexar(pedido.nome(), pedido.escola(), pedido.sinal(), pedido.horas(),
+                        pedido.cor(), pedido.lema(), resultado.pontuacao());
+                destino.println("💾 SALVAMENTO CONCLUÍDO:");
+                destino.println("   ✅ Registro " + registro + " arquivado em: " + arquivo.nomeSegmento(registro));
+            } catch (IOException e) {
+                destino.println("❌ ERRO AO SALVAR ARQUIVO:");
+                destino.println("   🔧 Detalhes técnicos: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Conduz um pedido válido pelas etapas de pontuação, exibição e salvamento em texto
+     *
+     * @param pedido pedido de medalhão validado
+     * @param saida destino do desenho e das mensagens de salvamento
+     * @return pontuação calculada
+     */
+    static MedalhaoPersonalizadoTerminado.SistemaPontuacao forjar(ValidadorMedalhao.PedidoMedalhao pedido,
+                                                                  Saida saida) {
+        MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao = desenhar(pedido, saida);
+        MedalhaoPersonalizadoTerminado.salvarMedalhaoArquivo(saida, pedido.nome(), pedido.escola(), pedido.sinal(),
+                pedido.horas(), pedido.cor(), pedido.lema(), pontuacao);
+        return pontuacao;
+    }
+
+    /**
+     * Pontua e desenha um pedido válido, sem salvar
+     *
+     * @param pedido pedido de medalhão validado
+     * @param saida destino do desenho
+     * @return pontuação calculada
+     */
+    static MedalhaoPersonalizadoTerminado.SistemaPontuacao desenhar(ValidadorMedalhao.PedidoMedalhao pedido,
+                                                                    Saida saida) {
+        MedalhaoPersonalizadoTerminado.SistemaPontuacao pontuacao = MedalhaoPersonalizadoTerminado.calcularPontuacao(
+                pedido.escola(), pedido.sinal(), pedido.horas(), pedido.cor(), pedido.lema(), pedido.medalhaoDuplo());
+        String simboloEscola = MedalhaoPersonalizadoTerminado.determinarSimboloEscola(pedido.escola());
+        String corSinal = MedalhaoPersonalizadoTerminado.determinarCorSinal(pedido.sinal());
+        String nivelDedicacao = MedalhaoPersonalizadoTerminado.calcularNivelDedicacao(pedido.horas());
+        String previsaoProgresso = MedalhaoPersonalizadoTerminado.calcularPrevisaoProgresso(pedido.horas());
+
+        MedalhaoPersonalizadoTerminado.exibirMedalhao(saida, pedido.nome(), pedido.escola(), simboloEscola,
+                pedido.sinal(), corSinal, pedido.cor(), pedido.estiloBorda(), pedido.lema(),
+                pedido.medalhaoDuplo(), pedido.simboloPersonal(), nivelDedicacao, previsaoProgresso, pontuacao);
+        return pontuacao;
+    }
+
+    // ===== LEITURA DOS FORMATOS =====
+
+    /**
+     * Separa uma linha CSV nos campos do registro
+     * Aceita campos entre aspas (com vírgulas dentro) e aspas duplicadas ("")
+     *
+     * @param linha linha do arquivo
+     * @return campos na ordem de ValidadorMedalhao.CAMPOS, ou null se a linha estiver malformada
+     */
+    static String[] lerLinhaCsv(String linha) {
+        String[] campos = new String[ValidadorMedalhao.CAMPOS.length];
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        int coluna = 0;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+
+            if (entreAspas) {
+                if (c != '"') {
+                    atual.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                if (coluna >= ValidadorMedalhao.CAMPOS.length) {
+                    return null; // Colunas demais
+                }
+                campos[coluna++] = atual.toString();
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+
+        if (entreAspas || coluna >= ValidadorMedalhao.CAMPOS.length) {
+            return null; // Aspas sem fechamento ou colunas demais
+        }
+        campos[coluna] = atual.toString();
+        return campos;
+    }
+
+    /**
+     * Lê um objeto JSON plano (uma linha do JSONL) nos campos do registro
+     * Chaves desconhecidas são ignoradas; valores null viram campos vazios
+     *
+     * @param linha linha do arquivo
+     * @return campos na ordem de ValidadorMedalhao.CAMPOS, ou null se a linha estiver malformada
+     */
+    static String[] lerLinhaJson(String linha) {
+        CursorJson cursor = new CursorJson(linha);
+        String[] campos = new String[ValidadorMedalhao.CAMPOS.length];
+
+        if (!cursor.consumir('{')) {
+            return null;
+        }
+        if (!cursor.consumir('}')) {
+            do {
+                String chave = cursor.lerString();
+                if (chave == null || !cursor.consumir(':')) {
+                    return null;
+                }
+                String valor = cursor.lerValor();
+                if (valor == null) {
+                    return null;
+                }
+                for (int i = 0; i < ValidadorMedalhao.CAMPOS.length; i++) {
+                    if (ValidadorMedalhao.CAMPOS[i].equals(chave)) {
+                        campos[i] = valor;
+                    }
+                }
+            } while (cursor.consumir(','));
+
+            if (!cursor.consumir('}')) {
+                return null;
+            }
+        }
+        return cursor.terminou() ? campos : null;
+    }
+
+    /**
+     * Cursor simples sobre uma linha JSON
+     * Suporta strings (com escapes), números, true, false e null
+     */
+    private static final class CursorJson {
+        private final String texto;
+        private int posicao;
+
+        CursorJson(String texto) {
+            this.texto = texto;
+        }
+
+        void pularEspacos() {
+            while (posicao < texto.length() && Character.isWhitespace(texto.charAt(posicao))) {
+                posicao++;
+            }
+        }
+
+        boolean consumir(char esperado) {
+            pularEspacos();
+            if (posicao < texto.length() && texto.charAt(posicao) == esperado) {
+                posicao++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean terminou() {
+            pularEspacos();
+            return posicao == texto.length();
+        }
+
+        String lerString() {
+            if (!consumir('"')) {
+                return null;
+            }
+            StringBuilder valor = new StringBuilder();
+            while (posicao < texto.length()) {
+                char c = texto.charAt(posicao++);
+                if (c == '"') {
+                    return valor.toString();
+                }
+                if (c != '\\') {
+                    valor.append(c);
+                    continue;
+                }
+                if (posicao >= texto.length()) {
+                    return null;
+                }
+                char escape = texto.charAt(posicao++);
+                switch (escape) {
+                    case '"', '\\', '/' -> valor.append(escape);
+                    case 'n' -> valor.append('\n');
+                    case 't' -> valor.append('\t');
+                    case 'r' -> valor.append('\r');
+                    case 'b' -> valor.append('\b');
+                    case 'f' -> valor.append('\f');
+                    case 'u' -> {
+                        if (posicao + 4 > texto.length()) {
+                            return null;
+                        }
+                        int codigo = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digito = Character.digit(texto.charAt(posicao++), 16);
+                            if (digito < 0) {
+                                return null;
+                            }
+                            codigo = codigo * 16 + digito;
+                        }
+                        valor.append((char) codigo);
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            return null; // String sem aspas de fechamento
+        }
+
+        String lerValor() {
+            pularEspacos();
+            if (posicao < texto.length() && texto.charAt(posicao) == '"') {
+                return lerString();
+            }
+
+            // Literal: número, true, false ou null
+            int inicio = posicao;
+            while (posicao < texto.length()) {
+                char c = texto.charAt(posicao);
+                if (c == ',' || c == '}' || Character.isWhitespace(c)) {
+                    break;
+                }
+                posicao++;
+            }
+            if (posicao == inicio) {
+                return null;
+            }
+            String literal = texto.substring(inicio, posicao);
+            return literal.equals("null") ? "" : literal;
+        }
+    }
+
+    // ===== RELATÓRIOS =====
+
+    private static void relatarRejeicao(long numeroLinha, List<String> erros) {
+        System.err.println("❌ Linha " + numeroLinha + " rejeitada:");
+        for (String erro : erros) {
+            System.err.println("   " + erro);
+        }
+    }
+
+    /**
+     * Exibe o resumo final do lote com a vazão em registros por segundo
+     * Vai para a saída de erro para não se misturar aos medalhões
+     */
+    private static void exibirResumoLote(long lidos, long forjados, long rejeitados,
+                                         int paralelismo, long nanos) {
+        double segundos = nanos / 1_000_000_000.0;
+        double vazao = segundos > 0 ? lidos / segundos : 0;
+
+        System.err.println("─".repeat(60));
+        System.err.println("📋 RESUMO DA FORJA EM LOTE");
+        System.err.println("─".repeat(60));
+        System.err.println("   📥 Registros lidos: " + lidos);
+        System.err.println("   🏅 Medalhões forjados: " + forjados);
+        System.err.println("   ⚠️ Registros rejeitados: " + rejeitados);
+        System.err.println("   🧵 Paralelismo: " + paralelismo + " threads");
+        System.err.println("   ⏱️ Tempo total: " + String.format("%.3f", segundos) + " s");
+        System.err.println("   🚀 Vazão: " + String.format("%.1f", vazao) + " registros/s");
+    }
+}
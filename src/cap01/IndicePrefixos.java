@@ -0,0 +1,311 @@
+package cap01;
+
+/**
+ * IndicePrefixos.java
+ * <p>
+ * Índice para completar nomes de aprendizes pelo começo: dado um prefixo,
+ * devolve os primeiros nomes que começam com ele, em ordem alfabética.
+ * <p>
+ * Os nomes entram dobrados pela mesma regra do Vocabulario: sem acentos e em
+ * minúsculas, então "gér", "GER" e "ger" completam "Geralt". O índice é uma
+ * árvore de prefixos (trie) guardada em vetores paralelos de tipos
+ * primitivos, um nó por posição: o caractere, o primeiro filho, o próximo
+ * irmão (irmãos em ordem de caractere), o pai e quantos ids há no nó e
+ * abaixo dele. Cada nó onde um nome termina guarda uma lista encadeada dos
+ * ids com aquele nome.
+ * <p>
+ * Completar desce um nó por caractere do prefixo e depois percorre a
+ * subárvore em pré-ordem, pulando os ramos vazios pela contagem, até
+ * juntar a quantidade pedida: o custo depende do tamanho do prefixo e da
+ * resposta, não do tamanho da academia. Renomear tira o id do nó antigo,
+ * descontando a contagem até a raiz, e o põe no nó do nome novo; nós que
+ * ficam vazios continuam na árvore (contados, mas pulados na busca) e são
+ * reaproveitados se o nome voltar.
+ * <p>
+ * São poucos vetores grandes, e não um objeto por nó: o coletor de lixo
+ * não percorre o seu conteúdo. Cada nó custa 22 bytes e cada id 8; a
+ * BancadaAcademia mede o total com academia.memoriaPrefixos.
+ * <p>
+ * Mudanças usam a trava exclusiva de um StampedLock e consultas a
+ * compartilhada: crescer um vetor troca a referência, e uma consulta sem
+ * trava poderia misturar vetores de tamanhos diferentes.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+final class IndicePrefixos {
+
+    private static final int NENHUM = -1;
+    private static final int RAIZ = 0;
+    private static final int CAPACIDADE_INICIAL = 1024;
+
+    private final StampedLock trava = new StampedLock();
+
+    // ===== NÓS (vetores paralelos; a posição é o número do nó) =====
+    private char[] letra;
+    private int[] primeiroFilho;
+    private int[] proximoIrmao;
+    private int[] pai;
+    private int[] quantidade; // ids no nó e em toda a subárvore
+    private int[] primeiroId; // ids cujo nome termina no nó
+    private int nos;
+
+    // ===== IDS (a posição é o id do aprendiz) =====
+    private int[] proximoId;
+    private int[] noDoId; // NENHUM para ids fora do índice
+
+    IndicePrefixos() {
+        iniciar();
+    }
+
+    private void iniciar() {
+        letra = new char[CAPACIDADE_INICIAL];
+        primeiroFilho = new int[CAPACIDADE_INICIAL];
+        proximoIrmao = new int[CAPACIDADE_INICIAL];
+        pai = new int[CAPACIDADE_INICIAL];
+        quantidade = new int[CAPACIDADE_INICIAL];
+        primeiroId = new int[CAPACIDADE_INICIAL];
+        nos = 0;
+        novoNo(NENHUM, '\0'); // Raiz: o prefixo vazio
+
+        proximoId = new int[CAPACIDADE_INICIAL];
+        noDoId = new int[CAPACIDADE_INICIAL];
+        Arrays.fill(noDoId, NENHUM);
+    }
+
+    /**
+     * Forma do nome usada no índice: sem acentos e em minúsculas (Vocabulario.dobrarTexto)
+     */
+    static String dobrar(String nome) {
+        return nome == null ? "" : Vocabulario.dobrarTexto(nome);
+    }
+
+    // ===== MUDANÇAS =====
+
+    /**
+     * Indexa o nome de um id que ainda não está no índice
+     */
+    void inserir(int id, String nome) {
+        String chave = dobrar(nome);
+        long carimbo = trava.writeLock();
+        try {
+            colocar(id, chave);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Passa um id para o nó do nome novo (ou o indexa, se ainda não estava)
+     */
+    void renomear(int id, String nomeNovo) {
+        String chave = dobrar(nomeNovo);
+        long carimbo = trava.writeLock();
+        try {
+            retirar(id);
+            colocar(id, chave);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Esvazia o índice; não deve ser usado com outros operadores ativos
+     */
+    void limpar() {
+        long carimbo = trava.writeLock();
+        try {
+            iniciar();
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    // Chamado com a trava exclusiva
+    private void colocar(int id, String chave) {
+        garantirIds(id);
+        int no = RAIZ;
+        quantidade[no]++;
+        for (int i = 0; i < chave.length(); i++) {
+            no = filho(no, chave.charAt(i));
+            quantidade[no]++;
+        }
+        proximoId[id] = primeiroId[no];
+        primeiroId[no] = id;
+        noDoId[id] = no;
+    }
+
+    // Chamado com a trava exclusiva
+    private void retirar(int id) {
+        if (id >= noDoId.length || noDoId[id] == NENHUM) {
+            return;
+        }
+        int no = noDoId[id];
+        noDoId[id] = NENHUM;
+
+        // Nomes repetidos são raros: a lista do nó costuma ter um id só
+        if (primeiroId[no] == id) {
+            primeiroId[no] = proximoId[id];
+        } else {
+            int anterior = primeiroId[no];
+            while (proximoId[anterior] != id) {
+                anterior = proximoId[anterior];
+            }
+            proximoId[anterior] = proximoId[id];
+        }
+        for (int atual = no; atual != NENHUM; atual = pai[atual]) {
+            quantidade[atual]--;
+        }
+    }
+
+    /**
+     * Filho do nó com o caractere, criado na posição certa entre os irmãos se ainda não existe
+     */
+    private int filho(int no, char c) {
+        int anterior = NENHUM;
+        int atual = primeiroFilho[no];
+        while (atual != NENHUM && letra[atual] < c) {
+            anterior = atual;
+            atual = proximoIrmao[atual];
+        }
+        if (atual != NENHUM && letra[atual] == c) {
+            return atual;
+        }
+
+        int novo = novoNo(no, c);
+        proximoIrmao[novo] = atual;
+        if (anterior == NENHUM) {
+            primeiroFilho[no] = novo;
+        } else {
+            proximoIrmao[anterior] = novo;
+        }
+        return novo;
+    }
+
+    private int novoNo(int paiDoNo, char c) {
+        if (nos == letra.length) {
+            int capacidade = nos + (nos >> 1);
+            letra = Arrays.copyOf(letra, capacidade);
+            primeiroFilho = Arrays.copyOf(primeiroFilho, capacidade);
+            proximoIrmao = Arrays.copyOf(proximoIrmao, capacidade);
+            pai = Arrays.copyOf(pai, capacidade);
+            quantidade = Arrays.copyOf(quantidade, capacidade);
+            primeiroId = Arrays.copyOf(primeiroId, capacidade);
+        }
+        int no = nos++;
+        letra[no] = c;
+        primeiroFilho[no] = NENHUM;
+        proximoIrmao[no] = NENHUM;
+        pai[no] = paiDoNo;
+        quantidade[no] = 0;
+        primeiroId[no] = NENHUM;
+        return no;
+    }
+
+    private void garantirIds(int id) {
+        if (id >= noDoId.length) {
+            int capacidade = Math.max(id + 1, noDoId.length + (noDoId.length >> 1));
+            int anterior = noDoId.length;
+            proximoId = Arrays.copyOf(proximoId, capacidade);
+            noDoId = Arrays.copyOf(noDoId, capacidade);
+            Arrays.fill(noDoId, anterior, capacidade, NENHUM);
+        }
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Ids dos primeiros nomes que começam com o prefixo (sem distinção de
+     * maiúsculas nem de acentos)
+     *
+     * @param prefixo começo do nome
+     * @param limite quantos ids devolver, no máximo
+     * @return ids em ordem alfabética dos nomes; com nomes iguais, os
+     *         renomeados ou cadastrados por último vêm primeiro
+     */
+    int[] completar(String prefixo, int limite) {
+        String chave = dobrar(prefixo);
+        long carimbo = trava.readLock();
+        try {
+            int inicio = RAIZ;
+            for (int i = 0; i < chave.length() && inicio != NENHUM; i++) {
+                inicio = procurarFilho(inicio, chave.charAt(i));
+            }
+            if (inicio == NENHUM || limite <= 0 || quantidade[inicio] == 0) {
+                return new int[0];
+            }
+
+            int[] ids = new int[Math.min(limite, quantidade[inicio])];
+            int encontrados = 0;
+            int atual = inicio;
+            // Pré-ordem: o nome do nó vem antes dos que o continuam, e irmãos em ordem de caractere
+            while (true) {
+                for (int id = primeiroId[atual]; id != NENHUM && encontrados < ids.length; id = proximoId[id]) {
+                    ids[encontrados++] = id;
+                }
+                if (encontrados == ids.length) {
+                    break;
+                }
+
+                int proximo = primeiroNaoVazio(primeiroFilho[atual]);
+                while (proximo == NENHUM && atual != inicio) {
+                    // Sem filhos com ids: sobe até um ancestral que tenha um irmão com ids
+                    proximo = primeiroNaoVazio(proximoIrmao[atual]);
+                    atual = pai[atual];
+                }
+                if (proximo == NENHUM) {
+                    break;
+                }
+                atual = proximo;
+            }
+            return encontrados == ids.length ? ids : Arrays.copyOf(ids, encontrados);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    private int procurarFilho(int no, char c) {
+        int atual = primeiroFilho[no];
+        while (atual != NENHUM && letra[atual] < c) {
+            atual = proximoIrmao[atual];
+        }
+        return atual != NENHUM && letra[atual] == c ? atual : NENHUM;
+    }
+
+    private int primeiroNaoVazio(int no) {
+        while (no != NENHUM && quantidade[no] == 0) {
+            no = proximoIrmao[no];
+        }
+        return no;
+    }
+
+    /**
+     * @return nós da árvore, incluindo a raiz e os que ficaram vazios
+     */
+    int quantidadeNos() {
+        long carimbo = trava.readLock();
+        try {
+            return nos;
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * @return bytes ocupados pelos vetores do índice (capacidade, não só o usado)
+     */
+    long bytesOcupados() {
+        long carimbo = trava.readLock();
+        try {
+            long porNo = Character.BYTES + 5L * Integer.BYTES;
+            long porId = 2L * Integer.BYTES;
+            return letra.length * porNo + noDoId.length * porId;
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+}
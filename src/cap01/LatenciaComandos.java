@@ -0,0 +1,160 @@
+package cap01;
+
+/**
+ * LatenciaComandos.java
+ * <p>
+ * Latência dos comandos do menu principal, somada entre todas as sessões
+ * do ServidorAcademia (ou de uma carga da CargaAcademia).
+ * <p>
+ * Para cada opção do menu guarda a quantidade, o tempo total, o máximo e
+ * um histograma em nanossegundos: cada potência de 2 é dividida em 8
+ * faixas iguais (abaixo de 8 ns, uma faixa por valor). Os percentis saem
+ * do histograma, então são limites superiores com erro de no máximo
+ * 12,5%: o bastante para comparar duas medições e ver uma regressão.
+ * <p>
+ * Registrar não trava nada (LongAdder e contadores atômicos), então
+ * milhares de sessões podem registrar ao mesmo tempo.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LatenciaComandos {
+
+    // Opção do menu -> nome exibido; a posição 0 junta as opções inválidas
+    private static final String[] COMANDOS = {
+            "opção inválida",
+            "1. adicionar aprendiz",
+            "2. listar aprendizes",
+            "3. buscar por nome",
+            "4. treinar habilidades",
+            "5. relatório estatístico",
+            "6. sair",
+            "7. placar de níveis",
+            "8. treino em lote"
+    };
+
+    // 8 subfaixas por potência de 2: 62 potências (2^3 a 2^63, mais os valores abaixo de 8) x 8
+    private static final int BITS_SUBFAIXA = 3;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    private static final int FAIXAS = (Long.SIZE - BITS_SUBFAIXA + 1) * SUBFAIXAS;
+
+    // Percentis exibidos, com os títulos das colunas
+    private static final double[] PERCENTIS = {0.50, 0.90, 0.99, 0.999};
+    private static final String[] TITULOS_PERCENTIS = {"p50 ≤ µs", "p90 ≤ µs", "p99 ≤ µs", "p99,9 ≤ µs"};
+
+    private final LongAdder[] quantidades = new LongAdder[COMANDOS.length];
+    private final LongAdder[] totaisNanos = new LongAdder[COMANDOS.length];
+    private final AtomicLong[] maximosNanos = new AtomicLong[COMANDOS.length];
+    private final AtomicLongArray[] histogramas = new AtomicLongArray[COMANDOS.length];
+
+    LatenciaComandos() {
+        for (int i = 0; i < COMANDOS.length; i++) {
+            quantidades[i] = new LongAdder();
+            totaisNanos[i] = new LongAdder();
+            maximosNanos[i] = new AtomicLong();
+            histogramas[i] = new AtomicLongArray(FAIXAS);
+        }
+    }
+
+    /**
+     * @param opcao opção do menu executada
+     * @param nanos tempo de serviço do comando
+     */
+    void registrar(int opcao, long nanos) {
+        int comando = opcao >= 1 && opcao < COMANDOS.length ? opcao : 0;
+        long duracao = Math.max(nanos, 0);
+        quantidades[comando].increment();
+        totaisNanos[comando].add(duracao);
+        maximosNanos[comando].accumulateAndGet(duracao, Math::max);
+        histogramas[comando].incrementAndGet(faixa(duracao));
+    }
+
+    /**
+     * Faixa do histograma onde cai uma duração
+     */
+    private static int faixa(long nanos) {
+        if (nanos < SUBFAIXAS) {
+            return (int) nanos;
+        }
+        int expoente = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subfaixa = (int) (nanos >>> (expoente - BITS_SUBFAIXA)) & (SUBFAIXAS - 1);
+        return (expoente - BITS_SUBFAIXA + 1) * SUBFAIXAS + subfaixa;
+    }
+
+    /**
+     * Maior duração (ns) que cai na faixa
+     */
+    private static long limiteSuperior(int faixa) {
+        if (faixa < SUBFAIXAS) {
+            return faixa;
+        }
+        int expoente = faixa / SUBFAIXAS + BITS_SUBFAIXA - 1;
+        int subfaixa = faixa % SUBFAIXAS;
+        long limite = ((long) (SUBFAIXAS + subfaixa + 1) << (expoente - BITS_SUBFAIXA)) - 1;
+        return limite < 0 ? Long.MAX_VALUE : limite; // A última faixa passaria de 2^63
+    }
+
+    /**
+     * @return total de comandos registrados
+     */
+    long total() {
+        long total = 0;
+        for (LongAdder quantidade : quantidades) {
+            total += quantidade.sum();
+        }
+        return total;
+    }
+
+    // ===== RELATÓRIO =====
+
+    /**
+     * Exibe uma linha por comando já executado, com os tempos em microssegundos
+     */
+    void exibir(Saida saida) {
+        StringBuilder titulo = new StringBuilder(String.format("%-26s %10s %12s", "Comando", "Qtde", "Média µs"));
+        for (String percentil : TITULOS_PERCENTIS) {
+            titulo.append(String.format(" %12s", percentil));
+        }
+        titulo.append(String.format(" %12s", "Máx µs"));
+        saida.println(titulo.toString());
+        saida.println("─".repeat(titulo.length()));
+        for (int i = 1; i <= COMANDOS.length; i++) {
+            int comando = i % COMANDOS.length; // As inválidas por último
+            long quantidade = quantidades[comando].sum();
+            if (quantidade == 0) {
+                continue;
+            }
+            // O limite da faixa pode passar do máximo observado: o máximo é exato
+            long maximo = maximosNanos[comando].get();
+            StringBuilder linha = new StringBuilder(String.format("%-26s %10d %12.1f",
+                    COMANDOS[comando], quantidade, totaisNanos[comando].sum() / 1000.0 / quantidade));
+            for (double fracao : PERCENTIS) {
+                linha.append(String.format(" %12.1f",
+                        Math.min(percentil(histogramas[comando], quantidade, fracao), maximo) / 1000.0));
+            }
+            linha.append(String.format(" %12.1f", maximo / 1000.0));
+            saida.println(linha.toString());
+        }
+        saida.flush();
+    }
+
+    /**
+     * @return limite superior (ns) da faixa onde cai o percentil pedido
+     */
+    private static long percentil(AtomicLongArray histograma, long quantidade, double fracao) {
+        long alvo = Math.max(1, (long) Math.ceil(quantidade * fracao));
+        long acumulado = 0;
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            acumulado += histograma.get(faixa);
+            if (acumulado >= alvo) {
+                return limiteSuperior(faixa);
+            }
+        }
+        return Long.MAX_VALUE; // Registros chegando durante a leitura
+    }
+}
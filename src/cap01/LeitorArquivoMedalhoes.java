@@ -0,0 +1,279 @@
+package cap01;
+
+/**
+ * LeitorArquivoMedalhoes.java
+ * <p>
+ * Leitura rápida do arquivo de medalhões para jobs de análise.
+ * <p>
+ * Cada segmento é mapeado em memória (somente leitura) e percorrido por um
+ * cursor reaproveitado: os campos da pontuação são lidos direto das suas
+ * posições fixas no registro, sem copiar bytes e sem criar objetos por
+ * registro. Nome e lema só viram String quando a consulta os pede.
+ * <p>
+ * O leitor enxerga os segmentos como estavam no momento da abertura;
+ * um registro incompleto no fim de um segmento encerra a leitura dele.
+ * <p>
+ * Uso:
+ *   java cap01.LeitorArquivoMedalhoes medalhoes
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+final class LeitorArquivoMedalhoes {
+
+    private final List<MappedByteBuffer> segmentos;
+
+    private LeitorArquivoMedalhoes(List<MappedByteBuffer> segmentos) {
+        this.segmentos = segmentos;
+    }
+
+    /**
+     * Mapeia todos os segmentos de um arquivo de medalhões
+     *
+     * @param diretorio diretório dos segmentos
+     * @return leitor pronto para criar cursores
+     */
+    static LeitorArquivoMedalhoes abrir(Path diretorio) throws IOException {
+        List<MappedByteBuffer> mapeados = new ArrayList<>();
+        for (Path caminho : ArquivoMedalhoes.listarSegmentos(diretorio)) {
+            // O mapeamento continua válido depois que o canal é fechado
+            try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+                MappedByteBuffer segmento = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+                if (segmento.limit() < ArquivoMedalhoes.TAMANHO_CABECALHO_SEGMENTO
+                        || segmento.getInt(0) != ArquivoMedalhoes.MAGICO) {
+                    throw new IOException("Não é um segmento de medalhões: " + caminho);
+                }
+                if (segmento.getInt(4) != ArquivoMedalhoes.VERSAO) {
+                    throw new IOException("Versão de segmento não suportada (" + segmento.getInt(4) + "): " + caminho);
+                }
+                mapeados.add(segmento);
+            }
+        }
+        return new LeitorArquivoMedalhoes(mapeados);
+    }
+
+    /**
+     * @return total de bytes mapeados
+     */
+    long tamanhoEmBytes() {
+        long total = 0;
+        for (MappedByteBuffer segmento : segmentos) {
+            total += segmento.limit();
+        }
+        return total;
+    }
+
+    /**
+     * @return novo cursor posicionado antes do primeiro registro
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Cursor sobre todos os registros, na ordem de gravação
+     * <p>
+     * O mesmo objeto representa o registro atual a cada chamada de proximo();
+     * os valores lidos dele não devem ser guardados como se fossem do registro.
+     * Um cursor não deve ser compartilhado entre threads.
+     */
+    final class Cursor {
+        private int numeroSegmento = -1;
+        private ByteBuffer atual;
+        private int corpo;           // Início do corpo do registro atual
+        private int proximaPosicao;  // Início do próximo registro
+
+        private Cursor() {
+        }
+
+        /**
+         * Avança para o próximo registro
+         *
+         * @return false quando não há mais registros
+         */
+        boolean proximo() {
+            while (true) {
+                if (atual != null && proximaPosicao + ArquivoMedalhoes.TAMANHO_CABECALHO_REGISTRO <= atual.limit()) {
+                    int tamanhoCorpo = atual.getInt(proximaPosicao);
+                    int inicioCorpo = proximaPosicao + ArquivoMedalhoes.TAMANHO_CABECALHO_REGISTRO;
+                    if (tamanhoCorpo >= ArquivoMedalhoes.TAMANHO_FIXO_CORPO
+                            && tamanhoCorpo <= atual.limit() - inicioCorpo) {
+                        corpo = inicioCorpo;
+                        proximaPosicao = inicioCorpo + tamanhoCorpo;
+                        return true;
+                    }
+                }
+
+                // Segmento terminado (ou com registro incompleto no fim): passa ao próximo
+                if (++numeroSegmento >= segmentos.size()) {
+                    atual = null;
+                    return false;
+                }
+                atual = segmentos.get(numeroSegmento);
+                proximaPosicao = ArquivoMedalhoes.TAMANHO_CABECALHO_SEGMENTO;
+            }
+        }
+
+        // ===== CAMPOS DE TAMANHO FIXO (leitura direta, sem cópia) =====
+
+        long criadoEm() {
+            return atual.getLong(corpo + ArquivoMedalhoes.POSICAO_MOMENTO);
+        }
+
+        int codigoEscola() {
+            return atual.get(corpo + ArquivoMedalhoes.POSICAO_ESCOLA);
+        }
+
+        int codigoSinal() {
+            return atual.get(corpo + ArquivoMedalhoes.POSICAO_SINAL);
+        }
+
+        int codigoCor() {
+            return atual.get(corpo + ArquivoMedalhoes.POSICAO_COR);
+        }
+
+        int horas() {
+            return Byte.toUnsignedInt(atual.get(corpo + ArquivoMedalhoes.POSICAO_HORAS));
+        }
+
+        int pontosEscola() {
+            return componente(0);
+        }
+
+        int pontosSinal() {
+            return componente(1);
+        }
+
+        int pontosHoras() {
+            return componente(2);
+        }
+
+        int pontosCor() {
+            return componente(3);
+        }
+
+        int bonusCombinacao() {
+            return componente(4);
+        }
+
+        int bonusPersonalizacao() {
+            return componente(5);
+        }
+
+        private int componente(int indice) {
+            return atual.get(corpo + ArquivoMedalhoes.POSICAO_COMPONENTES + indice);
+        }
+
+        /**
+         * @return pontuação total, mesma soma de SistemaPontuacao.calcularTotal
+         */
+        int total() {
+            int inicio = corpo + ArquivoMedalhoes.POSICAO_COMPONENTES;
+            return atual.get(inicio) + atual.get(inicio + 1) + atual.get(inicio + 2)
+                    + atual.get(inicio + 3) + atual.get(inicio + 4) + atual.get(inicio + 5);
+        }
+
+        /**
+         * @return código da classificação, de 0 (Aprendiz Promissor) a 5 (Grão-Mestre)
+         */
+        int codigoClassificacao() {
+            return NucleoPontuacao.codigoClassificacao(total());
+        }
+
+        /**
+         * @return texto da classificação (constante compartilhada, nada é criado)
+         */
+        String classificacao() {
+            return NucleoPontuacao.classificacao(codigoClassificacao());
+        }
+
+        // ===== CAMPOS DE TEXTO (decodificados só quando pedidos) =====
+
+        String nome() {
+            return lerTexto(corpo + ArquivoMedalhoes.POSICAO_NOME);
+        }
+
+        String lema() {
+            int posicaoNome = corpo + ArquivoMedalhoes.POSICAO_NOME;
+            return lerTexto(posicaoNome + 2 + Short.toUnsignedInt(atual.getShort(posicaoNome)));
+        }
+
+        private String lerTexto(int posicao) {
+            byte[] bytes = new byte[Short.toUnsignedInt(atual.getShort(posicao))];
+            atual.get(posicao + 2, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // ===== LINHA DE COMANDO =====
+
+    /**
+     * Varre o arquivo inteiro e exibe estatísticas da pontuação
+     *
+     * @param args diretório do arquivo de medalhões e opcionalmente --saida=buffer|console|descarte
+     */
+    public static void main(String[] args) {
+        String diretorio = null;
+        for (String arg : args) {
+            if (!arg.startsWith("--saida=")) {
+                diretorio = arg;
+            }
+        }
+        if (diretorio == null) {
+            System.err.println("Uso: java cap01.LeitorArquivoMedalhoes <diretório>");
+            System.exit(1);
+        }
+        if (!Files.isDirectory(Path.of(diretorio))) {
+            System.err.println("❌ Diretório não encontrado: " + diretorio);
+            System.exit(1);
+        }
+
+        Saida saida = Saida.escolher(args, Saida.porNome("buffer"));
+        try {
+            long inicio = System.nanoTime();
+            LeitorArquivoMedalhoes leitor = abrir(Path.of(diretorio));
+
+            long registros = 0;
+            long somaTotal = 0;
+            int maiorTotal = 0;
+            long[] porClassificacao = new long[NucleoPontuacao.quantidadeClassificacoes()];
+            LeitorArquivoMedalhoes.Cursor cursor = leitor.cursor();
+            while (cursor.proximo()) {
+                int total = cursor.total();
+                registros++;
+                somaTotal += total;
+                maiorTotal = Math.max(maiorTotal, total);
+                porClassificacao[NucleoPontuacao.codigoClassificacao(total)]++;
+            }
+            double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+            saida.println("📊 ANÁLISE DO ARQUIVO DE MEDALHÕES");
+            saida.println("   📦 Registros: " + registros);
+            saida.println("   📈 Pontuação média: " + String.format("%.1f", registros > 0 ? (double) somaTotal / registros : 0));
+            saida.println("   🏆 Maior pontuação: " + maiorTotal);
+            for (int codigo = porClassificacao.length - 1; codigo >= 0; codigo--) {
+                saida.println("   " + NucleoPontuacao.classificacao(codigo) + ": " + porClassificacao[codigo]);
+            }
+            double megabytes = leitor.tamanhoEmBytes() / (1024.0 * 1024.0);
+            saida.println("   ⏱️ Varredura: " + String.format("%.3f", segundos) + " s ("
+                    + String.format("%.1f", segundos > 0 ? megabytes / segundos : 0) + " MB/s)");
+        } catch (IOException e) {
+            System.err.println("❌ Erro ao ler o arquivo de medalhões: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            saida.flush();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package cap01;
+
+/**
+ * LeitorEntrada.java
+ * <p>
+ * Leitor de linhas e números para os menus da academia e da forja, no
+ * lugar do java.util.Scanner, feito para entradas roteirizadas grandes
+ * (centenas de MB redirecionados para o programa).
+ * <p>
+ * Os bytes são lidos da origem direto para um vetor de bytes, em blocos
+ * de 64 KB (2 KB nas conexões do ServidorAcademia, que podem ser
+ * milhares), e as quebras de linha são procuradas direto nos bytes: nenhuma expressão regular, e só a
+ * linha pedida é decodificada (UTF-8) em uma String. As respostas
+ * continuam as mesmas do Scanner:
+ * - lerLinha é o nextLine: devolve o resto da linha atual, sem a quebra
+ *   (\n, \r\n ou \r)
+ * - lerInteiro é o nextInt: pula espaços e quebras de linha e lê a
+ *   próxima palavra, deixando a quebra depois dela para o lerLinha
+ *   seguinte. Uma palavra que não é um número inteiro devolve null em vez
+ *   de lançar InputMismatchException; como no Scanner, quem chama
+ *   descarta o resto da linha com lerLinha
+ * - No fim da entrada, lerLinha e lerInteiro lançam
+ *   NoSuchElementException, como o Scanner (temLinha pergunta antes)
+ * <p>
+ * Diferenças: só o sinal e os dígitos de 0 a 9 formam um número (sem
+ * separadores de milhar nem dígitos de outros alfabetos), e só os espaços
+ * ASCII separam palavras.
+ * <p>
+ * Para gravar uma sessão (RoteiroSessao), o leitor pode anotar as
+ * respostas lidas: cada linha é uma resposta, e um número lido com
+ * lerInteiro forma uma resposta com o resto da sua linha. O número entra
+ * já normalizado ("+05" vira "5", e uma palavra que não é número vira
+ * "?"), e as linhas em branco puladas antes dele não entram.
+ * <p>
+ * A leitura não passa por um adaptador de canal (Channels.newChannel):
+ * ele segura um monitor enquanto espera, e uma sessão remota em thread
+ * virtual esperando o operador prenderia a thread do sistema por baixo.
+ * <p>
+ * Não é seguro para várias threads: cada sessão tem o seu leitor.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+final class LeitorEntrada implements Closeable {
+
+    // Tamanho do bloco lido da origem (64 KB)
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    // Bloco de uma conexão do servidor: o operador digita uma linha por vez
+    private static final int TAMANHO_BUFFER_CONEXAO = 2048;
+
+    private final InputStream origem;
+    private final byte[] dados;
+    private int posicao;
+    private int limite;
+    private boolean fimDaOrigem;
+
+    // A última linha terminou em '\r': um '\n' logo em seguida pertence a ela
+    private boolean pularQuebra;
+
+    // Pedaço de uma linha maior que o que restava no bloco
+    private byte[] linhaParcial = new byte[256];
+    private int tamanhoParcial;
+
+    // Respostas anotadas para a gravação (null sem gravação) e o número à espera do resto da linha
+    private List<String> respostas;
+    private String numeroPendente;
+
+    /**
+     * @param origem origem dos bytes; fechada por close
+     */
+    LeitorEntrada(InputStream origem) {
+        this(origem, TAMANHO_BUFFER);
+    }
+
+    private LeitorEntrada(InputStream origem, int tamanhoBuffer) {
+        this.origem = origem;
+        this.dados = new byte[tamanhoBuffer];
+    }
+
+    /**
+     * Leitor da entrada padrão, lida direto do descritor do processo
+     * Não misture com leituras de System.in: cada um guarda o que já leu
+     */
+    static LeitorEntrada padrao() {
+        return new LeitorEntrada(new FileInputStream(FileDescriptor.in));
+    }
+
+    /**
+     * Leitor de uma conexão do ServidorAcademia, com um bloco pequeno:
+     * uma sessão ociosa custa poucos KB
+     *
+     * @param origem entrada da conexão; fechada por close
+     */
+    static LeitorEntrada daConexao(InputStream origem) {
+        return new LeitorEntrada(origem, TAMANHO_BUFFER_CONEXAO);
+    }
+
+    /**
+     * Leitor de um texto fixo, para respostas roteirizadas (bancada, CargaAcademia)
+     * O buffer tem o tamanho do texto: um leitor por comando custa pouco
+     */
+    static LeitorEntrada deTexto(String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        return new LeitorEntrada(new ByteArrayInputStream(bytes),
+                Math.max(1, Math.min(bytes.length, TAMANHO_BUFFER)));
+    }
+
+    /**
+     * Passa a anotar cada resposta lida no fim da lista (null para parar)
+     */
+    void anotarRespostas(List<String> destino) {
+        respostas = destino;
+        numeroPendente = null;
+    }
+
+    private void anotar(String linha) {
+        if (respostas != null) {
+            respostas.add(numeroPendente == null ? linha : numeroPendente + linha);
+            numeroPendente = null;
+        }
+    }
+
+    private Integer anotarNumero(Integer numero) {
+        if (respostas != null) {
+            if (numeroPendente != null) {
+                anotar(""); // Dois números na mesma linha: cada um é uma resposta
+            }
+            numeroPendente = numero == null ? "?" : numero.toString();
+        }
+        return numero;
+    }
+
+    // ===== LINHAS =====
+
+    /**
+     * @return true se ainda há uma linha (mesmo que vazia) para ler
+     */
+    boolean temLinha() {
+        return temDados();
+    }
+
+    /**
+     * Resto da linha atual, sem a quebra de linha
+     *
+     * @throws NoSuchElementException no fim da entrada
+     */
+    String lerLinha() {
+        if (!temDados()) {
+            throw new NoSuchElementException("Fim da entrada");
+        }
+        tamanhoParcial = 0;
+        while (true) {
+            for (int i = posicao; i < limite; i++) {
+                byte b = dados[i];
+                if (b == '\n' || b == '\r') {
+                    String linha = montarLinha(i);
+                    posicao = i + 1;
+                    pularQuebra = b == '\r';
+                    anotar(linha);
+                    return linha;
+                }
+            }
+            guardarParcial(posicao, limite);
+            posicao = limite;
+            if (!encher()) {
+                // Última linha, sem quebra no fim
+                String linha = new String(linhaParcial, 0, tamanhoParcial, StandardCharsets.UTF_8);
+                anotar(linha);
+                return linha;
+            }
+        }
+    }
+
+    private String montarLinha(int fimLinha) {
+        if (tamanhoParcial == 0) {
+            return new String(dados, posicao, fimLinha - posicao, StandardCharsets.UTF_8);
+        }
+        guardarParcial(posicao, fimLinha);
+        return new String(linhaParcial, 0, tamanhoParcial, StandardCharsets.UTF_8);
+    }
+
+    private void guardarParcial(int inicio, int fim) {
+        int tamanho = fim - inicio;
+        if (tamanhoParcial + tamanho > linhaParcial.length) {
+            linhaParcial = Arrays.copyOf(linhaParcial, Math.max(linhaParcial.length * 2, tamanhoParcial + tamanho));
+        }
+        System.arraycopy(dados, inicio, linhaParcial, tamanhoParcial, tamanho);
+        tamanhoParcial += tamanho;
+    }
+
+    // ===== NÚMEROS =====
+
+    /**
+     * Próxima palavra como número inteiro, pulando espaços e linhas em branco
+     * A palavra é consumida mesmo quando não é um número; a quebra de linha
+     * depois dela fica para o próximo lerLinha
+     *
+     * @return o número, ou null se a palavra não for um int
+     * @throws NoSuchElementException se a entrada acabar antes de uma palavra
+     */
+    Integer lerInteiro() {
+        // Pula espaços e quebras de linha, como o nextInt
+        while (true) {
+            if (!temDados()) {
+                throw new NoSuchElementException("Fim da entrada");
+            }
+            if (!espaco(dados[posicao])) {
+                break;
+            }
+            posicao++;
+        }
+
+        boolean negativo = false;
+        boolean valido = true;
+        int digitos = 0;
+        long numero = 0;
+        if (dados[posicao] == '-' || dados[posicao] == '+') {
+            negativo = dados[posicao] == '-';
+            posicao++;
+        }
+        // A palavra vai até o próximo espaço ou o fim da entrada, mesmo atravessando blocos
+        while (posicao < limite || encher()) {
+            byte b = dados[posicao];
+            if (espaco(b)) {
+                break;
+            }
+            posicao++;
+            if (b >= '0' && b <= '9' && valido) {
+                numero = numero * 10 + (b - '0');
+                digitos++;
+                valido = numero <= (long) Integer.MAX_VALUE + 1;
+            } else {
+                valido = false;
+            }
+        }
+
+        numero = negativo ? -numero : numero;
+        if (!valido || digitos == 0 || numero > Integer.MAX_VALUE) {
+            return anotarNumero(null);
+        }
+        return anotarNumero((int) numero);
+    }
+
+    private static boolean espaco(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0B
+                || (b >= 0x1C && b <= 0x1F);
+    }
+
+    // ===== BLOCOS =====
+
+    /**
+     * Garante ao menos um byte por ler, descartando o '\n' de um "\r\n"
+     *
+     * @return false no fim da entrada
+     */
+    private boolean temDados() {
+        if (posicao == limite && !encher()) {
+            return false;
+        }
+        if (pularQuebra) {
+            pularQuebra = false;
+            if (dados[posicao] == '\n') {
+                posicao++;
+                return posicao < limite || encher();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lê o próximo bloco da origem; só é chamado com o bloco atual consumido
+     *
+     * @return false no fim da entrada
+     */
+    private boolean encher() {
+        if (fimDaOrigem) {
+            return false;
+        }
+        try {
+            int lidos;
+            do {
+                lidos = origem.read(dados, 0, dados.length);
+            } while (lidos == 0);
+            if (lidos < 0) {
+                fimDaOrigem = true;
+                posicao = limite = 0;
+                return false;
+            }
+            posicao = 0;
+            limite = lidos;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler a entrada", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            origem.close();
+        } catch (IOException e) {
+            // Nada mais a ler de qualquer forma
+        }
+    }
+}
@@ -22,14 +22,18 @@ package cap01;
  * @version 2.0 - Versão Completa
  */
 
-import java.util.Scanner;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.InputMismatchException;
+import java.util.Arrays;
 
 public class MedalhaoPersonalizadoTerminado {
 
@@ -39,7 +43,7 @@ public class MedalhaoPersonalizadoTerminado {
      * Lista de escolas válidas de bruxos
      * Utilizada para validação de entrada do usuário
      */
-    private static final List<String> ESCOLAS_VALIDAS = List.of(
+    static final List<String> ESCOLAS_VALIDAS = List.of(
             "lobo", "grifo", "gato", "víbora", "urso", "manticora"
     );
 
@@ -47,7 +51,7 @@ public class MedalhaoPersonalizadoTerminado {
      * Lista de sinais mágicos válidos
      * Cada sinal possui características e pontuações específicas
      */
-    private static final List<String> SINAIS_VALIDOS = List.of(
+    static final List<String> SINAIS_VALIDOS = List.of(
             "igni", "quen", "aard", "axii", "yrden"
     );
 
@@ -55,7 +59,7 @@ public class MedalhaoPersonalizadoTerminado {
      * Cores disponíveis para personalização do medalhão
      * Cada cor representa um material diferente
      */
-    private static final List<String> CORES_VALIDAS = List.of(
+    static final List<String> CORES_VALIDAS = List.of(
             "prata", "ouro", "bronze", "rubi", "esmeralda", "ametista"
     );
 
@@ -63,16 +67,38 @@ public class MedalhaoPersonalizadoTerminado {
      * Tipos de borda disponíveis para o medalhão
      * Cada estilo possui uma representação ASCII diferente
      */
-    private static final List<String> BORDAS_VALIDAS = List.of(
+    static final List<String> BORDAS_VALIDAS = List.of(
             "simples", "dupla", "ornamentada", "mística", "real"
     );
 
+    /**
+     * Símbolos pessoais, na ordem do menu (1 a 6)
+     * A forja em lote aceita o número ou o nome
+     */
+    static final List<String> SIMBOLOS_VALIDOS = List.of(
+            "espada", "escudo", "livro", "fogo", "raio", "estrela"
+    );
+
+    // Desenhos, descrições e pontos de cada item das listas acima: CatalogoMedalhao
+
     // Constantes numéricas para validação
-    private static final int HORAS_MINIMAS = 1;
-    private static final int HORAS_MAXIMAS = 100;
-    private static final int NOME_TAMANHO_MINIMO = 2;
-    private static final int NOME_TAMANHO_MAXIMO = 30;
-    private static final int LEMA_TAMANHO_MAXIMO = 50;
+    static final int HORAS_MINIMAS = 1;
+    static final int HORAS_MAXIMAS = 100;
+    static final int NOME_TAMANHO_MINIMO = 2;
+    static final int NOME_TAMANHO_MAXIMO = 30;
+    static final int LEMA_TAMANHO_MAXIMO = 50;
+
+    /**
+     * Destino de todo o texto exibido pela forja
+     * Console por padrão; pode ser trocado com --saida=buffer|descarte
+     */
+    private static Saida saida = new Saida.Console();
+
+    /**
+     * Lema usado quando o aprendiz não define nenhum
+     * Não concede bônus de personalização
+     */
+    static final String LEMA_PADRAO = "Sem lema definido";
 
     // ===== CLASSE INTERNA PARA SISTEMA DE PONTUAÇÃO =====
 
@@ -80,7 +106,7 @@ public class MedalhaoPersonalizadoTerminado {
      * Classe responsável por calcular e gerenciar a pontuação do medalhão
      * Utiliza encapsulamento para manter os dados organizados
      */
-    private static class SistemaPontuacao {
+    static class SistemaPontuacao {
         private int pontosEscola;
         private int pontosSinal;
         private int pontosHoras;
@@ -102,13 +128,7 @@ public class MedalhaoPersonalizadoTerminado {
          * @return string com a classificação e emoji correspondente
          */
         public String getClassificacao() {
-            int total = calcularTotal();
-            if (total >= 150) return "Grão-Mestre Java 👑";
-            if (total >= 120) return "Mestre Java 🏆";
-            if (total >= 90) return "Bruxo Veterano ⭐⭐⭐⭐";
-            if (total >= 60) return "Bruxo Sênior ⭐⭐⭐";
-            if (total >= 30) return "Bruxo Júnior ⭐⭐";
-            return "Aprendiz Promissor ⭐";
+            return NucleoPontuacao.classificacao(NucleoPontuacao.codigoClassificacao(calcularTotal()));
         }
 
         /**
@@ -186,15 +206,25 @@ public class MedalhaoPersonalizadoTerminado {
      * Método principal - ponto de entrada da aplicação
      * Coordena todo o fluxo do programa de forma sequencial
      *
-     * @param args argumentos da linha de comando (não utilizados)
+     * @param args argumentos da linha de comando; "--lote [arquivo]" ativa a forja em lote,
+     *             "--saida=console|buffer|descarte" escolhe o destino do texto e
+     *             "--apelidos=arquivo" acrescenta apelidos ao Vocabulario
      */
     public static void main(String[] args) {
-        // Criando scanner para entrada de dados - será usado em todo o programa
-        Scanner entrada = new Scanner(System.in);
+        // Modo não interativo: forja um lote inteiro de medalhões a partir de um arquivo
+        if (args.length > 0 && args[0].equals("--lote")) {
+            ForjaEmLote.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        saida = Saida.escolher(args, saida);
+        carregarApelidos(args);
+
+        // Criando o leitor da entrada de dados - será usado em todo o programa
+        LeitorEntrada entrada = LeitorEntrada.padrao();
 
         try {
             // 1. Exibir cabeçalho artístico do programa
-            exibirCabecalho();
+            exibirCabecalho(entrada);
 
             // 2. Coletar informações básicas do usuário com validação
             String nome = validarNome(entrada);
@@ -229,11 +259,25 @@ public class MedalhaoPersonalizadoTerminado {
 
         } catch (Exception e) {
             // Tratamento global de exceções
-            System.out.println("\n❌ Erro inesperado: " + e.getMessage());
-            System.out.println("🔧 Por favor, reinicie o programa e tente novamente.");
+            saida.println("\n❌ Erro inesperado: " + e.getMessage());
+            saida.println("🔧 Por favor, reinicie o programa e tente novamente.");
         } finally {
-            // Garantir que o scanner seja fechado para liberar recursos
+            // Garantir que o scanner seja fechado e todo o texto seja exibido
             entrada.close();
+            saida.flush();
+        }
+    }
+
+    /**
+     * Acrescenta ao Vocabulario os apelidos de --apelidos=... (se houver);
+     * encerra o programa se o arquivo não puder ser usado
+     */
+    static void carregarApelidos(String[] args) {
+        try {
+            Vocabulario.escolher(args);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("❌ Não foi possível carregar os apelidos: " + e.getMessage());
+            System.exit(1);
         }
     }
 
@@ -242,44 +286,43 @@ public class MedalhaoPersonalizadoTerminado {
     /**
      * Exibe o cabeçalho artístico do programa
      * Utiliza caracteres Unicode para criar uma interface visualmente atraente
+     *
+     * @param entrada leitor da entrada de dados, para a pausa no fim
      */
-    public static void exibirCabecalho() {
-        System.out.println("\033[2J\033[1;1H"); // Limpa a tela (compatível com a maioria dos terminais)
-
-        System.out.println("╔══════════════════════════════════════════════════════════╗");
-        System.out.println("║              🏰 FORJA DE MEDALHÕES JAVA 🏰               ║");
-        System.out.println("║                    Kaer Morhen Academy                   ║");
-        System.out.println("║                     Versão 2.0 - Completa               ║");
-        System.out.println("╚══════════════════════════════════════════════════════════╝");
-        System.out.println();
-        System.out.println("Bem-vindo à Forja Ancestral de Medalhões Java!");
-        System.out.println("Aqui você criará seu primeiro artefato Java personalizado,");
-        System.out.println("que representará sua jornada única como desenvolvedor.");
-        System.out.println();
-        System.out.println("⚔️ Cada escolha influenciará sua pontuação final");
-        System.out.println("🎯 Combinações especiais concedem bônus extras");
-        System.out.println("💾 Seu medalhão será salvo automaticamente");
-        System.out.println();
-        pausarExecucao();
+    public static void exibirCabecalho(LeitorEntrada entrada) {
+        saida.println("\033[2J\033[1;1H"); // Limpa a tela (compatível com a maioria dos terminais)
+
+        saida.println("╔══════════════════════════════════════════════════════════╗");
+        saida.println("║              🏰 FORJA DE MEDALHÕES JAVA 🏰               ║");
+        saida.println("║                    Kaer Morhen Academy                   ║");
+        saida.println("║                     Versão 2.0 - Completa               ║");
+        saida.println("╚══════════════════════════════════════════════════════════╝");
+        saida.println();
+        saida.println("Bem-vindo à Forja Ancestral de Medalhões Java!");
+        saida.println("Aqui você criará seu primeiro artefato Java personalizado,");
+        saida.println("que representará sua jornada única como desenvolvedor.");
+        saida.println();
+        saida.println("⚔️ Cada escolha influenciará sua pontuação final");
+        saida.println("🎯 Combinações especiais concedem bônus extras");
+        saida.println("💾 Seu medalhão será salvo automaticamente");
+        saida.println();
+        pausarExecucao(entrada);
     }
 
     /**
      * Pausa a execução aguardando o usuário pressionar Enter
      * Melhora a experiência do usuário permitindo leitura em seu próprio ritmo
+     *
+     * @param entrada leitor da entrada de dados
      */
-    public static void pausarExecucao() {
-        System.out.print("Pressione Enter para continuar...");
-        try {
-            while (System.in.read() != '\n') {
-                /*Aguarda até que o usuário pressione Enter
-                 Como o System.in.read() consome apenas um único caractere, e quando pressionamos Enter ele manda
-                 tanto um '\r' quanto um '\n', rodamos ele até consumir o '\n' (quebra de linha) e não afetar
-                 a próxima leitura do Scanner.*/
-            }
-        } catch (IOException e) {
-            // Ignora erro de I/O na pausa
+    public static void pausarExecucao(LeitorEntrada entrada) {
+        saida.print("Pressione Enter para continuar...");
+        // Descarta a linha inteira (com "\r\n" ou "\n"), pelo mesmo leitor das respostas
+        // seguintes; no fim da entrada não há o que esperar
+        if (entrada.temLinha()) {
+            entrada.lerLinha();
         }
-        System.out.println();
+        saida.println();
     }
 
     // ===== MÉTODOS DE VALIDAÇÃO =====
@@ -290,40 +333,23 @@ public class MedalhaoPersonalizadoTerminado {
      * - Apenas letras, espaços e acentos
      * - Não permite nomes vazios ou apenas espaços
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return nome válido fornecido pelo usuário
      */
-    public static String validarNome(Scanner entrada) {
+    public static String validarNome(LeitorEntrada entrada) {
         while (true) {
-            System.out.print("🧙 Digite seu nome, jovem aprendiz: ");
-            String nome = entrada.nextLine().trim();
-
-            // Validação: nome vazio
-            if (nome.isEmpty()) {
-                System.out.println("⚠️ O nome não pode estar vazio!");
-                continue;
-            }
-
-            // Validação: tamanho mínimo
-            if (nome.length() < NOME_TAMANHO_MINIMO) {
-                System.out.println("⚠️ Nome deve ter pelo menos " + NOME_TAMANHO_MINIMO + " caracteres!");
-                continue;
-            }
+            saida.print("🧙 Digite seu nome, jovem aprendiz: ");
+            String nome = entrada.lerLinha().trim();
 
-            // Validação: tamanho máximo
-            if (nome.length() > NOME_TAMANHO_MAXIMO) {
-                System.out.println("⚠️ Nome deve ter no máximo " + NOME_TAMANHO_MAXIMO + " caracteres!");
-                continue;
-            }
-
-            // Validação: apenas letras, espaços e acentos (regex para caracteres válidos)
-            if (!nome.matches("[a-zA-ZÀ-ÿ\\u00C0-\\u017F ]+")) {
-                System.out.println("⚠️ Use apenas letras e espaços no nome!");
+            // Validação: vazio, tamanho e caracteres permitidos
+            String aviso = verificarNome(nome);
+            if (aviso != null) {
+                saida.println(aviso);
                 continue;
             }
 
             // Se chegou até aqui, o nome é válido
-            System.out.println("✅ Nome aceito: " + nome);
+            saida.println("✅ Nome aceito: " + nome);
             return nome;
         }
     }
@@ -332,38 +358,38 @@ public class MedalhaoPersonalizadoTerminado {
      * Valida a escolha da escola de bruxo
      * Exibe opções disponíveis e valida a entrada
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return escola válida escolhida pelo usuário
      */
-    public static String validarEscola(Scanner entrada) {
-        System.out.println("\n🏰 ESCOLAS DE BRUXOS DISPONÍVEIS:");
-        System.out.println("   🐺 Lobo - Versátil e adaptável");
-        System.out.println("   🦅 Grifo - Nobre e preciso");
-        System.out.println("   🐱 Gato - Ágil e furtivo");
-        System.out.println("   🐍 Víbora - Místico e venenoso");
-        System.out.println("   🐻 Urso - Forte e resistente");
-        System.out.println("   🦁 Manticora - Raro e poderoso");
-        System.out.println();
+    public static String validarEscola(LeitorEntrada entrada) {
+        saida.println("\n🏰 ESCOLAS DE BRUXOS DISPONÍVEIS:");
+        for (int escola = 0; escola < ESCOLAS_VALIDAS.size(); escola++) {
+            saida.println("   " + CatalogoMedalhao.simboloEscola(escola) + " " + capitalizar(ESCOLAS_VALIDAS.get(escola))
+                    + " - " + CatalogoMedalhao.descricaoEscola(escola));
+        }
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Escolha sua escola: ");
-            String escola = entrada.nextLine().toLowerCase().trim();
+            saida.print("🎯 Escolha sua escola: ");
+            String resposta = entrada.lerLinha();
 
             // Validação: entrada vazia
-            if (escola.isEmpty()) {
-                System.out.println("⚠️ Por favor, digite o nome de uma escola!");
+            if (resposta.trim().isEmpty()) {
+                saida.println("⚠️ Por favor, digite o nome de uma escola!");
                 continue;
             }
 
-            // Validação: escola válida
-            if (ESCOLAS_VALIDAS.contains(escola)) {
-                System.out.println("✅ Escola escolhida: " + capitalizar(escola));
+            // Validação: escola válida (qualquer caixa ou acentuação; devolve o nome canônico)
+            int codigo = Vocabulario.atual().resolver(Vocabulario.Categoria.ESCOLA, resposta);
+            if (codigo != Vocabulario.NENHUM) {
+                String escola = Vocabulario.canonico(Vocabulario.Categoria.ESCOLA, codigo);
+                saida.println("✅ Escola escolhida: " + capitalizar(escola));
                 return escola;
             }
 
             // Feedback para entrada inválida
-            System.out.println("⚠️ Escola não reconhecida!");
-            System.out.println("💡 Opções válidas: " + String.join(", ", ESCOLAS_VALIDAS));
+            saida.println("⚠️ Escola não reconhecida!");
+            saida.println("💡 Opções válidas: " + String.join(", ", ESCOLAS_VALIDAS));
         }
     }
 
@@ -371,37 +397,38 @@ public class MedalhaoPersonalizadoTerminado {
      * Valida a escolha do sinal mágico favorito
      * Apresenta informações sobre cada sinal
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return sinal válido escolhido pelo usuário
      */
-    public static String validarSinal(Scanner entrada) {
-        System.out.println("\n⚡ SINAIS MÁGICOS DISPONÍVEIS:");
-        System.out.println("   🔥 Igni - Fogo devastador");
-        System.out.println("   🛡️ Quen - Escudo protetor");
-        System.out.println("   💨 Aard - Onda de choque");
-        System.out.println("   🌀 Axii - Controle mental");
-        System.out.println("   ⭕ Yrden - Armadilha mágica");
-        System.out.println();
+    public static String validarSinal(LeitorEntrada entrada) {
+        saida.println("\n⚡ SINAIS MÁGICOS DISPONÍVEIS:");
+        for (int sinal = 0; sinal < SINAIS_VALIDOS.size(); sinal++) {
+            saida.println("   " + CatalogoMedalhao.iconeSinal(sinal) + " " + capitalizar(SINAIS_VALIDOS.get(sinal))
+                    + " - " + CatalogoMedalhao.descricaoSinal(sinal));
+        }
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Qual seu sinal favorito? ");
-            String sinal = entrada.nextLine().toLowerCase().trim();
+            saida.print("🎯 Qual seu sinal favorito? ");
+            String resposta = entrada.lerLinha();
 
             // Validação: entrada vazia
-            if (sinal.isEmpty()) {
-                System.out.println("⚠️ Por favor, digite o nome de um sinal!");
+            if (resposta.trim().isEmpty()) {
+                saida.println("⚠️ Por favor, digite o nome de um sinal!");
                 continue;
             }
 
-            // Validação: sinal válido
-            if (SINAIS_VALIDOS.contains(sinal)) {
-                System.out.println("✅ Sinal escolhido: " + capitalizar(sinal));
+            // Validação: sinal válido (qualquer caixa ou acentuação; devolve o nome canônico)
+            int codigo = Vocabulario.atual().resolver(Vocabulario.Categoria.SINAL, resposta);
+            if (codigo != Vocabulario.NENHUM) {
+                String sinal = Vocabulario.canonico(Vocabulario.Categoria.SINAL, codigo);
+                saida.println("✅ Sinal escolhido: " + capitalizar(sinal));
                 return sinal;
             }
 
             // Feedback para entrada inválida
-            System.out.println("⚠️ Sinal não reconhecido!");
-            System.out.println("💡 Opções válidas: " + String.join(", ", SINAIS_VALIDOS));
+            saida.println("⚠️ Sinal não reconhecido!");
+            saida.println("💡 Opções válidas: " + String.join(", ", SINAIS_VALIDOS));
         }
     }
 
@@ -409,34 +436,34 @@ public class MedalhaoPersonalizadoTerminado {
      * Valida as horas de estudo semanais
      * Inclui tratamento de exceções para entradas não numéricas
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return número de horas válido
      */
-    public static int validarHoras(Scanner entrada) {
-        System.out.println("\n⏰ DEDICAÇÃO DE ESTUDO:");
-        System.out.println("   📚 Quanto tempo você pretende dedicar ao Java por semana?");
-        System.out.println("   💡 Recomendamos entre 5-20 horas para iniciantes");
-        System.out.println();
+    public static int validarHoras(LeitorEntrada entrada) {
+        saida.println("\n⏰ DEDICAÇÃO DE ESTUDO:");
+        saida.println("   📚 Quanto tempo você pretende dedicar ao Java por semana?");
+        saida.println("   💡 Recomendamos entre 5-20 horas para iniciantes");
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Horas por semana (1-" + HORAS_MAXIMAS + "): ");
+            saida.print("🎯 Horas por semana (1-" + HORAS_MAXIMAS + "): ");
 
-            try {
-                int horas = entrada.nextInt();
-                entrada.nextLine(); // Consumir quebra de linha
+            Integer horas = entrada.lerInteiro();
+            entrada.lerLinha(); // Consumir quebra de linha (e o resto de uma entrada inválida)
 
-                // Validação: faixa válida
-                if (horas >= HORAS_MINIMAS && horas <= HORAS_MAXIMAS) {
-                    System.out.println("✅ Dedicação definida: " + horas + " horas/semana");
-                    return horas;
-                } else {
-                    System.out.println("⚠️ Digite um número entre " + HORAS_MINIMAS + " e " + HORAS_MAXIMAS + "!");
-                }
+            // Tratamento para entrada não numérica
+            if (horas == null) {
+                saida.println("⚠️ Por favor, digite apenas números!");
+                continue;
+            }
 
-            } catch (InputMismatchException e) {
-                // Tratamento para entrada não numérica
-                System.out.println("⚠️ Por favor, digite apenas números!");
-                entrada.nextLine(); // Limpar entrada inválida
+            // Validação: faixa válida
+            String aviso = verificarHoras(horas);
+            if (aviso == null) {
+                saida.println("✅ Dedicação definida: " + horas + " horas/semana");
+                return horas;
+            } else {
+                saida.println(aviso);
             }
         }
     }
@@ -445,39 +472,90 @@ public class MedalhaoPersonalizadoTerminado {
      * Valida a escolha da cor do medalhão
      * Cada cor representa um material diferente
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return cor válida escolhida pelo usuário
      */
-    public static String validarCor(Scanner entrada) {
-        System.out.println("\n🎨 CORES DISPONÍVEIS PARA SEU MEDALHÃO:");
-        System.out.println("   🥈 Prata - Clássica e elegante");
-        System.out.println("   🥇 Ouro - Luxuosa e brilhante");
-        System.out.println("   🥉 Bronze - Rústica e durável");
-        System.out.println("   💎 Rubi - Vermelha e poderosa");
-        System.out.println("   💚 Esmeralda - Verde e mística");
-        System.out.println("   💜 Ametista - Roxa e enigmática");
-        System.out.println();
+    public static String validarCor(LeitorEntrada entrada) {
+        saida.println("\n🎨 CORES DISPONÍVEIS PARA SEU MEDALHÃO:");
+        for (int cor = 0; cor < CORES_VALIDAS.size(); cor++) {
+            saida.println("   " + CatalogoMedalhao.iconeCor(cor) + " " + capitalizar(CORES_VALIDAS.get(cor))
+                    + " - " + CatalogoMedalhao.descricaoCor(cor));
+        }
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Escolha a cor do seu medalhão: ");
-            String cor = entrada.nextLine().toLowerCase().trim();
+            saida.print("🎯 Escolha a cor do seu medalhão: ");
+            String resposta = entrada.lerLinha();
 
             // Validação: entrada vazia
-            if (cor.isEmpty()) {
-                System.out.println("⚠️ Por favor, digite o nome de uma cor!");
+            if (resposta.trim().isEmpty()) {
+                saida.println("⚠️ Por favor, digite o nome de uma cor!");
                 continue;
             }
 
-            // Validação: cor válida
-            if (CORES_VALIDAS.contains(cor)) {
-                System.out.println("✅ Cor escolhida: " + capitalizar(cor));
+            // Validação: cor válida (qualquer caixa ou acentuação; devolve o nome canônico)
+            int codigo = Vocabulario.atual().resolver(Vocabulario.Categoria.COR, resposta);
+            if (codigo != Vocabulario.NENHUM) {
+                String cor = Vocabulario.canonico(Vocabulario.Categoria.COR, codigo);
+                saida.println("✅ Cor escolhida: " + capitalizar(cor));
                 return cor;
             }
 
             // Feedback para entrada inválida
-            System.out.println("⚠️ Cor não disponível!");
-            System.out.println("💡 Opções válidas: " + String.join(", ", CORES_VALIDAS));
+            saida.println("⚠️ Cor não disponível!");
+            saida.println("💡 Opções válidas: " + String.join(", ", CORES_VALIDAS));
+        }
+    }
+
+    // ===== VERIFICAÇÕES SEM INTERAÇÃO =====
+    // Regras do ValidadorMedalhao, compartilhadas entre os prompts acima e a forja em lote (ForjaEmLote)
+
+    /**
+     * Verifica um nome já sem espaços nas pontas
+     *
+     * @param nome nome a verificar
+     * @return null se o nome for válido, ou a mensagem de aviso correspondente
+     */
+    static String verificarNome(String nome) {
+        // Vazio, tamanho e caracteres permitidos (letras, espaços e acentos)
+        ValidadorMedalhao.Problema problema = ValidadorMedalhao.problemaNome(nome);
+        return problema == null ? null : problema.mensagem(nome);
+    }
+
+    /**
+     * Verifica se as horas semanais estão na faixa permitida
+     *
+     * @param horas horas de estudo por semana
+     * @return null se válidas, ou a mensagem de aviso correspondente
+     */
+    static String verificarHoras(int horas) {
+        if (ValidadorMedalhao.horasValidas(horas)) {
+            return null;
         }
+        return ValidadorMedalhao.Problema.HORAS_FORA_DA_FAIXA.mensagem(String.valueOf(horas));
+    }
+
+    /**
+     * Verifica o tamanho de um lema não vazio
+     *
+     * @param lema lema a verificar
+     * @return null se válido, ou a mensagem de aviso correspondente
+     */
+    static String verificarLema(String lema) {
+        if (ValidadorMedalhao.lemaValido(lema)) {
+            return null;
+        }
+        return ValidadorMedalhao.Problema.LEMA_LONGO.mensagem(lema);
+    }
+
+    /**
+     * Converte o número do menu de símbolos pessoais no emoji correspondente
+     *
+     * @param escolha número entre 1 e 6
+     * @return emoji do símbolo, ou null se o número for inválido
+     */
+    static String simboloPorNumero(int escolha) {
+        return CatalogoMedalhao.simboloPessoal(escolha - 1);
     }
 
     // ===== MÉTODOS DE PERSONALIZAÇÃO AVANÇADA =====
@@ -486,37 +564,38 @@ public class MedalhaoPersonalizadoTerminado {
      * Permite ao usuário escolher o estilo da borda do medalhão
      * Cada estilo possui uma representação visual diferente
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return string representando o estilo de borda escolhido
      */
-    public static String escolherEstiloBorda(Scanner entrada) {
-        System.out.println("\n🖼️ ESTILOS DE BORDA DISPONÍVEIS:");
-        System.out.println("   ═══ Simples - Clean e minimalista");
-        System.out.println("   ║││ Dupla - Elegante e forte");
-        System.out.println("   ▓▓▓ Ornamentada - Rica em detalhes");
-        System.out.println("   ✦✦✦ Mística - Símbolos mágicos");
-        System.out.println("   ♦♦♦ Real - Feita para reis");
-        System.out.println();
+    public static String escolherEstiloBorda(LeitorEntrada entrada) {
+        saida.println("\n🖼️ ESTILOS DE BORDA DISPONÍVEIS:");
+        for (int borda = 0; borda < BORDAS_VALIDAS.size(); borda++) {
+            saida.println("   " + CatalogoMedalhao.amostraBorda(borda) + " " + capitalizar(BORDAS_VALIDAS.get(borda))
+                    + " - " + CatalogoMedalhao.descricaoBorda(borda));
+        }
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Escolha o estilo da borda: ");
-            String borda = entrada.nextLine().toLowerCase().trim();
+            saida.print("🎯 Escolha o estilo da borda: ");
+            String resposta = entrada.lerLinha();
 
             // Validação: entrada vazia
-            if (borda.isEmpty()) {
-                System.out.println("⚠️ Por favor, digite a borda desejada!");
+            if (resposta.trim().isEmpty()) {
+                saida.println("⚠️ Por favor, digite a borda desejada!");
                 continue;
             }
 
-            // Validação: borda válida
-            if (BORDAS_VALIDAS.contains(borda)) {
-                System.out.println("✅ Borda escolhida: " + capitalizar(borda));
+            // Validação: borda válida (qualquer caixa ou acentuação; devolve o nome canônico)
+            int codigo = Vocabulario.atual().resolver(Vocabulario.Categoria.BORDA, resposta);
+            if (codigo != Vocabulario.NENHUM) {
+                String borda = Vocabulario.canonico(Vocabulario.Categoria.BORDA, codigo);
+                saida.println("✅ Borda escolhida: " + capitalizar(borda));
                 return borda;
             }
 
             // Feedback para entrada inválida
-            System.out.println("⚠️ Borda não disponível!");
-            System.out.println("💡 Opções válidas: " + String.join(", ", BORDAS_VALIDAS));
+            saida.println("⚠️ Borda não disponível!");
+            saida.println("💡 Opções válidas: " + String.join(", ", BORDAS_VALIDAS));
         }
     }
 
@@ -524,33 +603,34 @@ public class MedalhaoPersonalizadoTerminado {
      * Coleta um lema personalizado do usuário
      * O lema será exibido no medalhão como frase motivacional
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return lema válido fornecido pelo usuário
      */
-    public static String coletarLema(Scanner entrada) {
-        System.out.println("\n📜 LEMA PESSOAL:");
-        System.out.println("   ✍️ Crie um lema que represente sua jornada Java");
-        System.out.println("   💡 Exemplos: 'Código limpo, mente clara' ou 'Debug is my passion'");
-        System.out.println("   📏 Máximo " + LEMA_TAMANHO_MAXIMO + " caracteres");
-        System.out.println();
+    public static String coletarLema(LeitorEntrada entrada) {
+        saida.println("\n📜 LEMA PESSOAL:");
+        saida.println("   ✍️ Crie um lema que represente sua jornada Java");
+        saida.println("   💡 Exemplos: 'Código limpo, mente clara' ou 'Debug is my passion'");
+        saida.println("   📏 Máximo " + LEMA_TAMANHO_MAXIMO + " caracteres");
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Seu lema (Enter para pular): ");
-            String lema = entrada.nextLine().trim();
+            saida.print("🎯 Seu lema (Enter para pular): ");
+            String lema = entrada.lerLinha().trim();
 
             // Permitir lema vazio (opcional)
             if (lema.isEmpty()) {
-                System.out.println("✅ Nenhum lema definido");
-                return "Sem lema definido";
+                saida.println("✅ Nenhum lema definido");
+                return LEMA_PADRAO;
             }
 
             // Validação: tamanho máximo
-            if (lema.length() <= LEMA_TAMANHO_MAXIMO) {
-                System.out.println("✅ Lema definido: \"" + lema + "\"");
+            String aviso = verificarLema(lema);
+            if (aviso == null) {
+                saida.println("✅ Lema definido: \"" + lema + "\"");
                 return lema;
             } else {
-                System.out.println("⚠️ Lema muito longo! Máximo " + LEMA_TAMANHO_MAXIMO + " caracteres.");
-                System.out.println("💡 Atual: " + lema.length() + " caracteres");
+                saida.println(aviso);
+                saida.println("💡 Atual: " + lema.length() + " caracteres");
             }
         }
     }
@@ -559,27 +639,28 @@ public class MedalhaoPersonalizadoTerminado {
      * Pergunta se o usuário deseja um medalhão duplo (frente e verso)
      * Medalhões duplos concedem bônus de personalização
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return true se o usuário escolher medalhão duplo
      */
-    public static boolean perguntarMedalhaoDuplo(Scanner entrada) {
-        System.out.println("\n🔄 MEDALHÃO DUPLO:");
-        System.out.println("   ⚡ Deseja criar um medalhão com frente e verso?");
-        System.out.println("   🎁 Medalhões duplos concedem +10 pontos de bônus!");
-        System.out.println();
+    public static boolean perguntarMedalhaoDuplo(LeitorEntrada entrada) {
+        saida.println("\n🔄 MEDALHÃO DUPLO:");
+        saida.println("   ⚡ Deseja criar um medalhão com frente e verso?");
+        saida.println("   🎁 Medalhões duplos concedem +10 pontos de bônus!");
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Medalhão duplo? (s/n): ");
-            String resposta = entrada.nextLine().toLowerCase().trim();
+            saida.print("🎯 Medalhão duplo? (s/n): ");
+            // s, sim, y, yes / n, não, nao, no (e os apelidos configurados), com qualquer caixa
+            int duplo = Vocabulario.atual().resolver(Vocabulario.Categoria.SIM_NAO, entrada.lerLinha());
 
-            if (resposta.equals("s") || resposta.equals("sim") || resposta.equals("y") || resposta.equals("yes")) {
-                System.out.println("✅ Medalhão duplo selecionado - Bônus aplicado!");
+            if (duplo == Vocabulario.SIM) {
+                saida.println("✅ Medalhão duplo selecionado - Bônus aplicado!");
                 return true;
-            } else if (resposta.equals("n") || resposta.equals("não") || resposta.equals("nao") || resposta.equals("no")) {
-                System.out.println("✅ Medalhão simples selecionado");
+            } else if (duplo == Vocabulario.NAO) {
+                saida.println("✅ Medalhão simples selecionado");
                 return false;
             } else {
-                System.out.println("⚠️ Responda com 's' para sim ou 'n' para não");
+                saida.println("⚠️ Responda com 's' para sim ou 'n' para não");
             }
         }
     }
@@ -588,47 +669,36 @@ public class MedalhaoPersonalizadoTerminado {
      * Permite escolher um símbolo pessoal para o medalhão
      * Cada símbolo representa uma característica do desenvolvedor
      *
-     * @param entrada Scanner para leitura de dados
+     * @param entrada leitor da entrada de dados
      * @return emoji representando o símbolo escolhido
      */
-    public static String escolherSimboloPersonal(Scanner entrada) {
-        System.out.println("\n🔮 SÍMBOLO PESSOAL:");
-        System.out.println("   Escolha um símbolo que represente sua personalidade:");
-        System.out.println("   1. ⚔️ Espada - Determinação e coragem");
-        System.out.println("   2. 🛡️ Escudo - Proteção e defesa");
-        System.out.println("   3. 📚 Livro - Conhecimento e sabedoria");
-        System.out.println("   4. 🔥 Fogo - Paixão e energia");
-        System.out.println("   5. ⚡ Raio - Velocidade e poder");
-        System.out.println("   6. 🌟 Estrela - Aspiração e brilho");
-        System.out.println();
+    public static String escolherSimboloPersonal(LeitorEntrada entrada) {
+        saida.println("\n🔮 SÍMBOLO PESSOAL:");
+        saida.println("   Escolha um símbolo que represente sua personalidade:");
+        for (int simbolo = 0; simbolo < SIMBOLOS_VALIDOS.size(); simbolo++) {
+            saida.println("   " + (simbolo + 1) + ". " + CatalogoMedalhao.simboloPessoal(simbolo) + " "
+                    + capitalizar(SIMBOLOS_VALIDOS.get(simbolo)) + " - " + CatalogoMedalhao.descricaoSimbolo(simbolo));
+        }
+        saida.println();
 
         while (true) {
-            System.out.print("🎯 Escolha seu símbolo (1-6): ");
+            saida.print("🎯 Escolha seu símbolo (1-6): ");
 
-            try {
-                int escolha = entrada.nextInt();
-                entrada.nextLine(); // Consumir quebra de linha
-
-                String simbolo = switch (escolha) {
-                    case 1 -> "⚔️";
-                    case 2 -> "🛡️";
-                    case 3 -> "📚";
-                    case 4 -> "🔥";
-                    case 5 -> "⚡";
-                    case 6 -> "🌟";
-                    default -> null;
-                };
-
-                if (simbolo != null) {
-                    System.out.println("✅ Símbolo escolhido: " + simbolo);
-                    return simbolo;
-                } else {
-                    System.out.println("⚠️ Digite um número entre 1 e 6!");
-                }
+            Integer escolha = entrada.lerInteiro();
+            entrada.lerLinha(); // Consumir quebra de linha (e o resto de uma entrada inválida)
 
-            } catch (InputMismatchException e) {
-                System.out.println("⚠️ Por favor, digite apenas números!");
-                entrada.nextLine(); // Limpar entrada inválida
+            if (escolha == null) {
+                saida.println("⚠️ Por favor, digite apenas números!");
+                continue;
+            }
+
+            String simbolo = simboloPorNumero(escolha);
+
+            if (simbolo != null) {
+                saida.println("✅ Símbolo escolhido: " + simbolo);
+                return simbolo;
+            } else {
+                saida.println("⚠️ Digite um número entre 1 e 6!");
             }
         }
     }
@@ -643,15 +713,8 @@ public class MedalhaoPersonalizadoTerminado {
      * @return emoji representando a escola
      */
     public static String determinarSimboloEscola(String escola) {
-        return switch (escola.toLowerCase()) {
-            case "lobo" -> "🐺";
-            case "grifo" -> "🦅";
-            case "gato" -> "🐱";
-            case "víbora" -> "🐍";
-            case "urso" -> "🐻";
-            case "manticora" -> "🦁";
-            default -> "⚔️"; // Símbolo genérico para escolas não reconhecidas
-        };
+        // Escolas não reconhecidas recebem o símbolo genérico ⚔️
+        return CatalogoMedalhao.simboloEscola(NucleoPontuacao.codigoEscola(escola));
     }
 
     /**
@@ -662,14 +725,8 @@ public class MedalhaoPersonalizadoTerminado {
      * @return string descrevendo o elemento do sinal
      */
     public static String determinarCorSinal(String sinal) {
-        return switch (sinal.toLowerCase()) {
-            case "igni" -> "🔥 FOGO";
-            case "quen" -> "🛡️ PROTEÇÃO";
-            case "aard" -> "💨 FORÇA";
-            case "axii" -> "🌀 MENTE";
-            case "yrden" -> "⭕ ARMADILHA";
-            default -> "✨ MAGIA";
-        };
+        // Sinais não reconhecidos recebem o elemento genérico ✨ MAGIA
+        return CatalogoMedalhao.elementoSinal(NucleoPontuacao.codigoSinal(sinal));
     }
 
     /**
@@ -719,7 +776,7 @@ public class MedalhaoPersonalizadoTerminado {
 
     /**
      * Calcula a pontuação completa do medalhão baseada em todas as escolhas
-     * Sistema complexo que considera múltiplos fatores e bônus
+     * Converte as escolhas em códigos e consulta as tabelas do NucleoPontuacao
      *
      * @param escola escola escolhida
      * @param sinal sinal favorito
@@ -731,85 +788,20 @@ public class MedalhaoPersonalizadoTerminado {
      */
     public static SistemaPontuacao calcularPontuacao(String escola, String sinal, int horas,
                                                      String cor, String lema, boolean medalhaoDuplo) {
-        SistemaPontuacao sp = new SistemaPontuacao();
-
-        // Pontuação base por escola (algumas escolas são mais raras/difíceis)
-        sp.setPontosEscola(switch (escola.toLowerCase()) {
-            case "manticora" -> 35; // Escola mais rara
-            case "lobo" -> 30;      // Escola protagonista
-            case "grifo" -> 25;     // Escola nobre
-            case "víbora" -> 25;    // Escola mística
-            case "urso" -> 20;      // Escola resistente
-            case "gato" -> 20;      // Escola ágil
-            default -> 15;          // Valor padrão
-        });
-
-        // Pontuação por sinal (baseada na dificuldade de domínio)
-        sp.setPontosSinal(switch (sinal.toLowerCase()) {
-            case "axii" -> 40;    // Sinal mais complexo
-            case "yrden" -> 35;   // Sinal tático
-            case "igni" -> 30;    // Sinal ofensivo
-            case "quen" -> 25;    // Sinal defensivo
-            case "aard" -> 25;    // Sinal básico
-            default -> 20;        // Valor padrão
-        });
-
-        // Pontuação por dedicação (máximo 50 pontos)
-        sp.setPontosHoras(Math.min(horas * 2, 50));
-
-        // Pontuação por cor (algumas cores são mais valiosas)
-        sp.setPontosCor(switch (cor.toLowerCase()) {
-            case "rubi", "esmeralda", "ametista" -> 15; // Pedras preciosas
-            case "ouro" -> 12;                          // Metal nobre
-            case "prata" -> 10;                         // Metal clássico
-            case "bronze" -> 8;                         // Metal básico
-            default -> 5;                               // Valor padrão
-        });
-
-        // Bônus por combinações especiais (lore do The Witcher)
-        int bonus = 0;
-
-        // Combinação clássica: Escola do Lobo + Igni
-        if (escola.equals("lobo") && sinal.equals("igni")) {
-            bonus += 20;
-        }
+        int codigoEscola = NucleoPontuacao.codigoEscola(escola);
+        int codigoSinal = NucleoPontuacao.codigoSinal(sinal);
+        int codigoCor = NucleoPontuacao.codigoCor(cor);
 
-        // Combinação defensiva: Escola do Urso + Quen
-        if (escola.equals("urso") && sinal.equals("quen")) {
-            bonus += 15;
-        }
-
-        // Combinação furtiva: Escola do Gato + Axii
-        if (escola.equals("gato") && sinal.equals("axii")) {
-            bonus += 15;
-        }
-
-        // Combinação mística: Escola da Víbora + Yrden
-        if (escola.equals("víbora") && sinal.equals("yrden")) {
-            bonus += 18;
-        }
-
-        sp.setBonusCombinacao(bonus);
-
-        // Bônus por personalização
-        int bonusPersonalizacao = 0;
-
-        // Bônus por lema personalizado (não usar o padrão)
-        if (!lema.equals("Sem lema definido")) {
-            bonusPersonalizacao += 5;
-        }
-
-        // Bônus por medalhão duplo
-        if (medalhaoDuplo) {
-            bonusPersonalizacao += 10;
-        }
-
-        // Bônus por alta dedicação
-        if (horas >= 20) {
-            bonusPersonalizacao += 8;
-        }
+        SistemaPontuacao sp = new SistemaPontuacao();
+        sp.setPontosEscola(NucleoPontuacao.pontosEscola(codigoEscola));
+        sp.setPontosSinal(NucleoPontuacao.pontosSinal(codigoSinal));
+        sp.setPontosHoras(NucleoPontuacao.pontosHoras(horas));
+        sp.setPontosCor(NucleoPontuacao.pontosCor(codigoCor));
+        sp.setBonusCombinacao(NucleoPontuacao.bonusCombinacao(codigoEscola, codigoSinal));
 
-        sp.setBonusPersonalizacao(bonusPersonalizacao);
+        // Lema personalizado (não usar o padrão), medalhão duplo e alta dedicação
+        sp.setBonusPersonalizacao(NucleoPontuacao.bonusPersonalizacao(
+                !lema.equals(LEMA_PADRAO), medalhaoDuplo, horas));
 
         return sp;
     }
@@ -839,56 +831,64 @@ public class MedalhaoPersonalizadoTerminado {
                                       String lema, boolean medalhaoDuplo, String simboloPersonal,
                                       String nivelDedicacao, String previsaoProgresso,
                                       SistemaPontuacao pontuacao) {
+        exibirMedalhao(saida, nome, escola, simboloEscola, sinal, corSinal, cor, estiloBorda,
+                lema, medalhaoDuplo, simboloPersonal, nivelDedicacao, previsaoProgresso, pontuacao);
+    }
+
+    /**
+     * Exibe o medalhão completo em um destino específico
+     * Permite que a forja em lote desenhe vários medalhões em paralelo
+     *
+     * @param saida destino do desenho
+     */
+    static void exibirMedalhao(Saida saida, String nome, String escola, String simboloEscola,
+                               String sinal, String corSinal, String cor, String estiloBorda,
+                               String lema, boolean medalhaoDuplo, String simboloPersonal,
+                               String nivelDedicacao, String previsaoProgresso,
+                               SistemaPontuacao pontuacao) {
 
         // Limpar tela e preparar exibição
-        System.out.println("\n" + "=".repeat(70));
-        System.out.println("          🏅 SEU MEDALHÃO JAVA PERSONALIZADO 🏅");
-        System.out.println("=".repeat(70));
-        System.out.println();
+        saida.println("\n" + "=".repeat(70));
+        saida.println("          🏅 SEU MEDALHÃO JAVA PERSONALIZADO 🏅");
+        saida.println("=".repeat(70));
+        saida.println();
 
         // Determinar caracteres da borda baseado no estilo
-        String bordaChar = switch (estiloBorda) {
-            case "simples" -> "═";
-            case "dupla" -> "║";
-            case "ornamentada" -> "▓";
-            case "mística" -> "✦";
-            case "real" -> "♦";
-            default -> "─";
-        };
+        String bordaChar = CatalogoMedalhao.caractereBorda(CatalogoMedalhao.codigoBorda(estiloBorda));
 
         // Exibir medalhão principal (frente)
-        exibirFrenteMedalhao(nome, simboloEscola, corSinal, cor, bordaChar,
+        exibirFrenteMedalhao(saida, nome, simboloEscola, corSinal, cor, bordaChar,
                 simboloPersonal, escola, sinal, nivelDedicacao);
 
         // Se for medalhão duplo, exibir verso
         if (medalhaoDuplo) {
-            System.out.println("\n" + "─".repeat(50));
-            System.out.println("           🔄 VERSO DO MEDALHÃO 🔄");
-            System.out.println("─".repeat(50));
+            saida.println("\n" + "─".repeat(50));
+            saida.println("           🔄 VERSO DO MEDALHÃO 🔄");
+            saida.println("─".repeat(50));
 
-            exibirVersoMedalhao(lema, previsaoProgresso, pontuacao, bordaChar);
+            exibirVersoMedalhao(saida, lema, previsaoProgresso, pontuacao, bordaChar);
         }
 
         // Exibir informações complementares
-        System.out.println("\n" + "═".repeat(60));
-        System.out.println("📊 INFORMAÇÕES DO MEDALHÃO:");
-        System.out.println("═".repeat(60));
-        System.out.println("👤 Proprietário: " + nome);
-        System.out.println("🏰 Escola: " + capitalizar(escola) + " " + simboloEscola);
-        System.out.println("⚡ Sinal Favorito: " + capitalizar(sinal) + " " + corSinal);
-        System.out.println("🎨 Material: " + capitalizar(cor));
-        System.out.println("🖼️ Estilo: " + capitalizar(estiloBorda));
-        System.out.println("💪 Dedicação: " + nivelDedicacao);
-        System.out.println("📜 Lema: \"" + lema + "\"");
-        System.out.println("🔄 Tipo: " + (medalhaoDuplo ? "Duplo (Frente e Verso)" : "Simples"));
-        System.out.println();
+        saida.println("\n" + "═".repeat(60));
+        saida.println("📊 INFORMAÇÕES DO MEDALHÃO:");
+        saida.println("═".repeat(60));
+        saida.println("👤 Proprietário: " + nome);
+        saida.println("🏰 Escola: " + capitalizar(escola) + " " + simboloEscola);
+        saida.println("⚡ Sinal Favorito: " + capitalizar(sinal) + " " + corSinal);
+        saida.println("🎨 Material: " + capitalizar(cor));
+        saida.println("🖼️ Estilo: " + capitalizar(estiloBorda));
+        saida.println("💪 Dedicação: " + nivelDedicacao);
+        saida.println("📜 Lema: \"" + lema + "\"");
+        saida.println("🔄 Tipo: " + (medalhaoDuplo ? "Duplo (Frente e Verso)" : "Simples"));
+        saida.println();
 
         // Exibir breakdown da pontuação
-        System.out.println(pontuacao.getRelatorioDetalhado());
-        System.out.println("🏆 CLASSIFICAÇÃO FINAL: " + pontuacao.getClassificacao());
-        System.out.println();
-        System.out.println("📈 " + previsaoProgresso);
-        System.out.println();
+        saida.println(pontuacao.getRelatorioDetalhado());
+        saida.println("🏆 CLASSIFICAÇÃO FINAL: " + pontuacao.getClassificacao());
+        saida.println();
+        saida.println("📈 " + previsaoProgresso);
+        saida.println();
     }
 
     /**
@@ -907,32 +907,20 @@ public class MedalhaoPersonalizadoTerminado {
     public static void exibirFrenteMedalhao(String nome, String simboloEscola, String corSinal,
                                             String cor, String bordaChar, String simboloPersonal,
                                             String escola, String sinal, String nivelDedicacao) {
+        exibirFrenteMedalhao(saida, nome, simboloEscola, corSinal, cor, bordaChar,
+                simboloPersonal, escola, sinal, nivelDedicacao);
+    }
 
-        System.out.println("                    ╔" + bordaChar.repeat(16) + "╗");
-        System.out.println("                 ╔" + bordaChar.repeat(2) + "╝            ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("              ╔" + bordaChar.repeat(2) + "╝     " + simboloEscola + "  " + simboloPersonal + "     ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("           ╔" + bordaChar.repeat(2) + "╝       MEDALHÃO       ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("        ╔" + bordaChar.repeat(2) + "╝           JAVA             ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("     ╔" + bordaChar.repeat(2) + "╝              DE                  ╚" + bordaChar.repeat(2) + "╗");
-
-        // Nome centralizado (truncado se muito longo)
-        String nomeExibicao = nome.length() > 14 ? nome.substring(0, 14) : nome;
-        String nomeFormatado = centralizarTexto(nomeExibicao.toUpperCase(), 14);
-
-        System.out.println("  ╔" + bordaChar.repeat(2) + "╝              " + nomeFormatado + "              ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("  " + bordaChar + "                                          " + bordaChar);
-        System.out.println("  " + bordaChar + "    ESCOLA: " + centralizarTexto(escola.toUpperCase(), 8) + " " + simboloEscola + "                   " + bordaChar);
-        System.out.println("  " + bordaChar + "    ELEMENTO: " + corSinal + "               " + bordaChar);
-        System.out.println("  " + bordaChar + "    MATERIAL: " + centralizarTexto(cor.toUpperCase(), 8) + "                ❖    " + bordaChar);
-        System.out.println("  " + bordaChar + "    NÍVEL: " + centralizarTexto(nivelDedicacao, 20) + "     " + bordaChar);
-        System.out.println("  " + bordaChar + "                                          " + bordaChar);
-        System.out.println("  ╚" + bordaChar.repeat(2) + "╗                                  ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("     ╚" + bordaChar.repeat(2) + "╗                          ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("        ╚" + bordaChar.repeat(2) + "╗                    ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("           ╚" + bordaChar.repeat(2) + "╗              ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("              ╚" + bordaChar.repeat(2) + "╗        ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("                 ╚" + bordaChar.repeat(2) + "╗  ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("                    ╚" + bordaChar.repeat(2) + "╝");
+    /**
+     * Exibe a frente do medalhão em um destino específico
+     *
+     * @param saida destino do desenho
+     */
+    static void exibirFrenteMedalhao(Saida saida, String nome, String simboloEscola, String corSinal,
+                                     String cor, String bordaChar, String simboloPersonal,
+                                     String escola, String sinal, String nivelDedicacao) {
+        RenderizadorMedalhao.desenharFrente(saida, bordaChar, nome, simboloEscola, simboloPersonal,
+                escola, corSinal, cor, nivelDedicacao);
     }
 
     /**
@@ -945,30 +933,18 @@ public class MedalhaoPersonalizadoTerminado {
      */
     public static void exibirVersoMedalhao(String lema, String previsaoProgresso,
                                            SistemaPontuacao pontuacao, String bordaChar) {
+        exibirVersoMedalhao(saida, lema, previsaoProgresso, pontuacao, bordaChar);
+    }
 
-        System.out.println("              ╔" + bordaChar.repeat(20) + "╗");
-        System.out.println("           ╔" + bordaChar.repeat(2) + "╝              ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("        ╔" + bordaChar.repeat(2) + "╝      VERSO DO        ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("     ╔" + bordaChar.repeat(2) + "╝        MEDALHÃO           ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("  ╔" + bordaChar.repeat(2) + "╝                              ╚" + bordaChar.repeat(2) + "╗");
-        System.out.println("  " + bordaChar + "                                      " + bordaChar);
-
-        // Exibir lema (quebrar em linhas se necessário)
-        String[] linhasLema = quebrarTexto(lema, 30);
-        System.out.println("  " + bordaChar + "  📜 LEMA:                           " + bordaChar);
-        for (String linha : linhasLema) {
-            System.out.println("  " + bordaChar + "     " + centralizarTexto(linha, 30) + "       " + bordaChar);
-        }
-
-        System.out.println("  " + bordaChar + "                                      " + bordaChar);
-        System.out.println("  " + bordaChar + "  🏆 PONTUAÇÃO: " + centralizarTexto(String.valueOf(pontuacao.calcularTotal()), 5) + " pts          " + bordaChar);
-        System.out.println("  " + bordaChar + "  📊 RANKING: " + centralizarTexto(pontuacao.getClassificacao(), 20) + " " + bordaChar);
-        System.out.println("  " + bordaChar + "                                      " + bordaChar);
-        System.out.println("  ╚" + bordaChar.repeat(2) + "╗                              ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("     ╚" + bordaChar.repeat(2) + "╗                          ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("        ╚" + bordaChar.repeat(2) + "╗                    ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("           ╚" + bordaChar.repeat(2) + "╗              ╔" + bordaChar.repeat(2) + "╝");
-        System.out.println("              ╚" + bordaChar.repeat(16) + "╝");
+    /**
+     * Exibe o verso do medalhão em um destino específico
+     *
+     * @param saida destino do desenho
+     */
+    static void exibirVersoMedalhao(Saida saida, String lema, String previsaoProgresso,
+                                    SistemaPontuacao pontuacao, String bordaChar) {
+        RenderizadorMedalhao.desenharVerso(saida, bordaChar, lema,
+                pontuacao.calcularTotal(), pontuacao.getClassificacao());
     }
 
     // ===== MÉTODOS DE PERSISTÊNCIA =====
@@ -988,68 +964,162 @@ public class MedalhaoPersonalizadoTerminado {
     public static void salvarMedalhaoArquivo(String nome, String escola, String sinal,
                                              int horas, String cor, String lema,
                                              SistemaPontuacao pontuacao) {
+        salvarMedalhaoArquivo(saida, nome, escola, sinal, horas, cor, lema, pontuacao);
+    }
+
+    /**
+     * Salva o medalhão em arquivo, relatando o resultado em um destino específico
+     *
+     * @param saida destino das mensagens de salvamento
+     */
+    static void salvarMedalhaoArquivo(Saida saida, String nome, String escola, String sinal,
+                                      int horas, String cor, String lema,
+                                      SistemaPontuacao pontuacao) {
+        salvarMedalhaoArquivo(saida, Path.of(""), nome, escola, sinal, horas, cor, lema, pontuacao);
+    }
+
+    /**
+     * Salva o medalhão em arquivo dentro de um diretório específico
+     *
+     * @param saida destino das mensagens de salvamento
+     * @param diretorio diretório onde o arquivo é criado
+     */
+    static void salvarMedalhaoArquivo(Saida saida, Path diretorio, String nome, String escola, String sinal,
+                                      int horas, String cor, String lema,
+                                      SistemaPontuacao pontuacao) {
 
         // Gerar nome de arquivo único com timestamp
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String nomeArquivo = "medalhao_" + nome.replaceAll("[^a-zA-Z0-9]", "_") + "_" + timestamp + ".txt";
-
-        try (FileWriter writer = new FileWriter(nomeArquivo)) {
-
-            // Cabeçalho do arquivo
-            writer.write("══════════════════════════════════════════════════════════\n");
-            writer.write("          🏅 MEDALHÃO JAVA PERSONALIZADO 🏅\n");
-            writer.write("                Kaer Morhen Academy\n");
-            writer.write("══════════════════════════════════════════════════════════\n\n");
-
-            // Informações básicas
-            writer.write("👤 INFORMAÇÕES DO APRENDIZ:\n");
-            writer.write("   Nome: " + nome + "\n");
-            writer.write("   Escola: " + capitalizar(escola) + "\n");
-            writer.write("   Sinal Favorito: " + capitalizar(sinal) + "\n");
-            writer.write("   Dedicação Semanal: " + horas + " horas\n");
-            writer.write("   Material do Medalhão: " + capitalizar(cor) + "\n");
-            writer.write("   Lema: \"" + lema + "\"\n\n");
-
-            // Detalhes da pontuação
-            writer.write("📊 SISTEMA DE PONTUAÇÃO:\n");
-            writer.write("   Pontos por Escola: " + pontuacao.getPontosEscola() + "\n");
-            writer.write("   Pontos por Sinal: " + pontuacao.getPontosSinal() + "\n");
-            writer.write("   Pontos por Dedicação: " + pontuacao.getPontosHoras() + "\n");
-            writer.write("   Pontos por Material: " + pontuacao.getPontosCor() + "\n");
-            writer.write("   Bônus Combinação: " + pontuacao.getBonusCombinacao() + "\n");
-            writer.write("   Bônus Personalização: " + pontuacao.getBonusPersonalizacao() + "\n");
-            writer.write("   ──────────────────────────────────\n");
-            writer.write("   PONTUAÇÃO TOTAL: " + pontuacao.calcularTotal() + " pontos\n");
-            writer.write("   CLASSIFICAÇÃO: " + pontuacao.getClassificacao() + "\n\n");
-
-            // Metadados da sessão
-            writer.write("🔧 INFORMAÇÕES TÉCNICAS:\n");
-            writer.write("   Data de Criação: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) + "\n");
-            writer.write("   Hora de Criação: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss")) + "\n");
-            writer.write("   Versão do Programa: 2.0 - Completa\n");
-            writer.write("   Arquivo: " + nomeArquivo + "\n\n");
-
-            // Rodapé motivacional
-            writer.write("═══════════════════════════════════════════════════════════\n");
-            writer.write("🗡️ \"Todo grande bruxo começou exatamente onde você está\n");
-            writer.write("    agora - com curiosidade, determinação e seu primeiro\n");
-            writer.write("    medalhão forjado com as próprias mãos.\"\n");
-            writer.write("                                    - Vesemir de Kaer Morhen\n");
-            writer.write("═══════════════════════════════════════════════════════════\n");
-
-            System.out.println("💾 SALVAMENTO CONCLUÍDO:");
-            System.out.println("   ✅ Arquivo criado: " + nomeArquivo);
-            System.out.println("   📁 Localização: Diretório atual do programa");
-            System.out.println("   📋 Conteúdo: Informações completas do medalhão");
+        LocalDateTime agora = LocalDateTime.now();
+
+        try {
+            // Um arquivo existente nunca é substituído: outro medalhão do mesmo nome
+            // no mesmo segundo (comum na forja em lote) ganha _2, _3...
+            String nomeArquivo = reservarArquivoMedalhao(diretorio, nome, agora);
+
+            // O texto completo é montado antes e gravado de uma só vez
+            try (Writer writer = Files.newBufferedWriter(diretorio.resolve(nomeArquivo), StandardCharsets.UTF_8,
+                    StandardOpenOption.WRITE)) {
+                writer.write(gerarTextoMedalhao(nome, escola, sinal, horas, cor, lema, pontuacao, agora, nomeArquivo));
+            }
+
+            saida.println("💾 SALVAMENTO CONCLUÍDO:");
+            saida.println("   ✅ Arquivo criado: " + nomeArquivo);
+            saida.println("   📁 Localização: Diretório atual do programa");
+            saida.println("   📋 Conteúdo: Informações completas do medalhão");
 
         } catch (IOException e) {
-            System.out.println("❌ ERRO AO SALVAR ARQUIVO:");
-            System.out.println("   🔧 Detalhes técnicos: " + e.getMessage());
-            System.out.println("   💡 Verifique permissões de escrita no diretório");
-            System.out.println("   🔄 O programa continuará normalmente");
+            saida.println("❌ ERRO AO SALVAR ARQUIVO:");
+            saida.println("   🔧 Detalhes técnicos: " + e.getMessage());
+            saida.println("   💡 Verifique permissões de escrita no diretório");
+            saida.println("   🔄 O programa continuará normalmente");
+        }
+    }
+
+    /**
+     * Cria o arquivo (vazio) de um medalhão com o primeiro nome ainda livre
+     * A criação é atômica: duas threads da forja nunca recebem o mesmo nome
+     *
+     * @return nome do arquivo criado
+     */
+    private static String reservarArquivoMedalhao(Path diretorio, String nome, LocalDateTime criadoEm)
+            throws IOException {
+        for (int copia = 1; ; copia++) {
+            String nomeArquivo = nomeArquivoMedalhao(nome, criadoEm, copia);
+            try {
+                Files.createFile(diretorio.resolve(nomeArquivo));
+                return nomeArquivo;
+            } catch (FileAlreadyExistsException e) {
+                // Já existe um medalhão com este nome: tenta a próxima cópia
+            }
         }
     }
 
+    /**
+     * Gera o nome do arquivo de um medalhão: medalhao_[nome]_[data_hora].txt
+     *
+     * @param nome nome do usuário
+     * @param criadoEm momento da criação do medalhão
+     * @return nome do arquivo, com caracteres especiais trocados por "_"
+     */
+    static String nomeArquivoMedalhao(String nome, LocalDateTime criadoEm) {
+        return nomeArquivoMedalhao(nome, criadoEm, 1);
+    }
+
+    /**
+     * @param copia 1 para o primeiro arquivo do nome naquele segundo; a partir
+     *              de 2, o número vai no fim do nome (medalhao_Ana_..._2.txt)
+     */
+    static String nomeArquivoMedalhao(String nome, LocalDateTime criadoEm, int copia) {
+        String timestamp = criadoEm.format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return "medalhao_" + nome.replaceAll("[^a-zA-Z0-9]", "_") + "_" + timestamp
+                + (copia == 1 ? "" : "_" + copia) + ".txt";
+    }
+
+    /**
+     * Monta o texto legível de um medalhão salvo
+     * Usado ao salvar o arquivo e ao reconstruir medalhões do ArquivoMedalhoes
+     *
+     * @param nome nome do usuário
+     * @param escola escola escolhida
+     * @param sinal sinal favorito
+     * @param horas horas de estudo
+     * @param cor cor do medalhão
+     * @param lema lema personalizado
+     * @param pontuacao sistema de pontuação completo
+     * @param criadoEm momento da criação do medalhão
+     * @param nomeArquivo nome do arquivo exibido nas informações técnicas
+     * @return conteúdo completo do arquivo
+     */
+    static String gerarTextoMedalhao(String nome, String escola, String sinal, int horas, String cor,
+                                     String lema, SistemaPontuacao pontuacao,
+                                     LocalDateTime criadoEm, String nomeArquivo) {
+        StringBuilder texto = new StringBuilder(2048);
+
+        // Cabeçalho do arquivo
+        texto.append("══════════════════════════════════════════════════════════\n");
+        texto.append("          🏅 MEDALHÃO JAVA PERSONALIZADO 🏅\n");
+        texto.append("                Kaer Morhen Academy\n");
+        texto.append("══════════════════════════════════════════════════════════\n\n");
+
+        // Informações básicas
+        texto.append("👤 INFORMAÇÕES DO APRENDIZ:\n");
+        texto.append("   Nome: ").append(nome).append("\n");
+        texto.append("   Escola: ").append(capitalizar(escola)).append("\n");
+        texto.append("   Sinal Favorito: ").append(capitalizar(sinal)).append("\n");
+        texto.append("   Dedicação Semanal: ").append(horas).append(" horas\n");
+        texto.append("   Material do Medalhão: ").append(capitalizar(cor)).append("\n");
+        texto.append("   Lema: \"").append(lema).append("\"\n\n");
+
+        // Detalhes da pontuação
+        texto.append("📊 SISTEMA DE PONTUAÇÃO:\n");
+        texto.append("   Pontos por Escola: ").append(pontuacao.getPontosEscola()).append("\n");
+        texto.append("   Pontos por Sinal: ").append(pontuacao.getPontosSinal()).append("\n");
+        texto.append("   Pontos por Dedicação: ").append(pontuacao.getPontosHoras()).append("\n");
+        texto.append("   Pontos por Material: ").append(pontuacao.getPontosCor()).append("\n");
+        texto.append("   Bônus Combinação: ").append(pontuacao.getBonusCombinacao()).append("\n");
+        texto.append("   Bônus Personalização: ").append(pontuacao.getBonusPersonalizacao()).append("\n");
+        texto.append("   ──────────────────────────────────\n");
+        texto.append("   PONTUAÇÃO TOTAL: ").append(pontuacao.calcularTotal()).append(" pontos\n");
+        texto.append("   CLASSIFICAÇÃO: ").append(pontuacao.getClassificacao()).append("\n\n");
+
+        // Metadados da sessão
+        texto.append("🔧 INFORMAÇÕES TÉCNICAS:\n");
+        texto.append("   Data de Criação: ").append(criadoEm.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))).append("\n");
+        texto.append("   Hora de Criação: ").append(criadoEm.format(DateTimeFormatter.ofPattern("HH:mm:ss"))).append("\n");
+        texto.append("   Versão do Programa: 2.0 - Completa\n");
+        texto.append("   Arquivo: ").append(nomeArquivo).append("\n\n");
+
+        // Rodapé motivacional
+        texto.append("═══════════════════════════════════════════════════════════\n");
+        texto.append("🗡️ \"Todo grande bruxo começou exatamente onde você está\n");
+        texto.append("    agora - com curiosidade, determinação e seu primeiro\n");
+        texto.append("    medalhão forjado com as próprias mãos.\"\n");
+        texto.append("                                    - Vesemir de Kaer Morhen\n");
+        texto.append("═══════════════════════════════════════════════════════════\n");
+
+        return texto.toString();
+    }
+
     // ===== MÉTODOS DE FINALIZAÇÃO =====
 
     /**
@@ -1064,54 +1134,54 @@ public class MedalhaoPersonalizadoTerminado {
         LocalDateTime agora = LocalDateTime.now();
         DateTimeFormatter formato = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
-        System.out.println("─".repeat(70));
-        System.out.println("           📋 RESUMO DA SESSÃO DE FORJA");
-        System.out.println("─".repeat(70));
-        System.out.println();
-
-        System.out.println("🎯 OBJETIVOS ALCANÇADOS:");
-        System.out.println("   ✅ Configuração do ambiente Java concluída");
-        System.out.println("   ✅ Primeiro programa Java executado com sucesso");
-        System.out.println("   ✅ Medalhão personalizado forjado");
-        System.out.println("   ✅ Sistema de pontuação aplicado");
-        System.out.println("   ✅ Dados salvos em arquivo permanente");
-        System.out.println();
-
-        System.out.println("📊 ESTATÍSTICAS DA SESSÃO:");
-        System.out.println("   👤 Aprendiz: " + nome);
-        System.out.println("   ⏰ Data/Hora: " + agora.format(formato));
-        System.out.println("   📚 Comprometimento: " + horas + " horas/semana");
-        System.out.println("   🏆 Pontuação Alcançada: " + pontuacao.calcularTotal() + " pontos");
-        System.out.println("   🎖️ Classificação: " + pontuacao.getClassificacao());
-        System.out.println("   💻 Status do Ambiente: ✅ Configurado e funcional");
-        System.out.println();
-
-        System.out.println("🔮 PRÓXIMOS PASSOS NA JORNADA:");
-        System.out.println("   📖 Capítulo 2: 'A Anatomia do Bruxo'");
-        System.out.println("      └─ Fundamentos da Linguagem Java");
-        System.out.println("   📖 Capítulo 3: 'Os Cinco Sinais Fundamentais'");
-        System.out.println("      └─ Estruturas de Controle de Fluxo");
-        System.out.println("   📖 Capítulo 4: 'O Arsenal do Bruxo'");
-        System.out.println("      └─ Arrays e Coleções");
-        System.out.println();
-
-        System.out.println("💡 DICAS PARA CONTINUAR:");
-        System.out.println("   🔄 Pratique executando e modificando seu medalhão");
-        System.out.println("   🛠️ Experimente alterar valores e personalização");
-        System.out.println("   📚 Revise os conceitos aprendidos regularmente");
-        System.out.println("   💪 Mantenha a disciplina de estudo semanal");
-        System.out.println();
-
-        System.out.println("✨ MENSAGEM FINAL:");
-        System.out.println("   Parabéns, " + nome + "! Você deu o primeiro passo em uma");
-        System.out.println("   jornada extraordinária. Seu medalhão não é apenas código");
-        System.out.println("   - é a prova tangível de que você tem o que é preciso para");
-        System.out.println("   se tornar um verdadeiro mestre da programação Java.");
-        System.out.println();
-        System.out.println("   🗡️ Que sua jornada seja longa e próspera!");
-        System.out.println("   🏰 Kaer Morhen Academy - Forjando Mestres desde 2025");
-        System.out.println();
-        System.out.println("═".repeat(70));
+        saida.println("─".repeat(70));
+        saida.println("           📋 RESUMO DA SESSÃO DE FORJA");
+        saida.println("─".repeat(70));
+        saida.println();
+
+        saida.println("🎯 OBJETIVOS ALCANÇADOS:");
+        saida.println("   ✅ Configuração do ambiente Java concluída");
+        saida.println("   ✅ Primeiro programa Java executado com sucesso");
+        saida.println("   ✅ Medalhão personalizado forjado");
+        saida.println("   ✅ Sistema de pontuação aplicado");
+        saida.println("   ✅ Dados salvos em arquivo permanente");
+        saida.println();
+
+        saida.println("📊 ESTATÍSTICAS DA SESSÃO:");
+        saida.println("   👤 Aprendiz: " + nome);
+        saida.println("   ⏰ Data/Hora: " + agora.format(formato));
+        saida.println("   📚 Comprometimento: " + horas + " horas/semana");
+        saida.println("   🏆 Pontuação Alcançada: " + pontuacao.calcularTotal() + " pontos");
+        saida.println("   🎖️ Classificação: " + pontuacao.getClassificacao());
+        saida.println("   💻 Status do Ambiente: ✅ Configurado e funcional");
+        saida.println();
+
+        saida.println("🔮 PRÓXIMOS PASSOS NA JORNADA:");
+        saida.println("   📖 Capítulo 2: 'A Anatomia do Bruxo'");
+        saida.println("      └─ Fundamentos da Linguagem Java");
+        saida.println("   📖 Capítulo 3: 'Os Cinco Sinais Fundamentais'");
+        saida.println("      └─ Estruturas de Controle de Fluxo");
+        saida.println("   📖 Capítulo 4: 'O Arsenal do Bruxo'");
+        saida.println("      └─ Arrays e Coleções");
+        saida.println();
+
+        saida.println("💡 DICAS PARA CONTINUAR:");
+        saida.println("   🔄 Pratique executando e modificando seu medalhão");
+        saida.println("   🛠️ Experimente alterar valores e personalização");
+        saida.println("   📚 Revise os conceitos aprendidos regularmente");
+        saida.println("   💪 Mantenha a disciplina de estudo semanal");
+        saida.println();
+
+        saida.println("✨ MENSAGEM FINAL:");
+        saida.println("   Parabéns, " + nome + "! Você deu o primeiro passo em uma");
+        saida.println("   jornada extraordinária. Seu medalhão não é apenas código");
+        saida.println("   - é a prova tangível de que você tem o que é preciso para");
+        saida.println("   se tornar um verdadeiro mestre da programação Java.");
+        saida.println();
+        saida.println("   🗡️ Que sua jornada seja longa e próspera!");
+        saida.println("   🏰 Kaer Morhen Academy - Forjando Mestres desde 2025");
+        saida.println();
+        saida.println("═".repeat(70));
     }
 
     // ===== MÉTODOS UTILITÁRIOS =====
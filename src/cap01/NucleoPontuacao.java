@@ -0,0 +1,200 @@
+package cap01;
+
+/**
+ * NucleoPontuacao.java
+ * <p>
+ * Núcleo primitivo do sistema de pontuação dos medalhões.
+ * <p>
+ * Escola, sinal e cor são identificados por códigos numéricos pequenos
+ * (ordinais) e cada componente da pontuação é uma consulta a uma tabela
+ * de inteiros calculada uma única vez. Nenhuma chamada cria objetos, o que
+ * torna o núcleo adequado ao laço mais interno dos jobs de pontuação.
+ * <p>
+ * O método calcularPontuacao de MedalhaoPersonalizadoTerminado continua
+ * recebendo Strings e é apenas um adaptador sobre este núcleo.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+final class NucleoPontuacao {
+
+    // ===== CÓDIGOS DE ESCOLA (mesma ordem de ESCOLAS_VALIDAS) =====
+    static final int ESCOLA_LOBO = 0;
+    static final int ESCOLA_GRIFO = 1;
+    static final int ESCOLA_GATO = 2;
+    static final int ESCOLA_VIBORA = 3;
+    static final int ESCOLA_URSO = 4;
+    static final int ESCOLA_MANTICORA = 5;
+    static final int ESCOLA_DESCONHECIDA = 6;
+
+    // ===== CÓDIGOS DE SINAL (mesma ordem de SINAIS_VALIDOS) =====
+    static final int SINAL_IGNI = 0;
+    static final int SINAL_QUEN = 1;
+    static final int SINAL_AARD = 2;
+    static final int SINAL_AXII = 3;
+    static final int SINAL_YRDEN = 4;
+    static final int SINAL_DESCONHECIDO = 5;
+
+    // ===== CÓDIGOS DE COR (mesma ordem de CORES_VALIDAS) =====
+    static final int COR_PRATA = 0;
+    static final int COR_OURO = 1;
+    static final int COR_BRONZE = 2;
+    static final int COR_RUBI = 3;
+    static final int COR_ESMERALDA = 4;
+    static final int COR_AMETISTA = 5;
+    static final int COR_DESCONHECIDA = 6;
+
+    // ===== TABELAS DE PONTUAÇÃO =====
+    // Pontos de escola, sinal e cor: CatalogoMedalhao
+
+    // Dedicação: 2 pontos por hora, até no máximo 50
+    private static final int PONTOS_POR_HORA = 2;
+    private static final int PONTOS_HORAS_MAXIMO = 50;
+
+    // Matriz escola × sinal de bônus por combinações especiais (lore do The Witcher)
+    private static final int COLUNAS_COMBINACAO = SINAL_DESCONHECIDO + 1;
+    private static final int[] BONUS_COMBINACAO = new int[(ESCOLA_DESCONHECIDA + 1) * COLUNAS_COMBINACAO];
+
+    static {
+        BONUS_COMBINACAO[ESCOLA_LOBO * COLUNAS_COMBINACAO + SINAL_IGNI] = 20;   // Combinação clássica
+        BONUS_COMBINACAO[ESCOLA_URSO * COLUNAS_COMBINACAO + SINAL_QUEN] = 15;   // Combinação defensiva
+        BONUS_COMBINACAO[ESCOLA_GATO * COLUNAS_COMBINACAO + SINAL_AXII] = 15;   // Combinação furtiva
+        BONUS_COMBINACAO[ESCOLA_VIBORA * COLUNAS_COMBINACAO + SINAL_YRDEN] = 18; // Combinação mística
+    }
+
+    // Bônus de personalização
+    private static final int BONUS_LEMA = 5;
+    private static final int BONUS_DUPLO = 10;
+    private static final int BONUS_ALTA_DEDICACAO = 8;
+    private static final int HORAS_ALTA_DEDICACAO = 20;
+
+    // ===== CLASSIFICAÇÕES (da mais baixa para a mais alta) =====
+    private static final int[] LIMITES_CLASSIFICACAO = {0, 30, 60, 90, 120, 150};
+    private static final String[] CLASSIFICACOES = {
+            "Aprendiz Promissor ⭐",
+            "Bruxo Júnior ⭐⭐",
+            "Bruxo Sênior ⭐⭐⭐",
+            "Bruxo Veterano ⭐⭐⭐⭐",
+            "Mestre Java 🏆",
+            "Grão-Mestre Java 👑"
+    };
+
+    private NucleoPontuacao() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    // ===== CONVERSÃO DE TEXTO PARA CÓDIGO =====
+    // Os códigos são os ordinais do Vocabulario: sem caixa, sem acentos e sem criar objetos
+
+    static int codigoEscola(String escola) {
+        return codigo(Vocabulario.Categoria.ESCOLA, escola, ESCOLA_DESCONHECIDA);
+    }
+
+    static int codigoSinal(String sinal) {
+        return codigo(Vocabulario.Categoria.SINAL, sinal, SINAL_DESCONHECIDO);
+    }
+
+    static int codigoCor(String cor) {
+        return codigo(Vocabulario.Categoria.COR, cor, COR_DESCONHECIDA);
+    }
+
+    private static int codigo(Vocabulario.Categoria categoria, String texto, int desconhecido) {
+        int codigo = Vocabulario.atual().resolver(categoria, texto);
+        return codigo == Vocabulario.NENHUM ? desconhecido : codigo;
+    }
+
+    // ===== CONVERSÃO DE CÓDIGO PARA TEXTO =====
+    // Usada ao ler registros gravados só com os códigos (ArquivoMedalhoes)
+
+    static String nomeEscola(int escola) {
+        return nome(Vocabulario.Categoria.ESCOLA, escola);
+    }
+
+    static String nomeSinal(int sinal) {
+        return nome(Vocabulario.Categoria.SINAL, sinal);
+    }
+
+    static String nomeCor(int cor) {
+        return nome(Vocabulario.Categoria.COR, cor);
+    }
+
+    private static String nome(Vocabulario.Categoria categoria, int codigo) {
+        String nome = Vocabulario.canonico(categoria, codigo);
+        return nome == null ? "desconhecido" : nome;
+    }
+
+    // ===== COMPONENTES DA PONTUAÇÃO =====
+
+    static int pontosEscola(int escola) {
+        return CatalogoMedalhao.pontosEscola(escola);
+    }
+
+    static int pontosSinal(int sinal) {
+        return CatalogoMedalhao.pontosSinal(sinal);
+    }
+
+    static int pontosHoras(int horas) {
+        return Math.min(horas * PONTOS_POR_HORA, PONTOS_HORAS_MAXIMO);
+    }
+
+    static int pontosCor(int cor) {
+        return CatalogoMedalhao.pontosCor(cor);
+    }
+
+    static int bonusCombinacao(int escola, int sinal) {
+        return BONUS_COMBINACAO[escola * COLUNAS_COMBINACAO + sinal];
+    }
+
+    static int bonusPersonalizacao(boolean lemaPersonalizado, boolean medalhaoDuplo, int horas) {
+        return (lemaPersonalizado ? BONUS_LEMA : 0)
+                + (medalhaoDuplo ? BONUS_DUPLO : 0)
+                + (horas >= HORAS_ALTA_DEDICACAO ? BONUS_ALTA_DEDICACAO : 0);
+    }
+
+    /**
+     * Calcula a pontuação total diretamente a partir dos códigos
+     *
+     * @param escola código da escola
+     * @param sinal código do sinal
+     * @param horas horas de estudo por semana
+     * @param cor código da cor
+     * @param lemaPersonalizado se o aprendiz definiu um lema próprio
+     * @param medalhaoDuplo se o medalhão tem frente e verso
+     * @return pontuação total do medalhão
+     */
+    static int calcularTotal(int escola, int sinal, int horas, int cor,
+                             boolean lemaPersonalizado, boolean medalhaoDuplo) {
+        return CatalogoMedalhao.pontosEscola(escola) + CatalogoMedalhao.pontosSinal(sinal) + pontosHoras(horas)
+                + CatalogoMedalhao.pontosCor(cor)
+                + bonusCombinacao(escola, sinal) + bonusPersonalizacao(lemaPersonalizado, medalhaoDuplo, horas);
+    }
+
+    // ===== CLASSIFICAÇÃO =====
+
+    /**
+     * @param total pontuação total
+     * @return código da classificação, de 0 (Aprendiz Promissor) a 5 (Grão-Mestre)
+     */
+    static int codigoClassificacao(int total) {
+        int codigo = LIMITES_CLASSIFICACAO.length - 1;
+        while (codigo > 0 && total < LIMITES_CLASSIFICACAO[codigo]) {
+            codigo--;
+        }
+        return codigo;
+    }
+
+    /**
+     * @return quantidade de classificações (os códigos vão de 0 a este valor - 1)
+     */
+    static int quantidadeClassificacoes() {
+        return CLASSIFICACOES.length;
+    }
+
+    /**
+     * @param codigo código da classificação
+     * @return texto da classificação com o emoji correspondente
+     */
+    static String classificacao(int codigo) {
+        return CLASSIFICACOES[codigo];
+    }
+}
@@ -0,0 +1,434 @@
+package cap01;
+
+/**
+ * PersistenciaAcademia.java
+ * <p>
+ * Guarda o cadastro de aprendizes em disco: um instantâneo binário
+ * compacto (academia.snap) mais o DiarioAcademia com as alterações
+ * feitas depois dele.
+ * <p>
+ * Na abertura, o instantâneo é mapeado na memória (FileChannel.map) e
+ * carregado de uma vez, e só a cauda do diário é reaplicada: reiniciar
+ * não depende de quantas alterações a academia já teve, só de quantos
+ * aprendizes ela tem.
+ * <p>
+ * Um novo instantâneo é tirado periodicamente e ao fechar, se houve
+ * alterações. Os operadores não param durante o instantâneo: o diário
+ * passa para um segmento novo, o cadastro é copiado, e os registros do
+ * segmento novo em diante (que podem repetir o que a cópia já pegou) são
+ * os que a próxima abertura reaplica. O instantâneo é gravado em um
+ * arquivo temporário e renomeado, então uma queda no meio mantém o
+ * anterior; só depois disso os segmentos antigos do diário são apagados.
+ * <p>
+ * Formato do instantâneo (inteiros em big-endian):
+ *   cabeçalho: int "ACAD" | int versão | int quantidade de aprendizes |
+ *              int segmento do diário a reaplicar | long posição do dicionário |
+ *              int quantidade de escolas | int CRC32 do resto do arquivo
+ *   um registro por aprendiz: int nível | int idade | int código da escola |
+ *              short + UTF-8 do nome
+ *   dicionário: short + UTF-8 de cada escola, na ordem dos códigos
+ * <p>
+ * Ative com --dados=diretório (ou -Ddados=...); --instantaneo=segundos
+ * muda o intervalo entre instantâneos (0 deixa só o do fechamento).
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+final class PersistenciaAcademia implements Closeable {
+
+    // ===== FORMATO DO INSTANTÂNEO =====
+
+    static final int MAGICO = 0x41434144; // "ACAD"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 32;
+
+    private static final int POSICAO_QUANTIDADE = 8;
+    private static final int POSICAO_SEGMENTO = 12;
+    private static final int POSICAO_DICIONARIO = 16;
+    private static final int POSICAO_ESCOLAS = 24;
+    private static final int POSICAO_CRC = 28;
+
+    // Parte fixa do registro de um aprendiz: nível, idade, escola e tamanho do nome
+    private static final int TAMANHO_FIXO_REGISTRO = 4 + 4 + 4 + 2;
+    private static final int TAMANHO_MAXIMO_REGISTRO = TAMANHO_FIXO_REGISTRO + 0xFFFF;
+
+    private static final String ARQUIVO_INSTANTANEO = "academia.snap";
+    private static final String ARQUIVO_TEMPORARIO = "academia.snap.tmp";
+
+    // Janela de mapeamento: instantâneos acima de 2 GB são lidos em partes
+    private static final long TAMANHO_JANELA = 1L << 30;
+
+    private static final int TAMANHO_BUFFER_ESCRITA = 1 << 20;
+
+    static final int INTERVALO_PADRAO_SEGUNDOS = 300;
+
+    // ===== ESTADO =====
+
+    private final Path diretorio;
+    private final CadastroAprendizes cadastro;
+    private final DiarioAcademia diario;
+    private final Thread periodico; // null sem instantâneos periódicos
+
+    // Há registros reaplicados na abertura que nenhum instantâneo cobre ainda (guardado por this)
+    private boolean reaplicadosPendentes;
+
+    private PersistenciaAcademia(Path diretorio, CadastroAprendizes cadastro, DiarioAcademia diario,
+                                 int intervaloSegundos) {
+        this.diretorio = diretorio;
+        this.cadastro = cadastro;
+        this.diario = diario;
+        this.periodico = intervaloSegundos <= 0 ? null
+                : Thread.ofPlatform().daemon().name("instantaneo-academia")
+                        .unstarted(() -> tirarPeriodicamente(intervaloSegundos));
+    }
+
+    // ===== ESCOLHA NA INICIALIZAÇÃO =====
+
+    /**
+     * Abre a persistência pedida pelo argumento --dados=... ou pela
+     * propriedade -Ddados=..., carregando o cadastro do disco
+     *
+     * @param args argumentos da linha de comando
+     * @param cadastro cadastro vazio que recebe a academia salva
+     * @return persistência aberta, ou null se nenhum diretório foi escolhido
+     */
+    static PersistenciaAcademia escolher(String[] args, CadastroAprendizes cadastro) throws IOException {
+        String nome = System.getProperty("dados");
+        int intervalo = INTERVALO_PADRAO_SEGUNDOS;
+        for (String arg : args) {
+            if (arg.startsWith("--dados=")) {
+                nome = arg.substring("--dados=".length());
+            } else if (arg.startsWith("--instantaneo=")) {
+                try {
+                    intervalo = Integer.parseInt(arg.substring("--instantaneo=".length()));
+                } catch (NumberFormatException e) {
+                    System.err.println("⚠️ Intervalo de instantâneo inválido: " + arg + " (usando "
+                            + INTERVALO_PADRAO_SEGUNDOS + " s)");
+                }
+            }
+        }
+        if (nome == null) {
+            return null;
+        }
+        return abrir(Path.of(nome), cadastro, intervalo);
+    }
+
+    /**
+     * Carrega o último instantâneo e a cauda do diário no cadastro e passa
+     * a registrar as alterações dele
+     *
+     * @param diretorio diretório dos arquivos da academia
+     * @param cadastro cadastro vazio
+     * @param intervaloSegundos intervalo entre instantâneos; 0 só tira o do fechamento
+     */
+    static PersistenciaAcademia abrir(Path diretorio, CadastroAprendizes cadastro, int intervaloSegundos)
+            throws IOException {
+        if (!cadastro.isEmpty()) {
+            throw new IllegalArgumentException("A academia salva só pode ser carregada em um cadastro vazio");
+        }
+        Files.createDirectories(diretorio);
+        Files.deleteIfExists(diretorio.resolve(ARQUIVO_TEMPORARIO)); // Sobra de uma queda no meio de um instantâneo
+
+        long inicio = System.nanoTime();
+        int segmentoInicial = carregarInstantaneo(diretorio.resolve(ARQUIVO_INSTANTANEO), cadastro);
+        int doInstantaneo = cadastro.size();
+        DiarioAcademia diario = DiarioAcademia.abrir(diretorio, segmentoInicial, cadastro);
+        cadastro.definirDiario(diario);
+
+        if (!cadastro.isEmpty()) {
+            System.err.println(String.format("💾 Academia restaurada: %d aprendiz(es) (%d do instantâneo, "
+                            + "%d alteração(ões) reaplicada(s) do diário) em %d ms",
+                    cadastro.size(), doInstantaneo, diario.registrosReaplicados(),
+                    (System.nanoTime() - inicio) / 1_000_000));
+        }
+
+        PersistenciaAcademia persistencia = new PersistenciaAcademia(diretorio, cadastro, diario, intervaloSegundos);
+        persistencia.reaplicadosPendentes = diario.registrosReaplicados() > 0;
+        if (persistencia.periodico != null) {
+            persistencia.periodico.start();
+        }
+        return persistencia;
+    }
+
+    // ===== CARGA =====
+
+    /**
+     * Carrega o instantâneo, se existir
+     *
+     * @return segmento do diário a partir do qual reaplicar
+     */
+    private static int carregarInstantaneo(Path caminho, CadastroAprendizes cadastro) throws IOException {
+        if (!Files.exists(caminho)) {
+            return 1;
+        }
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO) {
+                throw new IOException("Instantâneo truncado: " + caminho);
+            }
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            while (cabecalho.hasRemaining()) {
+                if (canal.read(cabecalho, cabecalho.position()) < 0) {
+                    throw new IOException("Instantâneo truncado: " + caminho);
+                }
+            }
+            if (cabecalho.getInt(0) != MAGICO) {
+                throw new IOException("Não é um instantâneo da academia: " + caminho);
+            }
+            if (cabecalho.getInt(4) != VERSAO) {
+                throw new IOException("Versão de instantâneo não suportada (" + cabecalho.getInt(4) + "): " + caminho);
+            }
+            int quantidade = cabecalho.getInt(POSICAO_QUANTIDADE);
+            int segmento = cabecalho.getInt(POSICAO_SEGMENTO);
+            long posicaoDicionario = cabecalho.getLong(POSICAO_DICIONARIO);
+            int quantidadeEscolas = cabecalho.getInt(POSICAO_ESCOLAS);
+            if (posicaoDicionario < TAMANHO_CABECALHO || posicaoDicionario > tamanho) {
+                throw new IOException("Instantâneo corrompido (dicionário fora do arquivo): " + caminho);
+            }
+
+            // O CRC é conferido antes de carregar qualquer aprendiz
+            CRC32 crc = new CRC32();
+            for (long posicao = TAMANHO_CABECALHO; posicao < tamanho; posicao += TAMANHO_JANELA) {
+                crc.update(canal.map(FileChannel.MapMode.READ_ONLY, posicao, Math.min(TAMANHO_JANELA, tamanho - posicao)));
+            }
+            if ((int) crc.getValue() != cabecalho.getInt(POSICAO_CRC)) {
+                throw new IOException("Instantâneo corrompido (CRC não confere): " + caminho);
+            }
+
+            // Dicionário de escolas: uma String por escola, compartilhada pelos aprendizes
+            Janela janela = new Janela(canal, tamanho);
+            String[] escolas = new String[quantidadeEscolas];
+            long posicao = posicaoDicionario;
+            for (int codigo = 0; codigo < quantidadeEscolas; codigo++) {
+                janela.cobrir(posicao);
+                escolas[codigo] = janela.texto(posicao);
+                posicao += 2 + janela.tamanhoTexto(posicao);
+            }
+
+            // Aprendizes, na ordem do cadastro
+            posicao = TAMANHO_CABECALHO;
+            for (int id = 0; id < quantidade; id++) {
+                janela.cobrir(posicao);
+                cadastro.add(new ExemploCompletoTerminado(janela.texto(posicao + 12), janela.inteiro(posicao),
+                        escolas[janela.inteiro(posicao + 8)], janela.inteiro(posicao + 4)));
+                posicao += TAMANHO_FIXO_REGISTRO + janela.tamanhoTexto(posicao + 12);
+            }
+            return segmento;
+        }
+    }
+
+    /**
+     * Parte mapeada do instantâneo; as posições são absolutas no arquivo
+     */
+    private static final class Janela {
+        private final FileChannel canal;
+        private final long tamanhoArquivo;
+        private MappedByteBuffer mapa;
+        private long inicio;
+
+        Janela(FileChannel canal, long tamanhoArquivo) {
+            this.canal = canal;
+            this.tamanhoArquivo = tamanhoArquivo;
+        }
+
+        /**
+         * Mapeia de novo a partir da posição se um registro começando nela
+         * puder passar do fim da janela atual
+         */
+        void cobrir(long posicao) throws IOException {
+            long fim = mapa == null ? 0 : inicio + mapa.limit();
+            if (mapa == null || posicao < inicio || (fim < tamanhoArquivo && posicao + TAMANHO_MAXIMO_REGISTRO > fim)) {
+                inicio = posicao;
+                mapa = canal.map(FileChannel.MapMode.READ_ONLY, posicao, Math.min(TAMANHO_JANELA, tamanhoArquivo - posicao));
+            }
+        }
+
+        int inteiro(long posicao) {
+            return mapa.getInt((int) (posicao - inicio));
+        }
+
+        int tamanhoTexto(long posicao) {
+            return Short.toUnsignedInt(mapa.getShort((int) (posicao - inicio)));
+        }
+
+        /**
+         * Lê um texto gravado como short (tamanho) + bytes UTF-8
+         */
+        String texto(long posicao) {
+            byte[] bytes = new byte[tamanhoTexto(posicao)];
+            mapa.get((int) (posicao - inicio) + 2, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // ===== INSTANTÂNEO =====
+
+    /**
+     * Grava um instantâneo do cadastro e apaga o diário que ele cobre
+     * Os operadores continuam alterando o cadastro enquanto isso
+     */
+    synchronized void tirarInstantaneo() throws IOException {
+        int segmento = diario.rotacionar();
+        Path temporario = diretorio.resolve(ARQUIVO_TEMPORARIO);
+
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER_ESCRITA);
+            CRC32 crc = new CRC32();
+            long posicao = TAMANHO_CABECALHO;
+
+            // Tamanho lido depois da rotação: todo aprendiz de fora tem o cadastro no diário novo
+            int quantidade = cadastro.size();
+            Map<String, Integer> codigos = new HashMap<>();
+            List<byte[]> escolas = new ArrayList<>();
+            for (int id = 0; id < quantidade; id++) {
+                ExemploCompletoTerminado aprendiz = cadastro.get(id);
+                String escola = aprendiz.getEscolaOrigem() == null ? "" : aprendiz.getEscolaOrigem();
+                Integer codigo = codigos.get(escola);
+                if (codigo == null) {
+                    codigo = escolas.size();
+                    codigos.put(escola, codigo);
+                    escolas.add(emBytes(escola));
+                }
+                byte[] nome = emBytes(aprendiz.getNomeAprendiz());
+                if (buffer.remaining() < TAMANHO_FIXO_REGISTRO + nome.length) {
+                    posicao += descarregar(canal, buffer, crc, posicao);
+                }
+                buffer.putInt(aprendiz.getNivelHabilidade()).putInt(aprendiz.getIdade()).putInt(codigo)
+                        .putShort((short) nome.length).put(nome);
+            }
+            posicao += descarregar(canal, buffer, crc, posicao);
+
+            long posicaoDicionario = posicao;
+            for (byte[] escola : escolas) {
+                if (buffer.remaining() < 2 + escola.length) {
+                    posicao += descarregar(canal, buffer, crc, posicao);
+                }
+                buffer.putShort((short) escola.length).put(escola);
+            }
+            descarregar(canal, buffer, crc, posicao);
+
+            // O cabeçalho vai por último, com a quantidade, o dicionário e o CRC já conhecidos
+            buffer.putInt(MAGICO).putInt(VERSAO).putInt(quantidade).putInt(segmento)
+                    .putLong(posicaoDicionario).putInt(escolas.size()).putInt((int) crc.getValue());
+            ByteBuffer cabecalho = buffer.flip();
+            for (long escrito = 0; cabecalho.hasRemaining(); ) {
+                escrito += canal.write(cabecalho, escrito);
+            }
+            canal.force(true);
+        }
+
+        Files.move(temporario, diretorio.resolve(ARQUIVO_INSTANTANEO),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        sincronizarDiretorio();
+        diario.descartarAnteriores(segmento);
+        reaplicadosPendentes = false;
+    }
+
+    /**
+     * @return true se o diário tem alterações que o instantâneo ainda não cobre
+     */
+    private synchronized boolean haAlteracoes() {
+        return reaplicadosPendentes || diario.anexadoDesdeRotacao() > 0;
+    }
+
+    /**
+     * Grava o buffer na posição e acumula o CRC
+     *
+     * @return bytes gravados
+     */
+    private static int descarregar(FileChannel canal, ByteBuffer buffer, CRC32 crc, long posicao) throws IOException {
+        buffer.flip();
+        int bytes = buffer.remaining();
+        crc.update(buffer.array(), 0, bytes);
+        while (buffer.hasRemaining()) {
+            posicao += canal.write(buffer, posicao);
+        }
+        buffer.clear();
+        return bytes;
+    }
+
+    /**
+     * Garante que a renomeação do instantâneo sobreviva a uma queda
+     * Nem todo sistema permite sincronizar um diretório: aí fica por conta dele
+     */
+    private void sincronizarDiretorio() {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // Sem suporte: a renomeação chega ao disco quando o sistema quiser
+        }
+    }
+
+    private static byte[] emBytes(String texto) {
+        byte[] bytes = (texto == null ? "" : texto).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto longo demais para o instantâneo da academia");
+        }
+        return bytes;
+    }
+
+    private void tirarPeriodicamente(int intervaloSegundos) {
+        while (true) {
+            try {
+                Thread.sleep(intervaloSegundos * 1000L);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                if (haAlteracoes()) {
+                    tirarInstantaneo();
+                }
+            } catch (IOException | RuntimeException e) {
+                // O diário continua valendo: a próxima tentativa cobre as mesmas alterações
+                System.err.println("⚠️ Falha ao tirar o instantâneo da academia: " + e.getMessage());
+            }
+        }
+    }
+
+    // ===== DURABILIDADE =====
+
+    /**
+     * Espera as alterações feitas até agora chegarem ao disco
+     */
+    void confirmar() {
+        diario.confirmar();
+    }
+
+    /**
+     * Tira o instantâneo final (se houve alterações) e fecha o diário
+     */
+    @Override
+    public void close() throws IOException {
+        if (periodico != null) {
+            periodico.interrupt();
+        }
+        cadastro.definirDiario(null);
+        try {
+            synchronized (this) {
+                if (haAlteracoes()) {
+                    tirarInstantaneo();
+                }
+            }
+        } finally {
+            diario.close();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package cap01;
+
+/**
+ * PlacarNiveis.java
+ * <p>
+ * Quantos aprendizes há em cada nível, para as consultas do placar da
+ * academia: posição de um aprendiz, percentil e nível de corte do topo.
+ * <p>
+ * Como o nível vai de 1 a NIVEL_MAXIMO, o placar é só um contador por
+ * nível: um cadastro ou treino custa um ou dois incrementos, e cada
+ * consulta soma no máximo NIVEL_MAXIMO + 1 contadores, sem ordenar nem
+ * percorrer os aprendizes. Níveis fora da faixa (aprendizes criados pelo
+ * construtor sem validação) contam no extremo mais próximo: abaixo de 1
+ * no nível 0, acima do máximo no máximo.
+ * <p>
+ * Os contadores são LongAdder, como as somas das EstatisticasAcademia:
+ * quem atualiza não trava, e sob escrita simultânea as consultas são um
+ * retrato aproximado.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class PlacarNiveis {
+
+    // Índice = nível (0 guarda os níveis abaixo de 1)
+    private final LongAdder[] porNivel = new LongAdder[ExemploCompletoTerminado.NIVEL_MAXIMO + 1];
+
+    PlacarNiveis() {
+        for (int i = 0; i < porNivel.length; i++) {
+            porNivel[i] = new LongAdder();
+        }
+    }
+
+    // ===== ATUALIZAÇÕES =====
+
+    void entrou(int nivel) {
+        porNivel[faixa(nivel)].increment();
+    }
+
+    /**
+     * Move um aprendiz de nível; quem chama garante que cada mudança é
+     * contada uma vez só
+     */
+    void mudou(int anterior, int atual) {
+        int de = faixa(anterior);
+        int para = faixa(atual);
+        if (de != para) {
+            porNivel[de].decrement();
+            porNivel[para].increment();
+        }
+    }
+
+    /**
+     * Zera tudo; não deve ser usado com outros operadores ativos
+     */
+    void limpar() {
+        for (LongAdder contador : porNivel) {
+            contador.reset();
+        }
+    }
+
+    private static int faixa(int nivel) {
+        return Math.max(0, Math.min(nivel, ExemploCompletoTerminado.NIVEL_MAXIMO));
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * @return aprendizes no nível
+     */
+    long noNivel(int nivel) {
+        return porNivel[faixa(nivel)].sum();
+    }
+
+    /**
+     * @return aprendizes com nível acima do informado
+     */
+    long acimaDe(int nivel) {
+        long acima = 0;
+        for (int i = faixa(nivel) + 1; i < porNivel.length; i++) {
+            acima += porNivel[i].sum();
+        }
+        return acima;
+    }
+
+    /**
+     * Posição no placar de quem está no nível: empatados dividem a posição
+     * (1, 2, 2, 4...)
+     */
+    long posicao(int nivel) {
+        return acimaDe(nivel) + 1;
+    }
+
+    /**
+     * Percentil de quem está no nível: quantos por cento da academia estão
+     * no mesmo nível ou abaixo dele (empatados contam inteiros), então o
+     * topo, e um aprendiz sozinho na academia, ficam no percentil 100
+     *
+     * @return de 0 a 100, ou 0 com a academia vazia
+     */
+    double percentil(int nivel) {
+        long ateNivel = 0;
+        long total = 0;
+        int faixa = faixa(nivel);
+        for (int i = 0; i < porNivel.length; i++) {
+            long quantidade = porNivel[i].sum();
+            if (i <= faixa) {
+                ateNivel += quantidade;
+            }
+            total += quantidade;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        return 100.0 * ateNivel / total;
+    }
+
+    /**
+     * Nível do percentil pedido (pelo posto mais próximo): o menor nível
+     * que, com os de baixo, cobre a fração pedida da academia
+     *
+     * @param fracao de 0 a 1 (0.5 é a mediana)
+     * @return nível, ou 0 com a academia vazia
+     */
+    int nivelNoPercentil(double fracao) {
+        long[] quantidades = new long[porNivel.length];
+        long total = 0;
+        for (int i = 0; i < porNivel.length; i++) {
+            quantidades[i] = porNivel[i].sum();
+            total += quantidades[i];
+        }
+        long posto = Math.max(1, (long) Math.ceil(fracao * total));
+        long acumulado = 0;
+        for (int nivel = 0; nivel < quantidades.length; nivel++) {
+            acumulado += quantidades[nivel];
+            if (acumulado >= posto) {
+                return nivel;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Menor nível que ainda entra nos quantidade primeiros do placar
+     *
+     * @return nível de corte, ou 0 se a academia tem menos aprendizes que isso
+     */
+    int nivelDeCorte(int quantidade) {
+        long acumulado = 0;
+        for (int nivel = porNivel.length - 1; nivel > 0; nivel--) {
+            acumulado += porNivel[nivel].sum();
+            if (acumulado >= quantidade) {
+                return nivel;
+            }
+        }
+        return 0;
+    }
+}
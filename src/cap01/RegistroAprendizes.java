@@ -0,0 +1,562 @@
+package cap01;
+
+/**
+ * RegistroAprendizes.java
+ * <p>
+ * Cadastro de aprendizes da academia com índice de substrings dos nomes.
+ * <p>
+ * Funciona como a lista que ExemploCompletoTerminado sempre usou (só
+ * aceita acréscimos no fim), mas mantém também um índice de n-gramas:
+ * para cada sequência de 1, 2 e 3 caracteres do nome em minúsculas, a
+ * lista ordenada dos aprendizes cujo nome a contém.
+ * <p>
+ * Uma busca por substring pega o n-grama menos frequente do texto buscado
+ * e só confere os aprendizes da lista dele, em vez de percorrer o cadastro
+ * inteiro chamando toLowerCase() em cada nome. O índice acompanha os
+ * cadastros e as mudanças de nome feitas com setNomeAprendiz, assim como o
+ * IndicePrefixos usado para completar nomes pelo começo.
+ * <p>
+ * Também mantém as EstatisticasAcademia do relatório estatístico, que
+ * acompanham os cadastros e as mudanças de nível e de idade.
+ * <p>
+ * Seguro para vários operadores ao mesmo tempo:
+ * - Leituras (get, size, iteração, busca) não usam travas: os aprendizes
+ *   ficam em blocos que nunca mudam de lugar, e o tamanho só é publicado
+ *   depois que o novo aprendiz está indexado e contabilizado
+ * - Cadastros são serializados por uma única trava
+ * - Mudanças de nome e registros no diário de um mesmo aprendiz são
+ *   serializados por uma trava listrada escolhida pelo id, sem bloquear
+ *   os demais aprendizes; são ReentrantLocks, não monitores, porque o
+ *   registro no diário pode esperar espaço no buffer, e uma sessão em
+ *   thread virtual não pode esperar segurando um monitor
+ * - Cada lista do índice tem um StampedLock: a busca copia a lista com
+ *   uma leitura otimista e só trava se um cadastro interferiu
+ * - A iteração é fracamente consistente: nunca lança
+ *   ConcurrentModificationException e pode ver cadastros feitos durante ela
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+final class RegistroAprendizes extends AbstractList<ExemploCompletoTerminado>
+        implements CadastroAprendizes, RandomAccess {
+
+    // Maior n-grama indexado; buscas mais longas usam os trigramas do texto
+    private static final int TAMANHO_MAXIMO_GRAMA = 3;
+
+    // Quantidade de travas listradas (potência de 2)
+    private static final int QUANTIDADE_TRAVAS = 64;
+
+    // Aprendizes na ordem de cadastro; a posição é o id do aprendiz
+    private final VetorBlocos<ExemploCompletoTerminado> aprendizes = new VetorBlocos<>();
+
+    // Nome em minúsculas de cada aprendiz, calculado uma vez por cadastro ou renomeação
+    private final VetorBlocos<String> nomesMinusculos = new VetorBlocos<>();
+
+    // Quantidade de aprendizes visíveis para as leituras
+    private volatile int tamanho;
+
+    // n-grama (codificado em um long) -> ids dos aprendizes que o contêm, em ordem crescente
+    private final ConcurrentHashMap<Long, Postagens> indice = new ConcurrentHashMap<>();
+
+    // Nomes sem acentos e em minúsculas, para completar pelo começo
+    private final IndicePrefixos prefixos = new IndicePrefixos();
+
+    // Agregados do relatório estatístico
+    private final EstatisticasAcademia estatisticas = new EstatisticasAcademia();
+
+    private final ReentrantLock travaCadastro = new ReentrantLock();
+    private final ReentrantLock[] travasAprendiz = new ReentrantLock[QUANTIDADE_TRAVAS];
+
+    // Diário das alterações (null sem persistência)
+    private volatile DiarioAcademia diario;
+
+    RegistroAprendizes() {
+        for (int i = 0; i < travasAprendiz.length; i++) {
+            travasAprendiz[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Vetor que só cresce, dividido em blocos de tamanho fixo
+     * Um bloco nunca é copiado: crescer só troca o diretório de blocos,
+     * e só quem tem a trava de cadastro cria posições novas
+     */
+    private static final class VetorBlocos<T> {
+        private static final int BITS_BLOCO = 12;
+        private static final int TAMANHO_BLOCO = 1 << BITS_BLOCO;
+        private static final int MASCARA_BLOCO = TAMANHO_BLOCO - 1;
+        private static final int BLOCOS_INICIAIS = 16;
+
+        private volatile AtomicReferenceArray<AtomicReferenceArray<T>> blocos =
+                new AtomicReferenceArray<>(BLOCOS_INICIAIS);
+
+        T get(int posicao) {
+            return blocos.get(posicao >>> BITS_BLOCO).get(posicao & MASCARA_BLOCO);
+        }
+
+        void set(int posicao, T valor) {
+            int numeroBloco = posicao >>> BITS_BLOCO;
+            AtomicReferenceArray<AtomicReferenceArray<T>> diretorio = blocos;
+            if (numeroBloco >= diretorio.length()) {
+                AtomicReferenceArray<AtomicReferenceArray<T>> maior = new AtomicReferenceArray<>(diretorio.length() * 2);
+                for (int i = 0; i < diretorio.length(); i++) {
+                    maior.set(i, diretorio.get(i));
+                }
+                blocos = maior;
+                diretorio = maior;
+            }
+            AtomicReferenceArray<T> bloco = diretorio.get(numeroBloco);
+            if (bloco == null) {
+                bloco = new AtomicReferenceArray<>(TAMANHO_BLOCO);
+                diretorio.set(numeroBloco, bloco);
+            }
+            bloco.set(posicao & MASCARA_BLOCO, valor);
+        }
+
+        void limpar() {
+            blocos = new AtomicReferenceArray<>(BLOCOS_INICIAIS);
+        }
+    }
+
+    /**
+     * Lista crescente de ids, sem repetições
+     * Escritas usam a trava exclusiva; leituras tentam primeiro sem travar
+     */
+    private static final class Postagens {
+        private final StampedLock trava = new StampedLock();
+        private int[] ids = new int[4];
+
+        // Lido sem trava só para escolher a lista mais curta
+        private volatile int tamanho;
+
+        void inserir(int id) {
+            long carimbo = trava.writeLock();
+            try {
+                // Cadastros novos sempre têm o maior id: o caso comum é acrescentar no fim
+                if (tamanho > 0 && ids[tamanho - 1] >= id) {
+                    int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+                    if (posicao >= 0) {
+                        return;
+                    }
+                    abrirEspaco(-posicao - 1);
+                    ids[-posicao - 1] = id;
+                    return;
+                }
+                if (tamanho == ids.length) {
+                    ids = Arrays.copyOf(ids, tamanho * 2);
+                }
+                ids[tamanho] = id;
+                tamanho++;
+            } finally {
+                trava.unlockWrite(carimbo);
+            }
+        }
+
+        void remover(int id) {
+            long carimbo = trava.writeLock();
+            try {
+                int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+                if (posicao >= 0) {
+                    System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+                    tamanho--;
+                }
+            } finally {
+                trava.unlockWrite(carimbo);
+            }
+        }
+
+        private void abrirEspaco(int posicao) {
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, tamanho * 2);
+            }
+            System.arraycopy(ids, posicao, ids, posicao + 1, tamanho - posicao);
+            tamanho++;
+        }
+
+        /**
+         * @return cópia consistente dos ids
+         */
+        int[] copiar() {
+            long carimbo = trava.tryOptimisticRead();
+            int[] copia = Arrays.copyOf(ids, tamanho);
+            if (trava.validate(carimbo)) {
+                return copia;
+            }
+            // Houve escrita durante a cópia: repete com a trava de leitura
+            carimbo = trava.readLock();
+            try {
+                return Arrays.copyOf(ids, tamanho);
+            } finally {
+                trava.unlockRead(carimbo);
+            }
+        }
+    }
+
+    // ===== LISTA =====
+
+    @Override
+    public ExemploCompletoTerminado get(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do cadastro de " + tamanho + " aprendizes");
+        }
+        return aprendizes.get(indice);
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    /**
+     * Cadastra um aprendiz no fim da lista e indexa o seu nome
+     * A posição é escolhida com a trava de cadastro: operadores simultâneos
+     * nunca disputam o mesmo id
+     */
+    @Override
+    public boolean add(ExemploCompletoTerminado aprendiz) {
+        travaCadastro.lock();
+        try {
+            cadastrar(aprendiz);
+            return true;
+        } finally {
+            travaCadastro.unlock();
+        }
+    }
+
+    /**
+     * O cadastro é só de acréscimos: inserir no meio não é suportado
+     */
+    @Override
+    public void add(int posicao, ExemploCompletoTerminado aprendiz) {
+        travaCadastro.lock();
+        try {
+            if (posicao != tamanho) {
+                throw new UnsupportedOperationException("Aprendizes só podem ser cadastrados no fim da lista");
+            }
+            cadastrar(aprendiz);
+        } finally {
+            travaCadastro.unlock();
+        }
+    }
+
+    private void cadastrar(ExemploCompletoTerminado aprendiz) {
+        // Antes de mexer na memória: um aprendiz recusado pelo diário não entra
+        verificarTexto(aprendiz.getNomeAprendiz());
+        verificarTexto(aprendiz.getEscolaOrigem());
+
+        int id = tamanho;
+        String nomeMinusculo = emMinusculas(aprendiz.getNomeAprendiz());
+        aprendizes.set(id, aprendiz);
+        nomesMinusculos.set(id, nomeMinusculo);
+        indexar(id, nomeMinusculo);
+        prefixos.inserir(id, aprendiz.getNomeAprendiz());
+        estatisticas.aprendizCadastrado(aprendiz, id);
+        aprendiz.vincularRegistro(this, id);
+
+        ReentrantLock trava = trava(id);
+        trava.lock();
+        try {
+            // Só agora o aprendiz fica visível para as leituras
+            tamanho = id + 1;
+
+            // Depois de visível, para um instantâneo tirado agora o incluir ou
+            // encontrar este registro no diário; com a trava, antes de qualquer
+            // alteração dele
+            DiarioAcademia diarioAtual = diario;
+            if (diarioAtual != null) {
+                diarioAtual.cadastrado(id, aprendiz);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Esvazia o cadastro; não deve ser usado com outros operadores ativos
+     */
+    @Override
+    public void clear() {
+        travaCadastro.lock();
+        try {
+            int quantidade = tamanho;
+            tamanho = 0;
+            for (int id = 0; id < quantidade; id++) {
+                aprendizes.get(id).vincularRegistro(null, -1);
+            }
+            aprendizes.limpar();
+            nomesMinusculos.limpar();
+            indice.clear();
+            prefixos.limpar();
+            estatisticas.limpar();
+            DiarioAcademia diarioAtual = diario;
+            if (diarioAtual != null) {
+                diarioAtual.cadastroLimpo();
+            }
+        } finally {
+            travaCadastro.unlock();
+        }
+    }
+
+    /**
+     * @return agregados do relatório estatístico, sempre atualizados
+     */
+    EstatisticasAcademia estatisticas() {
+        return estatisticas;
+    }
+
+    @Override
+    public long somaIdades() {
+        return estatisticas.somaIdades();
+    }
+
+    @Override
+    public long somaNiveis() {
+        return estatisticas.somaNiveis();
+    }
+
+    @Override
+    public int maiorNivel() {
+        return estatisticas.maiorNivel();
+    }
+
+    /**
+     * @return primeiro aprendiz cadastrado com o maior nível, ou null se
+     *         ninguém passou do nível 0 (mesmo critério do laço original)
+     */
+    @Override
+    public ExemploCompletoTerminado aprendizMaisExperiente() {
+        // O id pode ser de um cadastro ainda não publicado, mas a posição já está preenchida
+        int id = estatisticas.idMaisExperiente();
+        return id < 0 ? null : aprendizes.get(id);
+    }
+
+    @Override
+    public PlacarNiveis placar() {
+        return estatisticas.placar();
+    }
+
+    @Override
+    public List<ExemploCompletoTerminado> melhores(int quantidade) {
+        int[] ids = estatisticas.idsMelhores(quantidade);
+        List<ExemploCompletoTerminado> melhores = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            melhores.add(aprendizes.get(id));
+        }
+        return melhores;
+    }
+
+    // ===== BUSCA =====
+
+    /**
+     * Busca os aprendizes cujo nome contém o texto (sem distinção de maiúsculas)
+     * Mesmo resultado de percorrer a lista com toLowerCase().contains(...)
+     *
+     * @param texto texto buscado
+     * @return aprendizes encontrados, na ordem de cadastro
+     */
+    @Override
+    public List<ExemploCompletoTerminado> buscarPorNome(String texto) {
+        String busca = texto.toLowerCase();
+        int visiveis = tamanho;
+        if (busca.isEmpty()) {
+            // Todo nome contém o texto vazio
+            List<ExemploCompletoTerminado> todos = new ArrayList<>(visiveis);
+            for (int id = 0; id < visiveis; id++) {
+                todos.add(aprendizes.get(id));
+            }
+            return todos;
+        }
+
+        // O n-grama mais raro do texto buscado limita os candidatos
+        Postagens candidatos = null;
+        int tamanhoGrama = Math.min(busca.length(), TAMANHO_MAXIMO_GRAMA);
+        for (int inicio = 0; inicio + tamanhoGrama <= busca.length(); inicio++) {
+            Postagens postagens = indice.get(codificar(busca, inicio, tamanhoGrama));
+            if (postagens == null || postagens.tamanho == 0) {
+                return new ArrayList<>(); // Algum pedaço do texto não aparece em nenhum nome
+            }
+            if (candidatos == null || postagens.tamanho < candidatos.tamanho) {
+                candidatos = postagens;
+            }
+        }
+
+        // Se o texto cabe em um n-grama, os candidatos já são a resposta
+        List<ExemploCompletoTerminado> encontrados = new ArrayList<>();
+        boolean conferir = busca.length() > TAMANHO_MAXIMO_GRAMA;
+        for (int id : candidatos.copiar()) {
+            if (id >= visiveis) {
+                break; // Ids crescentes: daqui em diante só cadastros ainda não publicados
+            }
+            if (!conferir || nomesMinusculos.get(id).contains(busca)) {
+                encontrados.add(aprendizes.get(id));
+            }
+        }
+        return encontrados;
+    }
+
+    @Override
+    public List<ExemploCompletoTerminado> completarNome(String prefixo, int quantidade) {
+        int visiveis = tamanho;
+        List<ExemploCompletoTerminado> completados = new ArrayList<>();
+        for (int id : prefixos.completar(prefixo, quantidade)) {
+            if (id < visiveis) { // Fora: cadastro ainda não publicado
+                completados.add(aprendizes.get(id));
+            }
+        }
+        return completados;
+    }
+
+    // ===== MANUTENÇÃO DO ÍNDICE =====
+
+    /**
+     * Chamado pelos setters de nome e escola antes de mudar o campo
+     *
+     * @throws IllegalArgumentException se o texto não couber no diário
+     */
+    void verificarTexto(String texto) {
+        if (diario != null) {
+            DiarioAcademia.verificarTexto(texto);
+        }
+    }
+
+    /**
+     * Reindexa um aprendiz depois de uma mudança de nome
+     * Chamado por ExemploCompletoTerminado.setNomeAprendiz
+     * <p>
+     * Sempre lê o nome atual do aprendiz: renomeações simultâneas terminam
+     * com o índice refletindo o nome que ficou
+     */
+    void nomeAlterado(int id) {
+        ReentrantLock trava = trava(id);
+        trava.lock();
+        try {
+            String nome = aprendizes.get(id).getNomeAprendiz();
+            DiarioAcademia diarioAtual = diario;
+            if (diarioAtual != null) {
+                diarioAtual.nomeAlterado(id, nome);
+            }
+
+            String anterior = nomesMinusculos.get(id);
+            String atual = emMinusculas(nome);
+            if (anterior.equals(atual)) {
+                return;
+            }
+            for (int tamanhoGrama = 1; tamanhoGrama <= TAMANHO_MAXIMO_GRAMA; tamanhoGrama++) {
+                for (int inicio = 0; inicio + tamanhoGrama <= anterior.length(); inicio++) {
+                    // Listas esvaziadas ficam no índice: removê-las disputaria com cadastros
+                    Postagens postagens = indice.get(codificar(anterior, inicio, tamanhoGrama));
+                    if (postagens != null) {
+                        postagens.remover(id);
+                    }
+                }
+            }
+            nomesMinusculos.set(id, atual);
+            indexar(id, atual);
+            prefixos.renomear(id, nome);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Chamado por ExemploCompletoTerminado ao mudar o nível do aprendiz
+     */
+    void nivelAlterado(int id) {
+        estatisticas.nivelAlterado(aprendizes.get(id), id);
+        if (diario != null) {
+            ReentrantLock trava = trava(id);
+            trava.lock();
+            try {
+                // Lê o nível com a trava: o último registro é o do nível que ficou
+                DiarioAcademia diarioAtual = diario;
+                if (diarioAtual != null) {
+                    diarioAtual.nivelAlterado(id, aprendizes.get(id).getNivelHabilidade());
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Chamado por ExemploCompletoTerminado.setIdade
+     */
+    void idadeAlterada(int id, int idadeAnterior, int idadeNova) {
+        estatisticas.idadeAlterada(idadeAnterior, idadeNova);
+        if (diario != null) {
+            ReentrantLock trava = trava(id);
+            trava.lock();
+            try {
+                DiarioAcademia diarioAtual = diario;
+                if (diarioAtual != null) {
+                    diarioAtual.idadeAlterada(id, aprendizes.get(id).getIdade());
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Chamado por ExemploCompletoTerminado.setEscolaOrigem
+     */
+    void escolaAlterada(int id) {
+        if (diario != null) {
+            ReentrantLock trava = trava(id);
+            trava.lock();
+            try {
+                DiarioAcademia diarioAtual = diario;
+                if (diarioAtual != null) {
+                    diarioAtual.escolaAlterada(id, aprendizes.get(id).getEscolaOrigem());
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void definirDiario(DiarioAcademia diario) {
+        this.diario = diario;
+    }
+
+    private ReentrantLock trava(int id) {
+        return travasAprendiz[id & (QUANTIDADE_TRAVAS - 1)];
+    }
+
+    private void indexar(int id, String nomeMinusculo) {
+        for (int tamanhoGrama = 1; tamanhoGrama <= TAMANHO_MAXIMO_GRAMA; tamanhoGrama++) {
+            for (int inicio = 0; inicio + tamanhoGrama <= nomeMinusculo.length(); inicio++) {
+                indice.computeIfAbsent(codificar(nomeMinusculo, inicio, tamanhoGrama), grama -> new Postagens())
+                        .inserir(id);
+            }
+        }
+    }
+
+    /**
+     * Codifica um n-grama de até 3 caracteres em um long: tamanho nos bits
+     * altos e cada caractere (16 bits) em sequência
+     */
+    private static long codificar(String texto, int inicio, int tamanho) {
+        long codigo = tamanho;
+        for (int i = inicio; i < inicio + tamanho; i++) {
+            codigo = (codigo << 16) | texto.charAt(i);
+        }
+        return codigo;
+    }
+
+    private static String emMinusculas(String nome) {
+        return nome == null ? "" : nome.toLowerCase();
+    }
+}
@@ -0,0 +1,363 @@
+package cap01;
+
+/**
+ * RegistroColunar.java
+ * <p>
+ * Cadastro de aprendizes guardado em um ArmazemColunar, no heap ou fora
+ * dele, para academias grandes demais para um objeto por aprendiz.
+ * <p>
+ * Cada aprendiz ocupa uns 26 bytes de colunas e arena; com o armazém fora
+ * do heap, milhões de aprendizes custam ao heap só alguns objetos por
+ * bloco, e o coletor de lixo não tem o que percorrer nem copiar: o heap
+ * fica pequeno e as pausas não dependem do tamanho da academia. A memória
+ * fora do heap é limitada por -XX:MaxDirectMemorySize (por padrão, o
+ * mesmo valor de -Xmx), então academias grandes precisam dos dois ajustes:
+ *   java -Xmx256m -XX:MaxDirectMemorySize=8g cap01.ExemploCompletoTerminado --armazenamento=foradoheap
+ * <p>
+ * O cadastro copia os dados do aprendiz recebido em add. get devolve uma
+ * visão: um ExemploCompletoTerminado descartável cujos getters leem o
+ * armazém e cujos setters (e treinar) gravam nele, então o menu funciona
+ * sem mudanças.
+ * <p>
+ * Não há índice nem estatísticas mantidas: a busca e o relatório varrem as
+ * colunas, sem criar objetos por aprendiz. As exceções são o PlacarNiveis,
+ * um contador por nível atualizado em cada cadastro e treino: ele responde
+ * posição e percentil na hora, e os primeiros do placar saem de uma
+ * varredura da coluna de níveis que já sabe em qual nível parar; e o
+ * IndicePrefixos para completar nomes, que fica sempre no heap, mas em
+ * poucos vetores de tipos primitivos que o coletor não percorre. A
+ * varredura cresce com o cadastro: a busca decodifica cada nome da arena,
+ * e com um milhão de aprendizes leva de 50 a 70 ms (veja
+ * academia.buscarAprendizPorNome.foradoheap na BancadaAcademia), enquanto
+ * o RegistroAprendizes, pelo índice de n-gramas, responde em poucos
+ * microssegundos. Este cadastro economiza memória, não tempo de busca.
+ * <p>
+ * Mesmas garantias de concorrência do ArmazemColunar: leituras sem travas,
+ * mudanças serializadas. Com diário (veja PersistenciaAcademia), cada
+ * mudança é registrada com a mesma trava em que é feita, então a ordem do
+ * diário é a ordem das mudanças.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class RegistroColunar extends AbstractList<ExemploCompletoTerminado>
+        implements CadastroAprendizes, RandomAccess {
+
+    private final ArmazemColunar armazem;
+
+    // Diário das alterações (null sem persistência)
+    private volatile DiarioAcademia diario;
+
+    // Serializa as mudanças e o registro delas no diário; ReentrantLock, não o
+    // monitor do armazém, porque o diário pode esperar espaço no buffer e uma
+    // sessão em thread virtual não pode esperar segurando um monitor
+    private final ReentrantLock travaEscrita = new ReentrantLock();
+
+    // Mudados com a trava de escrita, como as colunas
+    private final PlacarNiveis placar = new PlacarNiveis();
+    private final IndicePrefixos prefixos = new IndicePrefixos();
+
+    /**
+     * @param foraDoHeap true para guardar os aprendizes fora do heap
+     */
+    RegistroColunar(boolean foraDoHeap) {
+        this.armazem = new ArmazemColunar(foraDoHeap);
+    }
+
+    /**
+     * Aprendiz que lê e grava direto no armazém
+     * Criado a cada get: não guarda nada além da posição
+     */
+    private final class Visao extends ExemploCompletoTerminado {
+        private final ArmazemColunar.Cursor cursor;
+
+        Visao(ArmazemColunar.Cursor cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public String getNomeAprendiz() {
+            return cursor.getNomeAprendiz();
+        }
+
+        @Override
+        public void setNomeAprendiz(String nome) {
+            verificarTexto(nome);
+            travaEscrita.lock();
+            try {
+                cursor.setNomeAprendiz(nome);
+                prefixos.renomear(cursor.id(), nome);
+                DiarioAcademia diarioAtual = diario;
+                if (diarioAtual != null) {
+                    diarioAtual.nomeAlterado(cursor.id(), nome);
+                }
+            } finally {
+                travaEscrita.unlock();
+            }
+        }
+
+        @Override
+        public int getNivelHabilidade() {
+            return cursor.getNivelHabilidade();
+        }
+
+        @Override
+        public void setNivelHabilidade(int nivel) {
+            int nivelAnterior;
+            int novoNivel;
+            travaEscrita.lock();
+            try {
+                nivelAnterior = cursor.getNivelHabilidade();
+                cursor.setNivelHabilidade(nivel);
+                novoNivel = nivelAlterado(nivelAnterior);
+            } finally {
+                travaEscrita.unlock();
+            }
+            EventosHabilidades.nivelMudou(this, nivelAnterior, novoNivel); // Fora da trava de escrita
+        }
+
+        @Override
+        public int treinar(int pontos) {
+            int nivelAnterior;
+            int novoNivel;
+            travaEscrita.lock();
+            try {
+                nivelAnterior = cursor.treinar(pontos);
+                novoNivel = nivelAlterado(nivelAnterior);
+            } finally {
+                travaEscrita.unlock();
+            }
+            EventosHabilidades.nivelMudou(this, nivelAnterior, novoNivel);
+            return nivelAnterior;
+        }
+
+        // Contabiliza e registra o nível que ficou (o setter ignora níveis inválidos)
+        private int nivelAlterado(int nivelAnterior) {
+            int novoNivel = cursor.getNivelHabilidade();
+            placar.mudou(nivelAnterior, novoNivel);
+            DiarioAcademia diarioAtual = diario;
+            if (diarioAtual != null) {
+                diarioAtual.nivelAlterado(cursor.id(), novoNivel);
+            }
+            return novoNivel;
+        }
+
+        @Override
+        public String getEscolaOrigem() {
+            return cursor.getEscolaOrigem();
+        }
+
+        @Override
+        public void setEscolaOrigem(String escola) {
+            verificarTexto(escola);
+            travaEscrita.lock();
+            try {
+                cursor.setEscolaOrigem(escola);
+                DiarioAcademia diarioAtual = diario;
+                if (diarioAtual != null) {
+                    diarioAtual.escolaAlterada(cursor.id(), escola);
+                }
+            } finally {
+                travaEscrita.unlock();
+            }
+        }
+
+        @Override
+        public int getIdade() {
+            return cursor.getIdade();
+        }
+
+        @Override
+        public void setIdade(int idade) {
+            travaEscrita.lock();
+            try {
+                cursor.setIdade(idade);
+                DiarioAcademia diarioAtual = diario;
+                if (diarioAtual != null) {
+                    diarioAtual.idadeAlterada(cursor.id(), cursor.getIdade());
+                }
+            } finally {
+                travaEscrita.unlock();
+            }
+        }
+    }
+
+    // ===== LISTA =====
+
+    @Override
+    public ExemploCompletoTerminado get(int indice) {
+        if (indice < 0 || indice >= armazem.tamanho()) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do cadastro de "
+                    + armazem.tamanho() + " aprendizes");
+        }
+        return new Visao(armazem.aprendiz(indice));
+    }
+
+    @Override
+    public int size() {
+        return armazem.tamanho();
+    }
+
+    /**
+     * Cadastra uma cópia do aprendiz no fim da lista
+     * Mudanças posteriores no objeto recebido não chegam ao cadastro:
+     * use o aprendiz devolvido por get
+     */
+    @Override
+    public boolean add(ExemploCompletoTerminado aprendiz) {
+        travaEscrita.lock();
+        try {
+            cadastrar(aprendiz);
+        } finally {
+            travaEscrita.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * O cadastro é só de acréscimos: inserir no meio não é suportado
+     */
+    @Override
+    public void add(int posicao, ExemploCompletoTerminado aprendiz) {
+        travaEscrita.lock();
+        try {
+            if (posicao != armazem.tamanho()) {
+                throw new UnsupportedOperationException("Aprendizes só podem ser cadastrados no fim da lista");
+            }
+            cadastrar(aprendiz);
+        } finally {
+            travaEscrita.unlock();
+        }
+    }
+
+    // Chamado com a trava de escrita
+    private void cadastrar(ExemploCompletoTerminado aprendiz) {
+        // Antes de mexer no armazém: um aprendiz recusado pelo diário não entra
+        verificarTexto(aprendiz.getNomeAprendiz());
+        verificarTexto(aprendiz.getEscolaOrigem());
+        int id = armazem.adicionar(aprendiz);
+        placar.entrou(aprendiz.getNivelHabilidade());
+        prefixos.inserir(id, aprendiz.getNomeAprendiz());
+        DiarioAcademia diarioAtual = diario;
+        if (diarioAtual != null) {
+            diarioAtual.cadastrado(id, aprendiz);
+        }
+    }
+
+    /**
+     * Esvazia o cadastro; não deve ser usado com outros operadores ativos
+     */
+    @Override
+    public void clear() {
+        travaEscrita.lock();
+        try {
+            armazem.limpar();
+            placar.limpar();
+            prefixos.limpar();
+            DiarioAcademia diarioAtual = diario;
+            if (diarioAtual != null) {
+                diarioAtual.cadastroLimpo();
+            }
+        } finally {
+            travaEscrita.unlock();
+        }
+    }
+
+    @Override
+    public void definirDiario(DiarioAcademia diario) {
+        this.diario = diario;
+    }
+
+    private void verificarTexto(String texto) {
+        if (diario != null) {
+            DiarioAcademia.verificarTexto(texto);
+        }
+    }
+
+    // ===== BUSCA E RELATÓRIO (varreduras das colunas) =====
+
+    @Override
+    public List<ExemploCompletoTerminado> buscarPorNome(String texto) {
+        int[] ids = armazem.buscarPorNome(texto);
+        List<ExemploCompletoTerminado> encontrados = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            encontrados.add(new Visao(armazem.aprendiz(id)));
+        }
+        return encontrados;
+    }
+
+    @Override
+    public List<ExemploCompletoTerminado> completarNome(String prefixo, int quantidade) {
+        int[] ids = prefixos.completar(prefixo, quantidade);
+        List<ExemploCompletoTerminado> completados = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            completados.add(new Visao(armazem.aprendiz(id)));
+        }
+        return completados;
+    }
+
+    @Override
+    public long somaIdades() {
+        return armazem.somaIdades();
+    }
+
+    @Override
+    public long somaNiveis() {
+        return armazem.somaNiveis();
+    }
+
+    @Override
+    public int maiorNivel() {
+        int id = armazem.idMaisExperiente();
+        return id < 0 ? 0 : armazem.aprendiz(id).getNivelHabilidade();
+    }
+
+    @Override
+    public ExemploCompletoTerminado aprendizMaisExperiente() {
+        int id = armazem.idMaisExperiente();
+        return id < 0 ? null : new Visao(armazem.aprendiz(id));
+    }
+
+    @Override
+    public PlacarNiveis placar() {
+        return placar;
+    }
+
+    @Override
+    public List<ExemploCompletoTerminado> melhores(int quantidade) {
+        // O placar diz em qual nível o topo termina e quantos desse nível entram
+        int corte = placar.nivelDeCorte(quantidade);
+        int vagasNoCorte = (int) Math.max(0, quantidade - placar.acimaDe(corte));
+        int[] ids = armazem.idsDoTopo(corte, vagasNoCorte);
+
+        // Só os poucos encontrados são ordenados, por nível decrescente e id
+        // crescente: cada nível é lido uma vez, mesmo com treinos simultâneos
+        long[] chaves = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            int nivel = armazem.aprendiz(ids[i]).getNivelHabilidade();
+            chaves[i] = (long) (Short.MAX_VALUE - nivel) << Integer.SIZE | ids[i];
+        }
+        Arrays.sort(chaves);
+
+        List<ExemploCompletoTerminado> melhores = new ArrayList<>(Math.min(quantidade, chaves.length));
+        for (int i = 0; i < chaves.length && i < quantidade; i++) {
+            melhores.add(new Visao(armazem.aprendiz((int) chaves[i])));
+        }
+        return melhores;
+    }
+
+    /**
+     * @return bytes ocupados pelo armazém (fora do heap, se for o caso)
+     */
+    long bytesOcupados() {
+        return armazem.bytesOcupados();
+    }
+}
@@ -0,0 +1,284 @@
+package cap01;
+
+/**
+ * RenderizadorMedalhao.java
+ * <p>
+ * Desenha a frente e o verso do medalhão a partir de moldes pré-compilados.
+ * <p>
+ * Cada estilo de borda é compilado uma única vez em um molde: a arte ASCII
+ * com a borda já aplicada, dividida em textos fixos e lacunas. Por medalhão,
+ * só as lacunas (nome, escola, elemento, material, nível, lema, pontuação)
+ * são preenchidas em um buffer reaproveitado pela thread, em vez de montar
+ * cada linha com concatenações e repeat() a cada desenho.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class RenderizadorMedalhao {
+
+    // ===== MOLDES =====
+
+    // Cada '@' do molde vira o caractere da borda escolhida
+    private static final char MARCADOR_BORDA = '@';
+
+    /**
+     * Arte da frente do medalhão - as lacunas aparecem entre chaves
+     */
+    private static final String[] MOLDE_FRENTE = {
+            "                    ╔@@@@@@@@@@@@@@@@╗",
+            "                 ╔@@╝            ╚@@╗",
+            "              ╔@@╝     {simboloEscola}  {simboloPersonal}     ╚@@╗",
+            "           ╔@@╝       MEDALHÃO       ╚@@╗",
+            "        ╔@@╝           JAVA             ╚@@╗",
+            "     ╔@@╝              DE                  ╚@@╗",
+            "  ╔@@╝              {nome}              ╚@@╗",
+            "  @                                          @",
+            "  @    ESCOLA: {escola} {simboloEscola}                   @",
+            "  @    ELEMENTO: {elemento}               @",
+            "  @    MATERIAL: {material}                ❖    @",
+            "  @    NÍVEL: {nivel}     @",
+            "  @                                          @",
+            "  ╚@@╗                                  ╔@@╝",
+            "     ╚@@╗                          ╔@@╝",
+            "        ╚@@╗                    ╔@@╝",
+            "           ╚@@╗              ╔@@╝",
+            "              ╚@@╗        ╔@@╝",
+            "                 ╚@@╗  ╔@@╝",
+            "                    ╚@@╝"
+    };
+
+    /**
+     * Arte do verso do medalhão - a linha do lema se repete para cada linha quebrada
+     */
+    private static final String[] MOLDE_VERSO = {
+            "              ╔@@@@@@@@@@@@@@@@@@@@╗",
+            "           ╔@@╝              ╚@@╗",
+            "        ╔@@╝      VERSO DO        ╚@@╗",
+            "     ╔@@╝        MEDALHÃO           ╚@@╗",
+            "  ╔@@╝                              ╚@@╗",
+            "  @                                      @",
+            "  @  📜 LEMA:                           @",
+            "  @     {lema}       @",
+            "  @                                      @",
+            "  @  🏆 PONTUAÇÃO: {pontuacao} pts          @",
+            "  @  📊 RANKING: {ranking} @",
+            "  @                                      @",
+            "  ╚@@╗                              ╔@@╝",
+            "     ╚@@╗                          ╔@@╝",
+            "        ╚@@╗                    ╔@@╝",
+            "           ╚@@╗              ╔@@╝",
+            "              ╚@@@@@@@@@@@@@@@@╝"
+    };
+
+    // ===== LACUNAS =====
+    private static final String[] NOMES_LACUNAS = {
+            "simboloEscola", "simboloPersonal", "nome", "escola", "elemento",
+            "material", "nivel", "lema", "pontuacao", "ranking"
+    };
+    private static final int SIMBOLO_ESCOLA = 0;
+    private static final int SIMBOLO_PERSONAL = 1;
+    private static final int NOME = 2;
+    private static final int ESCOLA = 3;
+    private static final int ELEMENTO = 4;
+    private static final int MATERIAL = 5;
+    private static final int NIVEL = 6;
+    private static final int LEMA = 7;
+    private static final int PONTUACAO = 8;
+    private static final int RANKING = 9;
+
+    // Largura das lacunas centralizadas
+    private static final int LARGURA_NOME = 14;
+    private static final int LARGURA_ESCOLA = 8;
+    private static final int LARGURA_MATERIAL = 8;
+    private static final int LARGURA_NIVEL = 20;
+    private static final int LARGURA_LEMA = 30;
+    private static final int LARGURA_PONTUACAO = 5;
+    private static final int LARGURA_RANKING = 20;
+
+    private static final String ESPACOS = " ".repeat(LARGURA_LEMA);
+
+    // ===== CACHE DE MOLDES COMPILADOS (um par por caractere de borda) =====
+    private static final Map<String, Molde> FRENTES = new ConcurrentHashMap<>();
+    private static final Map<String, Molde> VERSOS = new ConcurrentHashMap<>();
+
+    static {
+        // Os estilos de borda do catálogo e o caractere padrão já nascem compilados
+        for (int codigo = 0; codigo <= CatalogoMedalhao.BORDA_DESCONHECIDA; codigo++) {
+            String borda = CatalogoMedalhao.caractereBorda(codigo);
+            FRENTES.put(borda, compilar(MOLDE_FRENTE, borda));
+            VERSOS.put(borda, compilar(MOLDE_VERSO, borda));
+        }
+    }
+
+    // Buffer de desenho reaproveitado por thread (a forja em lote desenha em paralelo)
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private RenderizadorMedalhao() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    /**
+     * Molde compilado: textos fixos intercalados com lacunas
+     * textos[i] vem antes de lacunas[i]; o último texto fecha o desenho
+     */
+    private static final class Molde {
+        private final String[] textos;
+        private final int[] lacunas;
+        private final String entreLinhasLema; // Fim de uma linha do lema + início da próxima
+
+        private Molde(String[] textos, int[] lacunas, String entreLinhasLema) {
+            this.textos = textos;
+            this.lacunas = lacunas;
+            this.entreLinhasLema = entreLinhasLema;
+        }
+    }
+
+    /**
+     * Compila a arte de um molde para um caractere de borda
+     *
+     * @param linhas linhas do molde
+     * @param borda caractere da borda
+     * @return molde pronto para ser preenchido
+     */
+    private static Molde compilar(String[] linhas, String borda) {
+        String quebra = System.lineSeparator();
+        List<String> textos = new ArrayList<>();
+        List<Integer> lacunas = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        String entreLinhasLema = null;
+
+        for (String linha : linhas) {
+            int posicao = 0;
+            int abre;
+            while ((abre = linha.indexOf('{', posicao)) >= 0) {
+                int fecha = linha.indexOf('}', abre);
+                int lacuna = List.of(NOMES_LACUNAS).indexOf(linha.substring(abre + 1, fecha));
+                if (lacuna == LEMA) {
+                    entreLinhasLema = aplicarBorda(linha.substring(fecha + 1), borda) + quebra
+                            + aplicarBorda(linha.substring(0, abre), borda);
+                }
+                atual.append(aplicarBorda(linha.substring(posicao, abre), borda));
+                textos.add(atual.toString());
+                lacunas.add(lacuna);
+                atual.setLength(0);
+                posicao = fecha + 1;
+            }
+            atual.append(aplicarBorda(linha.substring(posicao), borda)).append(quebra);
+        }
+        textos.add(atual.toString());
+
+        int[] codigos = new int[lacunas.size()];
+        for (int i = 0; i < codigos.length; i++) {
+            codigos[i] = lacunas.get(i);
+        }
+        return new Molde(textos.toArray(new String[0]), codigos, entreLinhasLema);
+    }
+
+    private static String aplicarBorda(String texto, String borda) {
+        return texto.replace(String.valueOf(MARCADOR_BORDA), borda);
+    }
+
+    // ===== DESENHO =====
+
+    /**
+     * Desenha a frente do medalhão
+     * Mesmo resultado de MedalhaoPersonalizadoTerminado.exibirFrenteMedalhao
+     */
+    static void desenharFrente(Saida saida, String bordaChar, String nome, String simboloEscola,
+                               String simboloPersonal, String escola, String corSinal,
+                               String cor, String nivelDedicacao) {
+        Molde molde = FRENTES.computeIfAbsent(bordaChar, borda -> compilar(MOLDE_FRENTE, borda));
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        // Nome truncado antes de ir para maiúsculas, como no desenho original
+        String nomeExibicao = nome.length() > LARGURA_NOME ? nome.substring(0, LARGURA_NOME) : nome;
+
+        for (int i = 0; i < molde.lacunas.length; i++) {
+            buffer.append(molde.textos[i]);
+            switch (molde.lacunas[i]) {
+                case SIMBOLO_ESCOLA -> buffer.append(simboloEscola);
+                case SIMBOLO_PERSONAL -> buffer.append(simboloPersonal);
+                case NOME -> anexarCentralizado(buffer, nomeExibicao.toUpperCase(), LARGURA_NOME);
+                case ESCOLA -> anexarCentralizado(buffer, escola.toUpperCase(), LARGURA_ESCOLA);
+                case ELEMENTO -> buffer.append(corSinal);
+                case MATERIAL -> anexarCentralizado(buffer, cor.toUpperCase(), LARGURA_MATERIAL);
+                case NIVEL -> anexarCentralizado(buffer, nivelDedicacao, LARGURA_NIVEL);
+                default -> throw new IllegalStateException("Lacuna fora da frente: " + molde.lacunas[i]);
+            }
+        }
+        buffer.append(molde.textos[molde.lacunas.length]);
+        saida.anexar(buffer);
+    }
+
+    /**
+     * Desenha o verso do medalhão
+     * Mesmo resultado de MedalhaoPersonalizadoTerminado.exibirVersoMedalhao
+     */
+    static void desenharVerso(Saida saida, String bordaChar, String lema,
+                              int pontuacaoTotal, String classificacao) {
+        Molde molde = VERSOS.computeIfAbsent(bordaChar, borda -> compilar(MOLDE_VERSO, borda));
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        for (int i = 0; i < molde.lacunas.length; i++) {
+            buffer.append(molde.textos[i]);
+            switch (molde.lacunas[i]) {
+                case LEMA -> {
+                    String[] linhasLema = MedalhaoPersonalizadoTerminado.quebrarTexto(lema, LARGURA_LEMA);
+                    for (int linha = 0; linha < linhasLema.length; linha++) {
+                        if (linha > 0) {
+                            buffer.append(molde.entreLinhasLema);
+                        }
+                        anexarCentralizado(buffer, linhasLema[linha], LARGURA_LEMA);
+                    }
+                }
+                case PONTUACAO -> anexarCentralizado(buffer, pontuacaoTotal, LARGURA_PONTUACAO);
+                case RANKING -> anexarCentralizado(buffer, classificacao, LARGURA_RANKING);
+                default -> throw new IllegalStateException("Lacuna fora do verso: " + molde.lacunas[i]);
+            }
+        }
+        buffer.append(molde.textos[molde.lacunas.length]);
+        saida.anexar(buffer);
+    }
+
+    // ===== PREENCHIMENTO DAS LACUNAS =====
+
+    /**
+     * Mesmo resultado de centralizarTexto, mas escrito direto no buffer
+     */
+    private static void anexarCentralizado(StringBuilder buffer, String texto, int largura) {
+        if (texto.length() >= largura) {
+            buffer.append(texto, 0, largura);
+            return;
+        }
+        int espacosTotal = largura - texto.length();
+        int espacosEsquerda = espacosTotal / 2;
+        buffer.append(ESPACOS, 0, espacosEsquerda)
+                .append(texto)
+                .append(ESPACOS, 0, espacosTotal - espacosEsquerda);
+    }
+
+    /**
+     * Centraliza um número sem convertê-lo antes para String
+     */
+    private static void anexarCentralizado(StringBuilder buffer, int numero, int largura) {
+        int inicio = buffer.length();
+        buffer.append(numero);
+        int tamanho = buffer.length() - inicio;
+        if (tamanho >= largura) {
+            buffer.setLength(inicio + largura);
+            return;
+        }
+        int espacosTotal = largura - tamanho;
+        int espacosEsquerda = espacosTotal / 2;
+        buffer.insert(inicio, ESPACOS, 0, espacosEsquerda)
+                .append(ESPACOS, 0, espacosTotal - espacosEsquerda);
+    }
+}
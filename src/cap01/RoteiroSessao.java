@@ -0,0 +1,307 @@
+package cap01;
+
+/**
+ * RoteiroSessao.java
+ * <p>
+ * Roteiro de uma sessão do menu principal: os comandos que um operador
+ * escolheu e as respostas que deu a cada um, gravados para serem
+ * repetidos pela CargaAcademia sem terminal.
+ * <p>
+ * O arquivo é texto UTF-8 com uma linha por comando: a opção do menu e as
+ * respostas às perguntas do comando, separadas por tab (um tab ou uma
+ * barra invertida dentro de uma resposta viram \t e \\). Linhas vazias e
+ * linhas começadas por # são ignoradas, então o roteiro pode ser escrito
+ * ou editado à mão. Exemplo (→ é um tab):
+ *   1→Ciri→20→Cintra→15
+ *   3→Ciri
+ *   4→2→30
+ *   6
+ * <p>
+ * Grave uma sessão do console com --gravar=arquivo:
+ *   java cap01.ExemploCompletoTerminado --gravar=sessao.roteiro
+ * <p>
+ * Variantes: a CargaAcademia pode gerar milhares de sessões parecidas a
+ * partir de um roteiro. A variante 0 é o roteiro como foi gravado; nas
+ * outras, cada nome cadastrado ganha o número da variante no fim (e as
+ * buscas e consultas de placar pelo mesmo nome também), e a idade, o
+ * nível e os pontos de treino variam até 50% para cima ou para baixo.
+ * Respostas que não são números continuam como estão, então os caminhos
+ * de erro gravados continuam sendo exercitados.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+final class RoteiroSessao {
+
+    private static final char SEPARADOR = '\t';
+    private static final String COMENTARIO = "#";
+
+    // Opções do menu cujas respostas mudam nas variantes, e a posição de cada resposta na linha
+    private static final int OPCAO_ADICIONAR = 1;
+    private static final int OPCAO_BUSCAR = 3;
+    private static final int OPCAO_TREINAR = 4;
+    private static final int OPCAO_PLACAR = 7;
+    private static final int CAMPO_NOME = 1;        // adicionar e buscar
+    private static final int CAMPO_IDADE = 2;       // adicionar
+    private static final int CAMPO_NIVEL = 4;       // adicionar
+    private static final int CAMPO_PONTOS = 2;      // treinar
+    private static final int CAMPO_NOME_PLACAR = 2; // placar: depois do tamanho do topo
+
+    // Cada comando: a opção seguida das respostas, como aparecem na linha
+    private final List<String[]> comandos;
+
+    private RoteiroSessao(List<String[]> comandos) {
+        this.comandos = comandos;
+    }
+
+    // ===== LEITURA =====
+
+    /**
+     * @param arquivo roteiro gravado (ou escrito à mão)
+     */
+    static RoteiroSessao ler(Path arquivo) throws IOException {
+        List<String[]> comandos = new ArrayList<>();
+        for (String linha : Files.readAllLines(arquivo, StandardCharsets.UTF_8)) {
+            if (!linha.isBlank() && !linha.startsWith(COMENTARIO)) {
+                comandos.add(decodificar(linha));
+            }
+        }
+        return new RoteiroSessao(comandos);
+    }
+
+    int quantidadeComandos() {
+        return comandos.size();
+    }
+
+    /**
+     * @param comando posição do comando no roteiro
+     * @return opção do menu; 0 (opção inválida) se a gravada não for um número
+     */
+    int opcao(int comando) {
+        return opcaoDe(comandos.get(comando));
+    }
+
+    /**
+     * Texto que um LeitorEntrada entrega ao comando: uma resposta por
+     * linha, como se o operador as digitasse
+     *
+     * @param comando posição do comando no roteiro
+     */
+    String respostas(int comando) {
+        String[] linha = comandos.get(comando);
+        StringBuilder texto = new StringBuilder();
+        for (int i = 1; i < linha.length; i++) {
+            texto.append(linha[i]).append('\n');
+        }
+        return texto.toString();
+    }
+
+    // ===== VARIANTES =====
+
+    /**
+     * Sessão parecida com a gravada (veja o cabeçalho da classe)
+     *
+     * @param numero número da variante; 0 devolve o próprio roteiro
+     * @param semente semente do sorteio; a mesma semente gera as mesmas variantes
+     */
+    RoteiroSessao variante(int numero, long semente) {
+        if (numero == 0) {
+            return this;
+        }
+        SplittableRandom sorteio = new SplittableRandom(semente ^ (numero * 0x9E3779B97F4A7C15L));
+        String sufixo = " " + numero;
+
+        // Nomes cadastrados pelo roteiro: só as buscas por eles acompanham a troca
+        Set<String> nomes = new HashSet<>();
+        for (String[] comando : comandos) {
+            if (opcaoDe(comando) == OPCAO_ADICIONAR && comando.length > CAMPO_NOME) {
+                nomes.add(comando[CAMPO_NOME].trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        List<String[]> alterados = new ArrayList<>(comandos.size());
+        for (String[] original : comandos) {
+            String[] comando = original.clone();
+            switch (opcaoDe(comando)) {
+                case OPCAO_ADICIONAR -> {
+                    renomear(comando, CAMPO_NOME, sufixo, null);
+                    variarNumero(comando, CAMPO_IDADE, sorteio);
+                    variarNumero(comando, CAMPO_NIVEL, sorteio);
+                }
+                case OPCAO_BUSCAR -> renomear(comando, CAMPO_NOME, sufixo, nomes);
+                case OPCAO_TREINAR -> variarNumero(comando, CAMPO_PONTOS, sorteio);
+                case OPCAO_PLACAR -> renomear(comando, CAMPO_NOME_PLACAR, sufixo, nomes);
+                default -> {
+                    // Os outros comandos são repetidos como foram gravados
+                }
+            }
+            alterados.add(comando);
+        }
+        return new RoteiroSessao(alterados);
+    }
+
+    /**
+     * Opção lida como no menu: a primeira palavra da resposta, e o resto da linha é ignorado
+     */
+    private static int opcaoDe(String[] comando) {
+        String[] palavras = comando[0].trim().split("\\s+", 2);
+        try {
+            return Integer.parseInt(palavras[0]);
+        } catch (NumberFormatException e) {
+            return 0; // "?" ou outro texto: opção inválida
+        }
+    }
+
+    /**
+     * Acrescenta o sufixo ao nome do campo, se ele for um dos nomes (ou sempre, com nomes null)
+     */
+    private static void renomear(String[] comando, int campo, String sufixo, Set<String> nomes) {
+        if (campo >= comando.length) {
+            return;
+        }
+        String nome = comando[campo].trim();
+        if (nome.isEmpty()) {
+            return;
+        }
+        if (nomes == null || nomes.contains(nome.toLowerCase(Locale.ROOT))) {
+            comando[campo] = nome + sufixo;
+        }
+    }
+
+    /**
+     * Sorteia um valor até 50% acima ou abaixo do número do campo
+     * O que não é número (ou não cabe em um int) fica como está
+     */
+    private static void variarNumero(String[] comando, int campo, SplittableRandom sorteio) {
+        if (campo >= comando.length) {
+            return;
+        }
+        int valor;
+        try {
+            valor = Integer.parseInt(comando[campo].trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        long margem = Math.abs((long) valor) / 2;
+        long novo = valor + sorteio.nextLong(-margem, margem + 1);
+        comando[campo] = Long.toString(Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, novo)));
+    }
+
+    // ===== FORMATO DA LINHA =====
+
+    static String codificar(List<String> respostas) {
+        StringBuilder linha = new StringBuilder();
+        for (int i = 0; i < respostas.size(); i++) {
+            if (i > 0) {
+                linha.append(SEPARADOR);
+            }
+            String resposta = respostas.get(i);
+            for (int j = 0; j < resposta.length(); j++) {
+                char c = resposta.charAt(j);
+                if (c == SEPARADOR) {
+                    linha.append("\\t");
+                } else if (c == '\\') {
+                    linha.append("\\\\");
+                } else {
+                    linha.append(c);
+                }
+            }
+        }
+        return linha.toString();
+    }
+
+    static String[] decodificar(String linha) {
+        List<String> respostas = new ArrayList<>();
+        StringBuilder resposta = new StringBuilder();
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (c == SEPARADOR) {
+                respostas.add(resposta.toString());
+                resposta.setLength(0);
+            } else if (c == '\\' && i + 1 < linha.length()) {
+                char seguinte = linha.charAt(++i);
+                resposta.append(seguinte == 't' ? SEPARADOR : seguinte);
+            } else {
+                resposta.append(c);
+            }
+        }
+        respostas.add(resposta.toString());
+        return respostas.toArray(new String[0]);
+    }
+
+    // ===== GRAVAÇÃO =====
+
+    /**
+     * Abre a gravação pedida pelo argumento --gravar=arquivo
+     *
+     * @param args argumentos da linha de comando
+     * @return gravador aberto, ou null se nenhum arquivo foi escolhido
+     */
+    static Gravador escolher(String[] args) throws IOException {
+        String nome = null;
+        for (String arg : args) {
+            if (arg.startsWith("--gravar=")) {
+                nome = arg.substring("--gravar=".length());
+            }
+        }
+        return nome == null ? null : new Gravador(Path.of(nome));
+    }
+
+    /**
+     * Escreve um roteiro à medida que a sessão acontece
+     * Cada comando vai para o disco assim que termina, então uma sessão
+     * interrompida (Ctrl+C) mantém os comandos já concluídos
+     */
+    static final class Gravador implements Closeable {
+        private final BufferedWriter escritor;
+
+        /**
+         * @param arquivo roteiro a criar (substituído se já existir)
+         */
+        Gravador(Path arquivo) throws IOException {
+            escritor = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8);
+            escritor.write(COMENTARIO + " Roteiro da academia gravado em " + LocalDateTime.now());
+            escritor.newLine();
+            escritor.write(COMENTARIO + " Uma linha por comando: opção e respostas separadas por tab");
+            escritor.newLine();
+            escritor.flush();
+        }
+
+        /**
+         * @param respostas a opção escolhida seguida das respostas do comando
+         */
+        void registrar(List<String> respostas) {
+            if (respostas.isEmpty()) {
+                return;
+            }
+            try {
+                escritor.write(codificar(respostas));
+                escritor.newLine();
+                escritor.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao gravar o roteiro", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            escritor.close();
+        }
+    }
+}
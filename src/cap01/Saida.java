@@ -0,0 +1,356 @@
+package cap01;
+
+/**
+ * Saida.java
+ * <p>
+ * Destino de todo o texto exibido pela academia e pela forja de medalhões.
+ * <p>
+ * Os métodos de exibição escrevem em uma Saida em vez de chamar
+ * System.out diretamente, então o destino pode ser trocado na inicialização:
+ * - console: System.out, byte a byte como sempre foi (padrão interativo)
+ * - buffer: escrita em lotes com um buffer grande, para milhares de medalhões
+ * - descarte: joga tudo fora, para medir desempenho sem custo de E/S
+ * <p>
+ * Escolha com o argumento --saida=console|buffer|descarte ou com a
+ * propriedade de sistema -Dsaida=...
+ * <p>
+ * Com várias sessões na mesma JVM (ServidorAcademia), a Roteada entrega
+ * cada texto à saída da sessão atendida pela thread atual.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+interface Saida {
+
+    /**
+     * Escreve um texto sem quebra de linha (usado pelos prompts)
+     */
+    void print(String texto);
+
+    /**
+     * Escreve um texto seguido de quebra de linha
+     */
+    void println(String texto);
+
+    /**
+     * Escreve apenas uma quebra de linha
+     */
+    void println();
+
+    /**
+     * Escreve um bloco de texto já pronto, como um medalhão inteiro desenhado
+     */
+    void anexar(CharSequence texto);
+
+    /**
+     * Garante que todo o texto pendente chegou ao destino
+     */
+    void flush();
+
+    // ===== ESCOLHA NA INICIALIZAÇÃO =====
+
+    /**
+     * Escolhe a saída pelo argumento --saida=... ou pela propriedade -Dsaida=...
+     *
+     * @param args argumentos da linha de comando
+     * @param padrao saída usada quando nada foi escolhido
+     * @return saída escolhida
+     */
+    static Saida escolher(String[] args, Saida padrao) {
+        String nome = System.getProperty("saida");
+        for (String arg : args) {
+            if (arg.startsWith("--saida=")) {
+                nome = arg.substring("--saida=".length());
+            }
+        }
+        if (nome == null) {
+            return padrao;
+        }
+
+        Saida escolhida = porNome(nome);
+        if (escolhida == null) {
+            System.err.println("⚠️ Saída desconhecida: " + nome + " (use console, buffer ou descarte)");
+            return padrao;
+        }
+        return escolhida;
+    }
+
+    /**
+     * @param nome console, buffer ou descarte
+     * @return nova saída correspondente, ou null se o nome for desconhecido
+     */
+    static Saida porNome(String nome) {
+        return switch (nome.toLowerCase()) {
+            case "console" -> new Console();
+            case "buffer" -> new Bufferizada(System.out, System.out.charset());
+            case "descarte" -> new Descarte();
+            default -> null;
+        };
+    }
+
+    // ===== IMPLEMENTAÇÕES =====
+
+    /**
+     * Console interativo: repassa cada chamada para System.out
+     */
+    final class Console implements Saida {
+
+        @Override
+        public void print(String texto) {
+            System.out.print(texto);
+        }
+
+        @Override
+        public void println(String texto) {
+            System.out.println(texto);
+        }
+
+        @Override
+        public void println() {
+            System.out.println();
+        }
+
+        @Override
+        public void anexar(CharSequence texto) {
+            System.out.append(texto);
+        }
+
+        @Override
+        public void flush() {
+            System.out.flush();
+        }
+    }
+
+    /**
+     * Escrita em lotes: acumula o texto em um buffer de 1 MB e só o envia
+     * ao destino quando ele enche ou em um flush.
+     * <p>
+     * Um print sem quebra de linha é sempre um prompt esperando resposta,
+     * então ele descarrega o buffer para que o usuário veja a pergunta.
+     */
+    final class Bufferizada implements Saida {
+        private static final int TAMANHO_BUFFER = 1 << 20;
+        private static final int TAMANHO_BLOCO = 8192;
+
+        private final Writer escritor;
+        private final String quebraLinha;
+
+        // Só criado no primeiro anexar de um StringBuilder
+        private char[] bloco;
+
+        Bufferizada(OutputStream destino, Charset codificacao) {
+            this(destino, codificacao, TAMANHO_BUFFER, System.lineSeparator());
+        }
+
+        /**
+         * @param tamanhoBuffer caracteres acumulados antes de enviar ao destino
+         * @param quebraLinha quebra de linha usada nos println
+         */
+        Bufferizada(OutputStream destino, Charset codificacao, int tamanhoBuffer, String quebraLinha) {
+            this.escritor = new BufferedWriter(new OutputStreamWriter(destino, codificacao), tamanhoBuffer);
+            this.quebraLinha = quebraLinha;
+        }
+
+        @Override
+        public void print(String texto) {
+            escrever(texto);
+            flush();
+        }
+
+        @Override
+        public void println(String texto) {
+            escrever(texto);
+            escrever(quebraLinha);
+        }
+
+        @Override
+        public void println() {
+            escrever(quebraLinha);
+        }
+
+        @Override
+        public void anexar(CharSequence texto) {
+            if (!(texto instanceof StringBuilder construtor)) {
+                escrever(texto.toString());
+                return;
+            }
+            // Copia em blocos para não criar uma String do tamanho do texto inteiro
+            if (bloco == null) {
+                bloco = new char[TAMANHO_BLOCO];
+            }
+            try {
+                for (int inicio = 0; inicio < construtor.length(); inicio += bloco.length) {
+                    int fim = Math.min(inicio + bloco.length, construtor.length());
+                    construtor.getChars(inicio, fim, bloco, 0);
+                    escritor.write(bloco, 0, fim - inicio);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                escritor.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void escrever(String texto) {
+            try {
+                escritor.write(texto);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Repassa cada chamada para a saída da sessão atendida pela thread atual,
+     * ou para a saída padrão quando a thread não atende nenhuma sessão.
+     * <p>
+     * Deixa a academia escrever em um único campo estático e ainda assim
+     * atender vários operadores ao mesmo tempo, cada um na sua conexão.
+     */
+    final class Roteada implements Saida {
+        private final ThreadLocal<Saida> daSessao = new ThreadLocal<>();
+        private volatile Saida padrao;
+
+        Roteada(Saida padrao) {
+            this.padrao = padrao;
+        }
+
+        /**
+         * @return saída usada pelas threads que não atendem uma sessão
+         */
+        Saida padrao() {
+            return padrao;
+        }
+
+        void definirPadrao(Saida saida) {
+            this.padrao = saida;
+        }
+
+        /**
+         * Faz a thread atual escrever na saída da sua sessão até encerrarSessao()
+         */
+        void iniciarSessao(Saida saida) {
+            daSessao.set(saida);
+        }
+
+        void encerrarSessao() {
+            daSessao.remove();
+        }
+
+        private Saida atual() {
+            Saida saida = daSessao.get();
+            return saida != null ? saida : padrao;
+        }
+
+        @Override
+        public void print(String texto) {
+            atual().print(texto);
+        }
+
+        @Override
+        public void println(String texto) {
+            atual().println(texto);
+        }
+
+        @Override
+        public void println() {
+            atual().println();
+        }
+
+        @Override
+        public void anexar(CharSequence texto) {
+            atual().anexar(texto);
+        }
+
+        @Override
+        public void flush() {
+            atual().flush();
+        }
+    }
+
+    /**
+     * Descarta todo o texto - usada em medições de desempenho
+     */
+    final class Descarte implements Saida {
+
+        @Override
+        public void print(String texto) {
+        }
+
+        @Override
+        public void println(String texto) {
+        }
+
+        @Override
+        public void println() {
+        }
+
+        @Override
+        public void anexar(CharSequence texto) {
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
+    /**
+     * Guarda o texto em memória - usada pela forja em lote para desenhar
+     * cada medalhão em paralelo antes de publicá-lo na ordem certa
+     */
+    final class Memoria implements Saida {
+        private final String quebraLinha = System.lineSeparator();
+        private final StringBuilder texto;
+
+        Memoria(int capacidadeInicial) {
+            this.texto = new StringBuilder(capacidadeInicial);
+        }
+
+        /**
+         * @return todo o texto escrito até agora
+         */
+        StringBuilder conteudo() {
+            return texto;
+        }
+
+        @Override
+        public void print(String texto) {
+            this.texto.append(texto);
+        }
+
+        @Override
+        public void println(String texto) {
+            this.texto.append(texto).append(quebraLinha);
+        }
+
+        @Override
+        public void println() {
+            texto.append(quebraLinha);
+        }
+
+        @Override
+        public void anexar(CharSequence texto) {
+            this.texto.append(texto);
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
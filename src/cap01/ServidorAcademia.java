@@ -0,0 +1,200 @@
+package cap01;
+
+/**
+ * ServidorAcademia.java
+ * <p>
+ * Atende o menu principal da academia por TCP, uma sessão independente
+ * por conexão, todas usando o mesmo cadastro de aprendizes.
+ * <p>
+ * Cada conexão ganha uma thread virtual: uma sessão parada esperando o
+ * operador não prende nenhuma thread do sistema, então milhares de
+ * sessões ociosas custam pouco (uns poucos KB de buffers cada).
+ * <p>
+ * Só aceita conexões da própria máquina (loopback). A latência de cada
+ * comando é somada em LatenciaComandos e exibida periodicamente e quando
+ * o servidor é encerrado (Ctrl+C).
+ * <p>
+ * Uso:
+ *   java cap01.ServidorAcademia
+ *   java cap01.ServidorAcademia --porta=7070 --relatorio=30
+ *   java cap01.ServidorAcademia --armazenamento=foradoheap
+ *   java cap01.ServidorAcademia --dados=academia
+ *   nc localhost 7070      (em outro terminal, uma vez por operador)
+ * <p>
+ * Opções: --porta=N (porta TCP), --relatorio=segundos (intervalo do
+ * relatório de latência; 0 desliga o relatório periódico) e
+ * --armazenamento=objetos|colunar|foradoheap (veja CadastroAprendizes),
+ * --dados=diretório e --instantaneo=segundos (veja PersistenciaAcademia).
+ * Com --dados, cada comando só é respondido depois que as alterações
+ * dele chegaram ao disco, e o encerramento tira o instantâneo final.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ServidorAcademia {
+
+    // ===== CONFIGURAÇÃO PADRÃO =====
+    private static final int PORTA_PADRAO = 7070;
+    private static final int RELATORIO_PADRAO_SEGUNDOS = 60;
+
+    // Conexões aguardando accept (o sistema operacional pode limitar a menos)
+    private static final int FILA_CONEXOES = 4096;
+
+    private final Saida console = new Saida.Console();
+    private final LatenciaComandos latencias = new LatenciaComandos();
+    private final AtomicInteger sessoesAtivas = new AtomicInteger();
+    private final LongAdder sessoesAtendidas = new LongAdder();
+
+    // Habilidades desbloqueadas por todas as sessões, na ordem de ExemploCompletoTerminado.HABILIDADES
+    private final LongAdder[] desbloqueios = new LongAdder[ExemploCompletoTerminado.HABILIDADES.length];
+
+    private ServidorAcademia() {
+        for (int i = 0; i < desbloqueios.length; i++) {
+            desbloqueios[i] = new LongAdder();
+        }
+    }
+
+    // ===== MÉTODO PRINCIPAL =====
+
+    public static void main(String[] args) {
+        int porta = PORTA_PADRAO;
+        int relatorio = RELATORIO_PADRAO_SEGUNDOS;
+
+        for (String arg : args) {
+            try {
+                if (arg.startsWith("--porta=")) {
+                    porta = Integer.parseInt(arg.substring("--porta=".length()));
+                } else if (arg.startsWith("--relatorio=")) {
+                    relatorio = Integer.parseInt(arg.substring("--relatorio=".length()));
+                } else if (!arg.startsWith("--armazenamento=") && !arg.startsWith("--dados=")
+                        && !arg.startsWith("--instantaneo=")) {
+                    System.err.println("❌ Opção desconhecida: " + arg);
+                    System.exit(1);
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("❌ Número inválido: " + arg);
+                System.exit(1);
+            }
+        }
+        if (porta < 0 || porta > 65535 || relatorio < 0) {
+            System.err.println("❌ Use uma porta entre 0 e 65535 e um intervalo de relatório a partir de 0");
+            System.exit(1);
+        }
+
+        CadastroAprendizes cadastro = CadastroAprendizes.escolher(args, null);
+        if (cadastro != null) {
+            ExemploCompletoTerminado.definirCadastro(cadastro);
+        }
+        ExemploCompletoTerminado.abrirPersistencia(args);
+        Runtime.getRuntime().addShutdownHook(
+                new Thread(ExemploCompletoTerminado::fecharPersistencia, "instantaneo-final"));
+
+        try {
+            new ServidorAcademia().atender(porta, relatorio);
+        } catch (IOException e) {
+            System.err.println("❌ Erro no servidor: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    // ===== ATENDIMENTO =====
+
+    /**
+     * Aceita conexões até o processo ser encerrado
+     */
+    private void atender(int porta, int intervaloRelatorio) throws IOException {
+        // Mesmo aprendiz de demonstração do modo console (uma academia salva já o tem)
+        if (ExemploCompletoTerminado.quantidadeAprendizes() == 0) {
+            ExemploCompletoTerminado.cadastrarAprendiz(new ExemploCompletoTerminado("Geralt", 99, "Kaer Morhen", 95));
+        }
+
+        try (ServerSocket servidor = new ServerSocket(porta, FILA_CONEXOES, InetAddress.getLoopbackAddress());
+             ExecutorService sessoes = Executors.newThreadPerTaskExecutor(
+                     Thread.ofVirtual().name("sessao-", 1).factory())) {
+
+            console.println("🏰 Servidor da academia ouvindo em " + servidor.getLocalSocketAddress());
+            console.println("💡 Conecte com: nc localhost " + servidor.getLocalPort());
+            console.flush();
+
+            EventosHabilidades.registrar(lote -> {
+                for (EventosHabilidades.Desbloqueio desbloqueio : lote) {
+                    desbloqueios[desbloqueio.habilidade()].increment();
+                }
+            });
+            Runtime.getRuntime().addShutdownHook(new Thread(this::exibirRelatorio, "relatorio-final"));
+            if (intervaloRelatorio > 0) {
+                Thread.ofPlatform().daemon().name("relatorio-latencia")
+                        .start(() -> relatarPeriodicamente(intervaloRelatorio));
+            }
+
+            while (true) {
+                Socket conexao = servidor.accept();
+                conexao.setTcpNoDelay(true); // Prompts curtos não devem esperar o algoritmo de Nagle
+                sessoes.execute(() -> atenderConexao(conexao));
+            }
+        }
+    }
+
+    private void atenderConexao(Socket conexao) {
+        sessoesAtivas.incrementAndGet();
+        try {
+            SessaoAcademia.remota(conexao, latencias).run();
+        } catch (IOException e) {
+            fecharSemErro(conexao);
+        } finally {
+            sessoesAtivas.decrementAndGet();
+            sessoesAtendidas.increment();
+        }
+    }
+
+    private static void fecharSemErro(Socket conexao) {
+        try {
+            conexao.close();
+        } catch (IOException e) {
+            // Já estava perdida
+        }
+    }
+
+    // ===== RELATÓRIO =====
+
+    private void relatarPeriodicamente(int intervaloSegundos) {
+        long ultimoTotal = 0;
+        while (true) {
+            try {
+                Thread.sleep(intervaloSegundos * 1000L);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long total = latencias.total();
+            if (total != ultimoTotal) {
+                ultimoTotal = total;
+                exibirRelatorio();
+            }
+        }
+    }
+
+    private synchronized void exibirRelatorio() {
+        console.println("\n📈 LATÊNCIA POR COMANDO - sessões ativas: " + sessoesAtivas.get()
+                + ", encerradas: " + sessoesAtendidas.sum());
+        latencias.exibir(console);
+
+        StringBuilder linha = new StringBuilder("🔓 Habilidades desbloqueadas:");
+        for (int i = 0; i < desbloqueios.length; i++) {
+            String habilidade = ExemploCompletoTerminado.HABILIDADES[i];
+            linha.append(i == 0 ? " " : " · ").append(habilidade, 0, habilidade.indexOf(' '))
+                    .append(' ').append(desbloqueios[i].sum());
+        }
+        console.println(linha.toString());
+        console.flush();
+    }
+}
@@ -0,0 +1,266 @@
+package cap01;
+
+/**
+ * SessaoAcademia.java
+ * <p>
+ * Uma sessão do menu principal da academia: a entrada de onde vêm as
+ * respostas do operador e a saída para onde vai todo o texto exibido.
+ * <p>
+ * Há três tipos de sessão, todos usando o mesmo cadastro de aprendizes:
+ * - console: System.in e a saída padrão da academia (o modo de sempre),
+ *   opcionalmente gravando um RoteiroSessao
+ * - remota: uma conexão do ServidorAcademia, com a sua própria saída
+ *   e a latência de cada comando registrada em LatenciaComandos
+ * - roteirizada: um roteiro repetido pela CargaAcademia, comando por
+ *   comando, com a latência registrada como na remota
+ * <p>
+ * A latência de um comando é o tempo de serviço: do fim da leitura da
+ * opção até o texto do comando ser enviado, descontado o tempo em que a
+ * sessão ficou esperando o operador responder às perguntas do comando.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+final class SessaoAcademia implements Runnable {
+
+    // Buffer de saída pequeno: milhares de sessões ociosas precisam custar pouco
+    private static final int TAMANHO_BUFFER_SESSAO = 2048;
+
+    // Quebra de linha de protocolos de texto (telnet, nc)
+    private static final String QUEBRA_LINHA_REDE = "\r\n";
+
+    private final LeitorEntrada entrada;          // Na sessão remota, fechá-lo fecha a conexão; null na roteirizada
+    private final RoteiroSessao roteiro;          // Só na roteirizada
+    private final Saida saida;                    // null no console: usa a saída padrão
+    private final EntradaCronometrada cronometro; // null no console
+    private final LatenciaComandos latencias;     // null no console
+    private RoteiroSessao.Gravador gravador;      // null sem gravação (ou depois de uma falha)
+
+    private SessaoAcademia(LeitorEntrada entrada, RoteiroSessao roteiro, Saida saida,
+                           EntradaCronometrada cronometro, LatenciaComandos latencias,
+                           RoteiroSessao.Gravador gravador) {
+        this.entrada = entrada;
+        this.roteiro = roteiro;
+        this.saida = saida;
+        this.cronometro = cronometro;
+        this.latencias = latencias;
+        this.gravador = gravador;
+    }
+
+    /**
+     * Conta o tempo gasto esperando bytes do operador
+     * Só a thread da sessão lê, então um long comum basta
+     */
+    private static final class EntradaCronometrada extends FilterInputStream {
+        private long esperaNanos;
+
+        EntradaCronometrada(InputStream origem) {
+            super(origem);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long inicio = System.nanoTime();
+            try {
+                return super.read();
+            } finally {
+                esperaNanos += System.nanoTime() - inicio;
+            }
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) throws IOException {
+            long antes = System.nanoTime();
+            try {
+                return super.read(destino, inicio, tamanho);
+            } finally {
+                esperaNanos += System.nanoTime() - antes;
+            }
+        }
+    }
+
+    // ===== TIPOS DE SESSÃO =====
+
+    /**
+     * Sessão do console: a entrada é do chamador e a saída é a padrão
+     */
+    static SessaoAcademia console(LeitorEntrada entrada) {
+        return console(entrada, null);
+    }
+
+    /**
+     * Sessão do console que grava cada comando concluído no roteiro
+     *
+     * @param gravador onde gravar, ou null para não gravar; fechá-lo é do chamador
+     */
+    static SessaoAcademia console(LeitorEntrada entrada, RoteiroSessao.Gravador gravador) {
+        return new SessaoAcademia(entrada, null, null, null, null, gravador);
+    }
+
+    /**
+     * Sessão de uma conexão do ServidorAcademia
+     *
+     * @param conexao conexão aceita; é fechada ao fim da sessão
+     * @param latencias onde registrar a latência de cada comando
+     */
+    static SessaoAcademia remota(Socket conexao, LatenciaComandos latencias) throws IOException {
+        EntradaCronometrada cronometro = new EntradaCronometrada(conexao.getInputStream());
+        LeitorEntrada entrada = LeitorEntrada.daConexao(cronometro);
+        Saida saida = new Saida.Bufferizada(conexao.getOutputStream(), StandardCharsets.UTF_8,
+                TAMANHO_BUFFER_SESSAO, QUEBRA_LINHA_REDE);
+        return new SessaoAcademia(entrada, null, saida, cronometro, latencias, null);
+    }
+
+    /**
+     * Sessão que repete um roteiro da CargaAcademia (veja repetirRoteiro)
+     * As respostas já estão em memória, então não há espera a descontar
+     *
+     * @param roteiro comandos e respostas a repetir
+     * @param saida para onde vai o texto da sessão
+     * @param latencias onde registrar a latência de cada comando
+     */
+    static SessaoAcademia roteirizada(RoteiroSessao roteiro, Saida saida, LatenciaComandos latencias) {
+        return new SessaoAcademia(null, roteiro, saida, null, latencias, null);
+    }
+
+    // ===== EXECUÇÃO =====
+
+    /**
+     * Atende uma sessão remota do começo ao fim, na thread atual
+     */
+    @Override
+    public void run() {
+        ExemploCompletoTerminado.iniciarSessao(saida);
+        try {
+            ExemploCompletoTerminado.exibirCabecalho();
+            executarMenu();
+            ExemploCompletoTerminado.exibirDespedida();
+        } catch (NoSuchElementException e) {
+            // O operador fechou a conexão no meio de uma pergunta
+        } catch (UncheckedIOException e) {
+            // Conexão perdida: não há mais ninguém para avisar
+        } finally {
+            ExemploCompletoTerminado.encerrarSessao();
+            entrada.close(); // Fecha também a conexão
+        }
+    }
+
+    /**
+     * Repete o menu principal até o operador escolher sair
+     */
+    void executarMenu() {
+        List<String> respostas = null;
+        if (gravador != null) {
+            respostas = new ArrayList<>();
+            entrada.anotarRespostas(respostas);
+        }
+
+        boolean continuar = true;
+        while (continuar) {
+            ExemploCompletoTerminado.exibirOpcoesMenu();
+
+            Integer lida = entrada.lerInteiro();
+            entrada.lerLinha(); // Consumir quebra de linha
+            int opcao = lida == null ? 0 : lida; // Não é um número: cai em "Opção inválida"
+
+            // Respostas que não são números são tratadas por cada comando
+            long esperaAntes = esperaNanos();
+            long inicio = System.nanoTime();
+            continuar = executarComando(opcao, entrada);
+            ExemploCompletoTerminado.confirmarAlteracoes(); // Só responde depois de gravar no diário
+            if (saida != null) {
+                saida.flush();
+            }
+            if (latencias != null) {
+                long espera = esperaNanos() - esperaAntes;
+                latencias.registrar(opcao, System.nanoTime() - inicio - espera);
+            }
+            if (gravador != null) {
+                gravar(respostas);
+            }
+        }
+    }
+
+    /**
+     * Grava o comando concluído; uma falha de disco para a gravação, não a sessão
+     */
+    private void gravar(List<String> respostas) {
+        try {
+            gravador.registrar(respostas);
+        } catch (UncheckedIOException e) {
+            System.err.println("❌ Falha ao gravar o roteiro (gravação interrompida): " + e.getCause().getMessage());
+            gravador = null;
+            entrada.anotarRespostas(null);
+        }
+        respostas.clear();
+    }
+
+    /**
+     * Repete o roteiro do começo ao fim, na thread atual
+     * Cada comando lê só as respostas gravadas para ele: se o estado da
+     * academia o fizer perguntar mais (a lista passa a ter páginas, um
+     * número de aprendiz que não existia passa a existir), ele encontra o
+     * fim da entrada e a sessão segue para o próximo comando; respostas
+     * que sobram são descartadas
+     *
+     * @return comandos que pediram mais respostas do que o roteiro tinha
+     */
+    int repetirRoteiro() {
+        int foraDoRoteiro = 0;
+        ExemploCompletoTerminado.iniciarSessao(saida);
+        try {
+            ExemploCompletoTerminado.exibirCabecalho();
+            boolean continuar = true;
+            for (int i = 0; i < roteiro.quantidadeComandos() && continuar; i++) {
+                ExemploCompletoTerminado.exibirOpcoesMenu();
+                int opcao = roteiro.opcao(i);
+                LeitorEntrada respostas = LeitorEntrada.deTexto(roteiro.respostas(i));
+
+                long inicio = System.nanoTime();
+                try {
+                    continuar = executarComando(opcao, respostas);
+                } catch (NoSuchElementException e) {
+                    foraDoRoteiro++;
+                }
+                ExemploCompletoTerminado.confirmarAlteracoes();
+                saida.flush();
+                latencias.registrar(opcao, System.nanoTime() - inicio);
+            }
+            ExemploCompletoTerminado.exibirDespedida();
+        } finally {
+            ExemploCompletoTerminado.encerrarSessao();
+        }
+        return foraDoRoteiro;
+    }
+
+    /**
+     * Executa uma opção do menu; um erro inesperado cancela só o comando,
+     * avisado na saída da sessão, e o menu volta a aparecer
+     * Fim da entrada e conexão perdida continuam encerrando a sessão
+     */
+    private static boolean executarComando(int opcao, LeitorEntrada entrada) {
+        try {
+            return ExemploCompletoTerminado.executarOpcao(opcao, entrada);
+        } catch (NoSuchElementException | UncheckedIOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            ExemploCompletoTerminado.exibirFalhaComando(e);
+            return true;
+        }
+    }
+
+    private long esperaNanos() {
+        return cronometro == null ? 0 : cronometro.esperaNanos;
+    }
+}
@@ -0,0 +1,179 @@
+package cap01;
+
+/**
+ * TreinoEmLote.java
+ * <p>
+ * Treino de fim de temporada: soma os mesmos pontos de experiência a
+ * todos os aprendizes que atendem a um critério (escola de origem, faixa
+ * de nível, faixa de idade), em vez de um aprendiz por vez pelo menu.
+ * <p>
+ * Cada aprendiz é treinado com ExemploCompletoTerminado.treinar, então
+ * valem as mesmas regras do treino individual: o nível para em
+ * NIVEL_MAXIMO e resultados abaixo de 1 são ignorados. O cadastro é
+ * dividido em trechos de ids tratados em paralelo pelo pool fork-join
+ * comum; cada trecho acumula o seu próprio resumo e os resumos são somados
+ * no fim, então nada é exibido por aprendiz. Os desbloqueios de cada
+ * trecho chegam aos ouvintes de EventosHabilidades em um único lote.
+ * <p>
+ * No cadastro de objetos os treinos de trechos diferentes não disputam
+ * nada além das travas listradas das estatísticas; no cadastro colunar a
+ * seleção é paralela, mas as gravações passam pela trava de escrita do cadastro.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class TreinoEmLote {
+
+    // Aprendizes por tarefa do pool (potência de 2, como os blocos do ArmazemColunar)
+    private static final int TAMANHO_TRECHO = 4096;
+
+    private TreinoEmLote() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    /**
+     * Quem participa do treino; as faixas incluem os dois extremos
+     *
+     * @param escola escola de origem (sem distinção de maiúsculas), ou null para todas
+     */
+    record Criterio(String escola, int nivelMinimo, int nivelMaximo, int idadeMinima, int idadeMaxima) {
+
+        boolean aceita(ExemploCompletoTerminado aprendiz) {
+            int nivel = aprendiz.getNivelHabilidade();
+            if (nivel < nivelMinimo || nivel > nivelMaximo) {
+                return false;
+            }
+            int idade = aprendiz.getIdade();
+            if (idade < idadeMinima || idade > idadeMaxima) {
+                return false;
+            }
+            return escola == null || escola.equalsIgnoreCase(aprendiz.getEscolaOrigem());
+        }
+    }
+
+    /**
+     * Resultado do treino; cada trecho preenche o seu e eles são somados no fim
+     */
+    static final class Resumo {
+        private long avaliados;
+        private long selecionados;
+        private long alterados;
+        private long variacaoNiveis;
+
+        // Por habilidade, na ordem de ExemploCompletoTerminado.HABILIDADES
+        private final long[] desbloqueadas = new long[ExemploCompletoTerminado.HABILIDADES.length];
+        private final long[] perdidas = new long[ExemploCompletoTerminado.HABILIDADES.length];
+
+        private void registrar(int nivelAnterior, int novoNivel) {
+            if (novoNivel == nivelAnterior) {
+                return;
+            }
+            alterados++;
+            variacaoNiveis += novoNivel - nivelAnterior;
+            int antes = EventosHabilidades.desbloqueadasAte(nivelAnterior);
+            int depois = EventosHabilidades.desbloqueadasAte(novoNivel);
+            for (int i = antes; i < depois; i++) {
+                desbloqueadas[i]++;
+            }
+            for (int i = depois; i < antes; i++) {
+                perdidas[i]++;
+            }
+        }
+
+        private Resumo somar(Resumo outro) {
+            avaliados += outro.avaliados;
+            selecionados += outro.selecionados;
+            alterados += outro.alterados;
+            variacaoNiveis += outro.variacaoNiveis;
+            for (int i = 0; i < desbloqueadas.length; i++) {
+                desbloqueadas[i] += outro.desbloqueadas[i];
+                perdidas[i] += outro.perdidas[i];
+            }
+            return this;
+        }
+
+        long avaliados() {
+            return avaliados;
+        }
+
+        /**
+         * @return aprendizes que atenderam ao critério
+         */
+        long selecionados() {
+            return selecionados;
+        }
+
+        /**
+         * @return aprendizes cujo nível mudou (os já no máximo não mudam)
+         */
+        long alterados() {
+            return alterados;
+        }
+
+        /**
+         * @return soma das mudanças de nível (negativa com pontos negativos)
+         */
+        long variacaoNiveis() {
+            return variacaoNiveis;
+        }
+
+        /**
+         * @param habilidade posição em ExemploCompletoTerminado.HABILIDADES
+         */
+        long desbloqueadas(int habilidade) {
+            return desbloqueadas[habilidade];
+        }
+
+        long perdidas(int habilidade) {
+            return perdidas[habilidade];
+        }
+    }
+
+    /**
+     * Treina em paralelo todos os aprendizes que atendem ao critério
+     * Aprendizes cadastrados durante o treino ficam de fora
+     *
+     * @param cadastro cadastro da academia
+     * @param criterio quem participa
+     * @param pontos pontos de experiência de cada um
+     * @return resumo do treino
+     */
+    static Resumo treinar(CadastroAprendizes cadastro, Criterio criterio, int pontos) {
+        int quantidade = cadastro.size();
+        int trechos = (quantidade + TAMANHO_TRECHO - 1) / TAMANHO_TRECHO;
+        return IntStream.range(0, trechos)
+                .parallel()
+                .collect(Resumo::new,
+                        (resumo, trecho) -> resumo.somar(treinarTrecho(cadastro, criterio, pontos,
+                                trecho * TAMANHO_TRECHO, Math.min((trecho + 1) * TAMANHO_TRECHO, quantidade))),
+                        Resumo::somar);
+    }
+
+    private static Resumo treinarTrecho(List<ExemploCompletoTerminado> cadastro, Criterio criterio, int pontos,
+                                        int inicio, int fim) {
+        Resumo resumo = new Resumo();
+        EventosHabilidades.abrirLote(); // Um aviso aos ouvintes por trecho, não por aprendiz
+        try {
+            for (int id = inicio; id < fim; id++) {
+                ExemploCompletoTerminado aprendiz = cadastro.get(id);
+                resumo.avaliados++;
+                if (!criterio.aceita(aprendiz)) {
+                    continue;
+                }
+                resumo.selecionados++;
+
+                // Mesma conta de treinar: o nível anterior devolvido é o que o treino partiu
+                int nivelAnterior = aprendiz.treinar(pontos);
+                int novoNivel = Math.min(nivelAnterior + pontos, ExemploCompletoTerminado.NIVEL_MAXIMO);
+                resumo.registrar(nivelAnterior, novoNivel < 1 ? nivelAnterior : novoNivel);
+            }
+        } finally {
+            EventosHabilidades.fecharLote();
+        }
+        return resumo;
+    }
+}
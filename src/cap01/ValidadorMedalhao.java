@@ -0,0 +1,391 @@
+package cap01;
+
+/**
+ * ValidadorMedalhao.java
+ * <p>
+ * Regras de validação dos pedidos de medalhão, separadas dos prompts: os
+ * validadores interativos de MedalhaoPersonalizadoTerminado e a
+ * ForjaEmLote usam as mesmas verificações daqui.
+ * <p>
+ * Tudo o que pode ser preparado é preparado uma vez, na carga da classe:
+ * - Os caracteres permitidos no nome são uma tabela de booleanos com a
+ *   mesma classe da expressão regular que verificarNome compilava a cada
+ *   nome: letras de a a z e de A a Z, U+00C0 a U+017F e o espaço
+ * - Escolas, sinais, cores, bordas, símbolos e sim/não são resolvidos
+ *   pelo Vocabulario, o mesmo dos prompts: uma consulta sem acentos nem
+ *   caixa, que também aceita os apelidos configurados
+ * - Números são convertidos sem Integer.parseInt: um campo inválido
+ *   não lança exceção
+ * <p>
+ * Um registro é validado em uma passada, e todos os campos inválidos são
+ * relatados juntos como Erro (problema e valor recebido). A mensagem de
+ * cada erro, a mesma dos prompts, só é montada quando alguém a pede.
+ * validarTodos valida uma sequência de registros reaproveitando a mesma
+ * lista de erros, e só copia os erros dos registros rejeitados.
+ * <p>
+ * Os campos de um registro (CAMPOS e as posições NOME, ESCOLA, ...) e o
+ * PedidoMedalhao validado são definidos aqui: a ForjaEmLote depende do
+ * validador, e não o contrário.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class ValidadorMedalhao {
+
+    // Faixa da tabela de caracteres do nome: até o fim do Latim Estendido-A
+    private static final int LIMITE_TABELA_NOME = 0x180;
+
+    // Verdadeiro para os caracteres permitidos no nome
+    private static final boolean[] CARACTERES_NOME = new boolean[LIMITE_TABELA_NOME];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CARACTERES_NOME[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CARACTERES_NOME[c] = true;
+        }
+        for (int c = 0xC0; c < LIMITE_TABELA_NOME; c++) {
+            CARACTERES_NOME[c] = true; // À-ÿ e Latim Estendido-A (inclui × e ÷, como a expressão)
+        }
+        CARACTERES_NOME[' '] = true;
+    }
+
+    // Borda usada quando o registro não informa nenhuma
+    private static final String BORDA_PADRAO = "simples";
+
+    /**
+     * Campos de um registro, na ordem das colunas do CSV da ForjaEmLote
+     */
+    static final String[] CAMPOS = {
+            "nome", "escola", "sinal", "horas", "cor", "borda", "lema", "duplo", "simbolo"
+    };
+
+    // Posições de cada campo dentro do registro
+    static final int NOME = 0;
+    static final int ESCOLA = 1;
+    static final int SINAL = 2;
+    static final int HORAS = 3;
+    static final int COR = 4;
+    static final int BORDA = 5;
+    static final int LEMA = 6;
+    static final int DUPLO = 7;
+    static final int SIMBOLO = 8;
+
+    private ValidadorMedalhao() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    /**
+     * O que pode estar errado em um registro, com o campo afetado
+     */
+    enum Problema {
+        NOME_VAZIO(NOME),
+        NOME_CURTO(NOME),
+        NOME_LONGO(NOME),
+        NOME_CARACTERES(NOME),
+        ESCOLA_DESCONHECIDA(ESCOLA),
+        SINAL_DESCONHECIDO(SINAL),
+        HORAS_FORA_DA_FAIXA(HORAS),
+        COR_DESCONHECIDA(COR),
+        BORDA_DESCONHECIDA(BORDA),
+        LEMA_LONGO(LEMA),
+        DUPLO_INVALIDO(DUPLO),
+        SIMBOLO_INVALIDO(SIMBOLO);
+
+        private final int campo;
+
+        Problema(int campo) {
+            this.campo = campo;
+        }
+
+        /**
+         * @return nome do campo afetado (um de CAMPOS)
+         */
+        String campo() {
+            return CAMPOS[campo];
+        }
+
+        /**
+         * @param valor valor recebido, citado nas mensagens das escolhas
+         * @return aviso exibido ao usuário, o mesmo dos prompts
+         */
+        String mensagem(String valor) {
+            return switch (this) {
+                case NOME_VAZIO -> "⚠️ O nome não pode estar vazio!";
+                case NOME_CURTO -> "⚠️ Nome deve ter pelo menos "
+                        + MedalhaoPersonalizadoTerminado.NOME_TAMANHO_MINIMO + " caracteres!";
+                case NOME_LONGO -> "⚠️ Nome deve ter no máximo "
+                        + MedalhaoPersonalizadoTerminado.NOME_TAMANHO_MAXIMO + " caracteres!";
+                case NOME_CARACTERES -> "⚠️ Use apenas letras e espaços no nome!";
+                case ESCOLA_DESCONHECIDA -> "⚠️ Escola não reconhecida: \"" + valor + "\"";
+                case SINAL_DESCONHECIDO -> "⚠️ Sinal não reconhecido: \"" + valor + "\"";
+                case HORAS_FORA_DA_FAIXA -> "⚠️ Digite um número entre " + MedalhaoPersonalizadoTerminado.HORAS_MINIMAS
+                        + " e " + MedalhaoPersonalizadoTerminado.HORAS_MAXIMAS + "!";
+                case COR_DESCONHECIDA -> "⚠️ Cor não disponível: \"" + valor + "\"";
+                case BORDA_DESCONHECIDA -> "⚠️ Borda não disponível: \"" + valor + "\"";
+                case LEMA_LONGO -> "⚠️ Lema muito longo! Máximo "
+                        + MedalhaoPersonalizadoTerminado.LEMA_TAMANHO_MAXIMO + " caracteres.";
+                case DUPLO_INVALIDO -> "⚠️ Medalhão duplo deve ser 's' ou 'n': \"" + valor + "\"";
+                case SIMBOLO_INVALIDO -> "⚠️ Símbolo deve ser um número entre 1 e 6!";
+            };
+        }
+    }
+
+    /**
+     * Pedido de medalhão já validado, pronto para ser forjado
+     */
+    record PedidoMedalhao(String nome, String escola, String sinal, int horas, String cor,
+                          String estiloBorda, String lema, boolean medalhaoDuplo, String simboloPersonal) {
+    }
+
+    /**
+     * Um campo inválido de um registro
+     *
+     * @param valor valor recebido, já normalizado como nos prompts
+     */
+    record Erro(Problema problema, String valor) {
+
+        String mensagem() {
+            return problema.mensagem(valor);
+        }
+    }
+
+    /**
+     * Quantos registros de uma sequência passaram e quantos foram rejeitados
+     */
+    record Contagem(long validos, long rejeitados) {
+    }
+
+    /**
+     * Recebe os erros de cada registro rejeitado por validarTodos
+     */
+    @FunctionalInterface
+    interface Rejeicoes {
+        /**
+         * @param posicao posição do registro na sequência, a partir de 0
+         * @param erros erros do registro (cópia que pode ser guardada)
+         */
+        void rejeitado(long posicao, List<Erro> erros);
+    }
+
+    // ===== REGISTROS =====
+
+    /**
+     * Valida todos os campos de um registro, sem parar no primeiro erro
+     *
+     * @param campos valores brutos, na ordem de CAMPOS (ausentes são null)
+     * @param erros lista que recebe os erros de cada campo inválido
+     * @return pedido validado, ou null se algum campo for inválido
+     */
+    static PedidoMedalhao validar(String[] campos, List<Erro> erros) {
+        int errosAntes = erros.size();
+        Vocabulario vocabulario = Vocabulario.atual();
+
+        String nome = textoOuVazio(campos[NOME]).trim();
+        Problema problema = problemaNome(nome);
+        if (problema != null) {
+            erros.add(new Erro(problema, nome));
+        }
+
+        String escola = Vocabulario.canonico(Vocabulario.Categoria.ESCOLA,
+                vocabulario.resolver(Vocabulario.Categoria.ESCOLA, campos[ESCOLA]));
+        if (escola == null) {
+            erros.add(new Erro(Problema.ESCOLA_DESCONHECIDA, escolha(campos[ESCOLA])));
+        }
+
+        String sinal = Vocabulario.canonico(Vocabulario.Categoria.SINAL,
+                vocabulario.resolver(Vocabulario.Categoria.SINAL, campos[SINAL]));
+        if (sinal == null) {
+            erros.add(new Erro(Problema.SINAL_DESCONHECIDO, escolha(campos[SINAL])));
+        }
+
+        int horas = lerNumero(campos[HORAS]);
+        if (!horasValidas(horas)) {
+            erros.add(new Erro(Problema.HORAS_FORA_DA_FAIXA, textoOuVazio(campos[HORAS]).trim()));
+        }
+
+        String cor = Vocabulario.canonico(Vocabulario.Categoria.COR,
+                vocabulario.resolver(Vocabulario.Categoria.COR, campos[COR]));
+        if (cor == null) {
+            erros.add(new Erro(Problema.COR_DESCONHECIDA, escolha(campos[COR])));
+        }
+
+        String campoBorda = campos[BORDA];
+        String borda = BORDA_PADRAO;
+        if (campoBorda != null && !campoBorda.isBlank()) {
+            borda = Vocabulario.canonico(Vocabulario.Categoria.BORDA,
+                    vocabulario.resolver(Vocabulario.Categoria.BORDA, campoBorda));
+            if (borda == null) {
+                erros.add(new Erro(Problema.BORDA_DESCONHECIDA, escolha(campoBorda)));
+            }
+        }
+
+        String lema = textoOuVazio(campos[LEMA]).trim();
+        if (lema.isEmpty()) {
+            lema = MedalhaoPersonalizadoTerminado.LEMA_PADRAO;
+        } else if (!lemaValido(lema)) {
+            erros.add(new Erro(Problema.LEMA_LONGO, lema));
+        }
+
+        // Aceita as respostas do prompt (s/n, sim/não...) e os booleanos do JSON
+        String campoDuplo = campos[DUPLO];
+        Boolean duplo = Boolean.FALSE;
+        if (campoDuplo != null && !campoDuplo.isBlank()) {
+            int resposta = vocabulario.resolver(Vocabulario.Categoria.SIM_NAO, campoDuplo);
+            duplo = resposta == Vocabulario.NENHUM ? null : resposta == Vocabulario.SIM;
+            if (duplo == null) {
+                erros.add(new Erro(Problema.DUPLO_INVALIDO, escolha(campoDuplo)));
+            }
+        }
+
+        // O número do símbolo, como no prompt, ou o nome dele
+        String campoSimbolo = campos[SIMBOLO];
+        String simbolo = MedalhaoPersonalizadoTerminado.simboloPorNumero(1);
+        if (campoSimbolo != null && !campoSimbolo.isBlank()) {
+            simbolo = MedalhaoPersonalizadoTerminado.simboloPorNumero(lerNumero(campoSimbolo));
+            if (simbolo == null) {
+                int ordinal = vocabulario.resolver(Vocabulario.Categoria.SIMBOLO, campoSimbolo);
+                simbolo = MedalhaoPersonalizadoTerminado.simboloPorNumero(ordinal + 1);
+            }
+            if (simbolo == null) {
+                erros.add(new Erro(Problema.SIMBOLO_INVALIDO, campoSimbolo.trim()));
+            }
+        }
+
+        if (erros.size() != errosAntes) {
+            return null;
+        }
+        return new PedidoMedalhao(nome, escola, sinal, horas, cor, borda, lema, duplo, simbolo);
+    }
+
+    /**
+     * Valida uma sequência de registros em uma passada
+     * Por exemplo, de um Stream: validarTodos(registros::iterator, ...)
+     *
+     * @param registros registros na ordem de CAMPOS
+     * @param validos recebe o pedido de cada registro válido, na ordem da sequência
+     * @param rejeicoes recebe os erros de cada registro inválido
+     * @return quantos registros passaram e quantos foram rejeitados
+     */
+    static Contagem validarTodos(Iterable<String[]> registros, Consumer<PedidoMedalhao> validos,
+                                 Rejeicoes rejeicoes) {
+        List<Erro> erros = new ArrayList<>(); // Reaproveitada de um registro para o outro
+        long posicao = 0;
+        long rejeitados = 0;
+        for (String[] campos : registros) {
+            PedidoMedalhao pedido = validar(campos, erros);
+            if (pedido != null) {
+                validos.accept(pedido);
+            } else {
+                rejeitados++;
+                rejeicoes.rejeitado(posicao, List.copyOf(erros));
+                erros.clear();
+            }
+            posicao++;
+        }
+        return new Contagem(posicao - rejeitados, rejeitados);
+    }
+
+    /**
+     * @return as mensagens dos erros, na mesma ordem
+     */
+    static List<String> mensagens(List<Erro> erros) {
+        List<String> mensagens = new ArrayList<>(erros.size());
+        for (Erro erro : erros) {
+            mensagens.add(erro.mensagem());
+        }
+        return mensagens;
+    }
+
+    // ===== CAMPOS =====
+
+    /**
+     * Verifica um nome já sem espaços nas pontas
+     *
+     * @return null se o nome for válido, ou o primeiro problema encontrado
+     */
+    static Problema problemaNome(String nome) {
+        if (nome.isEmpty()) {
+            return Problema.NOME_VAZIO;
+        }
+        if (nome.length() < MedalhaoPersonalizadoTerminado.NOME_TAMANHO_MINIMO) {
+            return Problema.NOME_CURTO;
+        }
+        if (nome.length() > MedalhaoPersonalizadoTerminado.NOME_TAMANHO_MAXIMO) {
+            return Problema.NOME_LONGO;
+        }
+        for (int i = 0; i < nome.length(); i++) {
+            char c = nome.charAt(i);
+            if (c >= LIMITE_TABELA_NOME || !CARACTERES_NOME[c]) {
+                return Problema.NOME_CARACTERES;
+            }
+        }
+        return null;
+    }
+
+    static boolean horasValidas(int horas) {
+        return horas >= MedalhaoPersonalizadoTerminado.HORAS_MINIMAS
+                && horas <= MedalhaoPersonalizadoTerminado.HORAS_MAXIMAS;
+    }
+
+    /**
+     * @param lema lema não vazio
+     */
+    static boolean lemaValido(String lema) {
+        return lema.length() <= MedalhaoPersonalizadoTerminado.LEMA_TAMANHO_MAXIMO;
+    }
+
+    // ===== CONVERSÕES =====
+
+    private static String textoOuVazio(String valor) {
+        return valor == null ? "" : valor;
+    }
+
+    /**
+     * Valor de uma escolha recusada, citado no erro como nos prompts:
+     * minúsculas e sem espaços nas pontas
+     */
+    private static String escolha(String valor) {
+        return textoOuVazio(valor).toLowerCase().trim();
+    }
+
+    /**
+     * Converte um campo numérico com as regras de Integer.parseInt (sinal
+     * opcional, dígitos decimais), mas sem lançar exceção
+     *
+     * @return o número lido, ou -1 se o campo estiver vazio, não for
+     *         numérico ou não couber em um int
+     */
+    static int lerNumero(String valor) {
+        String texto = textoOuVazio(valor).trim();
+        int inicio = 0;
+        boolean negativo = false;
+        if (!texto.isEmpty() && (texto.charAt(0) == '-' || texto.charAt(0) == '+')) {
+            negativo = texto.charAt(0) == '-';
+            inicio = 1;
+        }
+        if (inicio == texto.length()) {
+            return -1;
+        }
+
+        long numero = 0;
+        for (int i = inicio; i < texto.length(); i++) {
+            int digito = Character.digit(texto.charAt(i), 10);
+            if (digito < 0) {
+                return -1;
+            }
+            numero = numero * 10 + digito;
+            if (numero > (long) Integer.MAX_VALUE + 1) {
+                return -1;
+            }
+        }
+        numero = negativo ? -numero : numero;
+        return numero > Integer.MAX_VALUE ? -1 : (int) numero;
+    }
+}
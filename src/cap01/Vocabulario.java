@@ -0,0 +1,385 @@
+package cap01;
+
+/**
+ * Vocabulario.java
+ * <p>
+ * Vocabulário das escolhas do medalhão: escola, sinal, cor, borda,
+ * símbolo pessoal e sim/não. Resolve o texto digitado (ou lido de um
+ * arquivo da forja) no código do termo canônico, o mesmo ordinal usado
+ * pelo NucleoPontuacao e pelo ArquivoMedalhoes.
+ * <p>
+ * A entrada é dobrada antes de comparar: espaços nas pontas ignorados,
+ * minúsculas e sem acentos, então "VÍBORA", " vibora " e "Víbora"
+ * resolvem todos para víbora, e "nao" para não. A dobra é feita
+ * caractere a caractere durante a própria consulta (uma tabela para o
+ * Latim-1 e os Latins Estendidos A e B, montada uma vez; marcas combinantes
+ * são puladas): resolver não cria nenhuma String nem outro objeto.
+ * <p>
+ * Todos os termos e apelidos de todas as categorias ficam em uma única
+ * tabela de endereçamento aberto, com no máximo 1/4 das posições
+ * ocupadas: quase sempre uma sondagem basta.
+ * <p>
+ * Apelidos: além dos canônicos (as listas de MedalhaoPersonalizadoTerminado),
+ * o vocabulário padrão aceita as grafias de sim/não que os prompts sempre
+ * aceitaram (s, sim, y, yes / n, não, no) e os booleanos do JSON (true,
+ * false). Outros apelidos vêm de um arquivo no formato de
+ * java.util.Properties, em UTF-8, escolhido com --apelidos=arquivo ou
+ * -Dapelidos=arquivo:
+ *   escola.lobo = wolf, lupo
+ *   sinal.igni = fogo
+ *   simbolo.espada = sword
+ *   simnao.sim = claro
+ * A chave é a categoria e um termo já conhecido (canônico ou apelido); o
+ * valor, os apelidos separados por vírgula. Um apelido que já pertence a
+ * outro termo da mesma categoria é recusado.
+ *
+ * @author Desenvolvedor Java Aprendiz
+ * @version 1.0
+ */
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+final class Vocabulario {
+
+    /**
+     * Resultado de resolver para um texto fora do vocabulário
+     */
+    static final int NENHUM = -1;
+
+    // Ordinais de SIM_NAO
+    static final int SIM = 0;
+    static final int NAO = 1;
+
+    /**
+     * Grupos de termos; o ordinal de um termo é a sua posição na lista canônica
+     */
+    enum Categoria {
+        ESCOLA("escola", MedalhaoPersonalizadoTerminado.ESCOLAS_VALIDAS),
+        SINAL("sinal", MedalhaoPersonalizadoTerminado.SINAIS_VALIDOS),
+        COR("cor", MedalhaoPersonalizadoTerminado.CORES_VALIDAS),
+        BORDA("borda", MedalhaoPersonalizadoTerminado.BORDAS_VALIDAS),
+        SIMBOLO("simbolo", MedalhaoPersonalizadoTerminado.SIMBOLOS_VALIDOS),
+        SIM_NAO("simnao", List.of("sim", "não"));
+
+        private final String chave; // Prefixo no arquivo de apelidos
+        private final List<String> canonicos;
+
+        Categoria(String chave, List<String> canonicos) {
+            this.chave = chave;
+            this.canonicos = canonicos;
+        }
+    }
+
+    // ===== DOBRA DE CARACTERES =====
+
+    // Até o fim do Latim Estendido-B; acima disso, só minúsculas
+    private static final int LIMITE_TABELA_DOBRA = 0x250;
+    private static final char[] DOBRA = new char[LIMITE_TABELA_DOBRA];
+
+    // Marcas combinantes (acentos de um texto decomposto), puladas na dobra
+    private static final char INICIO_MARCAS = 0x0300;
+    private static final char FIM_MARCAS = 0x036F;
+
+    static {
+        for (char c = 0; c < LIMITE_TABELA_DOBRA; c++) {
+            // A primeira letra da decomposição é a letra sem acento (é -> e + ´)
+            char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+            DOBRA[c] = Character.toLowerCase(base);
+        }
+    }
+
+    private static char dobrar(char c) {
+        return c < LIMITE_TABELA_DOBRA ? DOBRA[c] : Character.toLowerCase(c);
+    }
+
+    private static boolean marca(char c) {
+        return c >= INICIO_MARCAS && c <= FIM_MARCAS;
+    }
+
+    // ===== VOCABULÁRIO EM USO =====
+
+    private static volatile Vocabulario atual = new Construtor().construir();
+
+    /**
+     * @return vocabulário usado pelos prompts e pela forja em lote
+     */
+    static Vocabulario atual() {
+        return atual;
+    }
+
+    /**
+     * Acrescenta ao vocabulário em uso os apelidos do arquivo de
+     * --apelidos=... (ou -Dapelidos=...), se houver
+     *
+     * @param args argumentos da linha de comando
+     * @throws IllegalArgumentException se o arquivo tiver uma categoria, termo ou apelido inválido
+     */
+    static void escolher(String[] args) throws IOException {
+        String nome = System.getProperty("apelidos");
+        for (String arg : args) {
+            if (arg.startsWith("--apelidos=")) {
+                nome = arg.substring("--apelidos=".length());
+            }
+        }
+        if (nome != null) {
+            atual = new Construtor().apelidos(Path.of(nome)).construir();
+        }
+    }
+
+    // ===== TABELA =====
+
+    private final String[] chaves;     // Texto dobrado do termo ou apelido; null nas posições livres
+    private final byte[] categorias;   // Categoria.ordinal() de cada chave
+    private final int[] ordinais;      // Termo canônico de cada chave
+    private final int mascara;
+
+    private Vocabulario(String[] chaves, byte[] categorias, int[] ordinais) {
+        this.chaves = chaves;
+        this.categorias = categorias;
+        this.ordinais = ordinais;
+        this.mascara = chaves.length - 1;
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Código do termo escrito no texto, com qualquer caixa, acentuação e
+     * espaços nas pontas
+     *
+     * @param categoria onde procurar
+     * @param texto texto digitado (null é aceito)
+     * @return ordinal do termo canônico, ou NENHUM
+     */
+    int resolver(Categoria categoria, CharSequence texto) {
+        if (texto == null) {
+            return NENHUM;
+        }
+        int inicio = 0;
+        int fim = texto.length();
+        while (inicio < fim && texto.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fim > inicio && texto.charAt(fim - 1) <= ' ') {
+            fim--;
+        }
+        if (inicio == fim) {
+            return NENHUM;
+        }
+
+        int hash = categoria.ordinal() + 1;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (!marca(c)) {
+                hash = 31 * hash + dobrar(c);
+            }
+        }
+        for (int posicao = espalhar(hash) & mascara; chaves[posicao] != null; posicao = (posicao + 1) & mascara) {
+            if (categorias[posicao] == categoria.ordinal() && mesmaChave(chaves[posicao], texto, inicio, fim)) {
+                return ordinais[posicao];
+            }
+        }
+        return NENHUM;
+    }
+
+    /**
+     * @param ordinal código devolvido por resolver
+     * @return termo canônico, ou null se o código não for da categoria
+     */
+    static String canonico(Categoria categoria, int ordinal) {
+        List<String> canonicos = categoria.canonicos;
+        return ordinal >= 0 && ordinal < canonicos.size() ? canonicos.get(ordinal) : null;
+    }
+
+    /**
+     * Compara uma chave já dobrada com o trecho do texto, dobrando o texto durante a comparação
+     */
+    private static boolean mesmaChave(String chave, CharSequence texto, int inicio, int fim) {
+        int j = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (marca(c)) {
+                continue;
+            }
+            if (j == chave.length() || chave.charAt(j++) != dobrar(c)) {
+                return false;
+            }
+        }
+        return j == chave.length();
+    }
+
+    private static int espalhar(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+
+    /**
+     * Mesma dobra de resolver, para montar as chaves
+     */
+    private static String chave(String texto) {
+        return dobrarTexto(texto.trim());
+    }
+
+    /**
+     * Texto em minúsculas e sem acentos, com a mesma regra de resolver
+     * (os espaços ficam). É a única dobra do programa: o IndicePrefixos
+     * a usa nos nomes, então o autocompletar e o vocabulário nunca
+     * discordam sobre a forma de um texto.
+     *
+     * @return o próprio texto se ele já estiver dobrado
+     */
+    static String dobrarTexto(String texto) {
+        int i = 0;
+        while (i < texto.length() && !marca(texto.charAt(i)) && dobrar(texto.charAt(i)) == texto.charAt(i)) {
+            i++;
+        }
+        if (i == texto.length()) {
+            return texto;
+        }
+        StringBuilder dobrado = new StringBuilder(texto.length()).append(texto, 0, i);
+        for (; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (!marca(c)) {
+                dobrado.append(dobrar(c));
+            }
+        }
+        return dobrado.toString();
+    }
+
+    // ===== MONTAGEM =====
+
+    /**
+     * Monta um vocabulário: os termos canônicos e os apelidos padrão, mais os pedidos
+     */
+    static final class Construtor {
+        private final List<Categoria> categoriasTermos = new ArrayList<>();
+        private final List<String> chavesTermos = new ArrayList<>();
+        private final List<Integer> ordinaisTermos = new ArrayList<>();
+
+        // Vocabulário parcial, para achar o termo de cada apelido e os conflitos
+        private Vocabulario parcial;
+
+        Construtor() {
+            for (Categoria categoria : Categoria.values()) {
+                for (int ordinal = 0; ordinal < categoria.canonicos.size(); ordinal++) {
+                    acrescentar(categoria, categoria.canonicos.get(ordinal), ordinal);
+                }
+            }
+            // Grafias que os prompts de sim/não sempre aceitaram, e os booleanos do JSON
+            for (String apelido : List.of("s", "y", "yes", "true")) {
+                acrescentar(Categoria.SIM_NAO, apelido, SIM);
+            }
+            for (String apelido : List.of("n", "no", "false")) {
+                acrescentar(Categoria.SIM_NAO, apelido, NAO);
+            }
+        }
+
+        /**
+         * @param termo termo canônico ou apelido já conhecido da categoria
+         * @param apelido nova grafia para o mesmo termo
+         * @throws IllegalArgumentException se o termo não existir ou o apelido já for de outro termo
+         */
+        Construtor apelido(Categoria categoria, String termo, String apelido) {
+            int ordinal = montarParcial().resolver(categoria, termo);
+            if (ordinal == NENHUM) {
+                throw new IllegalArgumentException("Termo desconhecido em " + categoria.chave + ": " + termo);
+            }
+            if (chave(apelido).isEmpty()) {
+                throw new IllegalArgumentException("Apelido vazio para " + categoria.chave + "." + termo);
+            }
+            int existente = parcial.resolver(categoria, apelido);
+            if (existente == ordinal) {
+                return this;
+            }
+            if (existente != NENHUM) {
+                throw new IllegalArgumentException("Apelido \"" + apelido + "\" já é de "
+                        + categoria.chave + "." + categoria.canonicos.get(existente));
+            }
+            acrescentar(categoria, apelido, ordinal);
+            return this;
+        }
+
+        /**
+         * Lê os apelidos de um arquivo (formato no cabeçalho da classe)
+         *
+         * @throws IllegalArgumentException se uma chave, termo ou apelido for inválido
+         */
+        Construtor apelidos(Path arquivo) throws IOException {
+            Properties propriedades = new Properties();
+            try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+                propriedades.load(leitor);
+            }
+            for (String chave : propriedades.stringPropertyNames()) {
+                int ponto = chave.indexOf('.');
+                Categoria categoria = ponto < 0 ? null : categoriaPorChave(chave.substring(0, ponto));
+                if (categoria == null) {
+                    throw new IllegalArgumentException("Chave inválida: " + chave
+                            + " (use categoria.termo, com categoria escola, sinal, cor, borda, simbolo ou simnao)");
+                }
+                for (String apelido : propriedades.getProperty(chave).split(",")) {
+                    if (!apelido.isBlank()) {
+                        apelido(categoria, chave.substring(ponto + 1), apelido);
+                    }
+                }
+            }
+            return this;
+        }
+
+        Vocabulario construir() {
+            // Potência de 2 com pelo menos 4 posições por chave
+            int capacidade = Integer.highestOneBit(Math.max(chavesTermos.size() * 4 - 1, 1)) << 1;
+            String[] chaves = new String[capacidade];
+            byte[] categorias = new byte[capacidade];
+            int[] ordinais = new int[capacidade];
+            int mascara = capacidade - 1;
+
+            for (int i = 0; i < chavesTermos.size(); i++) {
+                String chave = chavesTermos.get(i);
+                int categoria = categoriasTermos.get(i).ordinal();
+                int hash = categoria + 1;
+                for (int j = 0; j < chave.length(); j++) {
+                    hash = 31 * hash + chave.charAt(j);
+                }
+                int posicao = espalhar(hash) & mascara;
+                while (chaves[posicao] != null) {
+                    posicao = (posicao + 1) & mascara;
+                }
+                chaves[posicao] = chave;
+                categorias[posicao] = (byte) categoria;
+                ordinais[posicao] = ordinaisTermos.get(i);
+            }
+            return new Vocabulario(chaves, categorias, ordinais);
+        }
+
+        private void acrescentar(Categoria categoria, String texto, int ordinal) {
+            categoriasTermos.add(categoria);
+            chavesTermos.add(chave(texto));
+            ordinaisTermos.add(ordinal);
+            parcial = null;
+        }
+
+        private Vocabulario montarParcial() {
+            if (parcial == null) {
+                parcial = construir();
+            }
+            return parcial;
+        }
+
+        private static Categoria categoriaPorChave(String chave) {
+            for (Categoria categoria : Categoria.values()) {
+                if (categoria.chave.equals(chave.trim())) {
+                    return categoria;
+                }
+            }
+            return null;
+        }
+    }
+}